@@ -0,0 +1,185 @@
+package de.hysky.skyblocker.dungeon;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.tasks.InputDirectory;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Packs all dungeon room skeletons and room data into a single file, which is read by {@code de.hysky.skyblocker.skyblock.dungeon.secrets.RoomPack} at runtime.
+ * <p>
+ * The rooms are read from {@code <dungeon>/<shape>/<room>.skeleton} and {@code <dungeon>/<shape>/<room>.json} in the rooms directory.
+ * All integers are big endian. The pack is laid out as follows:
+ * <ul>
+ *     <li>Header: {@code int} magic, {@code int} version, {@code long} CRC32 of everything after the header, {@code int} room count</li>
+ *     <li>Table of contents, for each room: the dungeon, shape, and room name as UTF-8 prefixed with their {@code short} length,
+ *     then the {@code int} byte offset and {@code int} length in ints of the skeleton, and the {@code int} byte offset and {@code int} length in bytes of the room json</li>
+ *     <li>Padding to a multiple of four bytes, followed by all skeletons and then all room jsons</li>
+ * </ul>
+ * The skeletons are stored uncompressed so that they can be read directly from a memory-mapped file.
+ */
+public abstract class PackDungeonRoomsTask extends DefaultTask {
+	// Keep in sync with RoomPack
+	private static final int MAGIC = 0x534B5250; // SKRP
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 20;
+	public static final String PACK_PATH = "assets/skyblocker/dungeons/rooms.pack";
+
+	@InputDirectory
+	@PathSensitive(PathSensitivity.RELATIVE)
+	public abstract DirectoryProperty getRoomsDirectory();
+
+	@OutputDirectory
+	public abstract DirectoryProperty getOutputDirectory();
+
+	@TaskAction
+	public void pack() throws IOException {
+		long start = System.currentTimeMillis();
+		List<PackedRoom> rooms = readRooms(getRoomsDirectory().get().getAsFile().toPath());
+
+		ByteArrayOutputStream toc = new ByteArrayOutputStream();
+		DataOutputStream tocOut = new DataOutputStream(toc);
+		int[] entryOffsets = new int[rooms.size()];
+		for (int i = 0; i < rooms.size(); i++) {
+			PackedRoom room = rooms.get(i);
+			writeString(tocOut, room.dungeon());
+			writeString(tocOut, room.shape());
+			writeString(tocOut, room.name());
+			// The offsets are filled in below once the size of the table of contents is known
+			entryOffsets[i] = HEADER_SIZE + tocOut.size();
+			tocOut.write(new byte[16]);
+		}
+
+		int dataStart = HEADER_SIZE + toc.size() + 3 & ~3;
+		int skeletonsSize = 0;
+		int jsonsSize = 0;
+		for (PackedRoom room : rooms) {
+			skeletonsSize += room.skeleton().length * Integer.BYTES;
+			jsonsSize += room.json().length;
+		}
+
+		ByteBuffer pack = ByteBuffer.allocate(dataStart + skeletonsSize + jsonsSize);
+		pack.putInt(MAGIC).putInt(VERSION).putLong(0).putInt(rooms.size());
+		pack.put(toc.toByteArray());
+
+		int skeletonOffset = dataStart;
+		int jsonOffset = dataStart + skeletonsSize;
+		for (int i = 0; i < rooms.size(); i++) {
+			PackedRoom room = rooms.get(i);
+			pack.putInt(entryOffsets[i], skeletonOffset).putInt(entryOffsets[i] + 4, room.skeleton().length);
+			pack.putInt(entryOffsets[i] + 8, jsonOffset).putInt(entryOffsets[i] + 12, room.json().length);
+
+			pack.position(skeletonOffset);
+			pack.asIntBuffer().put(room.skeleton());
+			pack.position(jsonOffset);
+			pack.put(room.json());
+			skeletonOffset += room.skeleton().length * Integer.BYTES;
+			jsonOffset += room.json().length;
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(pack.array(), HEADER_SIZE, pack.capacity() - HEADER_SIZE);
+		pack.putLong(8, crc.getValue());
+
+		Path output = getOutputDirectory().get().getAsFile().toPath().resolve(PACK_PATH);
+		Files.createDirectories(output.getParent());
+		Files.write(output, pack.array());
+
+		getLogger().lifecycle("Packed {} dungeon rooms ({} KiB) in {} ms", rooms.size(), pack.capacity() / 1024, System.currentTimeMillis() - start);
+	}
+
+	/**
+	 * Reads and validates all rooms, sorted by dungeon, shape, and name so that the pack is reproducible.
+	 */
+	private static List<PackedRoom> readRooms(Path roomsDirectory) throws IOException {
+		List<PackedRoom> rooms = new ArrayList<>();
+		Set<String> names = new HashSet<>();
+
+		for (Path dungeon : directories(roomsDirectory)) {
+			for (Path shape : directories(dungeon)) {
+				Set<String> jsons = new HashSet<>();
+				try (DirectoryStream<Path> jsonFiles = Files.newDirectoryStream(shape, "*.json")) {
+					for (Path jsonFile : jsonFiles) {
+						jsons.add(stripExtension(jsonFile, ".json"));
+					}
+				}
+
+				try (DirectoryStream<Path> skeletonFiles = Files.newDirectoryStream(shape, "*.skeleton")) {
+					for (Path skeletonFile : skeletonFiles) {
+						String name = stripExtension(skeletonFile, ".skeleton");
+						if (!jsons.remove(name)) throw new GradleException("Dungeon room " + skeletonFile + " is missing a .json file");
+						if (!names.add(name)) throw new GradleException("Duplicate dungeon room name " + name);
+
+						rooms.add(new PackedRoom(dungeon.getFileName().toString(), shape.getFileName().toString(), name, readSkeleton(skeletonFile), Files.readAllBytes(shape.resolve(name + ".json"))));
+					}
+				}
+
+				if (!jsons.isEmpty()) throw new GradleException("Dungeon rooms " + jsons + " in " + shape + " are missing a .skeleton file");
+			}
+		}
+
+		rooms.sort(Comparator.comparing(PackedRoom::dungeon).thenComparing(PackedRoom::shape).thenComparing(PackedRoom::name));
+		return rooms;
+	}
+
+	private static List<Path> directories(Path directory) throws IOException {
+		List<Path> directories = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, Files::isDirectory)) {
+			stream.forEach(directories::add);
+		}
+
+		return directories;
+	}
+
+	/**
+	 * Reads a skeleton written by {@code DungeonRoomsDFU} and checks that its blocks are sorted, which the room matching relies on.
+	 */
+	private static int[] readSkeleton(Path skeletonFile) throws IOException {
+		int[] skeleton;
+		try (ObjectInputStream in = new ObjectInputStream(new InflaterInputStream(Files.newInputStream(skeletonFile)))) {
+			skeleton = (int[]) in.readObject();
+		} catch (ClassNotFoundException | ClassCastException e) {
+			throw new GradleException("Failed to read dungeon room skeleton " + skeletonFile, e);
+		}
+
+		for (int i = 1; i < skeleton.length; i++) {
+			if (skeleton[i - 1] >= skeleton[i]) throw new GradleException("The blocks of dungeon room skeleton " + skeletonFile + " are not sorted");
+		}
+
+		return skeleton;
+	}
+
+	private static String stripExtension(Path file, String extension) {
+		String name = file.getFileName().toString();
+		return name.substring(0, name.length() - extension.length());
+	}
+
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeShort(bytes.length);
+		out.write(bytes);
+	}
+
+	private record PackedRoom(String dungeon, String shape, String name, int[] skeleton, byte[] json) {}
+}
@@ -1,22 +1,17 @@
 package de.hysky.skyblocker;
 
-import com.google.gson.JsonParser;
 import com.mojang.logging.LogUtils;
-import com.mojang.serialization.JsonOps;
 import de.hysky.skyblocker.skyblock.dungeon.secrets.DungeonManager;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.fabricmc.fabric.api.client.gametest.v1.FabricClientGameTest;
 import net.fabricmc.fabric.api.client.gametest.v1.context.ClientGameTestContext;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.util.Identifier;
 import org.slf4j.Logger;
 
-import java.io.BufferedReader;
-import java.util.List;
 import java.util.Set;
 
-import static de.hysky.skyblocker.skyblock.dungeon.secrets.DungeonManager.DUNGEONS_PATH;
-
+/**
+ * Validates the dungeon room pack. Missing {@code .skeleton} or {@code .json} files and duplicate room names are already rejected when the pack is built.
+ */
 @SuppressWarnings("UnstableApiUsage")
 public class RoomDataTest implements FabricClientGameTest {
 	private static final Logger LOGGER = LogUtils.getLogger();
@@ -29,84 +24,28 @@ public class RoomDataTest implements FabricClientGameTest {
 	}
 
 	public void testMain(MinecraftClient client) {
-		List<String> skeletonFiles = getRoomFilesByType(client, ".skeleton");
-		List<String> roomFiles = getRoomFilesByType(client, ".json");
-		LOGGER.info("Found {} .skeleton files and {} .json files!", skeletonFiles.size(), roomFiles.size());
+		Set<String> rooms = DungeonManager.getRoomNames();
+		LOGGER.info("Found {} rooms in the room pack!", rooms.size());
 
-		if (!checkRooms(skeletonFiles, roomFiles))
-			throw new AssertionError("There are missing .skeleton or .json files!");
+		if (rooms.isEmpty())
+			throw new AssertionError("The room pack failed to load!");
 
-		if (!checkRoomJson(client))
+		if (!checkRoomJson(rooms))
 			throw new AssertionError("There are invalid room .json files!");
-
-		checkForDuplicateNames(skeletonFiles);
-		checkIfLoadedCorrectly(skeletonFiles.size());
-	}
-
-	/**
-	 * Ensures that for each .skeleton file there is an associated .json file, and vice versa.
-	 */
-	public boolean checkRooms(List<String> skeletonFiles, List<String> roomFiles) {
-		boolean isValid = true;
-		for (String roomName : skeletonFiles) {
-			if (!roomFiles.contains(roomName)) {
-				isValid = false;
-				LOGGER.error("{} is missing a .json file!", roomName);
-			}
-		}
-
-		for (String roomName : roomFiles) {
-			if (!skeletonFiles.contains(roomName)) {
-				isValid = false;
-				LOGGER.error("{} is missing a .skeleton file!", roomName);
-			}
-		}
-		return isValid;
 	}
 
 	/**
 	 * Ensures every room .json is parsable
 	 */
-	public boolean checkRoomJson(MinecraftClient client) {
+	public boolean checkRoomJson(Set<String> rooms) {
 		boolean isValid = true;
-		for (Identifier filePath : getRoomJson(client)) {
-			try (BufferedReader reader = client.getResourceManager().openAsReader(filePath)) {
-				DungeonManager.RoomData.CODEC.parse(JsonOps.INSTANCE, JsonParser.parseReader(reader)).getOrThrow();
-			} catch (Exception ex) {
-				String[] parts = filePath.getPath().split("/");
-				LOGGER.error("Failed to load room: dungeon={}, shape={}, room={}", parts[1], parts[2], parts[3], ex);
+		for (String room : rooms) {
+			// Failures are logged by DungeonManager
+			if (DungeonManager.getRoomMetadata(room) == null || DungeonManager.getRoomWaypoints(room) == null) {
+				LOGGER.error("Failed to load room: room={}", room);
 				isValid = false;
 			}
 		}
 		return isValid;
 	}
-
-	/**
-	 * Ensures there are no rooms with duplicate names
-	 */
-	public void checkForDuplicateNames(List<String> skeletonFiles) {
-		Set<String> temp = new ObjectOpenHashSet<>();
-		for (String name : skeletonFiles) {
-			if (!temp.add(name))
-				throw new AssertionError("Duplicate room name (id): %s".formatted(name));
-		}
-	}
-
-	public void checkIfLoadedCorrectly(int expected) {
-		int count = DungeonManager.getLoadedRoomCount();
-		if (count != expected) {
-			throw new AssertionError(String.format("Expected %s room(s) but only %s room(s) loaded", expected, count));
-		}
-	}
-
-	List<String> getRoomFilesByType(MinecraftClient client, String fileType) {
-		return client.getResourceManager().findResources(DUNGEONS_PATH, id -> id.getPath().endsWith(fileType))
-				.keySet().stream().map(identifier -> identifier.getPath().split("/"))
-				.filter(path -> path.length == 4).map(path -> path[3].replace(fileType, "")).toList();
-	}
-
-	List<Identifier> getRoomJson(MinecraftClient client) {
-		return client.getResourceManager().findResources(DUNGEONS_PATH, id ->
-				id.getPath().split("/").length == 4 && id.getPath().endsWith(".json")).keySet().stream().toList();
-	}
 }
@@ -0,0 +1,85 @@
+package de.hysky.skyblocker;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mojang.serialization.Dynamic;
+import com.mojang.serialization.JsonOps;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.datafixer.Schemas;
+import net.minecraft.datafixer.TypeReferences;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.BuiltinRegistries;
+import net.minecraft.registry.RegistryOps;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the benchmark fixtures from {@code src/test/resources/fixtures}, so that the benchmarks run offline and always on the same data.
+ */
+public final class Fixtures {
+	private static final String FIXTURES = "/fixtures/";
+	/**
+	 * The data version that item fixtures are upgraded to, which is the same as in {@code ItemUtilsTest}.
+	 */
+	private static final int ITEMS_DATA_VERSION = 4323;
+
+	private Fixtures() {}
+
+	/**
+	 * Bootstraps Minecraft the same way the tests do, which is needed before creating items or text.
+	 */
+	public static void bootstrap() {
+		SharedConstants.createGameVersion();
+		Bootstrap.initialize();
+	}
+
+	public static InputStream open(String name) {
+		InputStream in = Fixtures.class.getResourceAsStream(FIXTURES + name);
+		if (in == null) throw new IllegalArgumentException("Unable to find the fixture " + name);
+
+		return in;
+	}
+
+	public static byte[] readBytes(String name) {
+		try (InputStream in = open(name)) {
+			return in.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public static String readString(String name) {
+		return new String(readBytes(name), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @return the non-empty lines of the fixture
+	 */
+	public static List<String> readLines(String name) {
+		return readString(name).lines().filter(line -> !line.isEmpty()).toList();
+	}
+
+	/**
+	 * Reads item stacks saved with an older data version, upgrading them the same way as {@code ItemUtilsTest}.
+	 */
+	public static List<ItemStack> readItems(String name) {
+		RegistryOps<JsonElement> ops = BuiltinRegistries.createWrapperLookup().getOps(JsonOps.INSTANCE);
+		JsonObject fixture = JsonParser.parseString(readString(name)).getAsJsonObject();
+		int dataVersion = fixture.get("dataVersion").getAsInt();
+		List<ItemStack> stacks = new ArrayList<>();
+
+		for (JsonElement item : fixture.getAsJsonArray("items")) {
+			Dynamic<JsonElement> fixed = Schemas.getFixer().update(TypeReferences.ITEM_STACK, new Dynamic<>(ops, item), dataVersion, ITEMS_DATA_VERSION);
+			stacks.add(ItemStack.CODEC.parse(fixed).getOrThrow());
+		}
+
+		return stacks;
+	}
+}
@@ -0,0 +1,29 @@
+package de.hysky.skyblocker;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.loader.impl.launch.knot.Knot;
+import net.fabricmc.loader.impl.util.SystemProperties;
+
+/**
+ * Runs the JMH benchmarks inside Fabric Loader, the same way {@code fabric-loader-junit} runs the tests, so that our mixins and injected interfaces are applied.
+ * <p>
+ * The benchmarks run in this JVM instead of forked JVMs, since forked JVMs would load the benchmarks without Fabric Loader.
+ * All arguments are passed on to JMH, for example {@code ./gradlew jmh --args="ItemUtilsBenchmark -prof gc"}.
+ */
+public class SkyblockerBenchmarks {
+	public static void main(String[] args) throws Throwable {
+		System.setProperty(SystemProperties.DEVELOPMENT, "true");
+		System.setProperty(SystemProperties.UNIT_TEST, "true");
+
+		ClassLoader classLoader = new Knot(EnvType.CLIENT).init(new String[0]);
+		Thread.currentThread().setContextClassLoader(classLoader);
+
+		String[] jmhArgs = new String[args.length + 2];
+		jmhArgs[0] = "-f";
+		jmhArgs[1] = "0";
+		System.arraycopy(args, 0, jmhArgs, 2, args.length);
+
+		// Load JMH through Fabric Loader as well, so that the benchmarks it loads are transformed
+		Class.forName("org.openjdk.jmh.Main", true, classLoader).getMethod("main", String[].class).invoke(null, (Object) jmhArgs);
+	}
+}
@@ -0,0 +1,88 @@
+package de.hysky.skyblocker.skyblock;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import de.hysky.skyblocker.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks parsing the stats from the action bar corpus with the patterns that {@link StatusBarTracker} used before against the {@link ActionBarScanner}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ActionBarBenchmark {
+	private static final Pattern STATUS_HEALTH = Pattern.compile("§[6c](?<health>[\\d,]+)/(?<max>[\\d,]+)❤ *(?<healing>\\+§c([\\d,]+). *)?");
+	private static final Pattern DEFENSE_STATUS = Pattern.compile("§a(?<defense>[\\d,]+)§a❈ Defense *");
+	private static final Pattern MANA_USE = Pattern.compile("§b-([\\d,]+) Mana \\(§.*?\\) *");
+	private static final Pattern MANA_STATUS = Pattern.compile("§b(?<mana>[\\d,]+)/(?<max>[\\d,]+)✎ (?:Mana|§3(?<overflow>[\\d,]+)ʬ) *");
+	private final ActionBarScanner scanner = new ActionBarScanner();
+	private String[] actionBars;
+
+	@Setup
+	public void setup() {
+		Fixtures.bootstrap();
+		List<String> actionBars = new ArrayList<>();
+		for (JsonElement element : JsonParser.parseString(Fixtures.readString("action_bars.json")).getAsJsonArray()) {
+			actionBars.add(element.getAsJsonObject().get("actionBar").getAsString());
+		}
+		this.actionBars = actionBars.toArray(String[]::new);
+	}
+
+	@Benchmark
+	public void patterns(Blackhole blackhole) {
+		for (String actionBar : actionBars) {
+			Matcher matcher = STATUS_HEALTH.matcher(actionBar);
+			if (!matcher.find()) continue;
+			blackhole.consume(parseInt(matcher.group("health")));
+			blackhole.consume(parseInt(matcher.group("max")));
+
+			if (matcher.usePattern(DEFENSE_STATUS).find()) {
+				blackhole.consume(parseInt(matcher.group("defense")));
+			} else if (matcher.usePattern(MANA_USE).find()) {
+				blackhole.consume(parseInt(matcher.group(1)));
+			}
+
+			if (matcher.usePattern(MANA_STATUS).find()) {
+				blackhole.consume(parseInt(matcher.group("mana")));
+				blackhole.consume(parseInt(matcher.group("max")));
+				blackhole.consume(matcher.group("overflow") == null ? 0 : parseInt(matcher.group("overflow")));
+			}
+		}
+	}
+
+	@Benchmark
+	public void scanner(Blackhole blackhole) {
+		for (String actionBar : actionBars) {
+			if (!scanner.scan(actionBar, true)) continue;
+			blackhole.consume(scanner.health);
+			blackhole.consume(scanner.maxHealth);
+			blackhole.consume(scanner.defense);
+			blackhole.consume(scanner.manaUse);
+			blackhole.consume(scanner.mana);
+			blackhole.consume(scanner.maxMana);
+			blackhole.consume(scanner.overflowMana);
+		}
+	}
+
+	private static int parseInt(String number) {
+		return Integer.parseInt(number.replace(",", ""));
+	}
+}
@@ -0,0 +1,67 @@
+package de.hysky.skyblocker.skyblock.chat;
+
+import com.google.gson.JsonParser;
+import com.mojang.serialization.JsonOps;
+import de.hysky.skyblocker.Fixtures;
+import de.hysky.skyblocker.utils.chat.LiteralIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks matching recorded chat lines against a set of typical chat rules, checking every rule for every message
+ * against only checking the rules whose literals are found by a {@link LiteralIndex}, the same way {@link ChatRulesHandler} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ChatRuleBenchmark {
+	private List<ChatRule> rules;
+	private String[] lines;
+	private LiteralIndex index;
+
+	@Setup
+	public void setup() {
+		Fixtures.bootstrap();
+		rules = ChatRule.LIST_CODEC.parse(JsonOps.INSTANCE, JsonParser.parseString(Fixtures.readString("chat_rules.json"))).getOrThrow();
+		lines = Fixtures.readLines("chat_lines.txt").toArray(String[]::new);
+		index = buildIndex();
+	}
+
+	@Benchmark
+	public LiteralIndex buildIndex() {
+		return LiteralIndex.of(rules.stream().map(ChatRule::getRequiredLiterals).toList());
+	}
+
+	@Benchmark
+	public void matchAllRules(Blackhole blackhole) {
+		for (String line : lines) {
+			for (ChatRule rule : rules) {
+				blackhole.consume(rule.isMatch(line));
+			}
+		}
+	}
+
+	@Benchmark
+	public void matchIndexedRules(Blackhole blackhole) {
+		for (String line : lines) {
+			BitSet candidates = index.candidates(line);
+			for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+				blackhole.consume(rules.get(i).isMatch(line));
+			}
+		}
+	}
+}
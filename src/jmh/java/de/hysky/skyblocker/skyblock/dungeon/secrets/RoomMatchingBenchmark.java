@@ -0,0 +1,110 @@
+package de.hysky.skyblocker.skyblock.dungeon.secrets;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks room matching with the {@link RoomIndex} against searching every candidate room, over the shipped {@link RoomPack}.
+ * <p>
+ * Every room of the shape is matched by feeding its own blocks in a fixed random order until only one candidate is left,
+ * the same way {@link Room#checkBlock(net.minecraft.client.world.ClientWorld, net.minecraft.util.math.BlockPos)} narrows down the rooms.
+ * Only the correct direction is simulated, so the real number of blocks needed can be slightly higher.
+ * Each operation matches all rooms of the shape once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RoomMatchingBenchmark {
+	private static final String ROOM_PACK = "/assets/skyblocker/dungeons/rooms.pack";
+	private static final String DUNGEON = "catacombs";
+
+	@Param({"1x1", "1x2", "1x3", "1x4", "2x2", "l-shape"})
+	public String roomShape;
+
+	private Map<String, int[]> rooms;
+	private RoomIndex index;
+	private List<int[]> orders;
+
+	@Setup
+	public void setup() throws IOException {
+		RoomPack pack;
+		try (InputStream in = RoomMatchingBenchmark.class.getResourceAsStream(ROOM_PACK)) {
+			if (in == null) throw new IllegalStateException("Unable to find the dungeon room pack, run the packDungeonRooms task first");
+			pack = RoomPack.read(ByteBuffer.wrap(in.readAllBytes()));
+		}
+
+		rooms = pack.getSkeletons(DUNGEON, roomShape);
+		index = RoomIndex.of(rooms);
+
+		// Feed the blocks of each room in a fixed random order, so that both approaches see the same blocks
+		orders = new ArrayList<>();
+		Random random = new Random(0);
+		for (int room = 0; room < index.size(); room++) {
+			int[] order = rooms.get(index.getRoom(room)).clone();
+			IntArrays.shuffle(order, random);
+			orders.add(order);
+		}
+	}
+
+	@Benchmark
+	public RoomIndex buildIndex() {
+		return RoomIndex.of(rooms);
+	}
+
+	@Benchmark
+	public void matchWithIndex(Blackhole blackhole) {
+		for (int[] order : orders) {
+			long[] candidates = index.newCandidates();
+			int blocks = 0;
+
+			while (blocks < order.length && index.retain(candidates, order[blocks++]) > 1) ;
+			blackhole.consume(blocks);
+		}
+	}
+
+	/**
+	 * Matches the rooms the same way as before the index, by searching the blocks of every remaining candidate.
+	 */
+	@Benchmark
+	public void matchWithBinarySearch(Blackhole blackhole) {
+		for (int[] order : orders) {
+			List<String> candidates = new ArrayList<>(rooms.keySet());
+			int blocks = 0;
+
+			while (blocks < order.length) {
+				int block = order[blocks++];
+				List<String> remaining = new ArrayList<>();
+				for (String candidate : candidates) {
+					if (Arrays.binarySearch(rooms.get(candidate), block) >= 0) remaining.add(candidate);
+				}
+				candidates = remaining;
+
+				if (candidates.size() <= 1) break;
+			}
+
+			blackhole.consume(blocks);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package de.hysky.skyblocker.skyblock.tabhud.util;
+
+import com.mojang.authlib.GameProfile;
+import de.hysky.skyblocker.Fixtures;
+import de.hysky.skyblocker.utils.TextTransformer;
+import net.minecraft.client.network.PlayerListEntry;
+import net.minecraft.text.Text;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the parsing that {@link PlayerListManager#updateList()} does with a recorded hub tab list whenever the tab list changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PlayerListManagerBenchmark {
+	private List<PlayerListEntry> entries;
+
+	@Setup
+	public void setup() {
+		Fixtures.bootstrap();
+		List<String> lines = Fixtures.readLines("tab_list.txt");
+		entries = new ArrayList<>(lines.size());
+
+		for (int i = 0; i < lines.size(); i++) {
+			// The same as PlayerListManager#updateDungeons, the profile does not matter for the widgets
+			PlayerListEntry entry = new PlayerListEntry(new GameProfile(UUID.randomUUID(), String.valueOf(i)), false);
+			entry.setDisplayName(TextTransformer.fromLegacy(lines.get(i)));
+			entries.add(entry);
+		}
+	}
+
+	/**
+	 * The player string list, which is rebuilt together with the widgets.
+	 */
+	@Benchmark
+	public List<String> toStrings() {
+		return entries.stream()
+				.map(PlayerListEntry::getDisplayName)
+				.filter(Objects::nonNull)
+				.map(Text::getString)
+				.map(String::strip)
+				.toList();
+	}
+
+	@Benchmark
+	public List<PlayerListManager.TabSection> parseSections() {
+		return PlayerListManager.parseSections(entries);
+	}
+}
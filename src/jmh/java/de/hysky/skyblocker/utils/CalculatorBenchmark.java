@@ -0,0 +1,40 @@
+package de.hysky.skyblocker.utils;
+
+import de.hysky.skyblocker.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks evaluating the expressions typed into signs, which are evaluated again on every keystroke.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CalculatorBenchmark {
+	private String[] equations;
+
+	@Setup
+	public void setup() {
+		Fixtures.bootstrap();
+		equations = Fixtures.readLines("calculations.txt").toArray(String[]::new);
+	}
+
+	@Benchmark
+	public void calculate(Blackhole blackhole) throws Calculator.CalculatorException {
+		for (String equation : equations) {
+			blackhole.consume(Calculator.calculate(equation));
+		}
+	}
+}
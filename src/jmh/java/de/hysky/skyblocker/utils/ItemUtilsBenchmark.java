@@ -0,0 +1,96 @@
+package de.hysky.skyblocker.utils;
+
+import de.hysky.skyblocker.Fixtures;
+import de.hysky.skyblocker.skyblock.item.PriceIndex;
+import net.minecraft.item.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the item id and price lookups that tooltips, slot text and the item list do for every visible item on every frame.
+ * <p>
+ * The uncached benchmarks call {@link ItemUtils} directly, which is the cost for every new stack the server sends,
+ * while the cached benchmarks go through the {@link ItemStack} methods that cache the ids on the stack.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@SuppressWarnings("deprecation")
+public class ItemUtilsBenchmark {
+	private ItemStack[] stacks;
+	private String[] apiIds;
+
+	@Setup
+	public void setup() throws IOException {
+		Fixtures.bootstrap();
+		stacks = Fixtures.readItems("items.json").toArray(ItemStack[]::new);
+		apiIds = new String[stacks.length];
+		for (int i = 0; i < stacks.length; i++) {
+			apiIds[i] = ItemUtils.getSkyblockApiId(stacks[i]);
+		}
+
+		try (InputStream bazaar = Fixtures.open("bazaar.json"); InputStream lowestBins = Fixtures.open("lowestbins.json")) {
+			PriceIndex.rebuildFrom(BazaarProduct.MAP_DECODER.decode(bazaar, null), JsonStreamDecoder.object2DoubleMap().decode(lowestBins, null), null, null, null, null);
+		}
+	}
+
+	@Benchmark
+	public void getSkyblockApiIdUncached(Blackhole blackhole) {
+		for (ItemStack stack : stacks) {
+			blackhole.consume(ItemUtils.getSkyblockApiId(stack));
+		}
+	}
+
+	@Benchmark
+	public void getNeuIdUncached(Blackhole blackhole) {
+		for (ItemStack stack : stacks) {
+			blackhole.consume(ItemUtils.getNeuId(stack));
+		}
+	}
+
+	@Benchmark
+	public void getSkyblockApiIdCached(Blackhole blackhole) {
+		for (ItemStack stack : stacks) {
+			blackhole.consume(stack.getSkyblockApiId());
+		}
+	}
+
+	@Benchmark
+	public void getNeuIdCached(Blackhole blackhole) {
+		for (ItemStack stack : stacks) {
+			blackhole.consume(stack.getNeuName());
+		}
+	}
+
+	@Benchmark
+	public void getItemPrice(Blackhole blackhole) {
+		for (String apiId : apiIds) {
+			blackhole.consume(ItemUtils.getItemPrice(apiId));
+		}
+	}
+
+	/**
+	 * The allocation free price lookup, for comparison with {@link #getItemPrice(Blackhole)}.
+	 */
+	@Benchmark
+	public void getPriceFromIndex(Blackhole blackhole) {
+		PriceIndex index = PriceIndex.get();
+		for (String apiId : apiIds) {
+			blackhole.consume(index.getPrice(apiId));
+		}
+	}
+}
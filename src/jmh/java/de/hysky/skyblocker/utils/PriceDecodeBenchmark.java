@@ -0,0 +1,71 @@
+package de.hysky.skyblocker.utils;
+
+import com.google.gson.JsonParser;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import de.hysky.skyblocker.Fixtures;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks decoding the price feeds with {@link JsonStreamDecoder} against the codec fallback, which parses a json tree first.
+ * Run with {@code -prof gc} to compare the allocations per decode as well.
+ * <p>
+ * The streaming decoders are given the previous value, the same as when a feed refreshes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PriceDecodeBenchmark {
+	private static final Codec<Object2DoubleMap<String>> OBJECT_2_DOUBLE_MAP_CODEC = CodecUtils.object2DoubleMapCodec(Codec.STRING);
+	private static final JsonStreamDecoder<Object2DoubleMap<String>> OBJECT_2_DOUBLE_MAP_DECODER = JsonStreamDecoder.object2DoubleMap();
+
+	private byte[] bazaar;
+	private byte[] lowestBins;
+	private Object2ObjectMap<String, BazaarProduct> previousBazaar;
+	private Object2DoubleMap<String> previousLowestBins;
+
+	@Setup
+	public void setup() throws IOException {
+		bazaar = Fixtures.readBytes("bazaar.json");
+		lowestBins = Fixtures.readBytes("lowestbins.json");
+		previousBazaar = BazaarProduct.MAP_DECODER.decode(new ByteArrayInputStream(bazaar), null);
+		previousLowestBins = OBJECT_2_DOUBLE_MAP_DECODER.decode(new ByteArrayInputStream(lowestBins), null);
+	}
+
+	@Benchmark
+	public Object2ObjectMap<String, BazaarProduct> bazaarStreamed() throws IOException {
+		return BazaarProduct.MAP_DECODER.decode(new ByteArrayInputStream(bazaar), previousBazaar);
+	}
+
+	@Benchmark
+	public Object2ObjectMap<String, BazaarProduct> bazaarCodec() {
+		return BazaarProduct.MAP_CODEC.parse(JsonOps.INSTANCE, JsonParser.parseString(new String(bazaar, StandardCharsets.UTF_8))).getOrThrow();
+	}
+
+	@Benchmark
+	public Object2DoubleMap<String> lowestBinsStreamed() throws IOException {
+		return OBJECT_2_DOUBLE_MAP_DECODER.decode(new ByteArrayInputStream(lowestBins), previousLowestBins);
+	}
+
+	@Benchmark
+	public Object2DoubleMap<String> lowestBinsCodec() {
+		return OBJECT_2_DOUBLE_MAP_CODEC.parse(JsonOps.INSTANCE, JsonParser.parseString(new String(lowestBins, StandardCharsets.UTF_8))).getOrThrow();
+	}
+}
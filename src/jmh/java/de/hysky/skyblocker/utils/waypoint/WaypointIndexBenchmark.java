@@ -0,0 +1,82 @@
+package de.hysky.skyblocker.utils.waypoint;
+
+import de.hysky.skyblocker.Fixtures;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks finding the waypoints near the player in a large imported waypoint pack, spread over the Crystal Hollows,
+ * with the {@link WaypointIndex} against checking every waypoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WaypointIndexBenchmark {
+	private static final int WAYPOINTS = 10_000;
+	private static final double RADIUS = 50;
+	private static final Vec3d PLAYER_POS = new Vec3d(512.5, 100, 512.5);
+
+	private List<NamedWaypoint> waypoints;
+	private WaypointIndex<NamedWaypoint> index;
+
+	@Setup
+	public void setup() {
+		Fixtures.bootstrap();
+		Random random = new Random(0);
+		waypoints = new ArrayList<>(WAYPOINTS);
+
+		for (int i = 0; i < WAYPOINTS; i++) {
+			waypoints.add(new NamedWaypoint(new BlockPos(202 + random.nextInt(622), 31 + random.nextInt(158), 202 + random.nextInt(622)), String.valueOf(i), new float[]{0f, 1f, 0f}));
+		}
+
+		index = WaypointIndex.of(waypoints);
+	}
+
+	@Benchmark
+	public WaypointIndex<NamedWaypoint> buildIndex() {
+		return WaypointIndex.of(waypoints);
+	}
+
+	@Benchmark
+	public IntList withinDistanceScan() {
+		IntList result = new IntArrayList();
+		for (int i = 0; i < waypoints.size(); i++) {
+			if (waypoints.get(i).pos.getSquaredDistance(PLAYER_POS) <= RADIUS * RADIUS) result.add(i);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public IntList withinDistanceIndexed() {
+		return index.withinDistance(PLAYER_POS, RADIUS);
+	}
+
+	@Benchmark
+	public List<NamedWaypoint> nearestScan() {
+		return waypoints.stream().sorted(Comparator.comparingDouble(waypoint -> waypoint.pos.getSquaredDistance(PLAYER_POS))).limit(10).toList();
+	}
+
+	@Benchmark
+	public List<NamedWaypoint> nearestIndexed() {
+		return index.nearest(PLAYER_POS, 10);
+	}
+}
@@ -35,6 +35,12 @@ public class SkyblockerConfigManager {
 	public static final int CONFIG_VERSION = 4;
 	private static final Path CONFIG_FILE = FabricLoader.getInstance().getConfigDir().resolve("skyblocker.json");
 	private static final ConfigManager<SkyblockerConfig> CONFIG_MANAGER = ConfigManager.create(SkyblockerConfig.class, CONFIG_FILE, UnaryOperator.identity());
+	private static int revision;
+	/**
+	 * The last config screen created by {@link #createGUI(Screen, String)}, whose changes are applied when it is closed.
+	 */
+	@Nullable
+	private static Screen configScreen;
 
 	public static SkyblockerConfig get() {
 		return CONFIG_MANAGER.instance();
@@ -52,6 +58,10 @@ public class SkyblockerConfigManager {
 		CONFIG_MANAGER.load();
 		ClientCommandRegistrationCallback.EVENT.register((dispatcher, registryAccess) -> dispatcher.register(literal(SkyblockerMod.NAMESPACE).then(configLiteral("config")).then(configLiteral("options"))));
 		ScreenEvents.AFTER_INIT.register((client, screen, scaledWidth, scaledHeight) -> {
+			if (screen == configScreen) {
+				// Also fires when leaving for a child screen, which only bumps the revision once more than needed
+				ScreenEvents.remove(screen).register(closed -> revision++);
+			}
 			if (get().uiAndVisuals.showConfigButton && screen instanceof GenericContainerScreen genericContainerScreen && screen.getTitle().getString().equals("SkyBlock Menu")) {
 				Screens.getButtons(screen).add(ButtonWidget
 						.builder(Text.literal("\uD83D\uDD27"), buttonWidget -> client.setScreen(createGUI(screen)))
@@ -74,6 +84,15 @@ public class SkyblockerConfigManager {
 		action.accept(get());
 		ConfigBackupManager.backupConfig();
 		CONFIG_MANAGER.save();
+		revision++;
+	}
+
+	/**
+	 * Returns a number that changes whenever the config is updated or reloaded through this class, or the config screen is closed.
+	 * Changes made through the config screen are only guaranteed to be visible once the screen is closed.
+	 */
+	public static int getRevision() {
+		return revision;
 	}
 
 	public static Screen createGUI(Screen parent) {
@@ -81,7 +100,7 @@ public class SkyblockerConfigManager {
 	}
 
 	public static Screen createGUI(@Nullable Screen parent, String search) {
-		return DandelionConfigScreen.create(CONFIG_MANAGER, (defaults, config, builder) -> builder
+		configScreen = DandelionConfigScreen.create(CONFIG_MANAGER, (defaults, config, builder) -> builder
 				.title(Text.translatable("skyblocker.config.title", SkyblockerMod.VERSION))
 				.category(GeneralCategory.create(defaults, config))
 				.category(UIAndVisualsCategory.create(defaults, config))
@@ -101,6 +120,7 @@ public class SkyblockerConfigManager {
 				.categoryIf(Debug.debugEnabled(), DebugCategory.create(defaults, config))
 				.search(search)
 		).generateScreen(parent, get().misc.configBackend);
+		return configScreen;
 	}
 
 	/**
@@ -115,6 +135,7 @@ public class SkyblockerConfigManager {
 	 */
 	public static void reload() {
 		CONFIG_MANAGER.load();
+		revision++;
 	}
 
 	/**
@@ -7,8 +7,8 @@ import de.hysky.skyblocker.config.ConfigUtils;
 import de.hysky.skyblocker.config.SkyblockerConfig;
 import de.hysky.skyblocker.config.backup.ConfigBackupScreen;
 import de.hysky.skyblocker.config.configs.GeneralConfig;
+import de.hysky.skyblocker.skyblock.item.CraftCosts;
 import de.hysky.skyblocker.skyblock.item.tooltip.adders.AccessoryTooltip;
-import de.hysky.skyblocker.skyblock.item.tooltip.adders.CraftPriceTooltip;
 import de.hysky.skyblocker.skyblock.item.wikilookup.WikiLookupManager;
 import de.hysky.skyblocker.skyblock.shortcut.ShortcutsConfigScreen;
 import de.hysky.skyblocker.skyblock.speedpreset.SpeedPresetsScreen;
@@ -182,6 +182,14 @@ public class GeneralCategory {
 										newValue -> config.general.itemList.enableCollapsibleEntries = newValue)
 								.controller(ConfigUtils.createBooleanController())
 								.build())
+						.option(Option.<Boolean>createBuilder()
+								.name(Text.translatable("skyblocker.config.general.itemList.enableItemSnapshot"))
+								.description(Text.translatable("skyblocker.config.general.itemList.enableItemSnapshot.@Tooltip"))
+								.binding(defaults.general.itemList.enableItemSnapshot,
+										() -> config.general.itemList.enableItemSnapshot,
+										newValue -> config.general.itemList.enableItemSnapshot = newValue)
+								.controller(ConfigUtils.createBooleanController())
+								.build())
                         .build())
 
                 //Item Tooltip
@@ -238,7 +246,7 @@ public class GeneralCategory {
                                         () -> config.general.itemTooltip.enableCraftingCost,
                                         newValue -> config.general.itemTooltip.enableCraftingCost = newValue)
                                 .listener((ignored, updateType) -> {
-                                    if (updateType == UpdateType.VALUE_CHANGE) CraftPriceTooltip.clearCache();
+                                    if (updateType == UpdateType.VALUE_CHANGE) CraftCosts.scheduleSolve();
                                 })
                                 .controller(ConfigUtils.createEnumController())
                                 .build())
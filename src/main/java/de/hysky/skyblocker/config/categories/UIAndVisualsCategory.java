@@ -338,6 +338,14 @@ public class UIAndVisualsCategory {
                                         newValue -> config.uiAndVisuals.tabHud.enableHudBackground = newValue)
                                 .controller(ConfigUtils.createBooleanController())
                                 .build())
+						.option(Option.<Boolean>createBuilder()
+								.name(Text.translatable("skyblocker.config.uiAndVisuals.tabHud.cacheWidgetComposites"))
+								.description(Text.translatable("skyblocker.config.uiAndVisuals.tabHud.cacheWidgetComposites.@Tooltip"))
+								.binding(defaults.uiAndVisuals.tabHud.cacheWidgetComposites,
+										() -> config.uiAndVisuals.tabHud.cacheWidgetComposites,
+										newValue -> config.uiAndVisuals.tabHud.cacheWidgetComposites = newValue)
+								.controller(ConfigUtils.createBooleanController())
+								.build())
                         .option(Option.<Boolean>createBuilder()
                                 .name(Text.translatable("skyblocker.config.uiAndVisuals.tabHud.effectsFooter"))
                                 .description(Text.translatable("skyblocker.config.uiAndVisuals.tabHud.effectsFooter.@Tooltip"))
@@ -473,6 +481,14 @@ public class UIAndVisualsCategory {
 										newValue -> config.uiAndVisuals.waypoints.allowGoingBackwards = newValue)
 								.controller(ConfigUtils.createBooleanController())
 								.build())
+						.option(Option.<Integer>createBuilder()
+								.name(Text.translatable("skyblocker.config.uiAndVisuals.waypoints.clusterDistance"))
+								.description(Text.translatable("skyblocker.config.uiAndVisuals.waypoints.clusterDistance.@Tooltip"))
+								.binding(defaults.uiAndVisuals.waypoints.clusterDistance,
+										() -> config.uiAndVisuals.waypoints.clusterDistance,
+										newValue -> config.uiAndVisuals.waypoints.clusterDistance = newValue)
+								.controller(IntegerController.createBuilder().range(0, 512).slider(16).build())
+								.build())
                         .option(ButtonOption.createBuilder()
                                 .name(Text.translatable("skyblocker.waypoints.config"))
                                 .prompt(Text.translatable("text.skyblocker.open"))
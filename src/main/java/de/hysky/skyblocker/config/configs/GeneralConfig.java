@@ -90,6 +90,8 @@ public class GeneralConfig {
         public boolean enableItemList = true;
 
 		public boolean enableCollapsibleEntries = true;
+
+		public boolean enableItemSnapshot = true;
     }
 
     public static class ItemTooltip {
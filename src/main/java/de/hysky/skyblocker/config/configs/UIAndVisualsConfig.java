@@ -182,6 +182,8 @@ public class UIAndVisualsConfig {
 
 		public boolean enableHudBackground = true;
 
+		public boolean cacheWidgetComposites = true;
+
 		public boolean effectsFromFooter = false;
 
 		public ScreenBuilder.DefaultPositioner defaultPositioning = ScreenBuilder.DefaultPositioner.CENTERED;
@@ -318,6 +320,8 @@ public class UIAndVisualsConfig {
 
 		public boolean allowGoingBackwards = true;
 
+		public int clusterDistance = 128;
+
 		public boolean enableChatWaypoints = true;
 	}
 
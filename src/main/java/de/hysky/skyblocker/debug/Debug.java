@@ -12,8 +12,10 @@ import de.hysky.skyblocker.mixins.accessors.HandledScreenAccessor;
 import de.hysky.skyblocker.mixins.accessors.InGameHudInvoker;
 import de.hysky.skyblocker.skyblock.events.EventNotifications;
 import de.hysky.skyblocker.utils.Constants;
+import de.hysky.skyblocker.utils.HttpCache;
 import de.hysky.skyblocker.utils.ItemUtils;
 import de.hysky.skyblocker.utils.Utils;
+import de.hysky.skyblocker.utils.chat.ChatDispatcher;
 import de.hysky.skyblocker.utils.networth.NetworthCalculator;
 import net.azureaaron.networth.Calculation;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
@@ -86,6 +88,8 @@ public class Debug {
 						.then(dumpBiome())
 						.then(dumpActionBar())
 						.then(auditMixins())
+						.then(HttpCache.dumpStatsCommand())
+						.then(ChatDispatcher.dumpStatsCommand())
 				)
 		));
 		ClientTickEvents.END_CLIENT_TICK.register(client -> {
@@ -11,7 +11,10 @@ public interface ItemPriceUpdateEvent {
 	void onPriceUpdate();
 
 	/**
-	 * An event that is fired when all prices are updated.
+	 * An event that is fired once the {@link de.hysky.skyblocker.skyblock.item.PriceIndex PriceIndex} has been rebuilt with new prices.
+	 * Listeners that cache prices can compare {@link de.hysky.skyblocker.skyblock.item.PriceIndex#getVersion() PriceIndex#getVersion()} to tell whether they are stale.
+	 * <p>
+	 * Not fired on the client thread.
 	 */
 	Event<ItemPriceUpdateEvent> ON_PRICE_UPDATE = EventFactory.createArrayBacked(ItemPriceUpdateEvent.class, listeners -> () -> {
 		for (ItemPriceUpdateEvent listener : listeners) {
@@ -17,16 +17,19 @@ import de.hysky.skyblocker.skyblock.dungeon.DungeonScore;
 import de.hysky.skyblocker.skyblock.dungeon.puzzle.TeleportMaze;
 import de.hysky.skyblocker.skyblock.dungeon.secrets.DungeonManager;
 import de.hysky.skyblocker.skyblock.dwarven.CorpseFinder;
+import de.hysky.skyblocker.skyblock.entity.MobGlow;
 import de.hysky.skyblocker.skyblock.end.TheEnd;
 import de.hysky.skyblocker.skyblock.fishing.FishingHelper;
 import de.hysky.skyblocker.skyblock.fishing.FishingHookDisplayHelper;
 import de.hysky.skyblocker.skyblock.fishing.SeaCreatureTracker;
 import de.hysky.skyblocker.skyblock.galatea.TreeBreakProgressHud;
 import de.hysky.skyblocker.skyblock.hunting.LassoHud;
+import de.hysky.skyblocker.skyblock.item.slottext.SlotTextManager;
 import de.hysky.skyblocker.skyblock.slayers.SlayerManager;
 import de.hysky.skyblocker.skyblock.slayers.boss.demonlord.FirePillarAnnouncer;
 import de.hysky.skyblocker.skyblock.tabhud.util.PlayerListManager;
 import de.hysky.skyblocker.skyblock.teleport.ResponsiveSmoothAOTE;
+import de.hysky.skyblocker.utils.Sidebar;
 import de.hysky.skyblocker.utils.Utils;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientCommonNetworkHandler;
@@ -130,6 +133,7 @@ public abstract class ClientPlayNetworkHandlerMixin extends ClientCommonNetworkH
 	@Inject(method = "onEntityEquipmentUpdate", at = @At(value = "TAIL"))
 	private void skyblocker$onEntityEquip(EntityEquipmentUpdateS2CPacket packet, CallbackInfo ci, @Local Entity entity) {
 		CorpseFinder.checkIfCorpse(entity);
+		if (entity != null) MobGlow.onEntityChanged(entity);
 	}
 
 	@Inject(method = "onPlayerListHeader", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/gui/hud/PlayerListHud;setFooter(Lnet/minecraft/text/Text;)V"))
@@ -137,6 +141,16 @@ public abstract class ClientPlayNetworkHandlerMixin extends ClientCommonNetworkH
 		PlayerListManager.updateFooter(packet.footer());
 	}
 
+	@Inject(method = "onPlayerList", at = @At("TAIL"))
+	private void skyblocker$markPlayerListEntriesDirty(PlayerListS2CPacket packet, CallbackInfo ci) {
+		PlayerListManager.onPlayerListUpdate(packet);
+	}
+
+	@Inject(method = "onPlayerRemove", at = @At("TAIL"))
+	private void skyblocker$markPlayerListDirty(PlayerRemoveS2CPacket packet, CallbackInfo ci) {
+		PlayerListManager.markDirty();
+	}
+
 	@WrapWithCondition(method = "onPlayerList", at = @At(value = "INVOKE", target = "Lorg/slf4j/Logger;warn(Ljava/lang/String;Ljava/lang/Object;Ljava/lang/Object;)V", remap = false))
 	private boolean skyblocker$cancelPlayerListWarning(Logger instance, String format, Object arg1, Object arg2) {
 		return !Utils.isOnHypixel();
@@ -152,6 +166,16 @@ public abstract class ClientPlayNetworkHandlerMixin extends ClientCommonNetworkH
 		return !(Utils.isOnHypixel() && ((Identifier) identifier).getNamespace().equals("badlion"));
 	}
 
+	@Inject(method = {"onScoreboardDisplay", "onScoreboardObjectiveUpdate", "onScoreboardScoreUpdate", "onScoreboardScoreReset", "onTeam"}, at = @At("TAIL"))
+	private void skyblocker$markSidebarDirty(CallbackInfo ci) {
+		Sidebar.markDirty();
+	}
+
+	@Inject(method = {"onScreenHandlerSlotUpdate", "onInventory"}, at = @At("TAIL"))
+	private void skyblocker$invalidateSlotText(CallbackInfo ci) {
+		SlotTextManager.invalidateCache();
+	}
+
 	@WrapWithCondition(method = {"onScoreboardScoreUpdate", "onScoreboardScoreReset"}, at = @At(value = "INVOKE", target = "Lorg/slf4j/Logger;warn(Ljava/lang/String;Ljava/lang/Object;)V", remap = false), require = 2)
 	private boolean skyblocker$cancelUnknownScoreboardObjectiveWarnings(Logger instance, String message, Object objectiveName) {
 		return !Utils.isOnHypixel();
@@ -4,6 +4,7 @@ import com.llamalad7.mixinextras.sugar.Local;
 import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import de.hysky.skyblocker.mixins.accessors.EndermanEntityAccessor;
 import de.hysky.skyblocker.skyblock.entity.MobGlow;
+import de.hysky.skyblocker.skyblock.entity.NametagIndex;
 import de.hysky.skyblocker.utils.Utils;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
@@ -42,6 +43,14 @@ public abstract class DataTrackerMixin {
         }
     }
 
+    @Inject(method = "writeUpdatedEntries", at = @At("TAIL"))
+    private void skyblocker$afterWriteUpdatedEntries(CallbackInfo ci) {
+        if (trackedEntity instanceof Entity entity) {
+            NametagIndex.onTrackedDataChanged(entity);
+            MobGlow.onEntityChanged(entity);
+        }
+    }
+
     @Inject(method = "copyToFrom", at = @At(value = "NEW", target = "Ljava/lang/IllegalStateException;"), cancellable = true)
     public void skyblocker$ignoreInvalidDataExceptions(CallbackInfo ci) {
         //These exceptions cause annoying small lag spikes for some reason
@@ -0,0 +1,228 @@
+package de.hysky.skyblocker.skyblock;
+
+/**
+ * A single-pass scanner for the stats in the action bar, which finds the same parts as the patterns that {@link StatusBarTracker} used before:
+ * <ul>
+ *     <li>Health: {@code §[6c](?<health>[\d,]+)/(?<max>[\d,]+)❤ *(?<healing>\+§c([\d,]+). *)?}</li>
+ *     <li>Defense: {@code §a(?<defense>[\d,]+)§a❈ Defense *}</li>
+ *     <li>Mana use: {@code §b-([\d,]+) Mana \(§.*?\) *}</li>
+ *     <li>Mana: {@code §b(?<mana>[\d,]+)/(?<max>[\d,]+)✎ (?:Mana|§3(?<overflow>[\d,]+)ʬ) *}</li>
+ * </ul>
+ * Like the patterns, each part is searched for after the previous part that was found: defense or else mana use after health, then mana.
+ * The values are parsed while scanning and stored in the fields together with the bounds of each part, so scanning does not allocate.
+ * The fields of a part that was not found are left over from the previous scan, so check its start first.
+ */
+final class ActionBarScanner {
+	static final int NOT_FOUND = -1;
+
+	int healthStart = NOT_FOUND;
+	int healthEnd;
+	/**
+	 * The start of the healing after the health, such as {@code +§c120▄}, which is part of the health.
+	 */
+	int healingStart = NOT_FOUND;
+	int health;
+	int maxHealth;
+
+	int defenseStart = NOT_FOUND;
+	int defenseEnd;
+	int defense;
+
+	int manaUseStart = NOT_FOUND;
+	int manaUseEnd;
+	int manaUse;
+
+	int manaStart = NOT_FOUND;
+	int manaEnd;
+	int mana;
+	int maxMana;
+	int overflowMana;
+
+	/**
+	 * The value of the last number scanned by {@link #scanNumber(String, int)}.
+	 */
+	private int number;
+
+	/**
+	 * Scans the action bar for the stats.
+	 *
+	 * @param searchManaUse whether to search for mana use when there is no defense, which moves the search for mana to after the mana use
+	 * @return whether the health was found, without which nothing else is searched for
+	 */
+	boolean scan(String actionBar, boolean searchManaUse) {
+		healthStart = healingStart = defenseStart = manaUseStart = manaStart = NOT_FOUND;
+
+		for (int i = actionBar.indexOf('§'); i >= 0; i = actionBar.indexOf('§', i + 1)) {
+			if (scanHealth(actionBar, i)) break;
+		}
+		if (healthStart == NOT_FOUND) return false;
+		int position = healthEnd;
+
+		for (int i = actionBar.indexOf('§', position); i >= 0; i = actionBar.indexOf('§', i + 1)) {
+			if (scanDefense(actionBar, i)) break;
+		}
+		if (defenseStart != NOT_FOUND) {
+			position = defenseEnd;
+		} else if (searchManaUse) {
+			for (int i = actionBar.indexOf('§', position); i >= 0; i = actionBar.indexOf('§', i + 1)) {
+				if (scanManaUse(actionBar, i)) break;
+			}
+			if (manaUseStart != NOT_FOUND) position = manaUseEnd;
+		}
+
+		for (int i = actionBar.indexOf('§', position); i >= 0; i = actionBar.indexOf('§', i + 1)) {
+			if (scanMana(actionBar, i)) break;
+		}
+
+		return true;
+	}
+
+	private boolean scanHealth(String s, int start) {
+		int i = start + 1;
+		if (!(charAt(s, i) == '6' || charAt(s, i) == 'c')) return false;
+
+		int healthEnd = scanNumber(s, i + 1);
+		if (healthEnd < 0 || charAt(s, healthEnd) != '/') return false;
+		int health = number;
+
+		int maxEnd = scanNumber(s, healthEnd + 1);
+		if (maxEnd < 0 || charAt(s, maxEnd) != '❤') return false;
+		int maxHealth = number;
+
+		int end = skipSpaces(s, maxEnd + 1);
+		int healingEnd = scanHealing(s, end);
+
+		this.healthStart = start;
+		this.healthEnd = healingEnd < 0 ? end : healingEnd;
+		this.healingStart = healingEnd < 0 ? NOT_FOUND : end;
+		this.health = health;
+		this.maxHealth = maxHealth;
+		return true;
+	}
+
+	/**
+	 * Matches {@code \+§c([\d,]+). *}, where the any character can also be the last character of the number.
+	 */
+	private int scanHealing(String s, int start) {
+		if (charAt(s, start) != '+' || charAt(s, start + 1) != '§' || charAt(s, start + 2) != 'c') return NOT_FOUND;
+
+		int digitsStart = start + 3;
+		int digitsEnd = scanNumber(s, digitsStart);
+		if (digitsEnd < 0) return NOT_FOUND;
+
+		int end;
+		if (digitsEnd < s.length() && !isLineTerminator(s.charAt(digitsEnd))) {
+			end = digitsEnd + 1;
+		} else if (digitsEnd - digitsStart >= 2) {
+			// The number gives back its last character to the any character
+			end = digitsEnd;
+		} else {
+			return NOT_FOUND;
+		}
+
+		return skipSpaces(s, end);
+	}
+
+	private boolean scanDefense(String s, int start) {
+		if (charAt(s, start + 1) != 'a') return false;
+
+		int defenseEnd = scanNumber(s, start + 2);
+		if (defenseEnd < 0 || !s.startsWith("§a❈ Defense", defenseEnd)) return false;
+
+		this.defenseStart = start;
+		this.defenseEnd = skipSpaces(s, defenseEnd + "§a❈ Defense".length());
+		this.defense = number;
+		return true;
+	}
+
+	private boolean scanManaUse(String s, int start) {
+		if (charAt(s, start + 1) != 'b' || charAt(s, start + 2) != '-') return false;
+
+		int manaUseEnd = scanNumber(s, start + 3);
+		if (manaUseEnd < 0 || !s.startsWith(" Mana (§", manaUseEnd)) return false;
+		int manaUse = number;
+
+		// Lazily match any characters up to the first closing parenthesis on the same line
+		int i = manaUseEnd + " Mana (§".length();
+		while (i < s.length() && s.charAt(i) != ')') {
+			if (isLineTerminator(s.charAt(i))) return false;
+			i++;
+		}
+		if (i >= s.length()) return false;
+
+		this.manaUseStart = start;
+		this.manaUseEnd = skipSpaces(s, i + 1);
+		this.manaUse = manaUse;
+		return true;
+	}
+
+	private boolean scanMana(String s, int start) {
+		if (charAt(s, start + 1) != 'b') return false;
+
+		int manaEnd = scanNumber(s, start + 2);
+		if (manaEnd < 0 || charAt(s, manaEnd) != '/') return false;
+		int mana = number;
+
+		int maxEnd = scanNumber(s, manaEnd + 1);
+		if (maxEnd < 0 || charAt(s, maxEnd) != '✎' || charAt(s, maxEnd + 1) != ' ') return false;
+		int maxMana = number;
+
+		int end;
+		int overflowMana = 0;
+		if (s.startsWith("Mana", maxEnd + 2)) {
+			end = maxEnd + 2 + "Mana".length();
+		} else if (charAt(s, maxEnd + 2) == '§' && charAt(s, maxEnd + 3) == '3') {
+			int overflowEnd = scanNumber(s, maxEnd + 4);
+			if (overflowEnd < 0 || charAt(s, overflowEnd) != 'ʬ') return false;
+			overflowMana = number;
+			end = overflowEnd + 1;
+		} else {
+			return false;
+		}
+
+		this.manaStart = start;
+		this.manaEnd = skipSpaces(s, end);
+		this.mana = mana;
+		this.maxMana = maxMana;
+		this.overflowMana = overflowMana;
+		return true;
+	}
+
+	/**
+	 * Scans a number of digits and commas, storing its value in {@link #number}.
+	 *
+	 * @return the index after the number, or {@link #NOT_FOUND} if there is no digit or comma at the start
+	 */
+	private int scanNumber(String s, int start) {
+		int value = 0;
+		int i = start;
+		for (; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c >= '0' && c <= '9') {
+				value = value * 10 + (c - '0');
+			} else if (c != ',') {
+				break;
+			}
+		}
+
+		number = value;
+		return i > start ? i : NOT_FOUND;
+	}
+
+	private static int skipSpaces(String s, int start) {
+		int i = start;
+		while (i < s.length() && s.charAt(i) == ' ') i++;
+		return i;
+	}
+
+	private static char charAt(String s, int index) {
+		return index < s.length() ? s.charAt(index) : '\0';
+	}
+
+	/**
+	 * The characters that {@code .} does not match in a pattern.
+	 */
+	private static boolean isLineTerminator(char c) {
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+}
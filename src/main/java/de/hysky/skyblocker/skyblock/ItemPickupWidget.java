@@ -11,6 +11,7 @@ import de.hysky.skyblocker.skyblock.tabhud.widget.component.SeparatorComponent;
 import de.hysky.skyblocker.utils.Formatters;
 import de.hysky.skyblocker.utils.Location;
 import de.hysky.skyblocker.utils.NEURepoManager;
+import de.hysky.skyblocker.utils.chat.ChatDispatcher;
 import de.hysky.skyblocker.utils.scheduler.Scheduler;
 import io.github.moulberry.repo.data.NEUItem;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -75,7 +76,7 @@ public class ItemPickupWidget extends ComponentBasedWidget {
 	 * Checks chat messages for a stack update message, then finds the items linked to it
 	 */
 	private boolean onChatMessage(Text message, boolean overlay) {
-		if (!Formatting.strip(message.getString()).startsWith(SACKS_MESSAGE_START)) return true;
+		if (!ChatDispatcher.flatten(message).startsWith(SACKS_MESSAGE_START)) return true;
 		if (!SkyblockerConfigManager.get().uiAndVisuals.itemPickup.sackNotifications) return true;
 		HoverEvent hoverEvent = message.getSiblings().getFirst().getStyle().getHoverEvent();
 		if (hoverEvent == null || hoverEvent.getAction() != HoverEvent.Action.SHOW_TEXT) return true;
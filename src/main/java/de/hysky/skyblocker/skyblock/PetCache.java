@@ -8,6 +8,7 @@ import de.hysky.skyblocker.skyblock.itemlist.ItemRepository;
 import de.hysky.skyblocker.utils.ItemUtils;
 import de.hysky.skyblocker.utils.RegexUtils;
 import de.hysky.skyblocker.utils.Utils;
+import de.hysky.skyblocker.utils.chat.ChatDispatcher;
 import de.hysky.skyblocker.utils.data.ProfiledData;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
@@ -22,7 +23,6 @@ import net.minecraft.nbt.NbtCompound;
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.text.OrderedText;
 import net.minecraft.text.Text;
-import net.minecraft.util.Formatting;
 
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.jetbrains.annotations.Nullable;
@@ -115,7 +115,7 @@ public class PetCache {
 	private static boolean onMessage(Text text, boolean overlay) {
 		if (!Utils.isOnSkyblock() || overlay) return true;
 
-		String stringified = Formatting.strip(text.getString());
+		String stringified = ChatDispatcher.flatten(text);
 		Matcher matcher = AUTOPET_PATTERN.matcher(stringified);
 
 		if (matcher.matches()) {
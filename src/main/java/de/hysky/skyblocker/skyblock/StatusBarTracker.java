@@ -25,13 +25,14 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class StatusBarTracker {
-	private static final Pattern STATUS_HEALTH = Pattern.compile("§[6c](?<health>[\\d,]+)/(?<max>[\\d,]+)❤ *(?<healing>\\+§c([\\d,]+). *)?");
-	private static final Pattern DEFENSE_STATUS = Pattern.compile("§a(?<defense>[\\d,]+)§a❈ Defense *");
-	private static final Pattern MANA_USE = Pattern.compile("§b-([\\d,]+) Mana \\(§.*?\\) *");
-	private static final Pattern MANA_STATUS = Pattern.compile("§b(?<mana>[\\d,]+)/(?<max>[\\d,]+)✎ (?:Mana|§3(?<overflow>[\\d,]+)ʬ) *");
 	private static final Pattern MANA_LORE = Pattern.compile("Mana Cost: (\\d+)");
 
 	private static final MinecraftClient client = MinecraftClient.getInstance();
+	/**
+	 * The action bar is only parsed on the client thread, so the scanner and string builder are reused.
+	 */
+	private static final ActionBarScanner SCANNER = new ActionBarScanner();
+	private static final StringBuilder STRING_BUILDER = new StringBuilder();
 	private static Resource health = new Resource(100, 100, 0);
 	private static Resource mana = new Resource(100, 100, 0);
 	private static Resource speed = new Resource(100, 400, 0);
@@ -125,48 +126,51 @@ public class StatusBarTracker {
 		return Text.of(update(text.getString(), SkyblockerConfigManager.get().chat.hideMana));
 	}
 
+	/**
+	 * Updates the stats from the action bar, and returns the action bar without the stats that are shown by the enabled fancy status bars.
+	 *
+	 * @param filterManaUse whether to also remove the mana use, which is only removed when there is no defense
+	 * @return the rest of the action bar, or null if nothing is left
+	 */
 	public static String update(String actionBar, boolean filterManaUse) {
-		var sb = new StringBuilder();
-
-		// Match health and don't add it to the string builder
-		// Append healing to the string builder if there is any healing
-		Matcher matcher = STATUS_HEALTH.matcher(actionBar);
-		if (!matcher.find()) return actionBar;
-		updateHealth(matcher);
-		if (matcher.group("healing") != null) {
-			sb.append("§c❤");
-		}
-		if (!FancyStatusBars.isHealthFancyBarEnabled()) matcher.appendReplacement(sb, "$0");
-		else matcher.appendReplacement(sb, "$3");
-
-		// Match defense or mana use and don't add it to the string builder
-		if (matcher.usePattern(DEFENSE_STATUS).find()) {
-			defense = RegexUtils.parseIntFromMatcher(matcher, "defense");
-			if (FancyStatusBars.isBarEnabled(StatusBarType.DEFENSE)) matcher.appendReplacement(sb, "");
-			else matcher.appendReplacement(sb, "$0");
-		} else if (filterManaUse && matcher.usePattern(MANA_USE).find()) {
-			matcher.appendReplacement(sb, "");
+		ActionBarScanner scanner = SCANNER;
+		if (!scanner.scan(actionBar, filterManaUse)) return actionBar;
+		STRING_BUILDER.setLength(0);
+		StringBuilder sb = STRING_BUILDER;
+
+		// Don't add the health to the string builder, but add the healing if there is any
+		updateHealth(scanner.health, scanner.maxHealth, Math.max(0, scanner.health - scanner.maxHealth));
+		if (scanner.healingStart != ActionBarScanner.NOT_FOUND) sb.append("§c❤");
+		sb.append(actionBar, 0, scanner.healthStart);
+		if (!FancyStatusBars.isHealthFancyBarEnabled()) sb.append(actionBar, scanner.healthStart, scanner.healthEnd);
+		else if (scanner.healingStart != ActionBarScanner.NOT_FOUND) sb.append(actionBar, scanner.healingStart, scanner.healthEnd);
+		int position = scanner.healthEnd;
+
+		// Don't add the defense or the filtered mana use to the string builder
+		if (scanner.defenseStart != ActionBarScanner.NOT_FOUND) {
+			defense = scanner.defense;
+			sb.append(actionBar, position, scanner.defenseStart);
+			if (!FancyStatusBars.isBarEnabled(StatusBarType.DEFENSE)) sb.append(actionBar, scanner.defenseStart, scanner.defenseEnd);
+			position = scanner.defenseEnd;
+		} else if (scanner.manaUseStart != ActionBarScanner.NOT_FOUND) {
+			sb.append(actionBar, position, scanner.manaUseStart);
+			position = scanner.manaUseEnd;
 		}
 
-		// Match mana and don't add it to the string builder
-		if (matcher.usePattern(MANA_STATUS).find()) {
-			updateMana(matcher);
-			if (FancyStatusBars.isBarEnabled(StatusBarType.INTELLIGENCE)) matcher.appendReplacement(sb, "");
-			else matcher.appendReplacement(sb, "$0");
+		// Don't add the mana to the string builder
+		if (scanner.manaStart != ActionBarScanner.NOT_FOUND) {
+			updateMana(scanner.mana, scanner.maxMana, scanner.overflowMana);
+			sb.append(actionBar, position, scanner.manaStart);
+			if (!FancyStatusBars.isBarEnabled(StatusBarType.INTELLIGENCE)) sb.append(actionBar, scanner.manaStart, scanner.manaEnd);
+			position = scanner.manaEnd;
 		}
 
 		// Append the rest of the message to the string builder
-		matcher.appendTail(sb);
+		sb.append(actionBar, position, actionBar.length());
 		String res = sb.toString().trim();
 		return res.isEmpty() ? null : res;
 	}
 
-	private static void updateHealth(Matcher matcher) {
-		int health = RegexUtils.parseIntFromMatcher(matcher, "health");
-		int max = RegexUtils.parseIntFromMatcher(matcher, "max");
-		updateHealth(health, max, Math.max(0, health - max));
-	}
-
 	private static void updateHealth(int value, int max, int overflow) {
 		if (client != null && client.player != null) {
 			value = (int) (client.player.getHealth() * max / client.player.getMaxHealth());
@@ -175,10 +179,7 @@ public class StatusBarTracker {
 		health = new Resource(Math.min(value, max), max, Math.min(overflow, max));
 	}
 
-	private static void updateMana(Matcher m) {
-		int mana = RegexUtils.parseIntFromMatcher(m, "mana");
-		int max = RegexUtils.parseIntFromMatcher(m, "max");
-		int overflow = m.group("overflow") == null ? 0 : RegexUtils.parseIntFromMatcher(m, "overflow");
+	private static void updateMana(int mana, int max, int overflow) {
 		StatusBarTracker.mana = new Resource(mana, max, overflow);
 		if (mana != max && lastMana < mana) manaPerSecond = Math.max(mana - lastMana, 0);
 		if (lastMana != mana || mana == max) lastManaTick = ticks;
@@ -1,8 +1,8 @@
 package de.hysky.skyblocker.skyblock.auction;
 
 import de.hysky.skyblocker.config.SkyblockerConfigManager;
+import de.hysky.skyblocker.skyblock.item.PriceIndex;
 import de.hysky.skyblocker.utils.Constants;
-import de.hysky.skyblocker.utils.ItemUtils;
 import de.hysky.skyblocker.utils.Formatters;
 import de.hysky.skyblocker.utils.container.SimpleContainerSolver;
 import de.hysky.skyblocker.utils.render.gui.ColorHighlight;
@@ -59,7 +59,7 @@ public class CopyUnderbidPrice extends SimpleContainerSolver {
 
 		if (copied) return;
 
-		double price = ItemUtils.getItemPrice(stack).leftDouble();
+		double price = PriceIndex.get().getPrice(stack.getSkyblockApiId());
 		if (price <= 1) return;
 
 		long underbid = (long) price - 1;
@@ -3,6 +3,7 @@ package de.hysky.skyblocker.skyblock.barn;
 import de.hysky.skyblocker.annotations.Init;
 import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import de.hysky.skyblocker.events.ParticleEvents;
+import de.hysky.skyblocker.utils.BlockIndex;
 import de.hysky.skyblocker.utils.ColorUtils;
 import de.hysky.skyblocker.utils.Utils;
 import de.hysky.skyblocker.utils.render.RenderHelper;
@@ -12,7 +13,6 @@ import de.hysky.skyblocker.utils.scheduler.Scheduler;
 import de.hysky.skyblocker.utils.waypoint.SeenWaypoint;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.event.player.AttackBlockCallback;
-import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.network.packet.s2c.play.ParticleS2CPacket;
@@ -27,6 +27,7 @@ import java.util.Map;
 
 public class GlowingMushrooms {
 	private static final MinecraftClient client = MinecraftClient.getInstance();
+	private static final BlockIndex MUSHROOMS = BlockIndex.create(state -> state.isOf(Blocks.RED_MUSHROOM) || state.isOf(Blocks.BROWN_MUSHROOM));
 	private static final Map<BlockPos, GlowingMushrooms.GlowingMushroom> glowingMushrooms = new HashMap<>();
 
 	@Init
@@ -46,9 +47,7 @@ public class GlowingMushrooms {
 		if (!ParticleTypes.ENTITY_EFFECT.equals(packet.getParameters().getType())) return;
 
 		BlockPos pos = BlockPos.ofFloored(packet.getX(), packet.getY(), packet.getZ());
-
-		Block block = client.world.getBlockState(pos).getBlock();
-		if (block != Blocks.RED_MUSHROOM && block != Blocks.BROWN_MUSHROOM) return;
+		if (!MUSHROOMS.contains(pos)) return;
 
 		GlowingMushroom mushroom = glowingMushrooms.computeIfAbsent(pos, GlowingMushroom::new);
 		mushroom.addParticle();
@@ -64,10 +63,7 @@ public class GlowingMushrooms {
 	private static void extractRendering(PrimitiveCollector collector) {
 		if (!shouldProcess() || client.world == null) return;
 		for (GlowingMushroom glowingMushroom : glowingMushrooms.values()) {
-			if (!glowingMushroom.shouldRender()) continue;
-
-			Block block = client.world.getBlockState(glowingMushroom.pos).getBlock();
-			if (block != Blocks.RED_MUSHROOM && block != Blocks.BROWN_MUSHROOM) continue;
+			if (!glowingMushroom.shouldRender() || !MUSHROOMS.contains(glowingMushroom.pos)) continue;
 
 			Box boundingBox = RenderHelper.getBlockBoundingBox(client.world, glowingMushroom.pos);
 			collector.submitOutlinedBox(boundingBox, ColorUtils.getFloatComponents(DyeColor.YELLOW), 3, glowingMushroom.shouldRenderThroughWalls());
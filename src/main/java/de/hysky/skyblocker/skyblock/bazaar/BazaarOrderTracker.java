@@ -93,5 +93,11 @@ public class BazaarOrderTracker extends SimpleTooltipAdder {
 		return SkyblockerConfigManager.get().helpers.bazaar.enableOrderTracker;
 	}
 
+	@Override
+	public boolean isCacheable() {
+		// Depends on the tracked orders and the item in another slot
+		return false;
+	}
+
 	private record Order(String skyblockId, double unitPrice, int amount, boolean sell) {}
 }
@@ -7,6 +7,7 @@ import de.hysky.skyblocker.utils.CollectionUtils;
 import de.hysky.skyblocker.utils.Constants;
 import de.hysky.skyblocker.utils.Location;
 import de.hysky.skyblocker.utils.Utils;
+import de.hysky.skyblocker.utils.chat.RegexLiterals;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.sound.SoundEvent;
 import net.minecraft.text.Text;
@@ -53,6 +54,7 @@ public class ChatRule {
 
 	private String name;
 	private Pattern pattern; // Only compile Regex patterns once
+	private List<String> requiredLiterals; // Only extract the literals once as well
 
 	// Inputs
 	private boolean enabled;
@@ -139,6 +141,7 @@ public class ChatRule {
 	protected void setRegex(boolean regex) {
 		isRegex = regex;
 		this.pattern = null;
+		this.requiredLiterals = null;
 	}
 
 	protected boolean getIgnoreCase() {
@@ -148,6 +151,7 @@ public class ChatRule {
 	protected void setIgnoreCase(boolean ignoreCase) {
 		isIgnoreCase = ignoreCase;
 		this.pattern = null;
+		this.requiredLiterals = null;
 	}
 
 	protected String getFilter() {
@@ -157,6 +161,7 @@ public class ChatRule {
 	protected void setFilter(String filter) {
 		this.filter = filter;
 		this.pattern = null;
+		this.requiredLiterals = null;
 	}
 
 	protected boolean getHideMessage() {
@@ -215,6 +220,21 @@ public class ChatRule {
 		this.validLocations = validLocations;
 	}
 
+	/**
+	 * Returns the literals of which at least one is contained in every message this rule matches, compared case-insensitively.
+	 * A new list is returned after the filter changes, which lets {@link ChatRulesHandler} know to rebuild its index.
+	 *
+	 * @return the required literals, or an empty list if the rule has to be checked for every message
+	 */
+	protected List<String> getRequiredLiterals() {
+		if (requiredLiterals == null) {
+			String testFilter = isIgnoreCase ? filter.toLowerCase(Locale.ENGLISH) : filter;
+			requiredLiterals = isRegex ? RegexLiterals.requiredLiterals(testFilter) : RegexLiterals.requiredLiteralsOf(testFilter);
+		}
+
+		return requiredLiterals;
+	}
+
 	private void compilePattern(String filterText) {
 		if (pattern != null) return;
 
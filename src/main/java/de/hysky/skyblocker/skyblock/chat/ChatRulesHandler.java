@@ -8,6 +8,9 @@ import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import de.hysky.skyblocker.utils.Location;
 import de.hysky.skyblocker.utils.TextTransformer;
 import de.hysky.skyblocker.utils.Utils;
+import de.hysky.skyblocker.utils.chat.ChatDispatcher;
+import de.hysky.skyblocker.utils.chat.ChatStats;
+import de.hysky.skyblocker.utils.chat.LiteralIndex;
 import de.hysky.skyblocker.utils.data.JsonData;
 import de.hysky.skyblocker.utils.render.title.Title;
 import de.hysky.skyblocker.utils.render.title.TitleContainer;
@@ -17,12 +20,12 @@ import net.minecraft.client.MinecraftClient;
 import net.minecraft.sound.SoundEvents;
 import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
-import net.minecraft.util.Formatting;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.VisibleForTesting;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +45,13 @@ public class ChatRulesHandler {
 	);
 
 	protected static final JsonData<List<ChatRule>> chatRuleList = new JsonData<>(CHAT_RULE_FILE, UNBOXING_CODEC, getDefaultChatRules());
+	/**
+	 * The rules and their literals that {@link #ruleIndex} was built from, to rebuild it when the rules are edited.
+	 */
+	private static ChatRule[] indexedRules = new ChatRule[0];
+	private static List<?>[] indexedLiterals = new List<?>[0];
+	private static ChatStats[] ruleStats = new ChatStats[0];
+	private static LiteralIndex ruleIndex = LiteralIndex.of(List.of());
 
 	@Init
 	public static void init() {
@@ -64,10 +74,19 @@ public class ChatRulesHandler {
 		if (overlay || !Utils.isOnSkyblock()) return true;
 		List<ChatRule> rules = chatRuleList.getData();
 		if (!chatRuleList.isLoaded() || rules.isEmpty()) return true;
-		String plain = Formatting.strip(message.getString());
+		String plain = ChatDispatcher.flatten(message);
+		BitSet candidates = getRuleIndex(rules).candidates(plain);
+
+		for (int i = 0; i < rules.size(); i++) {
+			ChatRule rule = rules.get(i);
+			if (!candidates.get(i)) {
+				ruleStats[i].skip();
+				continue;
+			}
 
-		for (ChatRule rule : rules) {
+			long start = System.nanoTime();
 			ChatRule.Match match = rule.isMatch(plain);
+			ruleStats[i].record(System.nanoTime() - start, match.matches());
 			if (!match.matches()) continue;
 
 			// Get a replacement message
@@ -104,6 +123,31 @@ public class ChatRulesHandler {
 		return true;
 	}
 
+	/**
+	 * Returns the index over the {@link ChatRule#getRequiredLiterals() required literals} of the rules,
+	 * rebuilding it if a rule was added, removed, replaced or had its filter changed since it was last built.
+	 */
+	private static LiteralIndex getRuleIndex(List<ChatRule> rules) {
+		boolean changed = rules.size() != indexedRules.length;
+		for (int i = 0; !changed && i < indexedRules.length; i++) {
+			changed = rules.get(i) != indexedRules[i] || rules.get(i).getRequiredLiterals() != indexedLiterals[i];
+		}
+		if (!changed) return ruleIndex;
+
+		indexedRules = rules.toArray(ChatRule[]::new);
+		indexedLiterals = rules.stream().map(ChatRule::getRequiredLiterals).toArray(List<?>[]::new);
+		ruleStats = rules.stream().map(rule -> new ChatStats("Chat Rule: " + rule.getName())).toArray(ChatStats[]::new);
+		ruleIndex = LiteralIndex.of(rules.stream().map(ChatRule::getRequiredLiterals).toList());
+		return ruleIndex;
+	}
+
+	/**
+	 * @return the statistics of each chat rule since the rules were last edited
+	 */
+	public static List<ChatStats> getStats() {
+		return List.of(ruleStats);
+	}
+
 	/**
 	 * Converts a string with color codes into a formatted Text object
 	 *
@@ -397,6 +397,11 @@ public class ChocolateFactorySolver extends SimpleContainerSolver implements Too
 		return 0; //The priority doesn't really matter here as this is the only tooltip adder for the Chocolate Factory.
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return false; //The upgrade timers count down and depend on the chocolate count of the factory, and the slot text depends on the levels the solver reads.
+	}
+
 	// ======== Slot Text Adder ========
 
 	@Override
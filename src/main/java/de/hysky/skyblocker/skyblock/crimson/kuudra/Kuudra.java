@@ -15,6 +15,7 @@ import de.hysky.skyblocker.skyblock.crimson.CrimsonFaction;
 import de.hysky.skyblocker.skyblock.item.PetInfo;
 import de.hysky.skyblocker.utils.ItemUtils;
 import de.hysky.skyblocker.utils.Utils;
+import de.hysky.skyblocker.utils.chat.ChatDispatcher;
 import de.hysky.skyblocker.utils.data.ProfiledData;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
@@ -25,7 +26,6 @@ import net.minecraft.client.gui.screen.ingame.GenericContainerScreen;
 import net.minecraft.item.ItemStack;
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.text.Text;
-import net.minecraft.util.Formatting;
 
 public class Kuudra {
 	public static final int KUUDRA_MAGMA_CUBE_SIZE = 30;
@@ -132,7 +132,7 @@ public class Kuudra {
 
 	private static boolean onMessage(Text text, boolean overlay) {
 		if (Utils.isInKuudra() && !overlay) {
-			String message = Formatting.strip(text.getString());
+			String message = ChatDispatcher.flatten(text);
 
 			if (message.equals("[NPC] Elle: ARGH! All of the supplies fell into the lava! You need to retrieve them quickly!")) {
 				phase = KuudraPhase.RETRIEVE_SUPPLIES;
@@ -4,6 +4,7 @@ import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import de.hysky.skyblocker.skyblock.ChestValue;
 import de.hysky.skyblocker.skyblock.hunting.Attribute;
 import de.hysky.skyblocker.skyblock.hunting.Attributes;
+import de.hysky.skyblocker.skyblock.item.PriceIndex;
 import de.hysky.skyblocker.utils.Constants;
 import de.hysky.skyblocker.utils.Formatters;
 import de.hysky.skyblocker.utils.ItemUtils;
@@ -226,7 +227,7 @@ public class CroesusProfit extends SimpleContainerSolver implements TooltipAdder
 		String kuudraApiId = KUUDRA_DROPS_NAME_TO_API_ID.get(itemName);
 		String apiIdToUse = dungeonApiId != null ? dungeonApiId : kuudraApiId != null ? kuudraApiId : itemName;
 
-		return ItemUtils.getItemPrice(apiIdToUse).leftDouble();
+		return PriceIndex.get().getPrice(apiIdToUse);
 	}
 
 	// I did a thing :(
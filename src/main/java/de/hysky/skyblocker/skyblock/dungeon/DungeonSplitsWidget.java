@@ -12,6 +12,7 @@ import de.hysky.skyblocker.skyblock.tabhud.widget.component.PlainTextComponent;
 import de.hysky.skyblocker.utils.Location;
 import de.hysky.skyblocker.utils.Utils;
 import de.hysky.skyblocker.utils.CodecUtils;
+import de.hysky.skyblocker.utils.chat.ChatDispatcher;
 import de.hysky.skyblocker.utils.data.ProfiledData;
 import net.minecraft.client.MinecraftClient;
 import net.fabricmc.fabric.api.client.message.v1.ClientReceiveMessageEvents;
@@ -229,7 +230,7 @@ public class DungeonSplitsWidget extends TableWidget {
 	@SuppressWarnings("SameReturnValue")
 	private boolean onChatMessage(Text text, boolean overlay) {
 		if (!Utils.isInDungeons() || overlay) return true;
-		String stripped = Formatting.strip(text.getString());
+		String stripped = ChatDispatcher.flatten(text);
 
 		if (!running && DUNGEON_START.matcher(stripped).matches()) {
 			startTime = System.currentTimeMillis();
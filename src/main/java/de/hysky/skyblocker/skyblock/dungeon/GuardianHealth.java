@@ -3,6 +3,7 @@ package de.hysky.skyblocker.skyblock.dungeon;
 import de.hysky.skyblocker.annotations.Init;
 import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import de.hysky.skyblocker.utils.Utils;
+import de.hysky.skyblocker.utils.chat.ChatDispatcher;
 import de.hysky.skyblocker.utils.render.RenderHelper;
 import de.hysky.skyblocker.utils.render.WorldRenderExtractionCallback;
 import de.hysky.skyblocker.utils.render.primitive.PrimitiveCollector;
@@ -81,7 +82,7 @@ public class GuardianHealth {
 
     private static boolean onChatMessage(Text text, boolean overlay) {
         if (Utils.isInDungeons() && SkyblockerConfigManager.get().dungeons.theProfessor.floor3GuardianHealthDisplay && !inBoss) {
-            String unformatted = Formatting.strip(text.getString());
+            String unformatted = ChatDispatcher.flatten(text);
 
             inBoss = unformatted.equals("[BOSS] The Professor: I was burdened with terrible news recently...");
         }
@@ -4,6 +4,7 @@ import de.hysky.skyblocker.annotations.Init;
 import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import de.hysky.skyblocker.skyblock.dungeon.secrets.DungeonManager;
 import de.hysky.skyblocker.skyblock.dungeon.secrets.Room;
+import de.hysky.skyblocker.utils.chat.ChatDispatcher;
 import de.hysky.skyblocker.utils.render.RenderHelper;
 import de.hysky.skyblocker.utils.render.primitive.PrimitiveCollector;
 import net.fabricmc.fabric.api.client.message.v1.ClientReceiveMessageEvents;
@@ -37,7 +38,7 @@ public class ThreeWeirdos extends DungeonPuzzle {
             if (overlay || !shouldSolve() || !SkyblockerConfigManager.get().dungeons.puzzleSolvers.solveThreeWeirdos || world == null || !DungeonManager.isCurrentRoomMatched()) return true;
 
             @SuppressWarnings("DataFlowIssue")
-            Matcher matcher = PATTERN.matcher(Formatting.strip(message.getString()));
+            Matcher matcher = PATTERN.matcher(ChatDispatcher.flatten(message));
             if (!matcher.matches()) return true;
             String name = matcher.group(1);
             Room room = DungeonManager.getCurrentRoom();
@@ -8,6 +8,7 @@ import de.hysky.skyblocker.skyblock.dungeon.secrets.Room;
 import de.hysky.skyblocker.skyblock.waypoint.FairySouls;
 import de.hysky.skyblocker.utils.SkyblockTime;
 import de.hysky.skyblocker.utils.Utils;
+import de.hysky.skyblocker.utils.chat.ChatDispatcher;
 import de.hysky.skyblocker.utils.render.RenderHelper;
 import de.hysky.skyblocker.utils.render.primitive.PrimitiveCollector;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -65,7 +66,7 @@ public class Trivia extends DungeonPuzzle {
 	public boolean onMessage(Text message, boolean overlay) {
 		if (!shouldRun() || overlay) return true;
 
-		Matcher matcher = PATTERN.matcher(Formatting.strip(message.getString()));
+		Matcher matcher = PATTERN.matcher(ChatDispatcher.flatten(message));
 		if (!matcher.matches()) return true;
 
 		// Reset state when a question is answered and when the puzzle is failed or completed.
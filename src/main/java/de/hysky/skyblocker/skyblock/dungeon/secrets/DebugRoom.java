@@ -28,8 +28,8 @@ public class DebugRoom extends Room {
         DebugRoom room = new DebugRoom(type, physicalPositions);
         IntSortedSet segmentsX = IntSortedSets.unmodifiable(new IntRBTreeSet(room.segments.stream().mapToInt(Vector2ic::x).toArray()));
         IntSortedSet segmentsY = IntSortedSets.unmodifiable(new IntRBTreeSet(room.segments.stream().mapToInt(Vector2ic::y).toArray()));
-        room.roomsData = Map.of(roomName, roomData);
-        room.possibleRooms = List.of(MutableTriple.of(direction, DungeonMapUtils.getPhysicalCornerPos(direction, segmentsX, segmentsY), List.of(roomName)));
+        room.roomIndex = RoomIndex.of(Map.of(roomName, roomData));
+        room.possibleRooms = List.of(MutableTriple.of(direction, DungeonMapUtils.getPhysicalCornerPos(direction, segmentsX, segmentsY), room.roomIndex.newCandidates()));
         return room;
     }
 
@@ -39,10 +39,10 @@ public class DebugRoom extends Room {
         if (id == 0) {
             return false;
         }
-        for (MutableTriple<Direction, Vector2ic, List<String>> directionRooms : possibleRooms) {
+        for (MutableTriple<Direction, Vector2ic, long[]> directionRooms : possibleRooms) {
             int block = posIdToInt(DungeonMapUtils.actualToRelative(directionRooms.getLeft(), directionRooms.getMiddle(), pos), id);
-            for (String room : directionRooms.getRight()) {
-                checkedBlocks.add(new Waypoint(pos, SecretWaypoint.TYPE_SUPPLIER, Arrays.binarySearch(roomsData.get(room), block) >= 0 ? Room.GREEN_COLOR_COMPONENTS : Room.RED_COLOR_COMPONENTS));
+            for (int room = RoomIndex.nextCandidate(directionRooms.getRight(), 0); room >= 0; room = RoomIndex.nextCandidate(directionRooms.getRight(), room + 1)) {
+                checkedBlocks.add(new Waypoint(pos, SecretWaypoint.TYPE_SUPPLIER, roomIndex.contains(room, block) ? Room.GREEN_COLOR_COMPONENTS : Room.RED_COLOR_COMPONENTS));
             }
         }
         return false;
@@ -9,7 +9,6 @@ import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.lit
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
@@ -18,12 +17,13 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
-import java.util.zip.InflaterInputStream;
 
 import com.google.gson.JsonParser;
 import com.mojang.serialization.Codec;
@@ -54,9 +54,11 @@ import de.hysky.skyblocker.annotations.Init;
 import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import de.hysky.skyblocker.debug.Debug;
 import de.hysky.skyblocker.events.DungeonEvents;
+import de.hysky.skyblocker.events.SkyblockEvents;
 import de.hysky.skyblocker.skyblock.dungeon.DungeonBoss;
 import de.hysky.skyblocker.skyblock.dungeon.DungeonMap;
 import de.hysky.skyblocker.utils.Constants;
+import de.hysky.skyblocker.utils.Location;
 import de.hysky.skyblocker.utils.Tickable;
 import de.hysky.skyblocker.utils.Utils;
 import de.hysky.skyblocker.utils.command.argumenttypes.blockpos.ClientBlockPosArgumentType;
@@ -143,14 +145,22 @@ public class DungeonManager {
 			Map.entry("minecraft:cyan_terracotta", (byte) 20),
 			Map.entry("minecraft:black_terracotta", (byte) 21)
 	)));
+	private static final Identifier ROOM_PACK = Identifier.of(SkyblockerMod.NAMESPACE, DUNGEONS_PATH + "/rooms.pack");
 	/**
-	 * Block data for dungeon rooms. See {@link de.hysky.skyblocker.skyblock.dungeon.secrets.DungeonRoomsDFU DungeonRoomsDFU} for format details and how it's generated.
-	 * All access to this map must check {@link #isRoomsLoaded()} to prevent concurrent modification.
+	 * Block data and secrets for dungeon rooms. See {@link de.hysky.skyblocker.skyblock.dungeon.secrets.DungeonRoomsDFU DungeonRoomsDFU} for format details and how it's generated.
+	 * Set once the pack is loaded, see {@link #isRoomsLoaded()}.
 	 */
 	@SuppressWarnings("JavadocReference")
-	protected static final Map<String, Map<String, Map<String, int[]>>> ROOMS_DATA = new ConcurrentHashMap<>();
-	private static final Map<String, RoomInfo> ROOMS_INFO = new ConcurrentHashMap<>();
-	private static final Map<String, List<RoomWaypoint>> ROOMS_WAYPOINTS = new ConcurrentHashMap<>();
+	@Nullable
+	private static volatile RoomPack roomPack;
+	/**
+	 * Inverted indices of the room skeletons for room matching, built for each room shape on first use.
+	 */
+	private static final Map<String, Map<String, CompletableFuture<RoomIndex>>> ROOM_INDICES = new ConcurrentHashMap<>();
+	/**
+	 * Room data parsed from {@link #roomPack} on first use.
+	 */
+	private static final Map<String, RoomData> ROOMS_DATA = new ConcurrentHashMap<>();
 
 	/**
 	 * Rooms in the current dungeon map.
@@ -195,12 +205,70 @@ public class DungeonManager {
 
 	@Nullable
 	public static RoomInfo getRoomMetadata(String room) {
-		return ROOMS_INFO.get(room);
+		RoomData roomData = getRoomData(room);
+		return roomData != null ? roomData.info() : null;
 	}
 
 	@Nullable
 	public static List<RoomWaypoint> getRoomWaypoints(String room) {
-		return ROOMS_WAYPOINTS.get(room);
+		RoomData roomData = getRoomData(room);
+		return roomData != null ? roomData.secrets() : null;
+	}
+
+	@Nullable
+	private static RoomData getRoomData(String room) {
+		RoomPack pack = roomPack;
+		if (pack == null) return null;
+
+		// Returning null from the mapping function does not cache anything, so missing rooms are not cached
+		return ROOMS_DATA.computeIfAbsent(room, roomKey -> {
+			String roomJson = pack.getRoomData(roomKey);
+			if (roomJson == null) return null;
+
+			try {
+				return RoomData.CODEC.parse(JsonOps.INSTANCE, JsonParser.parseString(roomJson)).getOrThrow();
+			} catch (Exception e) {
+				LOGGER.error("[Skyblocker Dungeon Secrets] Failed to load room secrets - room={}", roomKey, e);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Gets the index of all rooms of the shape, and starts building it in the background if this is the first time the shape is requested.
+	 *
+	 * @return the index of all rooms of the shape, or an empty index if the rooms are not loaded or the index is still being built
+	 */
+	static RoomIndex getRoomIndex(String dungeon, String roomShape) {
+		RoomPack pack = roomPack;
+		if (pack == null) return RoomIndex.EMPTY;
+
+		return ROOM_INDICES.computeIfAbsent(dungeon, dungeonKey -> new ConcurrentHashMap<>())
+				.computeIfAbsent(roomShape, roomShapeKey -> CompletableFuture.supplyAsync(() -> buildRoomIndex(pack, dungeon, roomShape)).exceptionally(e -> {
+					LOGGER.error("[Skyblocker Dungeon Secrets] Failed to build dungeon room index - dungeon={}, shape={}", dungeon, roomShape, e);
+					return RoomIndex.EMPTY;
+				}))
+				.getNow(RoomIndex.EMPTY);
+	}
+
+	/**
+	 * Starts building the indices of all room shapes of the dungeon in the background, so that they are ready once the rooms are scanned.
+	 */
+	private static void prefetchRoomIndices(String dungeon) {
+		RoomPack pack = roomPack;
+		if (pack == null) return;
+
+		for (String roomShape : pack.getShapes(dungeon)) {
+			getRoomIndex(dungeon, roomShape);
+		}
+	}
+
+	private static RoomIndex buildRoomIndex(RoomPack pack, String dungeon, String roomShape) {
+		long startTime = System.currentTimeMillis();
+		// The skeletons are only needed to build the index and are garbage collected afterward
+		RoomIndex index = RoomIndex.of(pack.getSkeletons(dungeon, roomShape));
+		LOGGER.info("[Skyblocker Dungeon Secrets] Built dungeon room index - dungeon={}, shape={}, rooms={}, blocks={} in {} ms", dungeon, roomShape, index.size(), index.blockCount(), System.currentTimeMillis() - startTime);
+		return index;
 	}
 
 	/**
@@ -266,7 +334,7 @@ public class DungeonManager {
 	}
 
 	/**
-	 * Loads the dungeon secrets asynchronously from {@code /assets/skyblocker/dungeons}.
+	 * Loads the dungeon secrets asynchronously from {@code /assets/skyblocker/dungeons/rooms.pack}.
 	 * Use {@link #isRoomsLoaded()} to check for completion of loading.
 	 */
 	@Init
@@ -333,51 +401,29 @@ public class DungeonManager {
 			))));
 		}
 		ClientPlayConnectionEvents.JOIN.register(((handler, sender, client) -> reset()));
+		SkyblockEvents.LOCATION_CHANGE.register(location -> {
+			if (location == Location.DUNGEON) prefetchRoomIndices("catacombs");
+		});
 	}
 
 	private static void load() {
 		long startTime = System.currentTimeMillis();
 		List<CompletableFuture<Void>> dungeonFutures = new ArrayList<>();
-		for (Map.Entry<Identifier, Resource> resourceEntry : CLIENT.getResourceManager().findResources(DUNGEONS_PATH, id -> id.getPath().endsWith(".skeleton")).entrySet()) {
-			String[] path = resourceEntry.getKey().getPath().split("/");
-			if (path.length != 4) {
-				LOGGER.error("[Skyblocker Dungeon Secrets] Failed to load dungeon room data, invalid resource identifier {}", resourceEntry.getKey());
-				break;
-			}
-			String dungeon = path[1];
-			String roomShape = path[2];
-			String room = path[3].substring(0, path[3].length() - ".skeleton".length());
-			ROOMS_DATA.computeIfAbsent(dungeon, dungeonKey -> new ConcurrentHashMap<>());
-			ROOMS_DATA.get(dungeon).computeIfAbsent(roomShape, roomShapeKey -> new ConcurrentHashMap<>());
-			dungeonFutures.add(CompletableFuture.supplyAsync(() -> readRoom(resourceEntry.getValue())).thenAcceptAsync(blocks -> {
-				Map<String, int[]> roomsMap = ROOMS_DATA.get(dungeon).get(roomShape);
-				roomsMap.put(room, blocks);
-				LOGGER.debug("[Skyblocker Dungeon Secrets] Loaded dungeon room skeleton - dungeon={}, shape={}, room={}", dungeon, roomShape, room);
-			}).exceptionally(e -> {
-				LOGGER.error("[Skyblocker Dungeon Secrets] Failed to load dungeon room skeleton - dungeon={}, shape={}, room={}", dungeon, roomShape, room, e);
-				return null;
-			}));
-		}
-
-		for (Map.Entry<Identifier, Resource> resourceEntry : CLIENT.getResourceManager().findResources(DUNGEONS_PATH, id -> id.getPath().endsWith(".json")).entrySet()) {
-			String[] path = resourceEntry.getKey().getPath().split("/");
-			if (path.length != 4) continue;
-			String dungeon = path[1];
-			String roomShape = path[2];
-			String room = path[3].substring(0, path[3].length() - ".json".length());
+		Optional<Resource> roomPackResource = CLIENT.getResourceManager().getResource(ROOM_PACK);
+		if (roomPackResource.isPresent()) {
 			dungeonFutures.add(CompletableFuture.runAsync(() -> {
-				try (BufferedReader roomJsonReader = CLIENT.getResourceManager().openAsReader(resourceEntry.getKey())) {
-					RoomData roomData = RoomData.CODEC.parse(JsonOps.INSTANCE, JsonParser.parseReader(roomJsonReader)).getOrThrow();
-					ROOMS_WAYPOINTS.put(room, roomData.secrets);
-					ROOMS_INFO.put(room, roomData.info);
-				} catch (Exception ex) {
-					throw new RuntimeException(ex);
+				try {
+					roomPack = RoomPack.load(roomPackResource.get(), SkyblockerMod.CONFIG_DIR.resolve("dungeon_rooms.pack"));
+				} catch (IOException e) {
+					throw new RuntimeException(e);
 				}
-				LOGGER.debug("[Skyblocker Dungeon Secrets] Loaded dungeon room secrets - dungeon={}, shape={}, room={}", dungeon, roomShape, room);
+				LOGGER.debug("[Skyblocker Dungeon Secrets] Loaded dungeon room pack");
 			}).exceptionally(e -> {
-				LOGGER.error("[Skyblocker Dungeon Secrets] Failed to load room secrets - dungeon={}, shape={}, room={}", dungeon, roomShape, room, e);
+				LOGGER.error("[Skyblocker Dungeon Secrets] Failed to load dungeon room pack", e);
 				return null;
 			}));
+		} else {
+			LOGGER.error("[Skyblocker Dungeon Secrets] Failed to find dungeon room pack {}", ROOM_PACK);
 		}
 
 		dungeonFutures.add(CompletableFuture.runAsync(() -> {
@@ -391,7 +437,7 @@ public class DungeonManager {
 				LOGGER.error("[Skyblocker Dungeon Secrets] Failed to load custom dungeon secret waypoints", e);
 			}
 		}));
-		roomsLoaded = CompletableFuture.allOf(dungeonFutures.toArray(CompletableFuture[]::new)).thenRun(() -> LOGGER.info("[Skyblocker Dungeon Secrets] Loaded dungeon secrets for {} dungeon(s), {} room shapes, {} rooms, and {} custom secret waypoints total in {} ms", ROOMS_DATA.size(), ROOMS_DATA.values().stream().mapToInt(Map::size).sum(), ROOMS_DATA.values().stream().map(Map::values).flatMap(Collection::stream).mapToInt(Map::size).sum(), customWaypoints.size(), System.currentTimeMillis() - startTime)).exceptionally(e -> {
+		roomsLoaded = CompletableFuture.allOf(dungeonFutures.toArray(CompletableFuture[]::new)).thenRun(() -> LOGGER.info("[Skyblocker Dungeon Secrets] Loaded dungeon secrets for {} rooms and {} custom secret waypoints total in {} ms", getLoadedRoomCount(), customWaypoints.size(), System.currentTimeMillis() - startTime)).exceptionally(e -> {
 			LOGGER.error("[Skyblocker Dungeon Secrets] Failed to load dungeon secrets", e);
 			return null;
 		});
@@ -411,14 +457,6 @@ public class DungeonManager {
 		}
 	}
 
-	private static int[] readRoom(Resource resource) throws RuntimeException {
-		try (ObjectInputStream in = new ObjectInputStream(new InflaterInputStream(resource.getInputStream()))) {
-			return (int[]) in.readObject();
-		} catch (IOException | ClassNotFoundException e) {
-			throw new RuntimeException(e);
-		}
-	}
-
 	private static RequiredArgumentBuilder<FabricClientCommandSource, Integer> markSecretsCommand(boolean found) {
 		return argument("secretIndex", IntegerArgumentType.integer()).suggests((provider, builder) -> {
 			if (isCurrentRoomMatched()) {
@@ -532,7 +570,7 @@ public class DungeonManager {
 	}
 
 	private static RequiredArgumentBuilder<FabricClientCommandSource, String> matchAgainstCommand() {
-		return argument("room", StringArgumentType.string()).suggests((context, builder) -> CommandSource.suggestMatching(ROOMS_DATA.values().stream().map(Map::values).flatMap(Collection::stream).map(Map::keySet).flatMap(Collection::stream), builder)).then(argument("direction", Room.Direction.DirectionArgumentType.direction()).executes(context -> {
+		return argument("room", StringArgumentType.string()).suggests((context, builder) -> CommandSource.suggestMatching(getRoomNames(), builder)).then(argument("direction", Room.Direction.DirectionArgumentType.direction()).executes(context -> {
 			if (!isClearingDungeon()) {
 				context.getSource().sendError(Constants.PREFIX.get().append("§cYou are not in a dungeon."));
 				return Command.SINGLE_SUCCESS;
@@ -573,19 +611,20 @@ public class DungeonManager {
 
 	@Nullable
 	private static Room newDebugRoom(String roomName, Room.Direction direction, PlayerEntity player, MapState map) {
-		Room room = null;
+		RoomPack pack = roomPack;
+		String roomShape;
 		int[] roomData;
-		// we will clean this up one day (no we won't)
-		if ((roomData = ROOMS_DATA.get("catacombs").get(Room.Shape.PUZZLE.shape).get(roomName)) != null) {
-			room = DebugRoom.ofSinglePossibleRoom(Room.Type.PUZZLE, DungeonMapUtils.getPhysicalRoomPos(player.getEntityPos()), roomName, roomData, direction);
-		} else if ((roomData = ROOMS_DATA.get("catacombs").get(Room.Shape.TRAP.shape).get(roomName)) != null) {
-			room = DebugRoom.ofSinglePossibleRoom(Room.Type.TRAP, DungeonMapUtils.getPhysicalRoomPos(player.getEntityPos()), roomName, roomData, direction);
-		} else if ((roomData = ROOMS_DATA.get("catacombs").get(Room.Shape.MINIBOSS.shape).get(roomName)) != null) {
-			room = DebugRoom.ofSinglePossibleRoom(Room.Type.MINIBOSS, DungeonMapUtils.getPhysicalRoomPos(player.getEntityPos()), roomName, roomData, direction);
-		} else if ((roomData = ROOMS_DATA.get("catacombs").values().stream().map(Map::entrySet).flatMap(Collection::stream).filter(entry -> entry.getKey().equals(roomName)).findAny().map(Map.Entry::getValue).orElse(null)) != null) {
-			room = DebugRoom.ofSinglePossibleRoom(Room.Type.ROOM, DungeonMapUtils.getPhysicalPosFromMap(mapEntrancePos, mapRoomSize, physicalEntrancePos, DungeonMapUtils.getRoomSegments(map, DungeonMapUtils.getMapRoomPos(map, mapEntrancePos, mapRoomSize), mapRoomSize, Room.Type.ROOM.color)), roomName, roomData, direction);
+		if (pack == null || (roomShape = pack.getShape(roomName)) == null || (roomData = pack.getSkeleton(roomName)) == null) return null;
+
+		if (roomShape.equals(Room.Shape.PUZZLE.shape)) {
+			return DebugRoom.ofSinglePossibleRoom(Room.Type.PUZZLE, DungeonMapUtils.getPhysicalRoomPos(player.getEntityPos()), roomName, roomData, direction);
+		} else if (roomShape.equals(Room.Shape.TRAP.shape)) {
+			return DebugRoom.ofSinglePossibleRoom(Room.Type.TRAP, DungeonMapUtils.getPhysicalRoomPos(player.getEntityPos()), roomName, roomData, direction);
+		} else if (roomShape.equals(Room.Shape.MINIBOSS.shape)) {
+			return DebugRoom.ofSinglePossibleRoom(Room.Type.MINIBOSS, DungeonMapUtils.getPhysicalRoomPos(player.getEntityPos()), roomName, roomData, direction);
+		} else {
+			return DebugRoom.ofSinglePossibleRoom(Room.Type.ROOM, DungeonMapUtils.getPhysicalPosFromMap(mapEntrancePos, mapRoomSize, physicalEntrancePos, DungeonMapUtils.getRoomSegments(map, DungeonMapUtils.getMapRoomPos(map, mapEntrancePos, mapRoomSize), mapRoomSize, Room.Type.ROOM.color)), roomName, roomData, direction);
 		}
-		return room;
 	}
 
 
@@ -1000,7 +1039,14 @@ public class DungeonManager {
 
 	@VisibleForTesting
 	public static int getLoadedRoomCount() {
-		return ROOMS_INFO.size();
+		RoomPack pack = roomPack;
+		return pack != null ? pack.size() : 0;
+	}
+
+	@VisibleForTesting
+	public static Set<String> getRoomNames() {
+		RoomPack pack = roomPack;
+		return pack != null ? pack.getRoomNames() : Set.of();
 	}
 
 	public record RoomInfo(String name) {
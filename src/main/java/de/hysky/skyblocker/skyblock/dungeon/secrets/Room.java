@@ -68,13 +68,14 @@ public class Room implements Tickable, Renderable {
     @NotNull
     private final Shape shape;
     /**
-     * The room data containing all rooms for a specific dungeon and {@link #shape}.
+     * The index of all rooms for a specific dungeon and {@link #shape}.
      */
-    protected Map<String, int[]> roomsData;
+    protected RoomIndex roomIndex;
     /**
-     * Contains all possible dungeon rooms for this room. The list is gradually shrunk by checking blocks until only one room is left.
+     * Contains the bitsets of all possible dungeon rooms in {@link #roomIndex} for each possible direction of this room.
+     * The bitsets are gradually shrunk by checking blocks until only one room is left.
      */
-    protected List<MutableTriple<Direction, Vector2ic, List<String>>> possibleRooms;
+    protected List<MutableTriple<Direction, Vector2ic, long[]>> possibleRooms;
     /**
      * Contains all blocks that have been checked to prevent checking the same block multiple times.
      */
@@ -108,7 +109,7 @@ public class Room implements Tickable, Renderable {
         IntSortedSet segmentsX = IntSortedSets.unmodifiable(new IntRBTreeSet(segments.stream().mapToInt(Vector2ic::x).toArray()));
         IntSortedSet segmentsY = IntSortedSets.unmodifiable(new IntRBTreeSet(segments.stream().mapToInt(Vector2ic::y).toArray()));
         shape = determineShape(segmentsX, segmentsY);
-        roomsData = DungeonManager.ROOMS_DATA.getOrDefault("catacombs", Collections.emptyMap()).getOrDefault(shape.shape.toLowerCase(Locale.ENGLISH), Collections.emptyMap());
+        roomIndex = DungeonManager.getRoomIndex("catacombs", shape.shape.toLowerCase(Locale.ENGLISH));
         possibleRooms = getPossibleRooms(segmentsX, segmentsY);
     }
 
@@ -170,11 +171,10 @@ public class Room implements Tickable, Renderable {
         };
     }
 
-    private List<MutableTriple<Direction, Vector2ic, List<String>>> getPossibleRooms(IntSortedSet segmentsX, IntSortedSet segmentsY) {
-        List<String> possibleDirectionRooms = new ArrayList<>(roomsData.keySet());
-        List<MutableTriple<Direction, Vector2ic, List<String>>> possibleRooms = new ArrayList<>();
+    private List<MutableTriple<Direction, Vector2ic, long[]>> getPossibleRooms(IntSortedSet segmentsX, IntSortedSet segmentsY) {
+        List<MutableTriple<Direction, Vector2ic, long[]>> possibleRooms = new ArrayList<>();
         for (Direction direction : getPossibleDirections(segmentsX, segmentsY)) {
-            possibleRooms.add(MutableTriple.of(direction, DungeonMapUtils.getPhysicalCornerPos(direction, segmentsX, segmentsY), possibleDirectionRooms));
+            possibleRooms.add(MutableTriple.of(direction, DungeonMapUtils.getPhysicalCornerPos(direction, segmentsX, segmentsY), roomIndex.newCandidates()));
         }
         return possibleRooms;
     }
@@ -320,6 +320,14 @@ public class Room implements Tickable, Renderable {
         if (!type.needsScanning() || matchState != MatchState.MATCHING && matchState != MatchState.DOUBLE_CHECKING || !DungeonManager.isRoomsLoaded() || findRoom != null && !findRoom.isDone()) {
             return;
         }
+        // The index of this room shape is built in the background on first use, so only look it up until it is ready,
+        // which is a cheap map lookup, and reset once to recompute the possible rooms against it
+        if (roomIndex.size() == 0) {
+            if (DungeonManager.getRoomIndex("catacombs", shape.shape.toLowerCase(Locale.ENGLISH)).size() == 0) {
+                return;
+            }
+            reset();
+        }
         ClientPlayerEntity player = client.player;
         if (player == null) {
             return;
@@ -355,12 +363,8 @@ public class Room implements Tickable, Renderable {
      *     <ul>
      *         <li> Rotate and convert the position to a relative position. See {@link DungeonMapUtils#actualToRelative(Direction, Vector2ic, BlockPos)}. </li>
      *         <li> Encode the block based on the relative position and the custom numeric block id. See {@link #posIdToInt(BlockPos, byte)}. </li>
-     *         <li> For each possible room in the current direction: </li>
-     *         <ul>
-     *             <li> Check if {@link #roomsData} contains the encoded block. </li>
-     *             <li> If so, add the room to the new list of possible rooms for this direction. </li>
-     *         </ul>
-     *         <li> Replace the old possible room list for the current direction with the new one. </li>
+     *         <li> Look up the rooms containing the encoded block in {@link #roomIndex}
+     *              and intersect them with the possible rooms for the current direction. See {@link RoomIndex#retain(long[], int)}. </li>
      *     </ul>
      *     <li> If there are no matching rooms left: </li>
      *     <ul>
@@ -395,18 +399,12 @@ public class Room implements Tickable, Renderable {
         if (id == 0) {
             return false;
         }
-        for (MutableTriple<Direction, Vector2ic, List<String>> directionRooms : possibleRooms) {
+        int matchingRoomsSize = 0;
+        for (MutableTriple<Direction, Vector2ic, long[]> directionRooms : possibleRooms) {
             int block = posIdToInt(DungeonMapUtils.actualToRelative(directionRooms.getLeft(), directionRooms.getMiddle(), pos), id);
-            List<String> possibleDirectionRooms = new ArrayList<>();
-            for (String room : directionRooms.getRight()) {
-                if (Arrays.binarySearch(roomsData.get(room), block) >= 0) {
-                    possibleDirectionRooms.add(room);
-                }
-            }
-            directionRooms.setRight(possibleDirectionRooms);
+            matchingRoomsSize += roomIndex.retain(directionRooms.getRight(), block);
         }
 
-        int matchingRoomsSize = possibleRooms.stream().map(Triple::getRight).mapToInt(Collection::size).sum();
         if (matchingRoomsSize == 0) synchronized (this) {
             // If no rooms match, reset the fields and scan again after 50 ticks.
             matchState = MatchState.FAILED;
@@ -418,8 +416,8 @@ public class Room implements Tickable, Renderable {
         else if (matchingRoomsSize == 1) {
             if (matchState == MatchState.MATCHING) {
                 // If one room matches, load the secrets for that room and set state to double-checking.
-                Triple<Direction, Vector2ic, List<String>> directionRoom = possibleRooms.stream().filter(directionRooms -> directionRooms.getRight().size() == 1).findAny().orElseThrow();
-                name = directionRoom.getRight().getFirst();
+                Triple<Direction, Vector2ic, long[]> directionRoom = possibleRooms.stream().filter(directionRooms -> !RoomIndex.isEmpty(directionRooms.getRight())).findAny().orElseThrow();
+                name = roomIndex.getRoom(RoomIndex.nextCandidate(directionRoom.getRight(), 0));
                 direction = directionRoom.getLeft();
                 physicalCornerPos = directionRoom.getMiddle();
                 DungeonManager.LOGGER.info("[Skyblocker Dungeon Secrets] Room {} matched after checking {} block(s), starting double checking", name, checkedBlocks.size());
@@ -480,6 +478,8 @@ public class Room implements Tickable, Renderable {
     protected void reset() {
         IntSortedSet segmentsX = IntSortedSets.unmodifiable(new IntRBTreeSet(segments.stream().mapToInt(Vector2ic::x).toArray()));
         IntSortedSet segmentsY = IntSortedSets.unmodifiable(new IntRBTreeSet(segments.stream().mapToInt(Vector2ic::y).toArray()));
+        // The index might not have been built yet when this room was created
+        roomIndex = DungeonManager.getRoomIndex("catacombs", shape.shape.toLowerCase(Locale.ENGLISH));
         possibleRooms = getPossibleRooms(segmentsX, segmentsY);
         checkedBlocks = new HashSet<>();
         doubleCheckBlocks = 0;
@@ -494,7 +494,7 @@ public class Room implements Tickable, Renderable {
      * These fields are no longer needed and are discarded to save memory.
      */
     private void discard() {
-        roomsData = null;
+        roomIndex = null;
         possibleRooms = null;
         checkedBlocks = null;
         doubleCheckBlocks = 0;
@@ -0,0 +1,214 @@
+package de.hysky.skyblocker.skyblock.dungeon.secrets;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * An inverted index from blocks to the rooms of one room shape that contain them.
+ * <p>
+ * The blocks are encoded the same way as in the room skeletons of the {@link RoomPack}, see {@link Room#posIdToInt(net.minecraft.util.math.BlockPos, byte)}.
+ * Every distinct block of all rooms is stored once in a sorted array, together with a bitset of the rooms that contain it.
+ * Matching a room then only takes a single binary search per block and direction, followed by intersecting the bitset with the remaining candidates.
+ * <p>
+ * Candidates are bitsets represented as {@code long[]}, created with {@link #newCandidates()}.
+ */
+public class RoomIndex {
+	static final RoomIndex EMPTY = of(Map.of());
+	/**
+	 * The names of the rooms, sorted. The index of a room in this array is its bit in the bitsets.
+	 */
+	private final String[] rooms;
+	/**
+	 * All distinct blocks of all rooms, sorted.
+	 */
+	private final int[] blocks;
+	/**
+	 * The number of longs in a bitset of candidates.
+	 */
+	private final int words;
+	/**
+	 * The number of bits used per block in {@link #bitsets}.
+	 * Bitsets of shapes with up to 64 rooms are packed, so that shapes with fewer rooms use less memory.
+	 * The width is always a power of two, so a bitset never spans two longs.
+	 */
+	private final int bitsPerBlock;
+	private final long[] bitsets;
+
+	private RoomIndex(String[] rooms, int[] blocks) {
+		this.rooms = rooms;
+		this.blocks = blocks;
+		this.words = Math.max((rooms.length + 63) >>> 6, 1);
+		this.bitsPerBlock = words > 1 ? words * 64 : Math.max(Integer.highestOneBit(Math.max(rooms.length - 1, 1)) << 1, 8);
+		this.bitsets = new long[(int) (((long) blocks.length * bitsPerBlock + 63) >>> 6)];
+	}
+
+	/**
+	 * Builds the index for all rooms of a room shape.
+	 *
+	 * @param roomsData the sorted blocks of each room, by room name
+	 */
+	public static RoomIndex of(Map<String, int[]> roomsData) {
+		String[] rooms = roomsData.keySet().toArray(String[]::new);
+		Arrays.sort(rooms);
+
+		int total = 0;
+		for (int[] roomBlocks : roomsData.values()) {
+			total += roomBlocks.length;
+		}
+
+		// Collect the distinct blocks of all rooms
+		int[] allBlocks = new int[total];
+		int offset = 0;
+		for (int[] roomBlocks : roomsData.values()) {
+			System.arraycopy(roomBlocks, 0, allBlocks, offset, roomBlocks.length);
+			offset += roomBlocks.length;
+		}
+		IntArrays.parallelQuickSort(allBlocks);
+
+		int distinct = 0;
+		for (int i = 0; i < allBlocks.length; i++) {
+			if (i == 0 || allBlocks[i] != allBlocks[i - 1]) allBlocks[distinct++] = allBlocks[i];
+		}
+
+		RoomIndex index = new RoomIndex(rooms, Arrays.copyOf(allBlocks, distinct));
+
+		for (int room = 0; room < rooms.length; room++) {
+			int from = 0;
+
+			// Both arrays are sorted, so each search can start after the previous block
+			for (int block : roomsData.get(rooms[room])) {
+				int blockIndex = Arrays.binarySearch(index.blocks, from, index.blocks.length, block);
+				if (blockIndex < 0) throw new IllegalArgumentException("The blocks of room " + rooms[room] + " are not sorted");
+
+				index.setBit(blockIndex, room);
+				from = blockIndex + 1;
+			}
+		}
+
+		return index;
+	}
+
+	private void setBit(int blockIndex, int room) {
+		long bit = (long) blockIndex * bitsPerBlock + room;
+		bitsets[(int) (bit >>> 6)] |= 1L << bit;
+	}
+
+	/**
+	 * @return the number of rooms in this index
+	 */
+	public int size() {
+		return rooms.length;
+	}
+
+	/**
+	 * @return the number of distinct blocks of all rooms in this index
+	 */
+	public int blockCount() {
+		return blocks.length;
+	}
+
+	public String getRoom(int room) {
+		return rooms[room];
+	}
+
+	/**
+	 * @return the index of the room, or a negative number if the room is not in this index
+	 */
+	public int indexOf(String room) {
+		return Arrays.binarySearch(rooms, room);
+	}
+
+	/**
+	 * @return a bitset with all rooms of this index as candidates
+	 */
+	public long[] newCandidates() {
+		long[] candidates = new long[words];
+		for (int room = 0; room < rooms.length; room++) {
+			candidates[room >>> 6] |= 1L << room;
+		}
+
+		return candidates;
+	}
+
+	/**
+	 * Removes all candidates that do not contain the block.
+	 *
+	 * @param block the block encoded with {@link Room#posIdToInt(net.minecraft.util.math.BlockPos, byte)}
+	 * @return the number of remaining candidates
+	 */
+	public int retain(long[] candidates, int block) {
+		if (isEmpty(candidates)) return 0;
+
+		int blockIndex = Arrays.binarySearch(blocks, block);
+		if (blockIndex < 0) {
+			Arrays.fill(candidates, 0);
+			return 0;
+		}
+
+		int count = 0;
+		if (words == 1) {
+			long bit = (long) blockIndex * bitsPerBlock;
+			long mask = bitsPerBlock == 64 ? -1L : (1L << bitsPerBlock) - 1;
+
+			candidates[0] &= (bitsets[(int) (bit >>> 6)] >>> bit) & mask;
+			count = Long.bitCount(candidates[0]);
+		} else {
+			int start = blockIndex * words;
+
+			for (int i = 0; i < words; i++) {
+				candidates[i] &= bitsets[start + i];
+				count += Long.bitCount(candidates[i]);
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * @return whether the room contains the block
+	 */
+	public boolean contains(int room, int block) {
+		int blockIndex = Arrays.binarySearch(blocks, block);
+		if (blockIndex < 0) return false;
+
+		long bit = (long) blockIndex * bitsPerBlock + room;
+		return (bitsets[(int) (bit >>> 6)] & 1L << bit) != 0;
+	}
+
+	/**
+	 * @return the number of candidates in the bitset
+	 */
+	public static int count(long[] candidates) {
+		int count = 0;
+		for (long word : candidates) {
+			count += Long.bitCount(word);
+		}
+
+		return count;
+	}
+
+	public static boolean isEmpty(long[] candidates) {
+		for (long word : candidates) {
+			if (word != 0) return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return the first candidate starting from {@code from}, or {@code -1} if there are none
+	 */
+	public static int nextCandidate(long[] candidates, int from) {
+		int i = from >>> 6;
+		if (i >= candidates.length) return -1;
+
+		long word = candidates[i] & -1L << from;
+		while (true) {
+			if (word != 0) return (i << 6) + Long.numberOfTrailingZeros(word);
+			if (++i == candidates.length) return -1;
+			word = candidates[i];
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package de.hysky.skyblocker.skyblock.dungeon.secrets;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.resource.Resource;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * All dungeon room skeletons and room data, packed into a single file at build time by the {@code packDungeonRooms} Gradle task.
+ * See {@code PackDungeonRoomsTask} in {@code buildSrc} for the format.
+ * <p>
+ * The pack is copied out of the mod jar once and then memory-mapped, so loading it only reads the table of contents.
+ * Skeletons and room data stay off heap until they are requested, which copies just the requested slice of the pack.
+ */
+public class RoomPack {
+	private static final Logger LOGGER = LoggerFactory.getLogger(RoomPack.class);
+	// Keep in sync with PackDungeonRoomsTask
+	private static final int MAGIC = 0x534B5250; // SKRP
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 20;
+
+	private final ByteBuffer buffer;
+	private final Map<String, Entry> rooms;
+	private final Map<String, Map<String, List<String>>> shapes;
+
+	private RoomPack(ByteBuffer buffer, Map<String, Entry> rooms, Map<String, Map<String, List<String>>> shapes) {
+		this.buffer = buffer;
+		this.rooms = rooms;
+		this.shapes = shapes;
+	}
+
+	/**
+	 * Memory-maps the pack, copying it from the resource to {@code cacheFile} first if the cached pack is missing, outdated, or corrupted.
+	 * The cached pack is only used if its length and CRC match the resource, since a truncated or damaged copy would otherwise be mapped as is.
+	 */
+	public static RoomPack load(Resource resource, Path cacheFile) throws IOException {
+		Checksum expected;
+		try (InputStream in = resource.getInputStream()) {
+			expected = Checksum.of(in);
+		}
+
+		if (!expected.equals(Checksum.of(cacheFile))) {
+			Path tempFile = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+			try (InputStream in = resource.getInputStream()) {
+				Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+				if (!expected.equals(Checksum.of(tempFile))) throw new IOException("Copied dungeon room pack does not match the resource");
+				Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException e) {
+				// The cached pack can't be replaced while another game instance has it mapped on some platforms
+				LOGGER.warn("[Skyblocker Room Pack] Failed to cache the dungeon room pack, reading it into memory instead", e);
+				Files.deleteIfExists(tempFile);
+				try (InputStream in = resource.getInputStream()) {
+					return read(ByteBuffer.wrap(in.readAllBytes()));
+				}
+			}
+		}
+
+		try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+			// The mapping stays valid after the channel is closed
+			return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/**
+	 * Reads the table of contents of the pack. The skeletons and room data are only read on request.
+	 */
+	static RoomPack read(ByteBuffer buffer) throws IOException {
+		try {
+			if (buffer.getInt(0) != MAGIC) throw new IOException("Not a dungeon room pack");
+			if (buffer.getInt(4) != VERSION) throw new IOException("Unsupported dungeon room pack version " + buffer.getInt(4));
+
+			int roomCount = buffer.getInt(16);
+			ByteBuffer toc = buffer.duplicate().position(HEADER_SIZE);
+			Map<String, Entry> rooms = new Object2ObjectOpenHashMap<>(roomCount);
+			Map<String, Map<String, List<String>>> shapes = new HashMap<>();
+
+			for (int i = 0; i < roomCount; i++) {
+				// Intern the dungeon and shape, since they are shared by many rooms
+				String dungeon = readString(toc).intern();
+				String shape = readString(toc).intern();
+				String name = readString(toc);
+				Entry entry = new Entry(shape, toc.getInt(), toc.getInt(), toc.getInt(), toc.getInt());
+
+				if (entry.skeletonOffset < 0 || (long) entry.skeletonOffset + (long) entry.skeletonLength * Integer.BYTES > buffer.capacity() || entry.dataOffset < 0 || (long) entry.dataOffset + entry.dataLength > buffer.capacity()) {
+					throw new IOException("Dungeon room " + name + " is out of bounds");
+				}
+				if (rooms.put(name, entry) != null) throw new IOException("Duplicate dungeon room " + name);
+				shapes.computeIfAbsent(dungeon, k -> new HashMap<>()).computeIfAbsent(shape, k -> new ArrayList<>()).add(name);
+			}
+
+			return new RoomPack(buffer, rooms, shapes);
+		} catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+			throw new IOException("Truncated dungeon room pack", e);
+		}
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @return the number of rooms in the pack
+	 */
+	public int size() {
+		return rooms.size();
+	}
+
+	public Set<String> getRoomNames() {
+		return Collections.unmodifiableSet(rooms.keySet());
+	}
+
+	/**
+	 * @return the names of all rooms of the shape in the dungeon, or an empty list if there are none
+	 */
+	public List<String> getRooms(String dungeon, String shape) {
+		return Collections.unmodifiableList(shapes.getOrDefault(dungeon, Map.of()).getOrDefault(shape, List.of()));
+	}
+
+	/**
+	 * @return the room shapes of the dungeon
+	 */
+	public Set<String> getShapes(String dungeon) {
+		return Collections.unmodifiableSet(shapes.getOrDefault(dungeon, Map.of()).keySet());
+	}
+
+	@Nullable
+	public String getShape(String room) {
+		Entry entry = rooms.get(room);
+		return entry != null ? entry.shape : null;
+	}
+
+	/**
+	 * Reads the sorted blocks of the room. See {@link de.hysky.skyblocker.skyblock.dungeon.secrets.DungeonRoomsDFU DungeonRoomsDFU} for the format.
+	 *
+	 * @return a new array with the blocks of the room, or {@code null} if the room is not in the pack
+	 */
+	@SuppressWarnings("JavadocReference")
+	public int @Nullable [] getSkeleton(String room) {
+		Entry entry = rooms.get(room);
+		if (entry == null) return null;
+
+		int[] skeleton = new int[entry.skeletonLength];
+		// Absolute slices don't touch the position of the shared buffer, so this is safe to call from multiple threads
+		buffer.slice(entry.skeletonOffset, entry.skeletonLength * Integer.BYTES).asIntBuffer().get(skeleton);
+		return skeleton;
+	}
+
+	/**
+	 * Reads the skeletons of all rooms of the shape in the dungeon.
+	 *
+	 * @return the sorted blocks of each room, by room name
+	 */
+	public Map<String, int[]> getSkeletons(String dungeon, String shape) {
+		List<String> names = getRooms(dungeon, shape);
+		Map<String, int[]> skeletons = new HashMap<>(names.size());
+		for (String name : names) {
+			skeletons.put(name, getSkeleton(name));
+		}
+
+		return skeletons;
+	}
+
+	/**
+	 * @return the room json of the room, or {@code null} if the room is not in the pack
+	 */
+	@Nullable
+	public String getRoomData(String room) {
+		Entry entry = rooms.get(room);
+		return entry != null ? StandardCharsets.UTF_8.decode(buffer.slice(entry.dataOffset, entry.dataLength)).toString() : null;
+	}
+
+	private record Entry(String shape, int skeletonOffset, int skeletonLength, int dataOffset, int dataLength) {}
+
+	/**
+	 * The length and CRC32 of a pack, computed by streaming it so that the pack is never held on heap.
+	 */
+	private record Checksum(long length, long crc) {
+		private static Checksum of(InputStream in) throws IOException {
+			CheckedInputStream checked = new CheckedInputStream(in, new CRC32());
+			long length = checked.transferTo(OutputStream.nullOutputStream());
+			return new Checksum(length, checked.getChecksum().getValue());
+		}
+
+		/**
+		 * @return the checksum of the file, or {@code null} if it cannot be read
+		 */
+		private static @Nullable Checksum of(Path file) {
+			try (InputStream in = Files.newInputStream(file)) {
+				return of(in);
+			} catch (IOException e) {
+				return null;
+			}
+		}
+	}
+}
@@ -115,6 +115,11 @@ public final class SameColorTerminal extends SimpleContainerSolver implements Te
 		return false;
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return false; //The clicks are computed in getColors, which runs after the slots are drawn.
+	}
+
 	@Override
 	public @NotNull List<SlotText> getText(@Nullable Slot slot, @NotNull ItemStack stack, int slotId) {
 		int clicks = clickMap.getOrDefault(slotId, 0);
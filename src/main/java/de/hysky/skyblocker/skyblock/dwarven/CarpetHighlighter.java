@@ -3,10 +3,12 @@ package de.hysky.skyblocker.skyblock.dwarven;
 import de.hysky.skyblocker.annotations.Init;
 import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import de.hysky.skyblocker.events.SkyblockEvents;
+import de.hysky.skyblocker.utils.BlockIndex;
 import de.hysky.skyblocker.utils.Boxes;
 import de.hysky.skyblocker.utils.Location;
 import de.hysky.skyblocker.utils.Resettable;
 import de.hysky.skyblocker.utils.render.Renderable;
+import de.hysky.skyblocker.utils.render.RetainedGeometry;
 import de.hysky.skyblocker.utils.render.WorldRenderExtractionCallback;
 import de.hysky.skyblocker.utils.render.primitive.PrimitiveCollector;
 import de.hysky.skyblocker.utils.scheduler.Scheduler;
@@ -30,7 +32,17 @@ public final class CarpetHighlighter implements Renderable, Resettable {
 	private static final Vec3d CARPET_BOUNDING_BOX = Boxes.getLengthVec(CarpetBlock.SHAPE.getBoundingBox());
 	private static final int SEARCH_RADIUS = 15;
 	private static final int TICK_INTERVAL = 15;
+	/**
+	 * Gray/light blue carpets are used for mithril and light gray carpets for tungsten.
+	 * There are other colors for some ores in the royal mines, but since the actual ores don't include wool blocks
+	 * they're not easily confused as ores so they are not accounted for here.
+	 */
+	private static final BlockIndex CARPETS = BlockIndex.create(state -> state.isOf(Blocks.GRAY_CARPET) || state.isOf(Blocks.LIGHT_BLUE_CARPET) || state.isOf(Blocks.LIGHT_GRAY_CARPET));
 	private static final ObjectAVLTreeSet<BlockPos> CARPET_LOCATIONS = new ObjectAVLTreeSet<>();
+	/**
+	 * The carpets never move, so their boxes are only uploaded again when a carpet is found or the colour changes.
+	 */
+	private static final RetainedGeometry CARPET_GEOMETRY = RetainedGeometry.create("carpet highlighter", INSTANCE::buildGeometry);
 	private static float[] colorComponents;
 	private static boolean isLocationValid = false;
 
@@ -46,8 +58,12 @@ public final class CarpetHighlighter implements Renderable, Resettable {
 	@Override
 	public void extractRendering(PrimitiveCollector collector) {
 		if (!isLocationValid || !SkyblockerConfigManager.get().mining.dwarvenMines.enableCarpetHighlighter) return;
+		collector.submitRetained(CARPET_GEOMETRY);
+	}
+
+	private void buildGeometry(RetainedGeometry.Builder builder) {
 		for (BlockPos carpetLocation : CARPET_LOCATIONS) {
-			collector.submitFilledBox(Vec3d.of(carpetLocation), CARPET_BOUNDING_BOX, colorComponents, colorComponents[3], false);
+			builder.filledBox(Vec3d.of(carpetLocation), CARPET_BOUNDING_BOX, colorComponents, colorComponents[3], false);
 		}
 	}
 
@@ -57,32 +73,18 @@ public final class CarpetHighlighter implements Renderable, Resettable {
 
 	public void tick() {
 		if (!isLocationValid || !SkyblockerConfigManager.get().mining.dwarvenMines.enableCarpetHighlighter || MinecraftClient.getInstance().world == null || MinecraftClient.getInstance().player == null) return;
-		Iterable<BlockPos> iterable = BlockPos.iterateOutwards(MinecraftClient.getInstance().player.getBlockPos(), SEARCH_RADIUS, SEARCH_RADIUS, SEARCH_RADIUS);
-		for (BlockPos blockPos : iterable) {
-			//The iterator contains a BlockPos.Mutable that it changes the position of to iterate over blocks,
-			// so it has to be converted to an immutable BlockPos or the position will change based on the player's position && the search radius
-			if (checkForCarpet(blockPos)) CARPET_LOCATIONS.add(blockPos.toImmutable());
+		for (BlockPos carpet : CARPETS.getWithin(MinecraftClient.getInstance().player.getBlockPos(), SEARCH_RADIUS)) {
+			if (isUnbreakable(carpet) && CARPET_LOCATIONS.add(carpet)) CARPET_GEOMETRY.invalidate();
 		}
 	}
 
 	/**
-	 * @param blockPos The position to check for a carpet
-	 * @return Whether the block at the given position is a gray carpet with a sea lantern below it, which is how all unbreakable carpets are placed
-	 * @implNote <p>getBlockState is a heavy method, so this method will become a hot spot as the search radius increases || the tick interval decreases.</p>
-	 * 		<p>Consider profiling this method if either of those values are changed.</p>
+	 * @param carpetPos The position of a carpet from {@link #CARPETS}
+	 * @return Whether the carpet has a sea lantern below it, which is how all unbreakable carpets are placed
 	 */
-	private boolean checkForCarpet(BlockPos blockPos) {
-		@SuppressWarnings("DataFlowIssue") // Null check is already done in the run method
-		BlockState actualBlock = MinecraftClient.getInstance().world.getBlockState(blockPos);
-		// Gray/light blue - mithril
-		// Light gray - tungsten
-		// There are other colors for some ores in the royal mines,
-		// but since the actual ores don't include wool blocks
-		// they're not easily confused as ores so they are not accounted for here
-		if (!(actualBlock.isOf(Blocks.GRAY_CARPET) ||
-				actualBlock.isOf(Blocks.LIGHT_BLUE_CARPET) ||
-				actualBlock.isOf(Blocks.LIGHT_GRAY_CARPET))) return false;
-		BlockState blockBelow = MinecraftClient.getInstance().world.getBlockState(blockPos.down());
+	private boolean isUnbreakable(BlockPos carpetPos) {
+		@SuppressWarnings("DataFlowIssue") // Null check is already done in the tick method
+		BlockState blockBelow = MinecraftClient.getInstance().world.getBlockState(carpetPos.down());
 		return blockBelow.isOf(Blocks.SEA_LANTERN);
 	}
 
@@ -92,11 +94,13 @@ public final class CarpetHighlighter implements Renderable, Resettable {
 	 */
 	public void configCallback(Color color) {
 		colorComponents = color.getRGBComponents(null);
+		CARPET_GEOMETRY.invalidate();
 	}
 
 	@Override
 	public void reset() {
 		isLocationValid = false;
 		CARPET_LOCATIONS.clear();
+		CARPET_GEOMETRY.invalidate();
 	}
 }
@@ -11,6 +11,7 @@ import de.hysky.skyblocker.events.SkyblockEvents;
 import de.hysky.skyblocker.utils.Constants;
 import de.hysky.skyblocker.utils.Location;
 import de.hysky.skyblocker.utils.Utils;
+import de.hysky.skyblocker.utils.chat.ChatDispatcher;
 import de.hysky.skyblocker.utils.command.argumenttypes.blockpos.ClientBlockPosArgumentType;
 import de.hysky.skyblocker.utils.command.argumenttypes.blockpos.ClientPosArgument;
 import de.hysky.skyblocker.utils.render.WorldRenderExtractionCallback;
@@ -87,7 +88,7 @@ public class CrystalsLocationsManager {
         if (!SkyblockerConfigManager.get().mining.crystalsWaypoints.findInChat || !Utils.isInCrystalHollows() || overlay) {
             return true;
         }
-        String text = Formatting.strip(message.getString());
+        String text = ChatDispatcher.flatten(message);
         try {
             //make sure that it is only reading user messages and not from skyblocker
             if (text.contains(":") && !text.startsWith(Constants.PREFIX.get().getString())) {
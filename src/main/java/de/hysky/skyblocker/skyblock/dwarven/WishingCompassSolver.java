@@ -6,6 +6,7 @@ import de.hysky.skyblocker.events.ParticleEvents;
 import de.hysky.skyblocker.skyblock.tabhud.util.PlayerListManager;
 import de.hysky.skyblocker.utils.Constants;
 import de.hysky.skyblocker.utils.Utils;
+import de.hysky.skyblocker.utils.chat.ChatDispatcher;
 import net.fabricmc.fabric.api.client.message.v1.ClientReceiveMessageEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.event.player.UseBlockCallback;
@@ -90,7 +91,7 @@ public class WishingCompassSolver {
         if (!Utils.isInCrystalHollows()) {
             return true;
         }
-        if (Formatting.strip(text.getString()).equals("The Wishing Compass can't seem to locate anything!")) {
+        if (ChatDispatcher.flatten(text).equals("The Wishing Compass can't seem to locate anything!")) {
             currentState = SolverStates.NOT_STARTED;
         }
 
@@ -164,6 +164,12 @@ public class FossilSolver extends SimpleContainerSolver implements TooltipAdder
 		return 0;
 	}
 
+	@Override
+	public boolean isCacheable() {
+		// Depends on the state of the solver, which changes as the fossil is excavated
+		return false;
+	}
+
 	@Override
 	public void reset() {
 		chiselLeft = -1;
@@ -9,7 +9,7 @@ import de.hysky.skyblocker.events.ItemPriceUpdateEvent;
 import de.hysky.skyblocker.events.SkyblockEvents;
 import de.hysky.skyblocker.skyblock.itemlist.ItemRepository;
 import de.hysky.skyblocker.utils.*;
-import de.hysky.skyblocker.utils.data.ProfiledData;
+import de.hysky.skyblocker.utils.data.ShardedProfiledData;
 import it.unimi.dsi.fastutil.doubles.DoubleBooleanPair;
 import it.unimi.dsi.fastutil.objects.*;
 import it.unimi.dsi.fastutil.objects.Object2IntMap.Entry;
@@ -55,9 +55,9 @@ public final class PowderMiningTracker extends AbstractProfitTracker {
 	private final Object2IntAVLTreeMap<Text> shownRewards = new Object2IntAVLTreeMap<>(Comparator.<Text>comparingInt(text -> comparePriority(text.getString())).thenComparing(Text::getString));
 
 	/**
-	 * Holds the total reward maps for all accounts and profiles. {@link #currentProfileRewards} is a subset of this map, updated on profile change.
+	 * Holds the total reward maps of each account and profile, one file per profile. {@link #currentProfileRewards} is the map of the current profile, updated on profile change.
 	 */
-	private final ProfiledData<Object2IntMap<String>> allRewards = new ProfiledData<>(getRewardFilePath("powder-mining.json"), CodecUtils.object2IntMapCodec(Codec.STRING));
+	private final ShardedProfiledData<Object2IntMap<String>> allRewards = new ShardedProfiledData<>(getRewardFilePath("powder-mining"), getRewardFilePath("powder-mining.json"), CodecUtils.object2IntMapCodec(Codec.STRING), Object2IntArrayMap::new);
 	private boolean insideChestMessage = false;
 	private double profit = 0;
 
@@ -123,7 +123,7 @@ public final class PowderMiningTracker extends AbstractProfitTracker {
 
 	private void onProfileInit(String profileId) {
 		if (!isEnabled()) return;
-		currentProfileRewards = allRewards.computeIfAbsent(Object2IntArrayMap::new);
+		currentProfileRewards = allRewards.get();
 		recalculateAll();
 	}
 
@@ -10,7 +10,7 @@ import de.hysky.skyblocker.events.SkyblockEvents;
 import de.hysky.skyblocker.skyblock.dwarven.CorpseType;
 import de.hysky.skyblocker.skyblock.dwarven.profittrackers.AbstractProfitTracker;
 import de.hysky.skyblocker.utils.*;
-import de.hysky.skyblocker.utils.data.ProfiledData;
+import de.hysky.skyblocker.utils.data.ShardedProfiledData;
 import de.hysky.skyblocker.utils.scheduler.Scheduler;
 import it.unimi.dsi.fastutil.doubles.DoubleBooleanPair;
 import it.unimi.dsi.fastutil.objects.*;
@@ -60,7 +60,7 @@ public final class CorpseProfitTracker extends AbstractProfitTracker {
 	private static final Object2ObjectArrayMap<String, String> NAME2ID_MAP = new Object2ObjectArrayMap<>(50);
 
 	private ObjectArrayList<CorpseLoot> currentProfileRewards = new ObjectArrayList<>();
-	private final ProfiledData<ObjectArrayList<CorpseLoot>> allRewards = new ProfiledData<>(getRewardFilePath("corpse-profits.json"), CorpseLoot.CODEC.listOf().xmap(ObjectArrayList::new, Function.identity()));
+	private final ShardedProfiledData<ObjectArrayList<CorpseLoot>> allRewards = new ShardedProfiledData<>(getRewardFilePath("corpse-profits"), getRewardFilePath("corpse-profits.json"), CorpseLoot.CODEC.listOf().xmap(ObjectArrayList::new, Function.identity()), ObjectArrayList::new);
 	private boolean insideRewardMessage = false;
 	@Nullable
 	private CorpseLoot lastCorpseLoot = null;
@@ -114,7 +114,7 @@ public final class CorpseProfitTracker extends AbstractProfitTracker {
 
 	private void onProfileInit(String profileId) {
 		if (!isEnabled()) return;
-		currentProfileRewards = allRewards.computeIfAbsent(ObjectArrayList::new);
+		currentProfileRewards = allRewards.get();
 		recalculateAll();
 	}
 
@@ -6,6 +6,7 @@ import de.hysky.skyblocker.SkyblockerMod;
 import de.hysky.skyblocker.annotations.Init;
 import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import de.hysky.skyblocker.events.SkyblockEvents;
+import de.hysky.skyblocker.skyblock.entity.NametagIndex;
 import de.hysky.skyblocker.utils.ColorUtils;
 import de.hysky.skyblocker.utils.Utils;
 import de.hysky.skyblocker.utils.data.ProfiledData;
@@ -171,9 +172,7 @@ public class TheEnd {
 
 	public static boolean isZealot(EndermanEntity enderman) {
 		if (enderman.getName().getString().toLowerCase(Locale.ENGLISH).contains("zealot")) return true; // Future-proof. If they someday decide to actually rename the entities
-		assert MinecraftClient.getInstance().world != null;
-		List<ArmorStandEntity> entities = MinecraftClient.getInstance().world.getEntitiesByClass(
-				ArmorStandEntity.class,
+		List<ArmorStandEntity> entities = NametagIndex.getArmorStands(
 				enderman.getDimensions(null).getBoxAt(enderman.getEntityPos()).expand(1),
 				armorStandEntity -> armorStandEntity.getName().getString().toLowerCase(Locale.ENGLISH).contains("zealot"));
 		if (entities.isEmpty()) {
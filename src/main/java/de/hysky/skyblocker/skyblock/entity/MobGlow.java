@@ -1,10 +1,15 @@
 package de.hysky.skyblocker.skyblock.entity;
 
 import de.hysky.skyblocker.annotations.Init;
+import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientEntityEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientWorldEvents;
 import net.fabricmc.fabric.api.client.rendering.v1.RenderStateDataKey;
+import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.entity.state.EntityRenderState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.decoration.ArmorStandEntity;
@@ -30,11 +35,19 @@ public class MobGlow {
 	 * If an entity is in the cache, it must have custom glow.
 	 */
 	private static final Object2IntMap<Entity> CACHE = new Object2IntOpenHashMap<>();
+	/**
+	 * The colours computed by {@link MobGlowAdder#isCacheable() cacheable} adders, which are kept across ticks
+	 * until the entity or its nametags change, or the config is updated.
+	 */
+	private static final Map<Entity, CachedColours> CACHEABLE_COLOURS = new Reference2ObjectOpenHashMap<>();
+	private static int configRevision = -1;
 
 	@Init
 	public static void init() {
 		// Clear the cache every tick
 		ClientTickEvents.END_WORLD_TICK.register(client -> clearCache());
+		ClientEntityEvents.ENTITY_UNLOAD.register((entity, world) -> CACHEABLE_COLOURS.remove(entity));
+		ClientWorldEvents.AFTER_CLIENT_WORLD_CHANGE.register((client, world) -> CACHEABLE_COLOURS.clear());
 	}
 
 	protected static void registerGlowAdder(MobGlowAdder adder) {
@@ -63,6 +76,19 @@ public class MobGlow {
 
 	public static void clearCache() {
 		CACHE.clear();
+
+		if (configRevision != SkyblockerConfigManager.getRevision()) {
+			configRevision = SkyblockerConfigManager.getRevision();
+			CACHEABLE_COLOURS.clear();
+		}
+	}
+
+	/**
+	 * Discards the cached glow of the entity. Called when its tracked data or equipment is updated by the server.
+	 */
+	public static void onEntityChanged(Entity entity) {
+		CACHE.removeInt(entity);
+		CACHEABLE_COLOURS.remove(entity);
 	}
 
 	/**
@@ -70,9 +96,18 @@ public class MobGlow {
 	 * <p>Only non-zero colors are valid.
 	 */
 	private static int computeMobGlow(Entity entity) {
-		for (MobGlowAdder adder : ADDERS) {
+		CachedColours cachedColours = null;
+
+		for (int i = 0; i < ADDERS.size(); i++) {
+			MobGlowAdder adder = ADDERS.get(i);
 			if (adder.isEnabled()) {
-				int glowColour = adder.computeColour(entity);
+				int glowColour;
+				if (adder.isCacheable()) {
+					if (cachedColours == null) cachedColours = getCachedColours(entity);
+					glowColour = cachedColours.getOrCompute(i, adder, entity);
+				} else {
+					glowColour = adder.computeColour(entity);
+				}
 
 				if (glowColour != NO_GLOW) return glowColour;
 			}
@@ -81,6 +116,25 @@ public class MobGlow {
 		return NO_GLOW;
 	}
 
+	/**
+	 * Returns the cached colours of the entity, which are reset if the entity moved or its nametags changed since they were computed.
+	 */
+	private static CachedColours getCachedColours(Entity entity) {
+		Box box = entity.getBoundingBox();
+		long nametagVersion = NametagIndex.getVersion(entity);
+		CachedColours cachedColours = CACHEABLE_COLOURS.get(entity);
+
+		if (cachedColours == null) {
+			cachedColours = new CachedColours(ADDERS.size());
+			CACHEABLE_COLOURS.put(entity, cachedColours);
+		}
+		if (!box.equals(cachedColours.box) || nametagVersion != cachedColours.nametagVersion) {
+			cachedColours.reset(box, nametagVersion);
+		}
+
+		return cachedColours;
+	}
+
 	/**
 	 * Returns name of entity by finding closed armor stand and getting name of that
 	 *
@@ -95,11 +149,46 @@ public class MobGlow {
 		return armorStands.getFirst().getName().getString();
 	}
 
+	/**
+	 * Returns the nametags of the entity from the {@link NametagIndex}, which must not be modified.
+	 */
 	public static List<ArmorStandEntity> getArmorStands(Entity entity) {
-		return getArmorStands(entity.getEntityWorld(), entity.getBoundingBox());
+		if (entity.getEntityWorld() != MinecraftClient.getInstance().world) return getArmorStands(entity.getEntityWorld(), entity.getBoundingBox());
+		return NametagIndex.getArmorStands(entity);
 	}
 
 	public static List<ArmorStandEntity> getArmorStands(World world, Box box) {
+		if (world == MinecraftClient.getInstance().world) return NametagIndex.getArmorStands(box.expand(0, 2, 0));
 		return world.getEntitiesByClass(ArmorStandEntity.class, box.expand(0, 2, 0), EntityPredicates.NOT_MOUNTED);
 	}
+
+	/**
+	 * The colours of an entity computed by each cacheable adder, by the index of the adder.
+	 */
+	private static final class CachedColours {
+		private final int[] colours;
+		private final boolean[] computed;
+		private Box box;
+		private long nametagVersion;
+
+		private CachedColours(int adders) {
+			this.colours = new int[adders];
+			this.computed = new boolean[adders];
+		}
+
+		private void reset(Box box, long nametagVersion) {
+			this.box = box;
+			this.nametagVersion = nametagVersion;
+			Arrays.fill(computed, false);
+		}
+
+		private int getOrCompute(int index, MobGlowAdder adder, Entity entity) {
+			if (!computed[index]) {
+				colours[index] = adder.computeColour(entity);
+				computed[index] = true;
+			}
+
+			return colours[index];
+		}
+	}
 }
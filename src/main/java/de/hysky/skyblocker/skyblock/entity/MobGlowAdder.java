@@ -20,4 +20,15 @@ public abstract class MobGlowAdder {
 	 * @return If this adder is enabled.
 	 */
 	public abstract boolean isEnabled();
+
+	/**
+	 * Whether the colour only depends on the entity, its tracked data and equipment, its {@link NametagIndex nametags}, and the config.
+	 * The colours of cacheable adders are kept across ticks until one of those changes, while other adders are called every tick.
+	 * Nametags must be found with {@link MobGlow#getArmorStands(Entity)}, or a box at most 1 block larger than the entity's.
+	 *
+	 * @return If the colours computed by this adder can be cached.
+	 */
+	public boolean isCacheable() {
+		return false;
+	}
 }
@@ -0,0 +1,223 @@
+package de.hysky.skyblocker.skyblock.entity;
+
+import de.hysky.skyblocker.annotations.Init;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientEntityEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientWorldEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.predicate.entity.EntityPredicates;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Indexes the armor stands of the client world in a grid of block columns, so the nametags of a mob can be found
+ * without querying the world for every mob every tick.
+ * <p>
+ * Armor stands are added and removed as they load and unload, and moved between cells at the end of every tick.
+ * Each cell has a version that is raised whenever an armor stand in it spawns, despawns, moves, is mounted, or has its tracked data changed,
+ * so the nametags found for an entity are kept until the entity moves or a cell around it changes.
+ */
+public final class NametagIndex {
+	/**
+	 * Cells are 4 by 4 block columns.
+	 */
+	private static final int CELL_SHIFT = 2;
+	/**
+	 * Armor stands are indexed by their position, but their bounding box can reach into the next cell,
+	 * so queries also look at the cells within this many blocks of the box.
+	 */
+	private static final double ARMOR_STAND_MARGIN = 1;
+	private static final Long2ObjectMap<List<ArmorStandEntity>> CELLS = new Long2ObjectOpenHashMap<>();
+	/**
+	 * The version of each cell that has changed, which is the value of {@link #lastVersion} when it last changed.
+	 * Versions only increase, so the highest version of a group of cells changes whenever any of them changes.
+	 */
+	private static final Long2LongMap VERSIONS = new Long2LongOpenHashMap();
+	private static final Map<ArmorStandEntity, TrackedArmorStand> ARMOR_STANDS = new Reference2ObjectOpenHashMap<>();
+	private static final Map<Entity, Nametags> NAMETAGS = new Reference2ObjectOpenHashMap<>();
+	private static long lastVersion = 0;
+
+	@Init
+	public static void init() {
+		ClientEntityEvents.ENTITY_LOAD.register((entity, world) -> onEntityLoad(entity));
+		ClientEntityEvents.ENTITY_UNLOAD.register((entity, world) -> onEntityUnload(entity));
+		ClientTickEvents.END_WORLD_TICK.register(world -> tick());
+		ClientWorldEvents.AFTER_CLIENT_WORLD_CHANGE.register((client, world) -> clear());
+	}
+
+	private static void onEntityLoad(Entity entity) {
+		if (!(entity instanceof ArmorStandEntity armorStand)) return;
+
+		TrackedArmorStand tracked = new TrackedArmorStand(armorStand);
+		ARMOR_STANDS.put(armorStand, tracked);
+		CELLS.computeIfAbsent(tracked.cell, cell -> new ObjectArrayList<>()).add(armorStand);
+		markChanged(tracked.cell);
+	}
+
+	private static void onEntityUnload(Entity entity) {
+		NAMETAGS.remove(entity);
+		if (!(entity instanceof ArmorStandEntity armorStand)) return;
+
+		TrackedArmorStand tracked = ARMOR_STANDS.remove(armorStand);
+		if (tracked != null) {
+			removeFromCell(armorStand, tracked.cell);
+			markChanged(tracked.cell);
+		}
+	}
+
+	/**
+	 * Called after the tracked data of an entity was updated by the server, which includes the custom name of armor stands.
+	 */
+	public static void onTrackedDataChanged(Entity entity) {
+		if (entity instanceof ArmorStandEntity armorStand) {
+			TrackedArmorStand tracked = ARMOR_STANDS.get(armorStand);
+			if (tracked != null) markChanged(tracked.cell);
+		}
+	}
+
+	/**
+	 * Moves the armor stands that moved this tick to their new cells.
+	 */
+	private static void tick() {
+		for (Map.Entry<ArmorStandEntity, TrackedArmorStand> entry : ARMOR_STANDS.entrySet()) {
+			ArmorStandEntity armorStand = entry.getKey();
+			TrackedArmorStand tracked = entry.getValue();
+			if (armorStand.getX() == tracked.x && armorStand.getY() == tracked.y && armorStand.getZ() == tracked.z && armorStand.hasVehicle() == tracked.mounted) continue;
+
+			long cell = cellOf(armorStand.getX(), armorStand.getZ());
+			markChanged(tracked.cell);
+			if (cell != tracked.cell) {
+				removeFromCell(armorStand, tracked.cell);
+				CELLS.computeIfAbsent(cell, key -> new ObjectArrayList<>()).add(armorStand);
+				markChanged(cell);
+			}
+			tracked.update(armorStand, cell);
+		}
+	}
+
+	private static void removeFromCell(ArmorStandEntity armorStand, long cell) {
+		List<ArmorStandEntity> armorStands = CELLS.get(cell);
+		if (armorStands == null) return;
+
+		armorStands.remove(armorStand);
+		if (armorStands.isEmpty()) CELLS.remove(cell);
+	}
+
+	private static void markChanged(long cell) {
+		VERSIONS.put(cell, ++lastVersion);
+	}
+
+	private static void clear() {
+		CELLS.clear();
+		VERSIONS.clear();
+		ARMOR_STANDS.clear();
+		NAMETAGS.clear();
+	}
+
+	private static long cellOf(double x, double z) {
+		return ChunkPos.toLong(MathHelper.floor(x) >> CELL_SHIFT, MathHelper.floor(z) >> CELL_SHIFT);
+	}
+
+	/**
+	 * Returns the unmounted armor stands whose bounding box intersects the bounding box of the entity expanded by 2 blocks vertically, ordered by entity id.
+	 * The result is cached until the entity moves or an armor stand around it changes, and must not be modified.
+	 */
+	public static List<ArmorStandEntity> getArmorStands(Entity entity) {
+		Box box = entity.getBoundingBox();
+		long version = getVersion(entity);
+		Nametags nametags = NAMETAGS.get(entity);
+
+		if (nametags == null || nametags.version != version || !nametags.box.equals(box)) {
+			nametags = new Nametags(box, version, List.copyOf(getArmorStands(box.expand(0, 2, 0))));
+			NAMETAGS.put(entity, nametags);
+		}
+
+		return nametags.armorStands;
+	}
+
+	/**
+	 * Returns the unmounted armor stands whose bounding box intersects the {@code box}, ordered by entity id.
+	 */
+	public static List<ArmorStandEntity> getArmorStands(Box box) {
+		return getArmorStands(box, EntityPredicates.NOT_MOUNTED);
+	}
+
+	/**
+	 * Returns the armor stands matching the {@code predicate} whose bounding box intersects the {@code box}, ordered by entity id,
+	 * like {@link net.minecraft.world.World#getEntitiesByClass(Class, Box, Predicate) World#getEntitiesByClass}.
+	 */
+	public static List<ArmorStandEntity> getArmorStands(Box box, Predicate<? super ArmorStandEntity> predicate) {
+		List<ArmorStandEntity> result = new ArrayList<>();
+		int minX = MathHelper.floor(box.minX - ARMOR_STAND_MARGIN) >> CELL_SHIFT, maxX = MathHelper.floor(box.maxX + ARMOR_STAND_MARGIN) >> CELL_SHIFT;
+		int minZ = MathHelper.floor(box.minZ - ARMOR_STAND_MARGIN) >> CELL_SHIFT, maxZ = MathHelper.floor(box.maxZ + ARMOR_STAND_MARGIN) >> CELL_SHIFT;
+
+		for (int x = minX; x <= maxX; x++) {
+			for (int z = minZ; z <= maxZ; z++) {
+				List<ArmorStandEntity> armorStands = CELLS.get(ChunkPos.toLong(x, z));
+				if (armorStands == null) continue;
+
+				for (ArmorStandEntity armorStand : armorStands) {
+					if (armorStand.getBoundingBox().intersects(box) && predicate.test(armorStand)) result.add(armorStand);
+				}
+			}
+		}
+
+		result.sort(Comparator.comparingInt(Entity::getId));
+		return result;
+	}
+
+	/**
+	 * Returns a number that changes whenever an armor stand that a query of the entity's bounding box expanded by up to 1 block could find changes,
+	 * for caching results that depend on the nametags of the entity.
+	 */
+	public static long getVersion(Entity entity) {
+		Box box = entity.getBoundingBox().expand(1 + ARMOR_STAND_MARGIN);
+		int minX = MathHelper.floor(box.minX) >> CELL_SHIFT, maxX = MathHelper.floor(box.maxX) >> CELL_SHIFT;
+		int minZ = MathHelper.floor(box.minZ) >> CELL_SHIFT, maxZ = MathHelper.floor(box.maxZ) >> CELL_SHIFT;
+		long version = 0;
+
+		for (int x = minX; x <= maxX; x++) {
+			for (int z = minZ; z <= maxZ; z++) {
+				version = Math.max(version, VERSIONS.get(ChunkPos.toLong(x, z)));
+			}
+		}
+
+		return version;
+	}
+
+	private static final class TrackedArmorStand {
+		private long cell;
+		private double x;
+		private double y;
+		private double z;
+		private boolean mounted;
+
+		private TrackedArmorStand(ArmorStandEntity armorStand) {
+			update(armorStand, cellOf(armorStand.getX(), armorStand.getZ()));
+		}
+
+		private void update(ArmorStandEntity armorStand, long cell) {
+			this.cell = cell;
+			this.x = armorStand.getX();
+			this.y = armorStand.getY();
+			this.z = armorStand.getZ();
+			this.mounted = armorStand.hasVehicle();
+		}
+	}
+
+	private record Nametags(Box box, long version, List<ArmorStandEntity> armorStands) {}
+}
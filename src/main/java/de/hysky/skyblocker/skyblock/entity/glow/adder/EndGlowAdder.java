@@ -24,4 +24,9 @@ public class EndGlowAdder extends MobGlowAdder {
 	public boolean isEnabled() {
 		return Utils.isInTheEnd();
 	}
+
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
 }
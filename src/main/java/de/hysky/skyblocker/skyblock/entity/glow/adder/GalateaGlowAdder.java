@@ -34,4 +34,9 @@ public class GalateaGlowAdder extends MobGlowAdder {
 	public boolean isEnabled() {
 		return Utils.isInGalatea();
 	}
+
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
 }
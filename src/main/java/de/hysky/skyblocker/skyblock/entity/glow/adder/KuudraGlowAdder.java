@@ -25,4 +25,9 @@ public class KuudraGlowAdder extends MobGlowAdder {
 	public boolean isEnabled() {
 		return Utils.isInKuudra();
 	}
+
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
 }
@@ -24,4 +24,9 @@ public class RiftGlowAdder extends MobGlowAdder {
 	public boolean isEnabled() {
 		return Utils.isInTheRift();
 	}
+
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
 }
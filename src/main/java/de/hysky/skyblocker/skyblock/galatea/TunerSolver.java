@@ -134,6 +134,11 @@ public class TunerSolver extends SimpleContainerSolver implements SlotTextAdder
 		resetState();
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return false; //The clicks are solved in getColors, which runs after the slots are drawn.
+	}
+
 	@Override
 	public @NotNull List<SlotText> getText(@Nullable Slot slot, @NotNull ItemStack stack, int slotId) {
 		if (!isEnabled()) {
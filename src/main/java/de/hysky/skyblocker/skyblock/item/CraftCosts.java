@@ -0,0 +1,151 @@
+package de.hysky.skyblocker.skyblock.item;
+
+import de.hysky.skyblocker.annotations.Init;
+import de.hysky.skyblocker.config.SkyblockerConfigManager;
+import de.hysky.skyblocker.config.configs.GeneralConfig;
+import de.hysky.skyblocker.events.ItemPriceUpdateEvent;
+import de.hysky.skyblocker.utils.NEURepoManager;
+import io.github.moulberry.repo.data.NEUIngredient;
+import io.github.moulberry.repo.data.NEUKatUpgradeRecipe;
+import io.github.moulberry.repo.data.NEURecipe;
+import io.github.moulberry.repo.data.NEUTradeRecipe;
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An immutable table of the cheapest cost to craft one of every item, where every input is either bought or crafted, whichever is cheaper.
+ * <p>
+ * The recipe graph is built from the NEU repo once per load, and the costs of the whole graph are solved off-thread
+ * every time the {@link PriceIndex} is rebuilt or the crafting cost setting changes, so reading a cost is a single hash probe:
+ * <pre>{@code
+ * double craftCost = CraftCosts.get().getCraftCost(neuId);
+ * }</pre>
+ * Caches derived from craft costs can key on {@link #getVersion()}.
+ * Unlike following only the first recipe of each item, every recipe of every item is considered, and items that cannot be bought or crafted make a recipe unusable instead of free.
+ */
+public final class CraftCosts {
+	private static final Logger LOGGER = LoggerFactory.getLogger(CraftCosts.class);
+	private static final String COINS = "SKYBLOCK_COIN";
+	private static final CraftCosts EMPTY = new CraftCosts(0, null, new double[0]);
+	private static final AtomicBoolean SOLVE_PENDING = new AtomicBoolean();
+	@Nullable
+	private static volatile RecipeGraph graph;
+	private static volatile CraftCosts current = EMPTY;
+
+	private final int version;
+	@Nullable
+	private final RecipeGraph recipeGraph;
+	private final double[] costs;
+
+	private CraftCosts(int version, @Nullable RecipeGraph recipeGraph, double[] costs) {
+		this.version = version;
+		this.recipeGraph = recipeGraph;
+		this.costs = costs;
+	}
+
+	@Init
+	public static void init() {
+		NEURepoManager.runAsyncAfterLoad(CraftCosts::loadGraph);
+		ItemPriceUpdateEvent.ON_PRICE_UPDATE.register(CraftCosts::scheduleSolve);
+	}
+
+	/**
+	 * @return the latest table, never {@code null}
+	 */
+	public static CraftCosts get() {
+		return current;
+	}
+
+	/**
+	 * Solves the costs again off-thread with the latest prices and settings. Solves are coalesced so that requests during a solve only cause one more solve.
+	 */
+	public static void scheduleSolve() {
+		if (SOLVE_PENDING.compareAndSet(false, true)) {
+			CompletableFuture.runAsync(CraftCosts::solve);
+		}
+	}
+
+	private static void loadGraph() {
+		RecipeGraph.Builder builder = RecipeGraph.builder();
+		Set<NEURecipe> added = new ReferenceOpenHashSet<>();
+		for (Set<NEURecipe> recipes : NEURepoManager.getRecipes().values()) {
+			for (NEURecipe recipe : recipes) {
+				// Recipes are shared between their outputs
+				if (recipe instanceof NEUKatUpgradeRecipe || recipe instanceof NEUTradeRecipe || !added.add(recipe)) continue;
+
+				Object2DoubleOpenHashMap<String> inputs = new Object2DoubleOpenHashMap<>();
+				double coins = 0;
+				for (NEUIngredient input : recipe.getAllInputs()) {
+					if (input == NEUIngredient.SENTINEL_EMPTY) continue;
+					if (input.getItemId().equals(COINS)) {
+						coins += input.getAmount();
+					} else {
+						inputs.addTo(input.getItemId(), input.getAmount());
+					}
+				}
+
+				Object2DoubleOpenHashMap<String> outputs = new Object2DoubleOpenHashMap<>();
+				for (NEUIngredient output : recipe.getAllOutputs()) {
+					if (output != NEUIngredient.SENTINEL_EMPTY) outputs.addTo(output.getItemId(), output.getAmount());
+				}
+
+				builder.addRecipe(inputs, coins, outputs);
+			}
+		}
+
+		RecipeGraph recipeGraph = builder.build();
+		LOGGER.info("[Skyblocker Craft Costs] Built recipe graph of {} items in {} levels", recipeGraph.size(), recipeGraph.getLevelCount());
+		graph = recipeGraph;
+		scheduleSolve();
+	}
+
+	private static synchronized void solve() {
+		// Reset before solving so that updates during the solve schedule another solve
+		SOLVE_PENDING.set(false);
+
+		RecipeGraph recipeGraph = graph;
+		PriceIndex index = PriceIndex.get();
+		if (recipeGraph == null || !index.hasCoreData()) return;
+
+		try {
+			long start = System.nanoTime();
+			boolean useBazaarBuyPrice = SkyblockerConfigManager.get().general.itemTooltip.enableCraftingCost == GeneralConfig.Craft.BUY_ORDER;
+			double[] marketPrices = new double[recipeGraph.size()];
+			for (int slot = 0; slot < marketPrices.length; slot++) {
+				marketPrices[slot] = index.getPrice(recipeGraph.getId(slot), useBazaarBuyPrice);
+			}
+
+			current = new CraftCosts(current.version + 1, recipeGraph, recipeGraph.solve(marketPrices));
+			LOGGER.debug("[Skyblocker Craft Costs] Solved craft costs of {} items in {} ms", marketPrices.length, (System.nanoTime() - start) / 1_000_000);
+		} catch (Exception e) {
+			LOGGER.error("[Skyblocker Craft Costs] Failed to solve craft costs!", e);
+		}
+	}
+
+	/**
+	 * @return the version of this table, which increases with every solve
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return the cheapest cost to craft one of the item, or {@code 0} if it has no recipe that can be crafted from items that can be bought
+	 */
+	public double getCraftCost(@Nullable String neuId) {
+		if (neuId == null || recipeGraph == null) return 0;
+
+		int slot = recipeGraph.getSlot(neuId);
+		if (slot == -1) return 0;
+
+		double cost = costs[slot];
+		return Double.isFinite(cost) ? cost : 0;
+	}
+}
@@ -2,7 +2,6 @@ package de.hysky.skyblocker.skyblock.item;
 
 import de.hysky.skyblocker.SkyblockerMod;
 import de.hysky.skyblocker.annotations.Init;
-import de.hysky.skyblocker.events.ItemPriceUpdateEvent;
 import de.hysky.skyblocker.skyblock.item.tooltip.ItemTooltip;
 import de.hysky.skyblocker.skyblock.item.tooltip.info.DataTooltipInfoType;
 import de.hysky.skyblocker.skyblock.item.tooltip.info.TooltipInfoType;
@@ -98,7 +97,6 @@ public class ItemPrice {
                         .map(DataTooltipInfoType::downloadIfEnabled)
                         .toArray(CompletableFuture[]::new)
         ).thenRun(() -> {
-	        ItemPriceUpdateEvent.ON_PRICE_UPDATE.invoker().onPriceUpdate();
 	        player.sendMessage(Constants.PREFIX.get().append(Text.translatable("skyblocker.config.helpers.itemPrice.refreshedItemPrices")), false);
 		}).exceptionally(e -> {
 			ItemTooltip.LOGGER.error("[Skyblocker Item Price] Failed to refresh item prices", e);
@@ -0,0 +1,310 @@
+package de.hysky.skyblocker.skyblock.item;
+
+import de.hysky.skyblocker.events.ItemPriceUpdateEvent;
+import de.hysky.skyblocker.skyblock.item.tooltip.info.TooltipInfoType;
+import de.hysky.skyblocker.utils.BazaarProduct;
+import de.hysky.skyblocker.utils.ItemUtils;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An immutable snapshot of all price feeds, indexed by item id.
+ * <p>
+ * Every id is mapped to a dense slot once, and the prices of all feeds are stored in parallel primitive arrays at that slot.
+ * Looking up all prices of an item therefore only takes a single hash probe, and nothing is allocated:
+ * <pre>{@code
+ * PriceIndex index = PriceIndex.get();
+ * int slot = index.getSlot(skyblockApiId);
+ * double price = index.getPrice(slot, false);
+ * }</pre>
+ * The index is rebuilt whenever a price feed refreshes, after which the {@link ItemPriceUpdateEvent} is fired once.
+ * Caches derived from prices can key on {@link #getVersion()}.
+ */
+public final class PriceIndex {
+	private static final Logger LOGGER = LoggerFactory.getLogger(PriceIndex.class);
+	/**
+	 * How long to wait for other feeds before rebuilding, since the feeds are usually refreshed together.
+	 */
+	private static final long REBUILD_DELAY_MS = 250;
+	public static final int NO_SLOT = -1;
+	public static final int BAZAAR = 1;
+	public static final int BAZAAR_BUY = 1 << 1;
+	public static final int BAZAAR_SELL = 1 << 2;
+	public static final int LOWEST_BIN = 1 << 3;
+	public static final int ONE_DAY_AVERAGE = 1 << 4;
+	public static final int THREE_DAY_AVERAGE = 1 << 5;
+	public static final int NPC = 1 << 6;
+	public static final int MOTES = 1 << 7;
+	private static final PriceIndex EMPTY = new PriceIndex(0, new Object2IntOpenHashMap<>(), false);
+	/**
+	 * Ids are interned across rebuilds so that the keys of every index share the same strings.
+	 */
+	private static final ObjectOpenHashSet<String> INTERNED_IDS = new ObjectOpenHashSet<>();
+	private static final AtomicBoolean REBUILD_PENDING = new AtomicBoolean();
+	private static volatile PriceIndex current = EMPTY;
+
+	private final int version;
+	/**
+	 * Whether both bazaar and lowest BIN data were loaded when this index was built, which {@link ItemUtils#getItemPrice(String)} requires.
+	 */
+	private final boolean hasCoreData;
+	private final Object2IntOpenHashMap<String> slots;
+	private final String[] ids;
+	private final byte[] flags;
+	private final double[] bazaarBuyPrices;
+	private final double[] bazaarSellPrices;
+	private final double[] lowestBins;
+	private final double[] oneDayAverages;
+	private final double[] threeDayAverages;
+	private final double[] npcPrices;
+	private final int[] motes;
+
+	private PriceIndex(int version, Object2IntOpenHashMap<String> slots, boolean hasCoreData) {
+		int size = slots.size();
+		this.version = version;
+		this.hasCoreData = hasCoreData;
+		this.slots = slots;
+		this.ids = new String[size];
+		this.flags = new byte[size];
+		this.bazaarBuyPrices = new double[size];
+		this.bazaarSellPrices = new double[size];
+		this.lowestBins = new double[size];
+		this.oneDayAverages = new double[size];
+		this.threeDayAverages = new double[size];
+		this.npcPrices = new double[size];
+		this.motes = new int[size];
+	}
+
+	/**
+	 * @return the latest index, never {@code null}
+	 */
+	public static PriceIndex get() {
+		return current;
+	}
+
+	/**
+	 * Called whenever a price feed has new data. Rebuilds are coalesced so that feeds refreshing together only cause a single rebuild.
+	 */
+	public static <T> void onFeedUpdate(T data) {
+		if (REBUILD_PENDING.compareAndSet(false, true)) {
+			CompletableFuture.runAsync(PriceIndex::rebuild, CompletableFuture.delayedExecutor(REBUILD_DELAY_MS, TimeUnit.MILLISECONDS));
+		}
+	}
+
+	private static void rebuild() {
+		// Reset before building so that feeds refreshing during the build schedule another rebuild
+		REBUILD_PENDING.set(false);
+
+		try {
+			// Read the feeds, the version and publish under one lock so that concurrent rebuilds publish in order with distinct versions
+			synchronized (PriceIndex.class) {
+				current = build(current.version + 1);
+			}
+		} catch (Exception e) {
+			LOGGER.error("[Skyblocker Price Index] Failed to rebuild the price index!", e);
+			return;
+		}
+
+		ItemPriceUpdateEvent.ON_PRICE_UPDATE.invoker().onPriceUpdate();
+	}
+
+	private static PriceIndex build(int version) {
+		return build(version, TooltipInfoType.BAZAAR.getData(), TooltipInfoType.LOWEST_BINS.getData(), TooltipInfoType.ONE_DAY_AVERAGE.getData(), TooltipInfoType.THREE_DAY_AVERAGE.getData(), TooltipInfoType.NPC.getData(), TooltipInfoType.MOTES.getData());
+	}
+
+	/**
+	 * Replaces the current index with one built from the given feeds instead of the downloaded ones, without firing the {@link ItemPriceUpdateEvent}.
+	 */
+	@VisibleForTesting
+	public static synchronized void rebuildFrom(@Nullable Object2ObjectMap<String, BazaarProduct> bazaar, @Nullable Object2DoubleMap<String> lowestBins, @Nullable Object2DoubleMap<String> oneDayAverages, @Nullable Object2DoubleMap<String> threeDayAverages, @Nullable Object2DoubleMap<String> npcPrices, @Nullable Object2IntMap<String> motes) {
+		current = build(current.version + 1, bazaar, lowestBins, oneDayAverages, threeDayAverages, npcPrices, motes);
+	}
+
+	private static PriceIndex build(int version, @Nullable Object2ObjectMap<String, BazaarProduct> bazaar, @Nullable Object2DoubleMap<String> lowestBins, @Nullable Object2DoubleMap<String> oneDayAverages, @Nullable Object2DoubleMap<String> threeDayAverages, @Nullable Object2DoubleMap<String> npcPrices, @Nullable Object2IntMap<String> motes) {
+		// Assign the slots first so that the arrays can be allocated with their exact size
+		Object2IntOpenHashMap<String> slots = new Object2IntOpenHashMap<>(size(bazaar) + size(lowestBins));
+		slots.defaultReturnValue(NO_SLOT);
+		assignSlots(slots, bazaar);
+		assignSlots(slots, lowestBins);
+		assignSlots(slots, oneDayAverages);
+		assignSlots(slots, threeDayAverages);
+		assignSlots(slots, npcPrices);
+		assignSlots(slots, motes);
+
+		PriceIndex index = new PriceIndex(version, slots, bazaar != null && lowestBins != null);
+
+		for (Object2IntMap.Entry<String> entry : slots.object2IntEntrySet()) {
+			index.ids[entry.getIntValue()] = entry.getKey();
+		}
+
+		if (bazaar != null) {
+			for (Map.Entry<String, BazaarProduct> entry : bazaar.entrySet()) {
+				int slot = slots.getInt(entry.getKey());
+				BazaarProduct product = entry.getValue();
+				index.flags[slot] |= BAZAAR;
+
+				if (product.buyPrice().isPresent()) {
+					index.flags[slot] |= BAZAAR_BUY;
+					index.bazaarBuyPrices[slot] = product.buyPrice().getAsDouble();
+				}
+
+				if (product.sellPrice().isPresent()) {
+					index.flags[slot] |= BAZAAR_SELL;
+					index.bazaarSellPrices[slot] = product.sellPrice().getAsDouble();
+				}
+			}
+		}
+
+		fill(index, slots, lowestBins, index.lowestBins, LOWEST_BIN);
+		fill(index, slots, oneDayAverages, index.oneDayAverages, ONE_DAY_AVERAGE);
+		fill(index, slots, threeDayAverages, index.threeDayAverages, THREE_DAY_AVERAGE);
+		fill(index, slots, npcPrices, index.npcPrices, NPC);
+
+		if (motes != null) {
+			for (Object2IntMap.Entry<String> entry : motes.object2IntEntrySet()) {
+				int slot = slots.getInt(entry.getKey());
+				index.flags[slot] |= MOTES;
+				index.motes[slot] = entry.getIntValue();
+			}
+		}
+
+		return index;
+	}
+
+	private static int size(@Nullable Map<?, ?> map) {
+		return map != null ? map.size() : 0;
+	}
+
+	private static void assignSlots(Object2IntOpenHashMap<String> slots, @Nullable Map<String, ?> feed) {
+		if (feed == null) return;
+
+		for (String id : feed.keySet()) {
+			if (!slots.containsKey(id)) slots.put(INTERNED_IDS.addOrGet(id), slots.size());
+		}
+	}
+
+	private static void fill(PriceIndex index, Object2IntOpenHashMap<String> slots, @Nullable Object2DoubleMap<String> feed, double[] values, int flag) {
+		if (feed == null) return;
+
+		for (Object2DoubleMap.Entry<String> entry : feed.object2DoubleEntrySet()) {
+			int slot = slots.getInt(entry.getKey());
+			index.flags[slot] |= (byte) flag;
+			values[slot] = entry.getDoubleValue();
+		}
+	}
+
+	/**
+	 * @return the version of this index, which increases with every rebuild
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return whether both bazaar and lowest BIN data were available when this index was built
+	 */
+	public boolean hasCoreData() {
+		return hasCoreData;
+	}
+
+	public int size() {
+		return ids.length;
+	}
+
+	/**
+	 * @return the slot of the id, or {@link #NO_SLOT} if no feed has a price for it
+	 */
+	public int getSlot(@Nullable String id) {
+		return id == null ? NO_SLOT : slots.getInt(id);
+	}
+
+	public String getId(int slot) {
+		return ids[slot];
+	}
+
+	/**
+	 * @param flag one of the feed flags, like {@link #LOWEST_BIN}
+	 * @return whether the slot has a value for the feed
+	 */
+	public boolean has(int slot, int flag) {
+		return slot != NO_SLOT && (flags[slot] & flag) != 0;
+	}
+
+	public double getBazaarBuyPrice(int slot) {
+		return has(slot, BAZAAR_BUY) ? bazaarBuyPrices[slot] : 0;
+	}
+
+	public double getBazaarSellPrice(int slot) {
+		return has(slot, BAZAAR_SELL) ? bazaarSellPrices[slot] : 0;
+	}
+
+	public double getLowestBin(int slot) {
+		return has(slot, LOWEST_BIN) ? lowestBins[slot] : 0;
+	}
+
+	public double getOneDayAverage(int slot) {
+		return has(slot, ONE_DAY_AVERAGE) ? oneDayAverages[slot] : 0;
+	}
+
+	public double getThreeDayAverage(int slot) {
+		return has(slot, THREE_DAY_AVERAGE) ? threeDayAverages[slot] : 0;
+	}
+
+	public double getNpcPrice(int slot) {
+		return has(slot, NPC) ? npcPrices[slot] : 0;
+	}
+
+	public int getMotes(int slot) {
+		return has(slot, MOTES) ? motes[slot] : 0;
+	}
+
+	/**
+	 * Gets the bazaar sell price or the lowest bin of the item in the slot, the same way as {@link ItemUtils#getItemPrice(String, boolean)}.
+	 *
+	 * @return the price, or {@code 0} if there is none
+	 */
+	public double getPrice(int slot, boolean useBazaarBuyPrice) {
+		if (!hasCoreData || slot == NO_SLOT) return 0;
+		if (has(slot, BAZAAR)) return useBazaarBuyPrice ? getBazaarBuyPrice(slot) : getBazaarSellPrice(slot);
+
+		return getLowestBin(slot);
+	}
+
+	/**
+	 * @return whether {@link #getPrice(int, boolean)} is based on complete data
+	 */
+	public boolean isPriceComplete(int slot, boolean useBazaarBuyPrice) {
+		if (!hasCoreData || slot == NO_SLOT) return false;
+		if (has(slot, BAZAAR)) return has(slot, useBazaarBuyPrice ? BAZAAR_BUY : BAZAAR_SELL);
+
+		return has(slot, LOWEST_BIN);
+	}
+
+	/**
+	 * Allocation free version of {@link ItemUtils#getItemPrice(String, boolean)} for callers that only need the price.
+	 *
+	 * @return the price, or {@code 0} if there is none
+	 */
+	public double getPrice(@Nullable String skyblockApiId, boolean useBazaarBuyPrice) {
+		return getPrice(getSlot(skyblockApiId), useBazaarBuyPrice);
+	}
+
+	/**
+	 * @see #getPrice(String, boolean)
+	 */
+	public double getPrice(@Nullable String skyblockApiId) {
+		return getPrice(skyblockApiId, false);
+	}
+}
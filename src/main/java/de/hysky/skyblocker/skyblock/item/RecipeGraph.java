@@ -0,0 +1,319 @@
+package de.hysky.skyblocker.skyblock.item;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The recipes of every item as a graph from each item to the items it is crafted from, with every id mapped to a dense slot.
+ * <p>
+ * The graph is split into strongly connected components, which are grouped into levels so that every component only depends on components in lower levels.
+ * {@link #solve(double[])} can then find the cheapest cost of every item level by level, solving the components of a level in parallel,
+ * and only has to iterate on the components with recipe cycles, like a block that can be crafted back into its ingots.
+ */
+final class RecipeGraph {
+	/**
+	 * How much cheaper a cost has to be to count as an improvement, so that rounding errors around a cycle do not keep improving each other.
+	 */
+	private static final double EPSILON = 1e-9;
+
+	private final Object2IntOpenHashMap<String> slots;
+	private final String[] ids;
+	private final Recipe[] recipes;
+	/**
+	 * The recipes that produce each item, and how many of the item each of them produces.
+	 */
+	private final int[][] producers;
+	private final double[][] producedAmounts;
+	/**
+	 * The levels of components, each component being the slots of its items.
+	 */
+	private final int[][][] levels;
+
+	private RecipeGraph(Object2IntOpenHashMap<String> slots, String[] ids, Recipe[] recipes, int[][] producers, double[][] producedAmounts, int[][][] levels) {
+		this.slots = slots;
+		this.ids = ids;
+		this.recipes = recipes;
+		this.producers = producers;
+		this.producedAmounts = producedAmounts;
+		this.levels = levels;
+	}
+
+	static Builder builder() {
+		return new Builder();
+	}
+
+	int size() {
+		return ids.length;
+	}
+
+	/**
+	 * @return the slot of the id, or {@code -1} if no recipe has it as an input or output
+	 */
+	int getSlot(String id) {
+		return slots.getInt(id);
+	}
+
+	String getId(int slot) {
+		return ids[slot];
+	}
+
+	int getLevelCount() {
+		return levels.length;
+	}
+
+	/**
+	 * Finds the cheapest cost to craft one of each item, where every input is bought or crafted, whichever is cheaper.
+	 *
+	 * @param marketPrices the price of each slot, or {@code 0} if it cannot be bought
+	 * @return the cheapest cost to craft one of each slot, or {@link Double#POSITIVE_INFINITY} if it cannot be crafted from items that can be bought
+	 */
+	double[] solve(double[] marketPrices) {
+		int size = ids.length;
+		double[] best = new double[size];
+		double[] craftCosts = new double[size];
+		for (int slot = 0; slot < size; slot++) {
+			best[slot] = marketPrices[slot] > 0 ? marketPrices[slot] : Double.POSITIVE_INFINITY;
+			craftCosts[slot] = Double.POSITIVE_INFINITY;
+		}
+
+		for (int[][] level : levels) {
+			// Components in the same level do not depend on each other, and each only writes the slots of its own items
+			Arrays.stream(level).parallel().forEach(component -> solveComponent(component, marketPrices, best, craftCosts));
+		}
+
+		return craftCosts;
+	}
+
+	/**
+	 * Relaxes every recipe of the component until no cost improves. Costs only ever decrease, so this converges on cycles that lose items.
+	 * Cycles that produce more than they take would get cheaper forever, so if the costs still improve after as many passes as there are items,
+	 * the component has no defined craft cost and its items are only valued at their market prices.
+	 */
+	private void solveComponent(int[] component, double[] marketPrices, double[] best, double[] craftCosts) {
+		for (int pass = 0; pass <= component.length; pass++) {
+			boolean improved = false;
+			for (int item : component) {
+				int[] itemProducers = producers[item];
+				for (int i = 0; i < itemProducers.length; i++) {
+					double cost = recipes[itemProducers[i]].cost(best) / producedAmounts[item][i];
+					if (cost >= craftCosts[item]) continue;
+
+					craftCosts[item] = cost;
+					if (cost < best[item] * (1 - EPSILON)) {
+						best[item] = cost;
+						improved = true;
+					}
+				}
+			}
+			if (!improved) return;
+		}
+
+		for (int item : component) {
+			best[item] = marketPrices[item] > 0 ? marketPrices[item] : Double.POSITIVE_INFINITY;
+			craftCosts[item] = Double.POSITIVE_INFINITY;
+		}
+	}
+
+	/**
+	 * @param inputs the slots of the inputs other than coins, and the amount of each
+	 */
+	private record Recipe(double coins, int[] inputs, double[] amounts) {
+		private double cost(double[] best) {
+			double cost = coins;
+			for (int i = 0; i < inputs.length; i++) {
+				cost += amounts[i] * best[inputs[i]];
+			}
+			return cost;
+		}
+	}
+
+	static final class Builder {
+		private final Object2IntOpenHashMap<String> slots = new Object2IntOpenHashMap<>();
+		private final List<String> ids = new ObjectArrayList<>();
+		private final List<Recipe> recipes = new ObjectArrayList<>();
+		private final List<int[]> recipeOutputs = new ObjectArrayList<>();
+		private final List<double[]> recipeOutputAmounts = new ObjectArrayList<>();
+
+		private Builder() {
+			slots.defaultReturnValue(-1);
+		}
+
+		/**
+		 * Adds a recipe. Recipes without inputs or outputs are skipped, since they cannot be crafted from anything.
+		 *
+		 * @param inputs  the ids of the inputs other than coins, and the amount of each
+		 * @param coins   the coins the recipe costs
+		 * @param outputs the ids of the outputs, and the amount of each
+		 */
+		Builder addRecipe(Map<String, Double> inputs, double coins, Map<String, Double> outputs) {
+			if (outputs.isEmpty()) return this;
+
+			IntArrayList inputSlots = new IntArrayList(inputs.size());
+			DoubleArrayList inputAmounts = new DoubleArrayList(inputs.size());
+			for (Map.Entry<String, Double> input : inputs.entrySet()) {
+				if (input.getValue() <= 0) continue;
+				inputSlots.add(slot(input.getKey()));
+				inputAmounts.add(input.getValue().doubleValue());
+			}
+			if (inputSlots.isEmpty() && coins <= 0) return this;
+
+			int[] outputSlots = new int[outputs.size()];
+			double[] outputAmounts = new double[outputs.size()];
+			int j = 0;
+			for (Map.Entry<String, Double> output : outputs.entrySet()) {
+				outputSlots[j] = slot(output.getKey());
+				outputAmounts[j++] = output.getValue() > 0 ? output.getValue() : 1;
+			}
+
+			recipes.add(new Recipe(coins, inputSlots.toIntArray(), inputAmounts.toDoubleArray()));
+			recipeOutputs.add(outputSlots);
+			recipeOutputAmounts.add(outputAmounts);
+			return this;
+		}
+
+		private int slot(String id) {
+			int slot = slots.getInt(id);
+			if (slot != -1) return slot;
+
+			slot = ids.size();
+			slots.put(id, slot);
+			ids.add(id);
+			return slot;
+		}
+
+		RecipeGraph build() {
+			int size = ids.size();
+			IntArrayList[] itemProducers = new IntArrayList[size];
+			IntArrayList[] dependencies = new IntArrayList[size];
+			for (int slot = 0; slot < size; slot++) {
+				itemProducers[slot] = new IntArrayList();
+				dependencies[slot] = new IntArrayList();
+			}
+
+			int[][] producers = new int[size][];
+			double[][] producedAmounts = new double[size][];
+			for (int recipe = 0; recipe < recipes.size(); recipe++) {
+				for (int output : recipeOutputs.get(recipe)) {
+					itemProducers[output].add(recipe);
+					dependencies[output].addElements(dependencies[output].size(), recipes.get(recipe).inputs());
+				}
+			}
+			for (int slot = 0; slot < size; slot++) {
+				producers[slot] = itemProducers[slot].toIntArray();
+				producedAmounts[slot] = new double[producers[slot].length];
+				for (int i = 0; i < producers[slot].length; i++) {
+					int recipe = producers[slot][i];
+					int[] outputs = recipeOutputs.get(recipe);
+					for (int j = 0; j < outputs.length; j++) {
+						if (outputs[j] == slot) producedAmounts[slot][i] += recipeOutputAmounts.get(recipe)[j];
+					}
+				}
+			}
+
+			int[][] edges = new int[size][];
+			for (int slot = 0; slot < size; slot++) {
+				edges[slot] = dependencies[slot].toIntArray();
+			}
+
+			return new RecipeGraph(slots, ids.toArray(String[]::new), recipes.toArray(Recipe[]::new), producers, producedAmounts, levels(edges));
+		}
+
+		/**
+		 * Finds the strongly connected components with an iterative version of Tarjan's algorithm, which emits every component after the components it depends on,
+		 * then places every component one level above the highest component it depends on.
+		 */
+		private static int[][][] levels(int[][] edges) {
+			int size = edges.length;
+			int[] index = new int[size];
+			int[] lowLink = new int[size];
+			int[] component = new int[size];
+			boolean[] onStack = new boolean[size];
+			int[] stack = new int[size];
+			int[] callStack = new int[size];
+			int[] edgePositions = new int[size];
+			Arrays.fill(index, -1);
+			List<int[]> components = new ObjectArrayList<>();
+			int counter = 0;
+			int stackSize = 0;
+
+			for (int root = 0; root < size; root++) {
+				if (index[root] != -1) continue;
+
+				index[root] = lowLink[root] = counter++;
+				stack[stackSize++] = root;
+				onStack[root] = true;
+				callStack[0] = root;
+				edgePositions[0] = 0;
+				int depth = 1;
+
+				while (depth > 0) {
+					int node = callStack[depth - 1];
+					if (edgePositions[depth - 1] < edges[node].length) {
+						int next = edges[node][edgePositions[depth - 1]++];
+						if (index[next] == -1) {
+							index[next] = lowLink[next] = counter++;
+							stack[stackSize++] = next;
+							onStack[next] = true;
+							callStack[depth] = next;
+							edgePositions[depth] = 0;
+							depth++;
+						} else if (onStack[next]) {
+							lowLink[node] = Math.min(lowLink[node], index[next]);
+						}
+						continue;
+					}
+
+					depth--;
+					if (lowLink[node] == index[node]) {
+						IntArrayList members = new IntArrayList();
+						int member;
+						do {
+							member = stack[--stackSize];
+							onStack[member] = false;
+							component[member] = components.size();
+							members.add(member);
+						} while (member != node);
+						components.add(members.toIntArray());
+					}
+					if (depth > 0) {
+						int parent = callStack[depth - 1];
+						lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+					}
+				}
+			}
+
+			int[] componentLevels = new int[components.size()];
+			int levelCount = 0;
+			for (int c = 0; c < components.size(); c++) {
+				int level = 0;
+				for (int node : components.get(c)) {
+					for (int next : edges[node]) {
+						if (component[next] != c) level = Math.max(level, componentLevels[component[next]] + 1);
+					}
+				}
+				componentLevels[c] = level;
+				levelCount = Math.max(levelCount, level + 1);
+			}
+
+			List<List<int[]>> levels = new ObjectArrayList<>(levelCount);
+			for (int level = 0; level < levelCount; level++) {
+				levels.add(new ObjectArrayList<>());
+			}
+			for (int c = 0; c < components.size(); c++) {
+				levels.get(componentLevels[c]).add(components.get(c));
+			}
+
+			int[][][] result = new int[levelCount][][];
+			for (int level = 0; level < levelCount; level++) {
+				result[level] = levels.get(level).toArray(int[][]::new);
+			}
+			return result;
+		}
+	}
+}
@@ -14,11 +14,13 @@ import de.hysky.skyblocker.skyblock.profileviewer.ProfileViewerScreen;
 import de.hysky.skyblocker.utils.Utils;
 import de.hysky.skyblocker.utils.container.SlotTextAdder;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.fabricmc.fabric.api.client.keybinding.v1.KeyBindingHelper;
 import net.fabricmc.fabric.api.client.screen.v1.ScreenEvents;
 import net.fabricmc.fabric.api.client.screen.v1.ScreenKeyboardEvents;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.DrawContext;
+import net.minecraft.client.gui.hud.debug.DebugHudEntries;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.gui.screen.ingame.HandledScreen;
 import net.minecraft.client.option.KeyBinding;
@@ -34,6 +36,7 @@ import org.lwjgl.glfw.GLFW;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Stream;
 
 public class SlotTextManager {
@@ -70,8 +73,19 @@ public class SlotTextManager {
 			new BestiaryLevelAdder()
 	};
 	private static final ArrayList<SlotTextAdder> currentScreenAdders = new ArrayList<>();
+	/**
+	 * The adders of {@link #currentScreenAdders} that are not {@link SlotTextAdder#isCacheable() cacheable}, whose text is computed every frame.
+	 */
+	private static final ArrayList<SlotTextAdder> currentScreenUncacheableAdders = new ArrayList<>();
 	private static final KeyBinding keyBinding = KeyBindingHelper.registerKeyBinding(new KeyBinding("key.skyblocker.slottext", GLFW.GLFW_KEY_LEFT_ALT, SkyblockerMod.KEYBINDING_CATEGORY));
 	private static boolean keyHeld = false;
+	/**
+	 * The text of each slot, or of each stack for the stacks rendered without a slot, such as in the profile viewer and the backpack preview.
+	 * Cleared when the screen changes or the server updates a slot, since adders may depend on the other slots in the screen.
+	 */
+	private static final Reference2ObjectOpenHashMap<Object, CachedText> cache = new Reference2ObjectOpenHashMap<>();
+	private static long cacheHits;
+	private static long cacheMisses;
 
 	private SlotTextManager() {
 	}
@@ -81,7 +95,11 @@ public class SlotTextManager {
 		ScreenEvents.AFTER_INIT.register((client, screen, width, height) -> {
 			if ((screen instanceof HandledScreen<?> && Utils.isOnSkyblock()) || screen instanceof ProfileViewerScreen) {
 				onScreenChange(screen);
-				ScreenEvents.remove(screen).register(ignored -> currentScreenAdders.clear());
+				ScreenEvents.remove(screen).register(ignored -> {
+					currentScreenAdders.clear();
+					currentScreenUncacheableAdders.clear();
+					invalidateCache();
+				});
 			}
 			ScreenKeyboardEvents.afterKeyPress(screen).register((screen1, input) -> {
 				if (keyBinding.matchesKey(input)) {
@@ -95,12 +113,17 @@ public class SlotTextManager {
 				}
 			});
 		});
+		DebugHudEntries.register(SkyblockerMod.id("slot_text_cache"), (lines, world, clientChunk, chunk) -> lines.addLine(getDebugLine()));
 	}
 
 	private static void onScreenChange(Screen screen) {
+		invalidateCache();
+		cacheHits = 0;
+		cacheMisses = 0;
 		for (SlotTextAdder adder : adders) {
 			if (adder.isEnabled() && adder.test(screen)) {
 				currentScreenAdders.add(adder);
+				if (!adder.isCacheable()) currentScreenUncacheableAdders.add(adder);
 			}
 		}
 	}
@@ -126,8 +149,56 @@ public class SlotTextManager {
 		renderSlotText(context, textRenderer, slot, slot.getStack(), slot.id, slot.x, slot.y);
 	}
 
+	/**
+	 * Gets the text of the slot like {@link #getText(Slot, ItemStack, int)}, but reuses the text of the {@link SlotTextAdder#isCacheable() cacheable} adders
+	 * computed for the same stack in the slot as long as the stack's count and components are unchanged and the cache has not been invalidated.
+	 * The text of the other adders is computed every frame, since it depends on state that can change without a slot update, like the clicks of a solver.
+	 */
+	@NotNull
+	private static List<SlotText> getCachedText(@Nullable Slot slot, @NotNull ItemStack stack, int slotId) {
+		if (currentScreenAdders.isEmpty() || !isEnabled()) return List.of();
+
+		Object key = slot != null ? slot : stack;
+		int count = stack.getCount();
+		int componentsHash = stack.getComponentChanges().hashCode();
+		CachedText cached = cache.get(key);
+		List<SlotText> text;
+		if (cached != null && cached.stack() == stack && cached.slotId() == slotId && cached.count() == count && cached.componentsHash() == componentsHash) {
+			cacheHits++;
+			text = cached.text();
+		} else {
+			cacheMisses++;
+			text = new ObjectArrayList<>();
+			for (SlotTextAdder adder : currentScreenAdders) {
+				if (adder.isCacheable()) text.addAll(adder.getText(slot, stack, slotId));
+			}
+			cache.put(key, new CachedText(stack, slotId, count, componentsHash, text));
+		}
+		if (currentScreenUncacheableAdders.isEmpty()) return text;
+
+		List<SlotText> uncachedText = new ObjectArrayList<>(text);
+		for (SlotTextAdder adder : currentScreenUncacheableAdders) {
+			uncachedText.addAll(adder.getText(slot, stack, slotId));
+		}
+		return uncachedText;
+	}
+
+	/**
+	 * Clears the cached text of every slot, so it is computed again the next time the slots are rendered.
+	 * Called when the screen changes and when the server updates the slots of a screen.
+	 */
+	public static void invalidateCache() {
+		cache.clear();
+	}
+
+	private static String getDebugLine() {
+		long lookups = cacheHits + cacheMisses;
+		String hitRate = lookups == 0 ? "N/A" : String.format(Locale.ENGLISH, "%.1f%%", cacheHits * 100d / lookups);
+		return "[Skyblocker] Slot Text Cache: " + cache.size() + " entries, " + hitRate + " hits";
+	}
+
 	public static void renderSlotText(DrawContext context, TextRenderer textRenderer, @Nullable Slot slot, ItemStack stack, int slotId, int x, int y) {
-		List<SlotText> textList = getText(slot, stack, slotId);
+		List<SlotText> textList = getCachedText(slot, stack, slotId);
 		if (textList.isEmpty()) return;
 		Matrix3x2fStack matrices = context.getMatrices();
 
@@ -172,4 +243,6 @@ public class SlotTextManager {
 			case HOLD_TO_SHOW -> keyHeld;
 		};
 	}
+
+	private record CachedText(ItemStack stack, int slotId, int count, int componentsHash, List<SlotText> text) {}
 }
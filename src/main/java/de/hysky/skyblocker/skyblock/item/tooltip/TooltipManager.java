@@ -1,12 +1,14 @@
 package de.hysky.skyblocker.skyblock.item.tooltip;
 
 import de.hysky.skyblocker.annotations.Init;
+import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import de.hysky.skyblocker.mixins.accessors.HandledScreenAccessor;
 import de.hysky.skyblocker.skyblock.bazaar.BazaarOrderTracker;
 import de.hysky.skyblocker.skyblock.bazaar.ReorderHelper;
 import de.hysky.skyblocker.skyblock.chocolatefactory.ChocolateFactorySolver;
 import de.hysky.skyblocker.skyblock.dungeon.CroesusProfit;
 import de.hysky.skyblocker.skyblock.dwarven.fossil.FossilSolver;
+import de.hysky.skyblocker.skyblock.item.PriceIndex;
 import de.hysky.skyblocker.skyblock.item.tooltip.adders.*;
 import de.hysky.skyblocker.utils.Utils;
 import de.hysky.skyblocker.utils.container.ContainerMatcher;
@@ -23,6 +25,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
@@ -56,6 +59,15 @@ public class TooltipManager {
 			CroesusProfit.INSTANCE, // priority = 16
 	};
 	private static List<TooltipAdder> currentScreenAdders = new ArrayList<>();
+	/**
+	 * The adders of the current screen, grouped into consecutive runs of cacheable and uncacheable adders.
+	 */
+	private static List<Segment> currentScreenSegments = List.of();
+	/**
+	 * The lines of the last tooltip, which are replayed as long as nothing they depend on has changed.
+	 */
+	@Nullable
+	private static Memo memo;
 
 	private TooltipManager() {
 	}
@@ -71,7 +83,11 @@ public class TooltipManager {
 		});
 		ScreenEvents.AFTER_INIT.register((client, screen, width, height) -> {
 			onScreenChange(screen);
-			ScreenEvents.remove(screen).register(ignored -> currentScreenAdders = List.of());
+			ScreenEvents.remove(screen).register(ignored -> {
+				currentScreenAdders = List.of();
+				currentScreenSegments = List.of();
+				memo = null;
+			});
 		});
 	}
 
@@ -81,11 +97,24 @@ public class TooltipManager {
 				.filter(adder -> adder.test(screen))
 				.sorted(Comparator.comparingInt(TooltipAdder::getPriority))
 				.toList();
+
+		List<Segment> segments = new ArrayList<>();
+		for (TooltipAdder adder : currentScreenAdders) {
+			if (segments.isEmpty() || segments.getLast().cacheable() != adder.isCacheable()) {
+				segments.add(new Segment(new ArrayList<>(), adder.isCacheable()));
+			}
+			segments.getLast().adders().add(adder);
+		}
+
+		currentScreenSegments = segments;
+		memo = null;
 	}
 
 	/**
 	 * <p>Adds additional text from all adders that are applicable to the current screen.
-	 * This method is run on each tooltip render, so don't do any heavy calculations here.</p>
+	 * This method is run on each tooltip render, so don't do any heavy calculations here.
+	 * The lines added by {@link TooltipAdder#isCacheable() cacheable} adders are memoized until the stack, the focused slot,
+	 * the config, the prices or the {@link TooltipAdder#getCacheVersion() cache version} of an adder change, while all other adders run every time.</p>
 	 *
 	 * <p>If you want to add info to the tooltips of multiple items, consider using a switch statement with {@code focusedSlot.getIndex()}</p>
 	 *
@@ -98,9 +127,103 @@ public class TooltipManager {
 	@Deprecated
 	public static List<Text> addToTooltip(@Nullable Slot focusedSlot, ItemStack stack, List<Text> lines) {
 		if (!Utils.isOnSkyblock()) return lines;
-		for (TooltipAdder adder : currentScreenAdders) {
-			adder.addToTooltip(focusedSlot, stack, lines);
+
+		List<Segment> segments = currentScreenSegments;
+		int slot = focusedSlot != null ? focusedSlot.id : -1;
+		int componentsHash = ItemStack.hashCode(stack);
+		int configRevision = SkyblockerConfigManager.getRevision();
+		int priceVersion = PriceIndex.get().getVersion();
+
+		if (memo == null || !memo.matches(segments, stack, componentsHash, slot, configRevision, priceVersion)) {
+			memo = new Memo(segments, stack, componentsHash, slot, configRevision, priceVersion);
 		}
+
+		for (int i = 0; i < segments.size(); i++) {
+			Segment segment = segments.get(i);
+
+			if (segment.cacheable() && memo.replay(i, lines)) continue;
+
+			Text[] input = segment.cacheable() ? lines.toArray(Text[]::new) : null;
+			for (TooltipAdder adder : segment.adders()) {
+				adder.addToTooltip(focusedSlot, stack, lines);
+			}
+			if (input != null) memo.record(i, input, lines);
+		}
+
 		return lines;
 	}
+
+	private record Segment(List<TooltipAdder> adders, boolean cacheable) {}
+
+	/**
+	 * The input and output lines of each cacheable segment for a stack.
+	 * The input lines are compared on replay, since uncacheable segments or vanilla (e.g. advanced tooltips) can change the lines a segment receives.
+	 * The {@link TooltipAdder#getCacheVersion() cache versions} of the adders are compared on every lookup, which does not allocate.
+	 */
+	private static class Memo {
+		private final List<Segment> segments;
+		private final ItemStack stack;
+		private final int count;
+		private final int componentsHash;
+		private final int slot;
+		private final int configRevision;
+		private final int priceVersion;
+		/**
+		 * The cache version of each adder of the segments, in order.
+		 */
+		private final int[] adderVersions;
+		private final Text[][] inputs;
+		private final Text[][] outputs;
+
+		private Memo(List<Segment> segments, ItemStack stack, int componentsHash, int slot, int configRevision, int priceVersion) {
+			this.segments = segments;
+			this.stack = stack;
+			this.count = stack.getCount();
+			this.componentsHash = componentsHash;
+			this.slot = slot;
+			this.configRevision = configRevision;
+			this.priceVersion = priceVersion;
+			this.adderVersions = segments.stream().flatMap(segment -> segment.adders().stream()).mapToInt(TooltipAdder::getCacheVersion).toArray();
+			this.inputs = new Text[segments.size()][];
+			this.outputs = new Text[segments.size()][];
+		}
+
+		private boolean matches(List<Segment> segments, ItemStack stack, int componentsHash, int slot, int configRevision, int priceVersion) {
+			return this.segments == segments && this.stack == stack && count == stack.getCount() && this.componentsHash == componentsHash
+					&& this.slot == slot && this.configRevision == configRevision && this.priceVersion == priceVersion && adderVersionsMatch();
+		}
+
+		private boolean adderVersionsMatch() {
+			int i = 0;
+			for (Segment segment : segments) {
+				for (TooltipAdder adder : segment.adders()) {
+					if (adderVersions[i++] != adder.getCacheVersion()) return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Replaces the lines with the recorded output of the segment if the lines are the same as the recorded input.
+		 *
+		 * @return whether the output was replayed
+		 */
+		private boolean replay(int segment, List<Text> lines) {
+			Text[] input = inputs[segment];
+			if (input == null || input.length != lines.size()) return false;
+
+			for (int i = 0; i < input.length; i++) {
+				if (!input[i].equals(lines.get(i))) return false;
+			}
+
+			lines.clear();
+			Collections.addAll(lines, outputs[segment]);
+			return true;
+		}
+
+		private void record(int segment, Text[] input, List<Text> output) {
+			inputs[segment] = input;
+			outputs[segment] = output.toArray(Text[]::new);
+		}
+	}
 }
@@ -87,6 +87,12 @@ public class DateCalculatorTooltip extends SimpleTooltipAdder {
 		return SkyblockerConfigManager.get().helpers.enableDateCalculator;
 	}
 
+	@Override
+	public boolean isCacheable() {
+		// The dates are relative to the current time
+		return false;
+	}
+
 	private enum Timer {
 		CALENDAR("(Calendar and Events|.*?, Year \\d+.*)", l -> l.contains("Starts in:") || l.contains(" (")); //Calendar start time
 
@@ -46,4 +46,10 @@ public class HuntingBoxPriceTooltip extends SimpleTooltipAdder {
 	public boolean isEnabled() {
 		return SkyblockerConfigManager.get().hunting.huntingBox.enabled;
 	}
+
+	@Override
+	public boolean isCacheable() {
+		// Depends on whether shift is held
+		return false;
+	}
 }
@@ -1,6 +1,8 @@
 package de.hysky.skyblocker.skyblock.item.tooltip.info;
 
-import java.net.http.HttpHeaders;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -14,26 +16,31 @@ import com.mojang.serialization.JsonOps;
 import de.hysky.skyblocker.config.configs.GeneralConfig;
 import de.hysky.skyblocker.skyblock.item.tooltip.ItemTooltip;
 import de.hysky.skyblocker.utils.Http;
+import de.hysky.skyblocker.utils.HttpCache;
+import de.hysky.skyblocker.utils.JsonStreamDecoder;
 
 public final class DataTooltipInfo<T> extends SimpleTooltipInfo implements DataTooltipInfoType<T> {
 	private final String address;
 	private final Codec<T> codec;
+	/**
+	 * Decodes the data straight from the response body, skipping the json tree. The {@link #codec} is used if this is {@code null} or fails.
+	 */
+	@Nullable
+	private final JsonStreamDecoder<T> decoder;
 	@Nullable
 	private T data;
-	private final boolean cacheable;
-	private long hash;
 	private final BiPredicate<T, String> contains;
 	private final Predicate<GeneralConfig.ItemTooltip> dataEnabled;
 	@Nullable
 	private final Consumer<T>[] callbacks;
 
 	@SafeVarargs
-	protected DataTooltipInfo(String address, Codec<T> codec, boolean cacheable, BiPredicate<T, String> contains, Predicate<GeneralConfig.ItemTooltip> tooltipEnabled, Predicate<GeneralConfig.ItemTooltip> dataEnabled, Consumer<T>... callbacks) {
+	protected DataTooltipInfo(String address, Codec<T> codec, @Nullable JsonStreamDecoder<T> decoder, BiPredicate<T, String> contains, Predicate<GeneralConfig.ItemTooltip> tooltipEnabled, Predicate<GeneralConfig.ItemTooltip> dataEnabled, Consumer<T>... callbacks) {
 		super(tooltipEnabled);
 
 		this.address = address;
 		this.codec = codec;
-		this.cacheable = cacheable;
+		this.decoder = decoder;
 		this.contains = contains;
 		this.dataEnabled = dataEnabled;
 		this.callbacks = callbacks;
@@ -69,29 +76,89 @@ public final class DataTooltipInfo<T> extends SimpleTooltipInfo implements DataT
 	@Override
 	public void run() {
 		try {
-			if (cacheable) {
-				HttpHeaders headers = Http.sendHeadRequest(address);
-				long hash = Http.getEtag(headers).hashCode() + Http.getLastModified(headers).hashCode();
-				if (this.hash == hash) return;
-				else this.hash = hash;
-			}
+			// Serve the last downloaded data right away so that it is available before the first request completes
+			if (data == null) loadFromCache();
+
+			download(decoder != null);
+		} catch (Exception e) {
+			ItemTooltip.LOGGER.warn("[Skyblocker] Failed to download {} data!", this.address, e);
+		}
+	}
 
-			String response = Http.sendGetRequest(address);
+	/**
+	 * @param streaming whether to decode the body with the {@link #decoder} instead of the {@link #codec}
+	 */
+	private void download(boolean streaming) throws IOException, InterruptedException {
+		boolean fallback = false;
 
-			if (response.trim().startsWith("<!DOCTYPE") || response.trim().startsWith("<html")) {
-				ItemTooltip.LOGGER.warn("[Skyblocker] Received HTML content for {}. Expected JSON.", this.address);
+		try (Http.CachedResponse response = Http.sendCachedGetRequest(address)) {
+			if (response.notModified()) {
+				if (data != null) return;
+
+				// The cached body could not be loaded, so request the full body without validators instead
+				HttpCache.invalidate(address);
+				download(streaming);
+				return;
+			}
+
+			if (!response.ok()) {
+				response.discard();
+				ItemTooltip.LOGGER.warn("[Skyblocker] Received status code {} for {}.", response.statusCode(), this.address);
 				return;
 			}
 
-			data = codec.parse(JsonOps.INSTANCE, JsonParser.parseString(response)).getOrThrow();
+			try {
+				T decoded = streaming ? decoder.decode(response.body(), data) : decode(response.body());
+				if (decoded != null) accept(decoded);
+				else response.discard();
+			} catch (Exception e) {
+				response.discard();
+				if (!streaming) throw e;
 
-			if (callbacks != null) {
-				for (Consumer<T> callback : callbacks) {
-					callback.accept(data);
-				}
+				ItemTooltip.LOGGER.warn("[Skyblocker] Failed to stream {} data, falling back to the codec.", this.address, e);
+				fallback = true;
 			}
+		}
+
+		if (fallback) download(false);
+	}
+
+	private void loadFromCache() {
+		try (InputStream cached = HttpCache.getCachedContent(address)) {
+			if (cached == null) return;
+
+			T decoded = decoder != null ? decoder.decode(cached, null) : decode(cached);
+			if (decoded != null) accept(decoded);
 		} catch (Exception e) {
-			ItemTooltip.LOGGER.warn("[Skyblocker] Failed to download {} data!", this.address, e);
+			ItemTooltip.LOGGER.warn("[Skyblocker] Failed to load cached {} data!", this.address, e);
+			HttpCache.invalidate(address);
+		}
+	}
+
+	/**
+	 * Decodes the body through a {@link com.google.gson.JsonElement} tree with the {@link #codec}.
+	 *
+	 * @return the decoded data, or {@code null} if the body is html
+	 */
+	@Nullable
+	private T decode(InputStream body) throws IOException {
+		String content = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+
+		if (content.trim().startsWith("<!DOCTYPE") || content.trim().startsWith("<html")) {
+			ItemTooltip.LOGGER.warn("[Skyblocker] Received HTML content for {}. Expected JSON.", this.address);
+			return null;
+		}
+
+		return codec.parse(JsonOps.INSTANCE, JsonParser.parseString(content)).getOrThrow();
+	}
+
+	private void accept(T data) {
+		this.data = data;
+
+		if (callbacks != null) {
+			for (Consumer<T> callback : callbacks) {
+				callback.accept(data);
+			}
 		}
 	}
 }
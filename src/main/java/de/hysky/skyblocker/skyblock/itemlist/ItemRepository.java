@@ -3,6 +3,7 @@ package de.hysky.skyblocker.skyblock.itemlist;
 import de.hysky.skyblocker.annotations.Init;
 import de.hysky.skyblocker.compatibility.jei.JEICompatibility;
 import de.hysky.skyblocker.compatibility.jei.SkyblockerJEIPlugin;
+import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import de.hysky.skyblocker.events.SkyblockEvents;
 import de.hysky.skyblocker.skyblock.itemlist.recipes.SkyblockCraftingRecipe;
 import de.hysky.skyblocker.skyblock.itemlist.recipes.SkyblockForgeRecipe;
@@ -19,6 +20,7 @@ import net.minecraft.network.packet.s2c.play.SynchronizeRecipesS2CPacket;
 import net.minecraft.recipe.display.CuttingRecipeDisplay;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +34,10 @@ public class ItemRepository {
 	protected static final Logger LOGGER = LoggerFactory.getLogger(ItemRepository.class);
 
 	private static final List<ItemStack> items = new ArrayList<>();
+	/**
+	 * The items of the last import, kept so that the next repository update only has to rebuild the changed items.
+	 */
+	private static List<ImportedItem> importedItems = List.of();
 	private static final Map<String, ItemStack> itemsMap = new HashMap<>();
 	private static final List<SkyblockRecipe> recipes = new ArrayList<>();
 	private static final HashMap<String, @NEUId String> bazaarStocks = new HashMap<>();
@@ -43,6 +49,26 @@ public class ItemRepository {
 
 	private record AfterImportTask(Runnable runnable, boolean async) {}
 
+	record ImportedItem(@NEUId String neuId, ItemStack stack) {}
+
+	/**
+	 * The sort key of an item, computed once per item instead of on every comparison.
+	 */
+	private record SortedItem(String baseId, String skyblockId, ImportedItem item) implements Comparable<SortedItem> {
+		private static final Comparator<SortedItem> COMPARATOR = Comparator.comparing(SortedItem::baseId)
+				.thenComparingInt(sortedItem -> sortedItem.skyblockId().length())
+				.thenComparing(SortedItem::skyblockId);
+
+		private SortedItem(ImportedItem item) {
+			this(getBaseId(item.stack().getSkyblockId()), item.stack().getSkyblockId(), item);
+		}
+
+		@Override
+		public int compareTo(SortedItem other) {
+			return COMPARATOR.compare(this, other);
+		}
+	}
+
 	/**
 	 * Consumers must check this field when accessing `items` and `itemsMap`, or else thread safety is not guaranteed.
 	 */
@@ -54,8 +80,7 @@ public class ItemRepository {
 
 	@Init
 	public static void init() {
-		NEURepoManager.runAsyncAfterLoad(ItemStackBuilder::loadPetNums);
-		NEURepoManager.runAsyncAfterLoad(ItemRepository::importItemFiles);
+		NEURepoManager.runAsyncAfterUpdate(ItemRepository::importItemFiles);
 		NEURepoManager.runAsyncAfterLoad(ItemRepository::loadBazaarStocks);
 		runAsyncAfterImport(ItemRepository::handleRecipeSynchronization);
 		SkyblockEvents.JOIN.register(ItemRepository::handleRecipeSynchronization);
@@ -83,23 +108,53 @@ public class ItemRepository {
 		}
 	}
 
-	private static void importItemFiles() {
+	/**
+	 * Imports the items and recipes of the NEU repository.
+	 *
+	 * @param changedItems the ids of the items that changed since the last import, or {@code null} to import all items
+	 */
+	private static void importItemFiles(@Nullable Set<@NEUId String> changedItems) {
+		// Nothing to rebuild, the previously imported items are still up to date
+		if (filesImported && changedItems != null && changedItems.isEmpty()) return;
+
+		boolean incremental = filesImported && changedItems != null;
+		List<ImportedItem> previousItems = importedItems;
 		itemsImported = false;
 		filesImported = false;
+		long startTime = System.currentTimeMillis();
+
+		// The pet numbers are needed to build the pet items
+		ItemStackBuilder.loadPetNums();
+		String snapshotKey = SkyblockerConfigManager.get().general.itemList.enableItemSnapshot ? ItemSnapshot.getKey() : null;
+		List<ImportedItem> newItems = !incremental && snapshotKey != null ? ItemSnapshot.load(snapshotKey) : null;
+		boolean fromSnapshot = newItems != null;
+		if (!fromSnapshot) {
+			newItems = incremental ? updateItems(previousItems, changedItems) : buildItems();
+			if (snapshotKey != null) {
+				List<ImportedItem> snapshotItems = newItems;
+				CompletableFuture.runAsync(() -> ItemSnapshot.save(snapshotKey, snapshotItems));
+			}
+		}
 
 		items.clear();
 		itemsMap.clear();
 		recipes.clear();
 
-		NEURepoManager.forEachItem(ItemRepository::loadItem);
-		items.sort(Comparator.<ItemStack, String>comparing(stack -> stack.getSkyblockId().replaceAll(".\\d+$", ""))
-				.thenComparingInt(stack -> stack.getSkyblockId().length())
-				.thenComparing(ItemStack::getSkyblockId)
-		);
+		for (ImportedItem item : newItems) {
+			items.add(item.stack());
+			itemsMap.put(item.neuId(), item.stack());
+		}
+		importedItems = newItems;
 		itemsImported = true;
 
-		NEURepoManager.forEachItem(ItemRepository::loadRecipes);
+		// Recipes look up their ingredients in itemsMap, so they can only be converted after all items are imported
+		recipes.addAll(NEURepoManager.getItems().parallelStream()
+				.flatMap(item -> item.getRecipes().stream())
+				.map(ItemRepository::toSkyblockRecipe)
+				.filter(Objects::nonNull)
+				.toList());
 		filesImported = true;
+		LOGGER.info("[Skyblocker Item Repo Loader] Imported {} items{} and {} recipes in {} ms", items.size(), fromSnapshot ? " from the snapshot" : incremental ? " (" + changedItems.size() + " changed)" : "", recipes.size(), System.currentTimeMillis() - startTime);
 
 		afterImportTasks.forEach(task -> {
 			if (task.async) {
@@ -117,7 +172,51 @@ public class ItemRepository {
 		});
 	}
 
-	private static void loadItem(NEUItem item) {
+	/**
+	 * Builds all items in parallel. Each worker collects into its own list, and the lists are merged and sorted at the end.
+	 *
+	 * @return the items in their display order
+	 */
+	private static List<ImportedItem> buildItems() {
+		return sort(NEURepoManager.getItems().parallelStream()
+				.map(ItemRepository::loadItem)
+				.filter(Objects::nonNull));
+	}
+
+	/**
+	 * Rebuilds only the changed items in parallel and keeps the previously built stacks of all other items.
+	 * Changed items that no longer exist in the repository are removed.
+	 *
+	 * @return the items in their display order
+	 */
+	private static List<ImportedItem> updateItems(List<ImportedItem> previousItems, Set<@NEUId String> changedItems) {
+		Stream<ImportedItem> unchangedItems = previousItems.stream().filter(item -> !changedItems.contains(item.neuId()));
+		Stream<ImportedItem> rebuiltItems = changedItems.parallelStream()
+				.map(NEURepoManager::getItemByNeuId)
+				.filter(Objects::nonNull)
+				.map(ItemRepository::loadItem)
+				.filter(Objects::nonNull);
+
+		return sort(Stream.concat(unchangedItems, rebuiltItems).parallel());
+	}
+
+	private static List<ImportedItem> sort(Stream<ImportedItem> items) {
+		SortedItem[] sortedItems = items
+				.map(SortedItem::new)
+				.collect(ArrayList<SortedItem>::new, ArrayList::add, ArrayList::addAll)
+				.toArray(SortedItem[]::new);
+		Arrays.parallelSort(sortedItems);
+
+		List<ImportedItem> importedItems = new ArrayList<>(sortedItems.length);
+		for (SortedItem sortedItem : sortedItems) {
+			importedItems.add(sortedItem.item());
+		}
+
+		return importedItems;
+	}
+
+	@Nullable
+	private static ImportedItem loadItem(NEUItem item) {
 		try {
 			ItemStack stack = ItemStackBuilder.fromNEUItem(item);
 			StackOverlays.applyOverlay(item, stack);
@@ -126,15 +225,26 @@ public class ItemRepository {
 				ItemUtils.getCustomData(stack).putString("id", "ENCHANTED_BOOK");
 			}
 
-			items.add(stack);
-			itemsMap.put(item.getSkyblockItemId(), stack);
+			return new ImportedItem(item.getSkyblockItemId(), stack);
 		} catch (Exception e) {
 			LOGGER.error("[Skyblocker Item Repo Loader] Failed to load item, please report this! Skyblock Id: {}", item.getSkyblockItemId(), e);
+			return null;
 		}
 	}
 
-	private static void loadRecipes(NEUItem item) {
-		item.getRecipes().stream().map(ItemRepository::toSkyblockRecipe).filter(Objects::nonNull).forEach(recipes::add);
+	/**
+	 * Removes the trailing number and the character before it from the id, so that tiers of an item are sorted together.
+	 * Equivalent to {@code id.replaceAll(".\\d+$", "")}.
+	 */
+	@VisibleForTesting
+	static String getBaseId(String id) {
+		int digits = id.length();
+		while (digits > 0 && id.charAt(digits - 1) >= '0' && id.charAt(digits - 1) <= '9') digits--;
+
+		if (digits == id.length()) return id;
+		if (digits > 0) return id.substring(0, digits - 1);
+		// The id only consists of digits, so the first digit is removed along with the rest if there is more than one
+		return id.length() > 1 ? "" : id;
 	}
 
 	private static void loadBazaarStocks() {
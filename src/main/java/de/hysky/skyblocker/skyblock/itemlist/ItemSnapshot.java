@@ -0,0 +1,115 @@
+package de.hysky.skyblocker.skyblock.itemlist;
+
+import de.hysky.skyblocker.SkyblockerMod;
+import de.hysky.skyblocker.utils.NEURepoManager;
+import de.hysky.skyblocker.utils.Utils;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.NbtSizeTracker;
+import net.minecraft.registry.RegistryOps;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A binary snapshot of the items built from the NEU repository, so that a restart without repository changes can skip building the items.
+ * <p>
+ * The snapshot is keyed by the commit of the repository and the mod version, since both change how the items are built.
+ * Recipes are not part of the snapshot, since they only wrap copies of the items and are cheap to build.
+ */
+class ItemSnapshot {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ItemSnapshot.class);
+	private static final String KEY = "key";
+	private static final String ITEMS = "items";
+	private static final String NEU_ID = "neuId";
+	private static final String STACK = "stack";
+
+	private static Path getSnapshotFile() {
+		return SkyblockerMod.CONFIG_DIR.resolve("item_repo_snapshot.nbt");
+	}
+
+	/**
+	 * @return the key of the snapshot for the current repository, or {@code null} if the commit of the repository is unknown
+	 */
+	@Nullable
+	static String getKey() {
+		String commit = NEURepoManager.getCommit();
+		return commit != null ? commit + "/" + SkyblockerMod.VERSION : null;
+	}
+
+	/**
+	 * @return the items of the snapshot in their sorted order, or {@code null} if there is no valid snapshot for the key
+	 */
+	@Nullable
+	static List<ItemRepository.ImportedItem> load(String key) {
+		return read(getSnapshotFile(), key);
+	}
+
+	static void save(String key, List<ItemRepository.ImportedItem> items) {
+		write(getSnapshotFile(), key, items);
+	}
+
+	@VisibleForTesting
+	@Nullable
+	static List<ItemRepository.ImportedItem> read(Path file, String key) {
+		try {
+			NbtCompound snapshot = NbtIo.readCompressed(file, NbtSizeTracker.ofUnlimitedBytes());
+			if (!key.equals(snapshot.getString(KEY, ""))) return null;
+
+			RegistryOps<NbtElement> ops = Utils.getRegistryWrapperLookup().getOps(NbtOps.INSTANCE);
+			NbtList itemsNbt = snapshot.getListOrEmpty(ITEMS);
+			List<ItemRepository.ImportedItem> items = new ArrayList<>(itemsNbt.size());
+
+			for (NbtElement element : itemsNbt) {
+				NbtCompound item = (NbtCompound) element;
+				ItemStack stack = ItemStack.CODEC.parse(ops, item.get(STACK)).getOrThrow();
+				items.add(new ItemRepository.ImportedItem(item.getString(NEU_ID, ""), stack));
+			}
+
+			return items;
+		} catch (NoSuchFileException ignored) {
+		} catch (Exception e) {
+			// An outdated or corrupted snapshot is simply rebuilt
+			LOGGER.warn("[Skyblocker Item Repo Loader] Failed to read the item snapshot", e);
+		}
+
+		return null;
+	}
+
+	@VisibleForTesting
+	static void write(Path file, String key, List<ItemRepository.ImportedItem> items) {
+		try {
+			RegistryOps<NbtElement> ops = Utils.getRegistryWrapperLookup().getOps(NbtOps.INSTANCE);
+			NbtList itemsNbt = new NbtList();
+
+			for (ItemRepository.ImportedItem item : items) {
+				NbtCompound itemNbt = new NbtCompound();
+				itemNbt.putString(NEU_ID, item.neuId());
+				itemNbt.put(STACK, ItemStack.CODEC.encodeStart(ops, item.stack()).getOrThrow());
+				itemsNbt.add(itemNbt);
+			}
+
+			NbtCompound snapshot = new NbtCompound();
+			snapshot.putString(KEY, key);
+			snapshot.put(ITEMS, itemsNbt);
+
+			Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+			NbtIo.writeCompressed(snapshot, tempFile);
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (Exception e) {
+			LOGGER.error("[Skyblocker Item Repo Loader] Failed to save the item snapshot", e);
+		}
+	}
+}
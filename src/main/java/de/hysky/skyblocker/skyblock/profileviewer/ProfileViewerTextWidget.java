@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.PriorityQueue;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class ProfileViewerTextWidget {
 	private static final int ROW_GAP = 9;
@@ -33,8 +34,10 @@ public class ProfileViewerTextWidget {
 	private int SKYBLOCK_LEVEL = 0;
 	private double PURSE = 0;
 	private double BANK = 0;
-	private double NETWORTH = 0;
-	private List<Text> networthTooltip = List.of();
+	/**
+	 * The networth decodes every container, so it is computed on a background thread and shown once done.
+	 */
+	private final CompletableFuture<Networth> networth;
 
 	public ProfileViewerTextWidget(JsonObject hypixelProfile, JsonObject playerProfile) {
 		try {
@@ -44,10 +47,11 @@ public class ProfileViewerTextWidget {
 			this.BANK = hypixelProfile.getAsJsonObject("banking").get("balance").getAsDouble();
 		} catch (Exception ignored) {}
 
-		this.NETWORTH = PURSE + BANK + getItemsNetworth(playerProfile);
+		double coins = PURSE + BANK;
+		this.networth = CompletableFuture.supplyAsync(() -> getItemsNetworth(playerProfile, coins));
 	}
 
-	private double getItemsNetworth(JsonObject playerProfile) {
+	private Networth getItemsNetworth(JsonObject playerProfile, double coins) {
 		double value = 0;
 		PriorityQueue<ItemValue> top = new PriorityQueue<>(Comparator.comparingDouble(ItemValue::price));
 		try {
@@ -110,9 +114,8 @@ public class ProfileViewerTextWidget {
 			tooltip.add(Text.literal(iv.name + ": ")
 					.append(Text.literal(ProfileViewerUtils.numLetterFormat(iv.price)).formatted(Formatting.YELLOW)));
 		}
-		this.networthTooltip = tooltip;
 
-		return value;
+		return new Networth(coins + value, tooltip);
 	}
 
 	private double addItemNetworth(PriorityQueue<ItemValue> top, ItemStack stack) {
@@ -138,15 +141,18 @@ public class ProfileViewerTextWidget {
 		context.drawText(textRenderer, "§aLevel:§r " + SKYBLOCK_LEVEL, root_x + 2, root_y + 6 + ROW_GAP, Colors.WHITE, true);
 		context.drawText(textRenderer, "§6Purse:§r " + ProfileViewerUtils.numLetterFormat(PURSE), root_x + 2, root_y + 6 + ROW_GAP * 2, Colors.WHITE, true);
 		context.drawText(textRenderer, "§6Bank:§r " + ProfileViewerUtils.numLetterFormat(BANK), root_x + 2, root_y + 6 + ROW_GAP * 3, Colors.WHITE, true);
-		String nwString = "§6NW:§r " + ProfileViewerUtils.numLetterFormat(NETWORTH);
+		Networth nw = networth.getNow(null);
+		String nwString = "§6NW:§r " + (nw != null ? ProfileViewerUtils.numLetterFormat(nw.value()) : "Loading...");
 		int nwX = root_x + 2;
 		int nwY = root_y + 6 + ROW_GAP * 4;
 		context.drawText(textRenderer, nwString, nwX, nwY, Colors.WHITE, true);
-		if (mouseX >= nwX && mouseX <= nwX + textRenderer.getWidth(nwString)
+		if (nw != null && mouseX >= nwX && mouseX <= nwX + textRenderer.getWidth(nwString)
 				&& mouseY >= nwY && mouseY <= nwY + textRenderer.fontHeight) {
-			context.drawTooltip(textRenderer, networthTooltip, mouseX, mouseY);
+			context.drawTooltip(textRenderer, nw.tooltip(), mouseX, mouseY);
 		}
 	}
 
 	private record ItemValue(String name, double price) {}
+
+	private record Networth(double value, List<Text> tooltip) {}
 }
@@ -6,6 +6,7 @@ import de.hysky.skyblocker.skyblock.item.ItemProtection;
 import de.hysky.skyblocker.skyblock.item.background.ItemBackgroundManager;
 import de.hysky.skyblocker.skyblock.item.slottext.SlotTextManager;
 import de.hysky.skyblocker.skyblock.profileviewer.ProfileViewerPage;
+import de.hysky.skyblocker.skyblock.profileviewer.ProfileViewerScreen;
 import de.hysky.skyblocker.skyblock.profileviewer.inventory.itemLoaders.ItemLoader;
 import it.unimi.dsi.fastutil.ints.IntIntPair;
 import net.minecraft.client.MinecraftClient;
@@ -19,11 +20,13 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.item.tooltip.TooltipType;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class Inventory implements ProfileViewerPage {
     private static final Identifier TEXTURE = Identifier.of("textures/gui/container/generic_54.png");
@@ -31,7 +34,13 @@ public class Inventory implements ProfileViewerPage {
     private static final TextRenderer textRenderer = CLIENT.textRenderer;
     private final IntIntPair dimensions;
     private final int itemsPerPage;
-    private final List<ItemStack> containerList;
+    private final JsonObject inventory;
+    private final ItemLoader itemLoader;
+    /**
+     * The items of the container, which are decoded the first time the container is shown.
+     */
+    @Nullable
+    private CompletableFuture<List<ItemStack>> containerItems;
     private final String containerName;
     private int activePage = 0;
     private int totalPages = 1;
@@ -46,8 +55,23 @@ public class Inventory implements ProfileViewerPage {
         containerName = name;
         this.dimensions = dimensions;
         itemsPerPage = dimensions.rightInt() * dimensions.leftInt();
-        this.containerList = itemLoader.loadItems(inventory);
-        this.totalPages = (int) Math.ceil((double) containerList.size() / itemsPerPage);
+        this.inventory = inventory;
+        this.itemLoader = itemLoader;
+    }
+
+    /**
+     * Starts decoding the items if they have not been yet, and returns them once they have been decoded.
+     */
+    @Nullable
+    private List<ItemStack> getContainerList() {
+        if (containerItems == null) {
+            containerItems = itemLoader.loadItemsAsync(inventory).exceptionally(e -> {
+                ProfileViewerScreen.LOGGER.error("[Skyblocker Profile Viewer] Failed to load items for container {}", containerName, e);
+                return List.of();
+            });
+        }
+
+        return containerItems.getNow(null);
     }
 
     public void render(DrawContext context, int mouseX, int mouseY, float delta, int rootX, int rootY) {
@@ -59,6 +83,13 @@ public class Inventory implements ProfileViewerPage {
 
         context.drawText(textRenderer,  I18n.translate("skyblocker.profileviewer.inventory." + containerName), rootX + 7, rootYAdjusted + 7, Color.DARK_GRAY.getRGB(), false);
 
+        List<ItemStack> containerList = getContainerList();
+        if (containerList == null) {
+            context.drawCenteredTextWithShadow(textRenderer, "Loading...", rootX + 88, rootYAdjusted + dimensions.leftInt() * 9 + 13, Color.WHITE.getRGB());
+            return;
+        }
+        totalPages = (int) Math.ceil((double) containerList.size() / itemsPerPage);
+
         if (containerList.size() > itemsPerPage) {
             previousPage.setX(rootX + 44);
             previousPage.setY(rootY + 136);
@@ -6,6 +6,7 @@ import de.hysky.skyblocker.skyblock.item.ItemProtection;
 import de.hysky.skyblocker.skyblock.item.background.ItemBackgroundManager;
 import de.hysky.skyblocker.skyblock.item.slottext.SlotTextManager;
 import de.hysky.skyblocker.skyblock.profileviewer.ProfileViewerPage;
+import de.hysky.skyblocker.skyblock.profileviewer.ProfileViewerScreen;
 import de.hysky.skyblocker.skyblock.profileviewer.inventory.itemLoaders.InventoryItemLoader;
 import it.unimi.dsi.fastutil.ints.IntIntPair;
 import net.minecraft.client.MinecraftClient;
@@ -18,20 +19,28 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.item.tooltip.TooltipType;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 
 import java.awt.*;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class PlayerInventory implements ProfileViewerPage {
     private static final Identifier TEXTURE = Identifier.of("textures/gui/container/generic_54.png");
     private static final MinecraftClient CLIENT = MinecraftClient.getInstance();
     private static final TextRenderer textRenderer = CLIENT.textRenderer;
-    private final List<ItemStack> containerList;
+    private final JsonObject inventory;
+    /**
+     * The items of the inventory, which are decoded the first time the inventory is shown.
+     */
+    @Nullable
+    private CompletableFuture<List<ItemStack>> containerItems;
+    private List<ItemStack> containerList = List.of();
     private List<Text> tooltip = Collections.emptyList();
 
     public PlayerInventory(JsonObject inventory) {
-        this.containerList = new InventoryItemLoader().loadItems(inventory);
+        this.inventory = inventory;
     }
 
     // Z-STACKING forces this nonsense of separating the Background texture and Item Drawing :(
@@ -40,6 +49,17 @@ public class PlayerInventory implements ProfileViewerPage {
         drawContainerTextures(context, "inventory", rootX, rootY + 2, IntIntPair.of(4, 9));
         drawContainerTextures(context, "equipment", rootX + 90, rootY + 108, IntIntPair.of(1, 4));
 
+        if (containerItems == null) {
+            containerItems = new InventoryItemLoader().loadItemsAsync(inventory).exceptionally(e -> {
+                ProfileViewerScreen.LOGGER.error("[Skyblocker Profile Viewer] Failed to load inventory items", e);
+                return List.of();
+            });
+        }
+        if (!containerItems.isDone()) return;
+        containerList = containerItems.join();
+        // Inventories that failed to load have no items to draw
+        if (containerList.size() < 40) return;
+
         tooltip.clear();
         drawContainerItems(context, rootX, rootY + 108, IntIntPair.of(1, 4), 36, 40, mouseX, mouseY);
         drawContainerItems(context, rootX, rootY + 2, IntIntPair.of(4, 9), 0, 36, mouseX, mouseY);
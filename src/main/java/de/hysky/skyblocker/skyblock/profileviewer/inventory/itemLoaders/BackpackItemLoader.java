@@ -25,8 +25,9 @@ public class BackpackItemLoader extends ItemLoader {
                     return Integer.compare(key1, key2);
                 }).toList();
 
-        for (int i = 0; i < sortedEntries.size(); i++) {
-            backpackItems.addAll(super.loadItems(sortedEntries.get(i).getValue().getAsJsonObject()));
+        List<List<ItemStack>> backpacks = loadContainers(sortedEntries.stream().map(entry -> entry.getValue().getAsJsonObject()).toList());
+        for (List<ItemStack> backpack : backpacks) {
+            backpackItems.addAll(backpack);
             int paddingNeeded = (45 - (backpackItems.size() % 45)) % 45;
             for (int j = 0; j < paddingNeeded; j++) {
                 ItemStack paddingItem = Ico.GRAY_DYE.copy();
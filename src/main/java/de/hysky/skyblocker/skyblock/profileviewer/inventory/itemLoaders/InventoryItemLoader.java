@@ -4,6 +4,7 @@ import com.google.gson.JsonObject;
 import net.minecraft.item.ItemStack;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class InventoryItemLoader extends ItemLoader {
@@ -13,9 +14,10 @@ public class InventoryItemLoader extends ItemLoader {
     @Override
     public List<ItemStack> loadItems(JsonObject data) {
         List<ItemStack> inventoryItems = new ArrayList<>();
-        for (String inventory : INVENTORIES) {
-            List<ItemStack> inv = super.loadItems(data.getAsJsonObject(inventory));
-            switch (inventory) {
+        List<List<ItemStack>> inventories = loadContainers(Arrays.stream(INVENTORIES).map(data::getAsJsonObject).toList());
+        for (int i = 0; i < INVENTORIES.length; i++) {
+            List<ItemStack> inv = inventories.get(i);
+            switch (INVENTORIES[i]) {
                 case "inv_armor" -> inventoryItems.addAll(inv.reversed());
                 case "inv_contents" -> {
                         inventoryItems.addAll(inv.subList(9, inv.size()));
@@ -1,5 +1,8 @@
 package de.hysky.skyblocker.skyblock.profileviewer.inventory.itemLoaders;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.mojang.serialization.JsonOps;
@@ -17,12 +20,77 @@ import net.minecraft.text.Text;
 import net.minecraft.util.Util;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 public class ItemLoader {
+    /**
+     * The decoded items of each container by its base64 encoded data, so containers that have not changed are not decoded again,
+     * which makes reopening a player within {@link de.hysky.skyblocker.utils.ProfileUtils}' 5-minute cache window instant.
+     * The cache is bounded by the total number of items. Only containers that were decoded successfully are cached.
+     * The cached lists and stacks are never handed out, since the loaders and the networth calculation modify them, only copies of them are.
+     */
+    private static final Cache<String, List<ItemStack>> DECODED_CONTAINERS = CacheBuilder.newBuilder()
+            .maximumWeight(20_000)
+            .<String, List<ItemStack>>weigher((data, items) -> Math.max(1, items.size()))
+            .expireAfterAccess(5, TimeUnit.MINUTES)
+            .build();
 
     public List<ItemStack> loadItems(JsonObject data) {
-        NbtList containerContent = decompress(data);
+        return loadContainer(data);
+    }
+
+    /**
+     * Starts loading the items on a background thread.
+     */
+    public CompletableFuture<List<ItemStack>> loadItemsAsync(JsonObject data) {
+        return CompletableFuture.supplyAsync(() -> loadItems(data));
+    }
+
+    /**
+     * Returns a copy of the decoded items of the container, decoding them if they are not cached.
+     */
+    protected static List<ItemStack> loadContainer(JsonObject data) {
+        String encoded = data.get("data").getAsString();
+
+        try {
+            return copyItems(DECODED_CONTAINERS.get(encoded, () -> decodeContainer(encoded)));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            ProfileViewerScreen.LOGGER.error("[Skyblocker Profile Viewer] Failed to load container items", e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * @return a mutable list of copies of the stacks, so that cached stacks are never shared
+     */
+    protected static List<ItemStack> copyItems(List<ItemStack> items) {
+        List<ItemStack> copies = new ArrayList<>(items.size());
+        for (ItemStack item : items) {
+            copies.add(item.copy());
+        }
+        return copies;
+    }
+
+    /**
+     * Decodes the containers in parallel, returning copies of their items in the same order as the containers.
+     */
+    protected static List<List<ItemStack>> loadContainers(List<JsonObject> containers) {
+        List<CompletableFuture<List<ItemStack>>> futures = containers.stream()
+                .map(container -> CompletableFuture.supplyAsync(() -> loadContainer(container)))
+                .toList();
+
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * @throws IOException if the data cannot be decompressed, so that the failure is not cached
+     */
+    private static List<ItemStack> decodeContainer(String encoded) throws IOException {
+        NbtList containerContent = decompress(encoded);
         List<ItemStack> itemList = new ArrayList<>();
 
         for (int i = 0; i < containerContent.size(); i++) {
@@ -61,15 +129,14 @@ public class ItemLoader {
             itemList.add(stack);
         }
 
-        return itemList;
+        return Collections.unmodifiableList(itemList);
     }
 
-    private static NbtList decompress(JsonObject data) {
+    private static NbtList decompress(String encoded) throws IOException {
         try {
-            return NbtIo.readCompressed(new ByteArrayInputStream(Base64.getDecoder().decode(data.get("data").getAsString())), NbtSizeTracker.ofUnlimitedBytes()).getListOrEmpty("i");
-        } catch (Exception e) {
-            ProfileViewerScreen.LOGGER.error("[Skyblocker Profile Viewer] Failed to decompress item data", e);
+            return NbtIo.readCompressed(new ByteArrayInputStream(Base64.getDecoder().decode(encoded)), NbtSizeTracker.ofUnlimitedBytes()).getListOrEmpty("i");
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid base64 item data", e);
         }
-        return null;
     }
 }
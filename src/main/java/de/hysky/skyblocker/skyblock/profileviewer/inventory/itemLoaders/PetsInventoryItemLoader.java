@@ -1,7 +1,10 @@
 package de.hysky.skyblocker.skyblock.profileviewer.inventory.itemLoaders;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.mojang.serialization.JsonOps;
 import de.hysky.skyblocker.skyblock.item.PetInfo;
 import de.hysky.skyblocker.skyblock.profileviewer.ProfileViewerScreen;
@@ -11,30 +14,42 @@ import net.minecraft.item.ItemStack;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 public class PetsInventoryItemLoader extends ItemLoader {
+    /**
+     * The sorted pet icons of each pets array. The arrays are keyed by identity, since {@link de.hysky.skyblocker.utils.ProfileUtils} returns the same profile
+     * while it is cached, so reopening a player does not parse every pet again. Only copies of the cached stacks are handed out.
+     */
+    private static final Cache<JsonArray, List<ItemStack>> LOADED_PETS = CacheBuilder.newBuilder()
+            .weakKeys()
+            .expireAfterAccess(5, TimeUnit.MINUTES)
+            .build();
+
     @Override
     public List<ItemStack> loadItems(JsonObject data) {
-        List<Pet> petList = new ArrayList<>();
+        JsonObject petsData = data.getAsJsonObject("pets_data");
+        if (petsData == null || !petsData.has("pets")) return new ArrayList<>();
+
         try {
-            JsonObject petsData = data.getAsJsonObject("pets_data");
-            if (petsData != null && petsData.has("pets")) {
-                for (var petElement : petsData.get("pets").getAsJsonArray()) {
-                    PetInfo petInfo = PetInfo.CODEC.parse(JsonOps.INSTANCE, JsonParser.parseString(petElement.toString())).getOrThrow();
-                    petList.add(new Pet(petInfo));
-                }
-            }
-        } catch (Exception e) {
+            JsonArray pets = petsData.getAsJsonArray("pets");
+            return copyItems(LOADED_PETS.get(pets, () -> loadPets(pets)));
+        } catch (ExecutionException | UncheckedExecutionException | IllegalStateException e) {
             ProfileViewerScreen.LOGGER.error("[Skyblocker Profile Viewer] Failed to load pets", e);
+            return new ArrayList<>();
         }
+    }
+
+    private static List<ItemStack> loadPets(JsonArray pets) {
+        // Pets are parsed in parallel, like the containers in loadContainers
+        List<Pet> petList = new ArrayList<>(pets.asList().parallelStream()
+                .map(petElement -> new Pet(PetInfo.CODEC.parse(JsonOps.INSTANCE, petElement).getOrThrow()))
+                .toList());
 
         // Sort pets by tier (in reverse order) and level (in reverse order)
         petList.sort(Comparator.comparingInt(Pet::getTier).thenComparingInt(Pet::getLevel).reversed());
 
-        List<ItemStack> itemList = new ArrayList<>();
-        for (Pet pet : petList) {
-            itemList.add(pet.getIcon());
-        }
-        return itemList;
+        return petList.stream().map(Pet::getIcon).toList();
     }
 }
@@ -21,9 +21,12 @@ public class WardrobeInventoryItemLoader extends ItemLoader {
         List<ItemStack> itemList = new ArrayList<>();
 
         try {
-            itemList.addAll(super.loadItems(data));
-            if (activeSlot != -1) {
-                List<ItemStack> activeArmour = super.loadItems(activeArmorSet).reversed();
+            if (activeSlot == -1) {
+                itemList.addAll(loadContainer(data));
+            } else {
+                List<List<ItemStack>> containers = loadContainers(List.of(data, activeArmorSet));
+                itemList.addAll(containers.get(0));
+                List<ItemStack> activeArmour = containers.get(1).reversed();
                 for (int i = 0; i < 4; i++) {
                     int baseIndex = (activeSlot - 1) % 9;
                     int page = (activeSlot - 1) / 9;
@@ -9,6 +9,7 @@ import de.hysky.skyblocker.skyblock.slayers.boss.vampire.StakeIndicator;
 import de.hysky.skyblocker.skyblock.slayers.boss.vampire.TwinClawsIndicator;
 import de.hysky.skyblocker.utils.Area;
 import de.hysky.skyblocker.utils.Location;
+import de.hysky.skyblocker.utils.Sidebar;
 import de.hysky.skyblocker.utils.Utils;
 import de.hysky.skyblocker.utils.mayor.MayorUtils;
 import de.hysky.skyblocker.utils.render.title.Title;
@@ -25,8 +26,6 @@ import net.minecraft.sound.SoundEvents;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.math.Box;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -42,7 +41,6 @@ import java.util.regex.Pattern;
  * {@link #checkSlayerBoss(ArmorStandEntity)} processes the given armor stand and detects if it is a slayer boss or miniboss.</p>
  */
 public class SlayerManager {
-	private static final Logger LOGGER = LoggerFactory.getLogger(SlayerManager.class);
 	private static final MinecraftClient CLIENT = MinecraftClient.getInstance();
 	private static final Pattern SLAYER_PATTERN = Pattern.compile("Revenant Horror|Atoned Horror|Tarantula Broodfather|Sven Packmaster|Voidgloom Seraph|Inferno Demonlord|Bloodfiend");
 	private static final Pattern SLAYER_TIER_PATTERN = Pattern.compile("^(Revenant Horror|Tarantula Broodfather|Sven Packmaster|Voidgloom Seraph|Inferno Demonlord|Riftstalker Bloodfiend)\\s+(I|II|III|IV|V)$");
@@ -149,23 +147,24 @@ public class SlayerManager {
 		slayerQuest.bossesNeeded = (int) Math.ceil((double) slayerQuest.xpRemaining / xpPerTier);
 	}
 
+	/**
+	 * Updates the slayer quest from the quest parsed by {@link Sidebar}.
+	 */
 	public static void getSlayerBossInfo(boolean checkStatus) {
 		if (checkStatus && slayerQuest == null) return;
-		try {
-			for (String line : Utils.STRING_SCOREBOARD) {
-				Matcher matcher = SLAYER_TIER_PATTERN.matcher(line);
-				if (matcher.find()) {
-					if (slayerQuest == null || !matcher.group(1).equals(slayerQuest.slayerType.bossName) || !matcher.group(2).equals(slayerQuest.slayerTier.name())) {
-						slayerQuest = new SlayerQuest();
-					}
-					slayerQuest.slayerType = SlayerType.fromBossName(matcher.group(1));
-					slayerQuest.slayerTier = SlayerTier.valueOf(matcher.group(2));
-				} else if (line.equals("Slay the boss!") && !isBossSpawned()) {
-					bossFight = new BossFight(null);
-				}
+		String quest = Sidebar.getSlayerQuest();
+		if (quest == null) return;
+
+		Matcher matcher = SLAYER_TIER_PATTERN.matcher(quest);
+		if (matcher.matches()) {
+			if (slayerQuest == null || !matcher.group(1).equals(slayerQuest.slayerType.bossName) || !matcher.group(2).equals(slayerQuest.slayerTier.name())) {
+				slayerQuest = new SlayerQuest();
 			}
-		} catch (IndexOutOfBoundsException e) {
-			LOGGER.error("[Skyblocker] Failed to get slayer boss info", e);
+			slayerQuest.slayerType = SlayerType.fromBossName(matcher.group(1));
+			slayerQuest.slayerTier = SlayerTier.valueOf(matcher.group(2));
+		}
+		if ("Slay the boss!".equals(Sidebar.getSlayerQuestProgress()) && !isBossSpawned()) {
+			bossFight = new BossFight(null);
 		}
 	}
 
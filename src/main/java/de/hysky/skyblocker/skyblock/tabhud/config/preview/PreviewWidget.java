@@ -5,6 +5,7 @@ import de.hysky.skyblocker.mixins.accessors.InGameHudInvoker;
 import de.hysky.skyblocker.skyblock.tabhud.screenbuilder.ScreenBuilder;
 import de.hysky.skyblocker.skyblock.tabhud.screenbuilder.WidgetManager;
 import de.hysky.skyblocker.skyblock.tabhud.screenbuilder.pipeline.PositionRule;
+import de.hysky.skyblocker.skyblock.tabhud.widget.ComponentBasedWidget;
 import de.hysky.skyblocker.skyblock.tabhud.widget.HudWidget;
 import de.hysky.skyblocker.utils.render.HudHelper;
 import net.minecraft.client.MinecraftClient;
@@ -23,6 +24,7 @@ import org.lwjgl.glfw.GLFW;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -48,6 +50,13 @@ public class PreviewWidget extends ClickableWidget {
 	 */
 	private @Nullable ScreenPos selectedOriginalPos = null;
 	protected boolean pickParent = false;
+	/**
+	 * Moving averages of the nanoseconds spent per frame drawing the widgets with and without cached composites.
+	 * The preview alternates between both paths every frame, which draw the same widgets.
+	 */
+	private double cachedNanos = 0;
+	private double uncachedNanos = 0;
+	private boolean drawCached = false;
 
 	public PreviewWidget(PreviewTab tab) {
 		super(0, 0, 0, 0, Text.literal("Preview widget"));
@@ -72,7 +81,20 @@ public class PreviewWidget extends ClickableWidget {
 		matrices.translate(getX(), getY());
 		matrices.scale(scaledRatio, scaledRatio);
 
-		screenBuilder.renderWidgets(context, tab.getCurrentScreenLayer());
+		drawCached = !drawCached;
+		ComponentBasedWidget.setCacheCompositesOverride(drawCached);
+		long drawStart = System.nanoTime();
+		try {
+			screenBuilder.renderWidgets(context, tab.getCurrentScreenLayer());
+		} finally {
+			ComponentBasedWidget.setCacheCompositesOverride(null);
+		}
+		long drawNanos = System.nanoTime() - drawStart;
+		if (drawCached) {
+			cachedNanos = cachedNanos * 0.9 + drawNanos * 0.1;
+		} else {
+			uncachedNanos = uncachedNanos * 0.9 + drawNanos * 0.1;
+		}
 
 		float localMouseX = (mouseX - getX()) / scaledRatio;
 		float localMouseY = (mouseY - getY()) / scaledRatio;
@@ -141,6 +163,13 @@ public class PreviewWidget extends ClickableWidget {
 		((InGameHudInvoker) MinecraftClient.getInstance().inGameHud).skyblocker$renderSidebar(context, tab.placeHolderObjective);
 		matrices.popMatrix();
 		context.disableScissor();
+
+		context.drawText(MinecraftClient.getInstance().textRenderer, getFrameTimeText(), getX(), getBottom() + 3, Colors.GRAY, true);
+	}
+
+	private Text getFrameTimeText() {
+		return Text.translatable("skyblocker.config.uiAndVisuals.tabHud.cacheWidgetComposites.frameTime",
+				String.format(Locale.ENGLISH, "%.1f", cachedNanos / 1000), String.format(Locale.ENGLISH, "%.1f", uncachedNanos / 1000));
 	}
 
 	private void renderUnits(DrawContext context, PositionRule rule, int deltaX, int deltaY, int thisAnchorX, int thisAnchorY, int translatedX, int translatedY) {
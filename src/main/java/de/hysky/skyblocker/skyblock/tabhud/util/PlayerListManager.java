@@ -1,7 +1,9 @@
 package de.hysky.skyblocker.skyblock.tabhud.util;
 
 import com.mojang.authlib.GameProfile;
+import de.hysky.skyblocker.annotations.Init;
 import de.hysky.skyblocker.config.SkyblockerConfigManager;
+import de.hysky.skyblocker.events.SkyblockEvents;
 import de.hysky.skyblocker.mixins.accessors.PlayerListHudAccessor;
 import de.hysky.skyblocker.skyblock.tabhud.config.WidgetsConfigurationScreen;
 import de.hysky.skyblocker.skyblock.tabhud.screenbuilder.WidgetManager;
@@ -13,14 +15,20 @@ import it.unimi.dsi.fastutil.ints.IntObjectPair;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectObjectMutablePair;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayNetworkHandler;
 import net.minecraft.client.network.PlayerListEntry;
+import net.minecraft.network.packet.s2c.play.PlayerListS2CPacket;
 import net.minecraft.text.MutableText;
+import net.minecraft.text.StringVisitable;
 import net.minecraft.text.Style;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,14 +41,18 @@ import java.util.regex.Pattern;
 
 /**
  * This class may be used to get data from the player list. It doesn't get its
- * data every frame, instead, a scheduler is used to update the data this class
- * is holding periodically. The list is sorted like in the vanilla game.
+ * data every frame, instead, the data this class is holding is updated at the end
+ * of the tick in which a player list packet changed it. The list is sorted like in the vanilla game.
  */
 public class PlayerListManager {
 
 	public static final Logger LOGGER = LoggerFactory.getLogger("Skyblocker Regex");
 	private static final Pattern PLAYERS_COLUMN_PATTERN = Pattern.compile("\\s*(Players \\(\\d+\\)|Island|Coop \\(\\d+\\))\\s*");
 	private static final Pattern INFO_COLUMN_PATTERN = Pattern.compile("\\s*Info\\s*");
+	/**
+	 * The actions that change what an entry shows in the tab or where it is sorted. Latency and chat session updates are ignored.
+	 */
+	private static final EnumSet<PlayerListS2CPacket.Action> DISPLAY_ACTIONS = EnumSet.of(PlayerListS2CPacket.Action.ADD_PLAYER, PlayerListS2CPacket.Action.UPDATE_GAME_MODE, PlayerListS2CPacket.Action.UPDATE_LISTED, PlayerListS2CPacket.Action.UPDATE_DISPLAY_NAME, PlayerListS2CPacket.Action.UPDATE_LIST_ORDER);
 	public static final Pattern PLAYER_NAME_PATTERN = Pattern.compile("\\[(?<level>\\d+)] (?:\\[[A-Za-z]+] )?(?<name>[A-Za-z0-9_]+)(?: .+)?");
 
 	/**
@@ -59,44 +71,168 @@ public class PlayerListManager {
 	public static final Map<String, TabHudWidget> tabWidgetInstances = new Object2ObjectOpenHashMap<>();
 	public static final List<TabHudWidget> tabWidgetsToShow = new ObjectArrayList<>(5);
 
+	/**
+	 * The profile ids of the entries whose display name, listing, or order changed since the last update.
+	 */
+	private static final Set<UUID> dirtyEntries = new ObjectOpenHashSet<>();
+	/**
+	 * Whether the list should be read again at the end of the tick even if no entry is dirty, for changes that
+	 * are not tied to an entry such as removed entries, a new footer, or joining Skyblock.
+	 */
+	private static boolean dirty = true;
+	private static boolean footerDirty = false;
+	/**
+	 * The entries each widget in {@link #tabWidgetsToShow} was last updated with, used to skip the widgets whose lines did not change.
+	 */
+	private static final Map<TabHudWidget, List<PlayerListEntry>> widgetEntries = new Reference2ObjectOpenHashMap<>();
+	/**
+	 * The config revision the widgets were last updated with, so that config changes update every widget without waiting for a packet.
+	 */
+	private static int configRevision = SkyblockerConfigManager.getRevision();
+	/**
+	 * Whether widget updates were skipped because the config screen shows its preview, which puts its own lines in the widgets.
+	 */
+	private static boolean previewShown;
+
+	@Init
+	public static void init() {
+		ClientTickEvents.END_CLIENT_TICK.register(client -> updateIfDirty());
+		SkyblockEvents.JOIN.register(PlayerListManager::markDirty);
+		SkyblockEvents.LEAVE.register(PlayerListManager::markDirty);
+	}
+
 	private static void reset() {
 		if (!tabWidgetsToShow.isEmpty()) {
 			tabWidgetsToShow.clear();
 		}
+		widgetEntries.clear();
 	}
 
-	// TODO: check for changes instead of updating every second
-	public static void updateList() {
-		if (!Utils.isOnSkyblock()) {
-			reset();
-			return;
+	/**
+	 * Marks the entries changed by a player list packet as dirty. Called after the packet has been applied.
+	 */
+	public static void onPlayerListUpdate(PlayerListS2CPacket packet) {
+		if (Collections.disjoint(packet.getActions(), DISPLAY_ACTIONS)) return;
+
+		for (PlayerListS2CPacket.Entry entry : packet.getEntries()) {
+			dirtyEntries.add(entry.profileId());
+		}
+	}
+
+	/**
+	 * Makes the next tick read the player list again, and update the widgets whose entries were reordered, added, or removed.
+	 */
+	public static void markDirty() {
+		dirty = true;
+	}
+
+	/**
+	 * Called every second as a fallback for changes that arrive without a player list packet. Team reordering is caught by reading the list again,
+	 * and config changes update every widget, since the list and the footer may be unchanged.
+	 */
+	public static void updateFallback() {
+		if (configRevision != SkyblockerConfigManager.getRevision()) {
+			updateList();
+		} else {
+			markDirty();
 		}
+	}
+
+	private static void updateIfDirty() {
+		if (!dirty && !footerDirty && dirtyEntries.isEmpty()) return;
+		update(false);
+	}
+
+	/**
+	 * Reads the player list and updates every widget, regardless of whether its lines changed.
+	 */
+	public static void updateList() {
+		update(true);
+	}
 
-		ClientPlayNetworkHandler networkHandler = MinecraftClient.getInstance().getNetworkHandler();
-
-		// check is needed, else game crashes on server leave
-		if (networkHandler != null) {
-			playerList = networkHandler.getPlayerList()
-			                           .stream()
-			                           .sorted(PlayerListHudAccessor.getOrdering())
-			                           .toList();
-			playerStringList = playerList.stream()
-			                             .map(PlayerListEntry::getDisplayName)
-			                             .filter(Objects::nonNull)
-			                             .map(Text::getString)
-			                             .map(String::strip)
-			                             .toList();
+	private static void update(boolean force) {
+		// The preview replaced the lines of the widgets, so update every widget once it is hidden
+		if (previewShown && !isPreviewVisible()) {
+			previewShown = false;
+			force = true;
 		}
+		if (force) configRevision = SkyblockerConfigManager.getRevision();
+		boolean footerChanged = footerDirty;
+		dirty = false;
+		footerDirty = false;
+
+		try {
+			if (!Utils.isOnSkyblock()) {
+				reset();
+				return;
+			}
+
+			ClientPlayNetworkHandler networkHandler = MinecraftClient.getInstance().getNetworkHandler();
+
+			// check is needed, else game crashes on server leave
+			if (networkHandler != null) {
+				List<PlayerListEntry> sorted = networkHandler.getPlayerList()
+				                                             .stream()
+				                                             .sorted(PlayerListHudAccessor.getOrdering())
+				                                             .toList();
+				// Nothing was added, removed, reordered, or renamed, so the widgets are already up to date
+				if (!force && !footerChanged && dirtyEntries.isEmpty() && !widgetEntries.isEmpty() && sameEntries(sorted, playerList)) return;
+
+				playerList = sorted;
+				playerStringList = playerList.stream()
+				                             .map(PlayerListEntry::getDisplayName)
+				                             .filter(Objects::nonNull)
+				                             .map(Text::getString)
+				                             .map(String::strip)
+				                             .toList();
+			}
+
+			if (!SkyblockerConfigManager.get().uiAndVisuals.tabHud.tabHudEnabled) {
+				reset();
+				return;
+			}
 
-		if (!SkyblockerConfigManager.get().uiAndVisuals.tabHud.tabHudEnabled) {
-			reset();
-			return;
+			if (isPreviewVisible()) {
+				previewShown = true;
+				return;
+			}
+
+			if (Utils.isInDungeons()) {
+				widgetEntries.clear();
+				updateDungeons(null);
+			} else {
+				updateWidgetsFrom(playerList, force, footerChanged);
+			}
+		} finally {
+			// Entries that changed while the preview is shown are only cleared by the update after it is hidden
+			if (!previewShown) dirtyEntries.clear();
 		}
+	}
+
+	private static boolean isPreviewVisible() {
+		return MinecraftClient.getInstance().currentScreen instanceof WidgetsConfigurationScreen widgetsConfigurationScreen && widgetsConfigurationScreen.isPreviewVisible();
+	}
 
-		if (MinecraftClient.getInstance().currentScreen instanceof WidgetsConfigurationScreen widgetsConfigurationScreen && widgetsConfigurationScreen.isPreviewVisible()) return;
+	/**
+	 * @return whether both lists contain the same entry instances in the same order
+	 */
+	private static boolean sameEntries(List<PlayerListEntry> a, List<PlayerListEntry> b) {
+		if (a.size() != b.size()) return false;
+		for (int i = 0; i < a.size(); i++) {
+			if (a.get(i) != b.get(i)) return false;
+		}
+		return true;
+	}
 
-		if (Utils.isInDungeons()) updateDungeons(null);
-		else updateWidgetsFrom(playerList);
+	/**
+	 * @return whether the lines of a widget could have changed since it was last updated with {@code previous}
+	 */
+	private static boolean linesChanged(@Nullable List<PlayerListEntry> previous, List<PlayerListEntry> entries) {
+		if (previous == null || !sameEntries(previous, entries)) return true;
+		for (PlayerListEntry entry : entries) {
+			if (dirtyEntries.contains(entry.getProfile().id())) return true;
+		}
+		return false;
 	}
 
 	/**
@@ -133,10 +269,51 @@ public class PlayerListManager {
 	 * @param lines in-game TAB
 	 */
 	public static void updateWidgetsFrom(List<PlayerListEntry> lines) {
+		widgetEntries.clear();
+		updateWidgetsFrom(lines, true, true);
+	}
+
+	/**
+	 * Updates the tab widgets whose lines changed since they were last updated.
+	 *
+	 * @param force         whether to update every widget even if its lines did not change
+	 * @param footerChanged whether the footer changed, which the active effects widget may be reading from
+	 */
+	private static void updateWidgetsFrom(List<PlayerListEntry> lines, boolean force, boolean footerChanged) {
+		Map<TabHudWidget, List<PlayerListEntry>> previousEntries = new Reference2ObjectOpenHashMap<>(widgetEntries);
+		widgetEntries.clear();
+		tabWidgetsToShow.clear();
+		for (TabSection section : parseSections(lines)) {
+			TabHudWidget widget = getOrCreateTabHudWidget(section.name());
+			if (force || linesChanged(previousEntries.get(widget), section.entries())) {
+				updateTabHudWidget(widget, section.lines(), section.entries());
+			}
+			widgetEntries.put(widget, section.entries());
+			tabWidgetsToShow.add(widget);
+		}
+		TabHudWidget activeEffects = tabWidgetInstances.get("Active Effects");
+		if (!tabWidgetsToShow.contains(activeEffects) && SkyblockerConfigManager.get().uiAndVisuals.tabHud.effectsFromFooter) {
+			// Tab sections are never empty, so the widget was last updated from the footer only if its previous entries are empty
+			List<PlayerListEntry> previous = activeEffects != null ? previousEntries.get(activeEffects) : null;
+			if (force || footerChanged || previous == null || !previous.isEmpty()) {
+				activeEffects = getTabHudWidget("Active Effects", List.of());
+			}
+			widgetEntries.put(activeEffects, List.of());
+			tabWidgetsToShow.add(activeEffects);
+		}
+	}
+
+	/**
+	 * Splits the lines of the in-game TAB into the sections of the widgets they belong to, without updating any widgets.
+	 *
+	 * @param lines in-game TAB
+	 */
+	@VisibleForTesting
+	static List<TabSection> parseSections(List<PlayerListEntry> lines) {
 		final Predicate<String> playersColumnPredicate = PLAYERS_COLUMN_PATTERN.asMatchPredicate();
 		final Predicate<String> infoColumnPredicate = INFO_COLUMN_PATTERN.asMatchPredicate();
 
-		tabWidgetsToShow.clear();
+		List<TabSection> sections = new ArrayList<>();
 		boolean doingPlayers = false;
 		boolean playersDone = false;
 		IntObjectPair<String> hypixelWidgetName = IntObjectPair.of(0xFFFF00, "");
@@ -164,9 +341,9 @@ public class PlayerListManager {
 				// Check if info, if it is, dip out
 				if (infoColumnPredicate.test(string)) {
 					playersDone = true;
-					if (!contents.isEmpty()) tabWidgetsToShow.add(getTabHudWidget(hypixelWidgetName, contents, playerListEntries));
-					contents.clear();
-					playerListEntries.clear();
+					if (!contents.isEmpty()) sections.add(new TabSection(hypixelWidgetName, contents, playerListEntries));
+					contents = new ArrayList<>();
+					playerListEntries = new ArrayList<>();
 					continue;
 				}
 			} else {
@@ -175,9 +352,9 @@ public class PlayerListManager {
 				// Now check for : because of the farming contest ACTIVE
 				// Check for mining event minutes CUZ THEY FUCKING FORGOT THE SPACE iefzeoifzeoifomezhif
 				if (!string.startsWith(" ") && string.contains(":") && (!hypixelWidgetName.right().startsWith("Mining Event") || !string.toLowerCase(Locale.ENGLISH).startsWith("ends in"))) {
-					if (!contents.isEmpty()) tabWidgetsToShow.add(getTabHudWidget(hypixelWidgetName, contents, playerListEntries));
-					contents.clear();
-					playerListEntries.clear();
+					if (!contents.isEmpty()) sections.add(new TabSection(hypixelWidgetName, contents, playerListEntries));
+					contents = new ArrayList<>();
+					playerListEntries = new ArrayList<>();
 					Pair<IntObjectPair<String>, ? extends Text> nameAndInfo = getNameAndInfo(displayName);
 					hypixelWidgetName = nameAndInfo.left();
 					if (!nameAndInfo.right().getString().isBlank()) {
@@ -191,54 +368,38 @@ public class PlayerListManager {
 			contents.add(trim(displayName));
 			playerListEntries.add(playerListEntry);
 		}
-		if (!contents.isEmpty()) tabWidgetsToShow.add(getTabHudWidget(hypixelWidgetName, contents, playerListEntries));
-		if (!tabWidgetsToShow.contains(tabWidgetInstances.get("Active Effects")) && SkyblockerConfigManager.get().uiAndVisuals.tabHud.effectsFromFooter) {
-			tabWidgetsToShow.add(getTabHudWidget("Active Effects", List.of()));
-		}
+		if (!contents.isEmpty()) sections.add(new TabSection(hypixelWidgetName, contents, playerListEntries));
+
+		return sections;
 	}
 
+	/**
+	 * Strips the leading and trailing whitespace of a text while keeping the style of each part.
+	 */
 	private static Text trim(Text text) {
-		List<Text> trimmedParts = new ArrayList<>();
-		AtomicBoolean leadingSpaceFound = new AtomicBoolean(false);
+		TrimVisitor visitor = new TrimVisitor();
+		text.visit(visitor, Style.EMPTY);
 
-		// leading spaces
-		text.visit((style, asString) -> {
-			String trimmed = asString;
-			if (!leadingSpaceFound.get()) {
-				trimmed = trimmed.stripLeading();
-				if (!trimmed.isBlank()) leadingSpaceFound.set(true);
-				else return Optional.empty();
-			}
-			trimmedParts.add(Text.literal(trimmed).setStyle(style));
-			return Optional.empty();
-		}, Style.EMPTY);
-
-		// trailing spaces
-		for (int i = 0; i < trimmedParts.size(); i++) {
-			Text last = trimmedParts.removeLast();
-			String trimmed = last.getString().stripTrailing();
-			if (!trimmed.isBlank()) {
-				trimmedParts.add(Text.literal(trimmed).setStyle(last.getStyle()));
-				break;
-			}
-		}
-
-		MutableText out = Text.empty();
-		trimmedParts.forEach(out::append);
-
-		return out;
+		return visitor.build();
 	}
 
-	private static TabHudWidget getTabHudWidget(IntObjectPair<String> hypixelWidgetName, List<Text> lines, @Nullable List<PlayerListEntry> playerListEntries) {
-		TabHudWidget tabHudWidget;
-		if (tabWidgetInstances.containsKey(hypixelWidgetName.right())) {
-			tabHudWidget = tabWidgetInstances.get(hypixelWidgetName.right());
-		} else {
+	private static TabHudWidget getOrCreateTabHudWidget(IntObjectPair<String> hypixelWidgetName) {
+		TabHudWidget tabHudWidget = tabWidgetInstances.get(hypixelWidgetName.right());
+		if (tabHudWidget == null) {
 			tabHudWidget = new DefaultTabHudWidget(hypixelWidgetName.right(), Text.literal(hypixelWidgetName.right()).formatted(Formatting.BOLD), hypixelWidgetName.firstInt());
 			WidgetManager.addWidgetInstance(tabHudWidget);
 		}
+		return tabHudWidget;
+	}
+
+	private static void updateTabHudWidget(TabHudWidget tabHudWidget, List<Text> lines, @Nullable List<PlayerListEntry> playerListEntries) {
 		tabHudWidget.updateFromTab(lines, playerListEntries);
 		tabHudWidget.update();
+	}
+
+	private static TabHudWidget getTabHudWidget(IntObjectPair<String> hypixelWidgetName, List<Text> lines, @Nullable List<PlayerListEntry> playerListEntries) {
+		TabHudWidget tabHudWidget = getOrCreateTabHudWidget(hypixelWidgetName);
+		updateTabHudWidget(tabHudWidget, lines, playerListEntries);
 		return tabHudWidget;
 	}
 
@@ -293,6 +454,7 @@ public class PlayerListManager {
 	}
 
 	public static void updateFooter(Text f) {
+		String previous = footer;
 		if (f == null) {
 			footer = null;
 		} else {
@@ -301,6 +463,7 @@ public class PlayerListManager {
 				footer = null;
 			}
 		}
+		if (!Objects.equals(previous, footer)) footerDirty = true;
 	}
 
 	@Nullable
@@ -422,6 +585,48 @@ public class PlayerListManager {
 		return playerList.size();
 	}
 
+	/**
+	 * The lines of a single widget in the in-game TAB.
+	 *
+	 * @param name    the color and the name of the widget
+	 * @param lines   the trimmed lines of the widget
+	 * @param entries the player list entries of the lines, which should match the lines
+	 */
+	@VisibleForTesting
+	record TabSection(IntObjectPair<String> name, List<Text> lines, List<PlayerListEntry> entries) {}
+
+	/**
+	 * Collects the parts of a text with the leading whitespace of the first non-blank part removed,
+	 * then removes the trailing whitespace of the last non-blank part when {@link #build() built}.
+	 */
+	private static final class TrimVisitor implements StringVisitable.StyledVisitor<Void> {
+		private final List<String> parts = new ArrayList<>();
+		private final List<Style> styles = new ArrayList<>();
+
+		@Override
+		public Optional<Void> accept(Style style, String asString) {
+			if (parts.isEmpty()) {
+				asString = asString.stripLeading();
+				if (asString.isEmpty()) return Optional.empty();
+			}
+			parts.add(asString);
+			styles.add(style);
+			return Optional.empty();
+		}
+
+		private Text build() {
+			int last = parts.size() - 1;
+			while (last >= 0 && parts.get(last).isBlank()) last--;
+
+			MutableText out = Text.empty();
+			for (int i = 0; i <= last; i++) {
+				String part = i == last ? parts.get(i).stripTrailing() : parts.get(i);
+				out.append(Text.literal(part).setStyle(styles.get(i)));
+			}
+			return out;
+		}
+	}
+
 	private static final class DefaultTabHudWidget extends TabHudWidget {
 		private DefaultTabHudWidget(String hypixelWidgetName, MutableText title, int color) {
 			super(hypixelWidgetName, title, color);
@@ -3,6 +3,7 @@ package de.hysky.skyblocker.skyblock.tabhud.widget;
 import com.demonwav.mcdev.annotations.Translatable;
 import com.mojang.logging.LogUtils;
 import de.hysky.skyblocker.config.SkyblockerConfigManager;
+import de.hysky.skyblocker.config.configs.UIAndVisualsConfig;
 import de.hysky.skyblocker.skyblock.tabhud.screenbuilder.ScreenBuilder;
 import de.hysky.skyblocker.skyblock.tabhud.util.PlayerListManager;
 import de.hysky.skyblocker.skyblock.tabhud.widget.component.*;
@@ -14,6 +15,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.util.ArrayList;
@@ -24,6 +26,9 @@ import java.util.List;
  * Widgets are containers for components with a border and a title.
  * Their size is dependent on the components inside,
  * the position may be changed after construction.
+ * <p>
+ * The widget is drawn from a {@link WidgetComposite} that is composed when the content is updated,
+ * or every frame if {@link UIAndVisualsConfig.TabHudConf#cacheWidgetComposites} is disabled.
  */
 public abstract class ComponentBasedWidget extends HudWidget {
 	public static final Logger LOGGER = LogUtils.getLogger();
@@ -37,6 +42,20 @@ public abstract class ComponentBasedWidget extends HudWidget {
 
 	private int prevW = 0, prevH = 0;
 
+	@Nullable
+	private WidgetComposite composite;
+	/**
+	 * The settings the composite was composed with, which change how the widget is drawn without updating it.
+	 */
+	private int compositeBackgroundColor;
+	private boolean compositeMinimal;
+	private boolean compositeCompact;
+	/**
+	 * Overrides {@link UIAndVisualsConfig.TabHudConf#cacheWidgetComposites} while not {@code null}, so that the widget config preview can time both paths.
+	 */
+	@Nullable
+	private static Boolean cacheCompositesOverride;
+
 	public static final int BORDER_SZE_N = txtRend.fontHeight + 2;
 	public static final int BORDER_SZE_S = 4;
 	public static final int BORDER_SZE_W = 4;
@@ -64,6 +83,7 @@ public abstract class ComponentBasedWidget extends HudWidget {
 	public void addComponent(Component c) {
 		c.setParent(this);
 		this.components.add(c);
+		this.composite = null;
 	}
 
 	public final void update() {
@@ -111,35 +131,75 @@ public abstract class ComponentBasedWidget extends HudWidget {
 
 	@Override
 	public final void renderWidget(DrawContext context, int mouseX, int mouseY, float delta) {
-		if (SkyblockerConfigManager.get().uiAndVisuals.tabHud.enableHudBackground) {
-			GameOptions options = MinecraftClient.getInstance().options;
-			int textBackgroundColor = options.getTextBackgroundColor(SkyblockerConfigManager.get().uiAndVisuals.tabHud.style.isMinimal() ? MINIMAL_COL_BG_BOX : DEFAULT_COL_BG_BOX);
-			context.fill(x + 1, y, x + w - 1, y + h, textBackgroundColor);
-			context.fill(x, y + 1, x + 1, y + h - 1, textBackgroundColor);
-			context.fill(x + w - 1, y + 1, x + w, y + h - 1, textBackgroundColor);
+		UIAndVisualsConfig.TabHudConf config = SkyblockerConfigManager.get().uiAndVisuals.tabHud;
+		int backgroundColor = getBackgroundColor(config);
+		boolean minimal = config.style.isMinimal();
+		boolean cacheComposites = cacheCompositesOverride != null ? cacheCompositesOverride : config.cacheWidgetComposites;
+		if (composite == null || !cacheComposites || backgroundColor != compositeBackgroundColor || minimal != compositeMinimal || config.compactWidgets != compositeCompact) {
+			composite = compose(backgroundColor, minimal);
+			compositeBackgroundColor = backgroundColor;
+			compositeMinimal = minimal;
+			compositeCompact = config.compactWidgets;
+		}
+
+		composite.draw(context, x, y);
+	}
+
+	/**
+	 * Draws the widgets with or without cached composites regardless of the config until reset with {@code null}.
+	 */
+	public static void setCacheCompositesOverride(@Nullable Boolean cacheComposites) {
+		cacheCompositesOverride = cacheComposites;
+	}
+
+	/**
+	 * Composes the border, background, title and components of this widget with the current settings, relative to the widget's position.
+	 */
+	public WidgetComposite compose() {
+		UIAndVisualsConfig.TabHudConf config = SkyblockerConfigManager.get().uiAndVisuals.tabHud;
+		return compose(getBackgroundColor(config), config.style.isMinimal());
+	}
+
+	/**
+	 * @return the background color, or 0 if the background is disabled
+	 */
+	private static int getBackgroundColor(UIAndVisualsConfig.TabHudConf config) {
+		if (!config.enableHudBackground) return 0;
+		GameOptions options = MinecraftClient.getInstance().options;
+		return options.getTextBackgroundColor(config.style.isMinimal() ? MINIMAL_COL_BG_BOX : DEFAULT_COL_BG_BOX);
+	}
+
+	private WidgetComposite compose(int backgroundColor, boolean minimal) {
+		WidgetComposite composite = new WidgetComposite();
+		if (backgroundColor != 0) {
+			composite.fill(1, 0, w - 1, h, backgroundColor);
+			composite.fill(0, 1, 1, h - 1, backgroundColor);
+			composite.fill(w - 1, 1, w, h - 1, backgroundColor);
 		}
 
 		int strHeightHalf = txtRend.fontHeight / 2;
 		int strAreaWidth = txtRend.getWidth(title) + 4;
 
-		context.drawText(txtRend, title, x + 8, y + 2, this.color, false);
+		composite.text(title, 8, 2, this.color, false);
 
 		// Only draw borders if not in minimal mode
-		if (!SkyblockerConfigManager.get().uiAndVisuals.tabHud.style.isMinimal()) {
-			this.drawHLine(context, x + 2, y + 1 + strHeightHalf, 4);
-			this.drawHLine(context, x + 2 + strAreaWidth + 4, y + 1 + strHeightHalf, w - 4 - 4 - strAreaWidth);
-			this.drawHLine(context, x + 2, y + h - 2, w - 4);
+		if (!minimal) {
+			this.drawHLine(composite, 2, 1 + strHeightHalf, 4);
+			this.drawHLine(composite, 2 + strAreaWidth + 4, 1 + strHeightHalf, w - 4 - 4 - strAreaWidth);
+			this.drawHLine(composite, 2, h - 2, w - 4);
 
-			this.drawVLine(context, x + 1, y + 2 + strHeightHalf, h - 4 - strHeightHalf);
-			this.drawVLine(context, x + w - 2, y + 2 + strHeightHalf, h - 4 - strHeightHalf);
+			this.drawVLine(composite, 1, 2 + strHeightHalf, h - 4 - strHeightHalf);
+			this.drawVLine(composite, w - 2, 2 + strHeightHalf, h - 4 - strHeightHalf);
 		}
 
-		int yOffs = y + BORDER_SZE_N;
+		int yOffs = BORDER_SZE_N;
 
 		for (Component c : components) {
-			c.render(context, x + BORDER_SZE_W, yOffs);
+			c.compose(composite, BORDER_SZE_W, yOffs);
 			yOffs += c.getHeight() + Component.PAD_L;
 		}
+
+		return composite;
 	}
 
 	/**
@@ -165,14 +225,15 @@ public abstract class ComponentBasedWidget extends HudWidget {
 		if (h != prevH || w != prevW) ScreenBuilder.markDirty();
 		prevW = w;
 		prevH = h;
+		composite = null;
 	}
 
-	private void drawHLine(DrawContext context, int xpos, int ypos, int width) {
-		context.fill(xpos, ypos, xpos + width, ypos + 1, this.color);
+	private void drawHLine(WidgetComposite composite, int xpos, int ypos, int width) {
+		composite.fill(xpos, ypos, xpos + width, ypos + 1, this.color);
 	}
 
-	private void drawVLine(DrawContext context, int xpos, int ypos, int height) {
-		context.fill(xpos, ypos, xpos + 1, ypos + height, this.color);
+	private void drawVLine(WidgetComposite composite, int xpos, int ypos, int height) {
+		composite.fill(xpos, ypos, xpos + 1, ypos + height, this.color);
 	}
 
 	/**
@@ -4,7 +4,6 @@ import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import net.minecraft.client.gui.widget.Widget;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
-import net.minecraft.client.gui.DrawContext;
 import net.minecraft.item.ItemStack;
 
 import java.util.function.Supplier;
@@ -24,7 +23,10 @@ public abstract class Component {
 
 	private Widget parent;
 
-	public abstract void render(DrawContext context, int x, int y);
+	/**
+	 * Adds the draw calls of this component at the given position to the widget's composite.
+	 */
+	public abstract void compose(WidgetComposite composite, int x, int y);
 
 	public void setParent(Widget parent) {
 		this.parent = parent;
@@ -42,11 +44,7 @@ public abstract class Component {
 		return this.height;
 	}
 
-	public void renderIcon(DrawContext context, ItemStack icon, int x, int y) {
-		context.getMatrices().pushMatrix();
-		context.getMatrices().translate(x, y);
-		context.getMatrices().scale((float) ICO_DIM.get() / 16);
-		context.drawItem(icon, 0, 0);
-		context.getMatrices().popMatrix();
+	public void composeIcon(WidgetComposite composite, ItemStack icon, int x, int y) {
+		composite.icon(icon, x, y, ICO_DIM.get());
 	}
 }
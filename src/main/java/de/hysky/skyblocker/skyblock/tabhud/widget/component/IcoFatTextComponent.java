@@ -1,7 +1,6 @@
 package de.hysky.skyblocker.skyblock.tabhud.widget.component;
 
 import de.hysky.skyblocker.skyblock.tabhud.util.Ico;
-import net.minecraft.client.gui.DrawContext;
 import net.minecraft.item.ItemStack;
 import net.minecraft.text.Text;
 import net.minecraft.util.Colors;
@@ -31,10 +30,10 @@ class IcoFatTextComponent extends Component {
 	}
 
 	@Override
-	public void render(DrawContext context, int x, int y) {
+	public void compose(WidgetComposite composite, int x, int y) {
 		int textX = x + ICO_DIM.get() + PAD_L;
-		renderIcon(context, ico, x, y + ICO_OFFS);
-		context.drawText(txtRend, line1, textX, y, Colors.WHITE, false);
-		context.drawText(txtRend, line2, textX, y + txtRend.fontHeight + PAD_S, Colors.WHITE, false);
+		composeIcon(composite, ico, x, y + ICO_OFFS);
+		composite.text(line1, textX, y, Colors.WHITE, false);
+		composite.text(line2, textX, y + txtRend.fontHeight + PAD_S, Colors.WHITE, false);
 	}
 }
@@ -2,7 +2,6 @@ package de.hysky.skyblocker.skyblock.tabhud.widget.component;
 
 import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import de.hysky.skyblocker.skyblock.tabhud.util.Ico;
-import net.minecraft.client.gui.DrawContext;
 import net.minecraft.item.ItemStack;
 import net.minecraft.text.Text;
 import net.minecraft.util.Colors;
@@ -30,9 +29,9 @@ class IcoTextComponent extends Component {
 	}
 
 	@Override
-	public void render(DrawContext context, int x, int y) {
+	public void compose(WidgetComposite composite, int x, int y) {
 		int offset = SkyblockerConfigManager.get().uiAndVisuals.tabHud.compactWidgets ? 2 : 4;
-		renderIcon(context, ico, x, y);
-		context.drawText(txtRend, text, x + ICO_DIM.get() + PAD_L, y + offset, Colors.WHITE, false);
+		composeIcon(composite, ico, x, y);
+		composite.text(text, x + ICO_DIM.get() + PAD_L, y + offset, Colors.WHITE, false);
 	}
 }
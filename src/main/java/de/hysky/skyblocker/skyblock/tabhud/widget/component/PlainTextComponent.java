@@ -1,6 +1,5 @@
 package de.hysky.skyblocker.skyblock.tabhud.widget.component;
 
-import net.minecraft.client.gui.DrawContext;
 import net.minecraft.text.Text;
 import net.minecraft.util.Colors;
 import net.minecraft.util.Formatting;
@@ -30,10 +29,10 @@ public class PlainTextComponent extends Component {
 	}
 
 	@Override
-	public void render(DrawContext context, int x, int y) {
+	public void compose(WidgetComposite composite, int x, int y) {
 		int yOffset = 0;
 		for (Text line : lines) {
-			context.drawText(txtRend, line, x + PAD_L, y + yOffset, Colors.WHITE, false);
+			composite.text(line, x + PAD_L, y + yOffset, Colors.WHITE, false);
 			yOffset += txtRend.fontHeight + PAD_S;
 		}
 	}
@@ -1,7 +1,5 @@
 package de.hysky.skyblocker.skyblock.tabhud.widget.component;
 
-import net.minecraft.client.gui.DrawContext;
-import net.minecraft.client.gui.PlayerSkinDrawer;
 import net.minecraft.client.network.PlayerListEntry;
 import net.minecraft.text.Text;
 import net.minecraft.util.Colors;
@@ -30,8 +28,8 @@ public class PlayerComponent extends Component {
 	}
 
 	@Override
-	public void render(DrawContext context, int x, int y) {
-		PlayerSkinDrawer.draw(context, tex, x, y, SKIN_ICO_DIM, true, false, -1);
-		context.drawText(txtRend, name, x + SKIN_ICO_DIM + PAD_S, y, Colors.WHITE, false);
+	public void compose(WidgetComposite composite, int x, int y) {
+		composite.playerSkin(tex, x, y, SKIN_ICO_DIM);
+		composite.text(name, x + SKIN_ICO_DIM + PAD_S, y, Colors.WHITE, false);
 	}
 }
@@ -3,7 +3,6 @@ package de.hysky.skyblocker.skyblock.tabhud.widget.component;
 import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import de.hysky.skyblocker.skyblock.tabhud.util.Ico;
 import de.hysky.skyblocker.utils.ColorUtils;
-import net.minecraft.client.gui.DrawContext;
 import net.minecraft.item.ItemStack;
 import net.minecraft.text.Text;
 import net.minecraft.util.Colors;
@@ -81,23 +80,23 @@ class ProgressComponent extends Component {
 	}
 
 	@Override
-	public void render(DrawContext context, int x, int y) {
+	public void compose(WidgetComposite composite, int x, int y) {
 		int componentX = x + PAD_L;
 		if (ico != null) {
-			renderIcon(context, ico, x, y + ICO_OFFS);
+			composeIcon(composite, ico, x, y + ICO_OFFS);
 			componentX += ICO_DIM.get();
 		}
-		context.drawText(txtRend, desc, componentX, y, Colors.WHITE, false);
+		composite.text(desc, componentX, y, Colors.WHITE, false);
 
 		int barY = y + txtRend.fontHeight + PAD_S;
 		int endOffsX = ((int) (this.barW * (this.pcnt / 100f)));
-		context.fill(componentX + endOffsX, barY, componentX + this.barW, barY + BAR_HEIGHT, COL_BG_BAR);
-		context.fill(componentX, barY, componentX + endOffsX, barY + BAR_HEIGHT, this.color);
+		composite.fill(componentX + endOffsX, barY, componentX + this.barW, barY + BAR_HEIGHT, COL_BG_BAR);
+		composite.fill(componentX, barY, componentX + endOffsX, barY + BAR_HEIGHT, this.color);
 
 		int textWidth = txtRend.getWidth(bar);
 		// Only turn text dark when it is wider than the filled bar and the filled bar is bright.
 		// The + 4 is because the text is indented 3 pixels and 1 extra pixel to the right as buffer.
 		boolean textDark = endOffsX >= textWidth + 4 && this.colorIsBright;
-		context.drawText(txtRend, bar, componentX + 3, barY + 2, textDark ? Colors.BLACK : Colors.WHITE, !textDark);
+		composite.text(bar, componentX + 3, barY + 2, textDark ? Colors.BLACK : Colors.WHITE, !textDark);
 	}
 }
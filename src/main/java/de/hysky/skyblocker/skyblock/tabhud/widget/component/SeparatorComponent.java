@@ -1,7 +1,6 @@
 package de.hysky.skyblocker.skyblock.tabhud.widget.component;
 
 import de.hysky.skyblocker.skyblock.tabhud.widget.ComponentBasedWidget;
-import net.minecraft.client.gui.DrawContext;
 import net.minecraft.text.Text;
 
 /**
@@ -20,14 +19,14 @@ public class SeparatorComponent extends Component {
 	}
 
 	@Override
-	public void render(DrawContext context, int x, int y) {
+	public void compose(WidgetComposite composite, int x, int y) {
 		int parentWidth = this.getParent().getWidth();
 		if (text != null && !text.equals(Text.of(""))) {
-			context.fill(x - (ComponentBasedWidget.BORDER_SZE_E / 2), y + this.height / 2, x + 2, y + this.height / 2 + 1, 0xFF55FFFF);
-			context.drawText(txtRend, text, x + 4, y, 0xFF55FFFF, false);
-			context.fill(x + textWidth + 2 + 4, y + this.height / 2, x + parentWidth - ComponentBasedWidget.BORDER_SZE_E - ComponentBasedWidget.BORDER_SZE_W + 2, y + this.height / 2 + 1, 0xFF55FFFF);
+			composite.fill(x - (ComponentBasedWidget.BORDER_SZE_E / 2), y + this.height / 2, x + 2, y + this.height / 2 + 1, 0xFF55FFFF);
+			composite.text(text, x + 4, y, 0xFF55FFFF, false);
+			composite.fill(x + textWidth + 2 + 4, y + this.height / 2, x + parentWidth - ComponentBasedWidget.BORDER_SZE_E - ComponentBasedWidget.BORDER_SZE_W + 2, y + this.height / 2 + 1, 0xFF55FFFF);
 		} else {
-			context.fill(x - 2, y + this.height / 2, x + parentWidth - ComponentBasedWidget.BORDER_SZE_E - ComponentBasedWidget.BORDER_SZE_W + 2, y + this.height / 2 + 1, 0xFF55FFFF);
+			composite.fill(x - 2, y + this.height / 2, x + parentWidth - ComponentBasedWidget.BORDER_SZE_E - ComponentBasedWidget.BORDER_SZE_W + 2, y + this.height / 2 + 1, 0xFF55FFFF);
 		}
 	}
 }
@@ -1,7 +1,5 @@
 package de.hysky.skyblocker.skyblock.tabhud.widget.component;
 
-import de.hysky.skyblocker.utils.render.HudHelper;
-import net.minecraft.client.gui.DrawContext;
 
 /**
  * Meta-Component that consists of a grid of other components
@@ -72,13 +70,13 @@ public class TableComponent extends Component {
 	}
 
 	@Override
-	public void render(DrawContext context, int xpos, int ypos) {
+	public void compose(WidgetComposite composite, int xpos, int ypos) {
 		int yOff = 0;
 		for (int y = 0; y < rows; y++) {
 			int col = rowBorders[y];
 			if (col != 0) {
 				// shift slightly so the border does not clash with the widget outline
-				HudHelper.drawBorder(context, xpos, ypos + yOff, this.width + PAD_S, rowHeights[y], col);
+				composite.border(xpos, ypos + yOff, this.width + PAD_S, rowHeights[y], col);
 			}
 			yOff += rowHeights[y];
 		}
@@ -91,7 +89,7 @@ public class TableComponent extends Component {
 				int lineX2 = xpos + xOff - PAD_S;
 				int lineY1 = ypos + 1;
 				int lineY2 = ypos + this.height - PAD_S - 1;
-				context.fill(lineX1, lineY1, lineX2, lineY2, this.color);
+				composite.fill(lineX1, lineY1, lineX2, lineY2, this.color);
 			}
 			yOff = 0;
 			for (int y = 0; y < rows; y++) {
@@ -100,7 +98,7 @@ public class TableComponent extends Component {
 					// indent the first column only when a border is drawn
 					int pad = x == 0 && rowBorders[y] != 0 ? PAD_L / 2 : 0;
 					// shift down so the component is vertically centered within the row border
-					comp.render(context, xpos + xOff + pad, ypos + yOff + (rowHeights[y] / 2 - comp.height / 2 + 1));
+					comp.compose(composite, xpos + xOff + pad, ypos + yOff + (rowHeights[y] / 2 - comp.height / 2 + 1));
 				}
 				yOff += rowHeights[y];
 			}
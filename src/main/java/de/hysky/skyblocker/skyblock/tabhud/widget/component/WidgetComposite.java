@@ -0,0 +1,106 @@
+package de.hysky.skyblocker.skyblock.tabhud.widget.component;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.client.gui.DrawContext;
+import net.minecraft.client.gui.PlayerSkinDrawer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.text.OrderedText;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+import org.joml.Matrix3x2fStack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The draw calls of a widget and its components, recorded once with positions relative to the widget.
+ * Drawing a composite replays the calls without laying out the components again or reordering their text,
+ * so a widget only has to compose itself again when its content changes.
+ */
+public class WidgetComposite {
+	private static final TextRenderer txtRend = MinecraftClient.getInstance().textRenderer;
+	private final List<Op> ops = new ArrayList<>();
+
+	public void fill(int x1, int y1, int x2, int y2, int color) {
+		ops.add(new Fill(x1, y1, x2, y2, color));
+	}
+
+	public void border(int x, int y, int width, int height, int color) {
+		fill(x, y, x + width, y + 1, color);
+		fill(x, y + height - 1, x + width, y + height, color);
+		fill(x, y + 1, x + 1, y + height - 1, color);
+		fill(x + width - 1, y + 1, x + width, y + height - 1, color);
+	}
+
+	public void text(Text text, int x, int y, int color, boolean shadow) {
+		ops.add(new DrawText(text.asOrderedText(), x, y, color, shadow));
+	}
+
+	/**
+	 * @param size the size of the icon, which is scaled down from 16
+	 */
+	public void icon(ItemStack stack, int x, int y, int size) {
+		ops.add(new Icon(stack, x, y, size / 16f));
+	}
+
+	public void playerSkin(Identifier texture, int x, int y, int size) {
+		ops.add(new PlayerSkin(texture, x, y, size));
+	}
+
+	/**
+	 * @return the number of recorded draw calls
+	 */
+	public int size() {
+		return ops.size();
+	}
+
+	/**
+	 * Replays the recorded draw calls with the composite's origin at the given position.
+	 */
+	public void draw(DrawContext context, int x, int y) {
+		Matrix3x2fStack matrices = context.getMatrices();
+		matrices.pushMatrix();
+		matrices.translate(x, y);
+		for (Op op : ops) {
+			op.draw(context);
+		}
+		matrices.popMatrix();
+	}
+
+	private sealed interface Op {
+		void draw(DrawContext context);
+	}
+
+	private record Fill(int x1, int y1, int x2, int y2, int color) implements Op {
+		@Override
+		public void draw(DrawContext context) {
+			context.fill(x1, y1, x2, y2, color);
+		}
+	}
+
+	private record DrawText(OrderedText text, int x, int y, int color, boolean shadow) implements Op {
+		@Override
+		public void draw(DrawContext context) {
+			context.drawText(txtRend, text, x, y, color, shadow);
+		}
+	}
+
+	private record Icon(ItemStack stack, int x, int y, float scale) implements Op {
+		@Override
+		public void draw(DrawContext context) {
+			context.getMatrices().pushMatrix();
+			context.getMatrices().translate(x, y);
+			context.getMatrices().scale(scale);
+			context.drawItem(stack, 0, 0);
+			context.getMatrices().popMatrix();
+		}
+	}
+
+	private record PlayerSkin(Identifier texture, int x, int y, int size) implements Op {
+		@Override
+		public void draw(DrawContext context) {
+			PlayerSkinDrawer.draw(context, texture, x, y, size, true, false, -1);
+		}
+	}
+}
@@ -15,6 +15,7 @@ import de.hysky.skyblocker.utils.render.WorldRenderExtractionCallback;
 import de.hysky.skyblocker.utils.render.primitive.PrimitiveCollector;
 import de.hysky.skyblocker.utils.waypoint.ProfileAwareWaypoint;
 import de.hysky.skyblocker.utils.waypoint.Waypoint;
+import de.hysky.skyblocker.utils.waypoint.WaypointIndex;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
 import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
@@ -25,6 +26,7 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.DyeColor;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +49,8 @@ public class FairySouls {
     private static CompletableFuture<Void> fairySoulsLoaded;
     private static int maxSouls = 0;
     private static final Map<String, Map<BlockPos, ProfileAwareWaypoint>> fairySouls = new HashMap<>();
+    private static final Map<String, WaypointIndex<ProfileAwareWaypoint>> fairySoulIndices = new HashMap<>();
+    private static final int NEARBY_SOULS_RADIUS = 50;
 
     @SuppressWarnings("UnusedReturnValue")
     public static CompletableFuture<Void> runAsyncAfterFairySoulsLoad(Runnable runnable) {
@@ -74,6 +78,7 @@ public class FairySouls {
         fairySoulsLoaded = NEURepoManager.runAsyncAfterLoad(() -> {
             maxSouls = NEURepoManager.getConstants().getFairySouls().getMaxSouls();
             NEURepoManager.getConstants().getFairySouls().getSoulLocations().forEach((location, fairiesForLocation) -> fairySouls.put(location, fairiesForLocation.stream().map(coordinate -> new BlockPos(coordinate.getX(), coordinate.getY(), coordinate.getZ())).collect(Collectors.toUnmodifiableMap(pos -> pos, pos -> new FairySoul(pos, TYPE_SUPPLIER, ColorUtils.getFloatComponents(DyeColor.GREEN), ColorUtils.getFloatComponents(DyeColor.RED))))));
+            fairySouls.forEach((location, fairiesForLocation) -> fairySoulIndices.put(location, WaypointIndex.of(List.copyOf(fairiesForLocation.values()))));
             LOGGER.debug("[Skyblocker] Loaded {} fairy souls across {} locations", fairySouls.values().stream().mapToInt(Map::size).sum(), fairySouls.size());
 
             try (BufferedReader reader = Files.newBufferedReader(SkyblockerMod.CONFIG_DIR.resolve("found_fairy_souls.json"))) {
@@ -149,17 +154,27 @@ public class FairySouls {
     private static void extractRendering(PrimitiveCollector collector) {
         HelperConfig.FairySouls fairySoulsConfig = SkyblockerConfigManager.get().helpers.fairySouls;
 
-        if (fairySoulsConfig.enableFairySoulsHelper && fairySoulsLoaded.isDone() && fairySouls.containsKey(Utils.getLocationRaw())) {
-            for (Waypoint fairySoul : fairySouls.get(Utils.getLocationRaw()).values()) {
-                boolean fairySoulNotFound = fairySoul.shouldRender();
-                if (!fairySoulsConfig.highlightFoundSouls && !fairySoulNotFound || fairySoulsConfig.highlightOnlyNearbySouls && fairySoul.pos.getSquaredDistance(RenderHelper.getCamera().getPos()) > 2500) {
-                    continue;
+        if (fairySoulsConfig.enableFairySoulsHelper && fairySoulsLoaded.isDone() && fairySoulIndices.containsKey(Utils.getLocationRaw())) {
+            WaypointIndex<ProfileAwareWaypoint> index = fairySoulIndices.get(Utils.getLocationRaw());
+            if (fairySoulsConfig.highlightOnlyNearbySouls) {
+                for (int i : index.withinDistance(RenderHelper.getCamera().getPos(), NEARBY_SOULS_RADIUS)) {
+                    extractFairySoulRendering(collector, fairySoulsConfig, index.waypoints().get(i));
+                }
+            } else {
+                for (Waypoint fairySoul : index.waypoints()) {
+                    extractFairySoulRendering(collector, fairySoulsConfig, fairySoul);
                 }
-                fairySoul.extractRendering(collector);
             }
         }
     }
 
+    private static void extractFairySoulRendering(PrimitiveCollector collector, HelperConfig.FairySouls fairySoulsConfig, Waypoint fairySoul) {
+        boolean fairySoulNotFound = fairySoul.shouldRender();
+        if (fairySoulsConfig.highlightFoundSouls || fairySoulNotFound) {
+            fairySoul.extractRendering(collector);
+        }
+    }
+
     private static boolean onChatMessage(Text text, boolean overlay) {
         String message = text.getString();
         if (message.equals("You have already found that Fairy Soul!") || message.equals("§d§lSOUL! §fYou found a §dFairy Soul§f!")) {
@@ -178,16 +193,17 @@ public class FairySouls {
             return;
         }
 
-        Map<BlockPos, ProfileAwareWaypoint> fairiesOnCurrentIsland = fairySouls.get(Utils.getLocationRaw());
+        WaypointIndex<ProfileAwareWaypoint> fairiesOnCurrentIsland = fairySoulIndices.get(Utils.getLocationRaw());
         if (fairiesOnCurrentIsland == null) {
             LOGGER.warn("[Skyblocker] Failed to mark closest fairy soul as found because there are no fairy souls loaded on the current island. NEU repo probably failed to load.");
             return;
         }
 
-        fairiesOnCurrentIsland.values().stream()
+        Vec3d playerPos = player.getEntityPos();
+        fairiesOnCurrentIsland.withinDistance(playerPos, 4).intStream()
+                .mapToObj(fairiesOnCurrentIsland.waypoints()::get)
                 .filter(Waypoint::shouldRender)
-                .min(Comparator.comparingDouble(fairySoul -> fairySoul.pos.getSquaredDistance(player.getEntityPos())))
-                .filter(fairySoul -> fairySoul.pos.getSquaredDistance(player.getEntityPos()) <= 16)
+                .min(Comparator.comparingDouble(fairySoul -> fairySoul.pos.getSquaredDistance(playerPos)))
                 .ifPresent(Waypoint::setFound);
     }
 
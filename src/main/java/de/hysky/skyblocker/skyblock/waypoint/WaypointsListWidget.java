@@ -186,7 +186,7 @@ public class WaypointsListWidget extends ElementListWidget<WaypointsListWidget.A
 	public boolean mouseClicked(Click click, boolean doubled) {
 		if (insertPosition != null) {
 			WaypointEntry entry = new WaypointEntry(insertPosition.groupEntry);
-			insertPosition.groupEntry.group.waypoints().add(insertPosition.position, entry.waypoint);
+			insertPosition.groupEntry.group.addWaypoint(insertPosition.position, entry.waypoint);
 			updateEntries();
 		}
 		return super.mouseClicked(click, doubled);
@@ -291,7 +291,7 @@ public class WaypointsListWidget extends ElementListWidget<WaypointsListWidget.A
 
 			ButtonWidget buttonNewWaypoint = ButtonWidget.builder(Text.translatable("skyblocker.waypoints.new"), ignored -> {
 				WaypointEntry waypointEntry = new WaypointEntry(this);
-				group.waypoints().add(waypointEntry.waypoint);
+				group.addWaypoint(waypointEntry.waypoint);
 				WaypointsListWidget.this.updateEntries();
 				if (collapsed) {
 					collapsedGroups.remove(group);
@@ -443,7 +443,7 @@ public class WaypointsListWidget extends ElementListWidget<WaypointsListWidget.A
 
 			Text deleteText = Text.translatable("selectServer.deleteButton");
 			ButtonWidget buttonDelete = TextIconButtonWidget.builder(deleteText, button -> {
-				groupEntry.group.waypoints().remove(waypoint);
+				groupEntry.group.removeWaypoint(waypoint);
 				WaypointsListWidget.this.updateEntries();
 			}, true).dimension(20, 20).texture(DELETE_ICON, ICON_WIDTH, ICON_HEIGHT).build();
 			buttonDelete.setTooltip(Tooltip.of(deleteText));
@@ -468,8 +468,8 @@ public class WaypointsListWidget extends ElementListWidget<WaypointsListWidget.A
 			int currentIndex = groupEntry.group.waypoints().indexOf(waypoint);
 			int newIndex = Math.clamp(currentIndex + shift, 0, groupEntry.group.waypoints().size() - 1);
 
-			groupEntry.group.waypoints().remove(currentIndex);
-			groupEntry.group.waypoints().add(newIndex, waypoint);
+			groupEntry.group.removeWaypoint(currentIndex);
+			groupEntry.group.addWaypoint(newIndex, waypoint);
 			WaypointsListWidget.this.updateEntries();
 		}
 
@@ -478,7 +478,7 @@ public class WaypointsListWidget extends ElementListWidget<WaypointsListWidget.A
 			int index = groupEntry.group.waypoints().indexOf(waypoint);
 			waypoint = waypoint.withName(name);
 			if (index >= 0) {
-				groupEntry.group.waypoints().set(index, waypoint);
+				groupEntry.group.setWaypoint(index, waypoint);
 			}
 		}
 
@@ -510,7 +510,7 @@ public class WaypointsListWidget extends ElementListWidget<WaypointsListWidget.A
 				if (newValue == currentValue) return;
 				waypoint = wither.apply(newValue);
 				if (index >= 0) {
-					groupEntry.group.waypoints().set(index, waypoint);
+					groupEntry.group.setWaypoint(index, waypoint);
 				}
 			} catch (NumberFormatException e) {
 				Waypoints.LOGGER.warn("[Skyblocker Waypoints] Failed to parse integer: {}", newValueString, e);
@@ -524,7 +524,7 @@ public class WaypointsListWidget extends ElementListWidget<WaypointsListWidget.A
 			if (Arrays.equals(waypoint.colorComponents, colorComponents) && waypoint.alpha == alpha) return;
 			waypoint = waypoint.withColor(colorComponents, alpha);
 			if (index >= 0) {
-				groupEntry.group.waypoints().set(index, waypoint);
+				groupEntry.group.setWaypoint(index, waypoint);
 			}
 			colorPickerButton.color = colorInt;
 		}
@@ -1,7 +1,10 @@
 package de.hysky.skyblocker.utils;
 
+import java.io.IOException;
 import java.util.OptionalDouble;
 
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 
@@ -17,4 +20,40 @@ public record BazaarProduct(String id, String name, OptionalDouble buyPrice, Opt
 			Codec.INT.fieldOf("sellVolume").forGetter(BazaarProduct::sellVolume))
 			.apply(instance, BazaarProduct::new));
 	public static final Codec<Object2ObjectMap<String, BazaarProduct>> MAP_CODEC = CodecUtils.object2ObjectMapCodec(Codec.STRING, CODEC);
+	private static final JsonStreamDecoder<BazaarProduct> DECODER = (reader, previous) -> {
+		String id = null;
+		String name = null;
+		OptionalDouble buyPrice = OptionalDouble.empty();
+		OptionalDouble sellPrice = OptionalDouble.empty();
+		int buyVolume = -1;
+		int sellVolume = -1;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			switch (reader.nextName()) {
+				case "id" -> id = reader.nextString();
+				case "name" -> name = reader.nextString();
+				case "buyPrice" -> buyPrice = nextLenientDouble(reader);
+				case "sellPrice" -> sellPrice = nextLenientDouble(reader);
+				case "buyVolume" -> buyVolume = reader.nextInt();
+				case "sellVolume" -> sellVolume = reader.nextInt();
+				default -> reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		if (id == null || name == null || buyVolume == -1 || sellVolume == -1) throw new IOException("Bazaar product is missing required fields at " + reader.getPath());
+		return new BazaarProduct(id, name, buyPrice, sellPrice, buyVolume, sellVolume);
+	};
+	public static final JsonStreamDecoder<Object2ObjectMap<String, BazaarProduct>> MAP_DECODER = JsonStreamDecoder.object2ObjectMap(DECODER);
+
+	/**
+	 * Matches {@link Codec#lenientOptionalFieldOf(String)}, where anything other than a number is treated as absent.
+	 */
+	private static OptionalDouble nextLenientDouble(JsonReader reader) throws IOException {
+		if (reader.peek() == JsonToken.NUMBER) return OptionalDouble.of(reader.nextDouble());
+
+		reader.skipValue();
+		return OptionalDouble.empty();
+	}
 }
@@ -0,0 +1,162 @@
+package de.hysky.skyblocker.utils;
+
+import de.hysky.skyblocker.annotations.Init;
+import de.hysky.skyblocker.events.WorldEvents;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientWorldEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Keeps the positions of the blocks matching a predicate in the loaded chunks of the client world,
+ * so features can look them up instead of reading the block states of a whole region.
+ * <p>
+ * Chunks are scanned once when they load, skipping the sections whose palette has no matching state,
+ * then kept up to date with block updates and dropped when they unload. Indices are maintained in every world,
+ * so the predicate should be cheap and only match blocks that are rare. Indices should be created during initialization,
+ * before any chunk is loaded, and must only be used on the client thread.
+ */
+public final class BlockIndex {
+	private static final List<BlockIndex> INDICES = new ArrayList<>();
+
+	private final Predicate<BlockState> predicate;
+	/**
+	 * The packed positions of the matching blocks, by the packed position of their chunk.
+	 */
+	private final Long2ObjectMap<LongSet> positionsByChunk = new Long2ObjectOpenHashMap<>();
+	private int size;
+
+	private BlockIndex(Predicate<BlockState> predicate) {
+		this.predicate = predicate;
+	}
+
+	/**
+	 * @param predicate the predicate that the block state must match to be indexed
+	 */
+	public static BlockIndex create(Predicate<BlockState> predicate) {
+		BlockIndex index = new BlockIndex(predicate);
+		INDICES.add(index);
+
+		return index;
+	}
+
+	@Init
+	public static void init() {
+		ClientChunkEvents.CHUNK_LOAD.register(BlockIndex::onChunkLoad);
+		ClientChunkEvents.CHUNK_UNLOAD.register(BlockIndex::onChunkUnload);
+		ClientWorldEvents.AFTER_CLIENT_WORLD_CHANGE.register((client, world) -> INDICES.forEach(BlockIndex::clear));
+		WorldEvents.BLOCK_STATE_UPDATE.register((pos, oldState, newState) -> {
+			for (BlockIndex index : INDICES) {
+				index.update(pos, newState);
+			}
+		});
+	}
+
+	private static void onChunkLoad(ClientWorld world, WorldChunk chunk) {
+		long chunkKey = chunk.getPos().toLong();
+
+		for (BlockIndex index : INDICES) {
+			// The server can send a chunk again without unloading it first
+			index.removeChunk(chunkKey);
+			chunk.forEachBlockMatchingPredicate(index.predicate, (pos, state) -> index.add(chunkKey, pos.asLong()));
+		}
+	}
+
+	private static void onChunkUnload(ClientWorld world, WorldChunk chunk) {
+		long chunkKey = chunk.getPos().toLong();
+
+		for (BlockIndex index : INDICES) {
+			index.removeChunk(chunkKey);
+		}
+	}
+
+	private static long chunkKey(int x, int z) {
+		return ChunkPos.toLong(x >> 4, z >> 4);
+	}
+
+	/**
+	 * Adds or removes the position depending on whether the new state matches the predicate.
+	 */
+	void update(BlockPos pos, BlockState state) {
+		long chunkKey = chunkKey(pos.getX(), pos.getZ());
+
+		if (predicate.test(state)) {
+			add(chunkKey, pos.asLong());
+		} else {
+			LongSet positions = positionsByChunk.get(chunkKey);
+			if (positions == null || !positions.remove(pos.asLong())) return;
+
+			size--;
+			if (positions.isEmpty()) positionsByChunk.remove(chunkKey);
+		}
+	}
+
+	private void add(long chunkKey, long pos) {
+		if (positionsByChunk.computeIfAbsent(chunkKey, key -> new LongOpenHashSet()).add(pos)) size++;
+	}
+
+	private void removeChunk(long chunkKey) {
+		LongSet positions = positionsByChunk.remove(chunkKey);
+		if (positions != null) size -= positions.size();
+	}
+
+	void clear() {
+		positionsByChunk.clear();
+		size = 0;
+	}
+
+	/**
+	 * @return the number of indexed positions
+	 */
+	public int size() {
+		return size;
+	}
+
+	public boolean contains(BlockPos pos) {
+		LongSet positions = positionsByChunk.get(chunkKey(pos.getX(), pos.getZ()));
+		return positions != null && positions.contains(pos.asLong());
+	}
+
+	/**
+	 * Returns the indexed positions at most {@code radius} blocks away from {@code centre} on each axis,
+	 * which is the same box as {@link BlockPos#iterateOutwards(BlockPos, int, int, int)} with the same radius on every axis.
+	 * Only the chunks overlapping the box are visited, so this does not read any block state.
+	 */
+	public List<BlockPos> getWithin(BlockPos centre, int radius) {
+		List<BlockPos> result = new ArrayList<>();
+		if (size == 0) return result;
+
+		int minX = centre.getX() - radius, minY = centre.getY() - radius, minZ = centre.getZ() - radius;
+		int maxX = centre.getX() + radius, maxY = centre.getY() + radius, maxZ = centre.getZ() + radius;
+
+		for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+			for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+				LongSet positions = positionsByChunk.get(ChunkPos.toLong(chunkX, chunkZ));
+				if (positions == null) continue;
+
+				for (LongIterator iterator = positions.iterator(); iterator.hasNext(); ) {
+					long pos = iterator.nextLong();
+					int x = BlockPos.unpackLongX(pos), y = BlockPos.unpackLongY(pos), z = BlockPos.unpackLongZ(pos);
+
+					if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+						result.add(new BlockPos(x, y, z));
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+}
@@ -70,6 +70,45 @@ public class Http {
 		return getDecodedInputStream(response);
 	}
 
+	/**
+	 * Sends a conditional GET request using the validators of the cached response from {@link HttpCache}, if there is one.
+	 * A successful response body is written to the cache while it is read, and is committed once it has been read fully and closed.
+	 *
+	 * @return the response, whose body is {@code null} when the server responded with {@code 304 Not Modified}
+	 */
+	public static CachedResponse sendCachedGetRequest(String url) throws IOException, InterruptedException {
+		HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+				.GET()
+				.header("Accept", "*/*")
+				.header("Accept-Encoding", "gzip, deflate")
+				.header("User-Agent", USER_AGENT)
+				.version(Version.HTTP_2)
+				.uri(URI.create(url));
+
+		HttpCache.Entry entry = HttpCache.get(url);
+		if (entry != null) {
+			if (!entry.etag().isEmpty()) requestBuilder.header("If-None-Match", entry.etag());
+			if (!entry.lastModified().isEmpty()) requestBuilder.header("If-Modified-Since", entry.lastModified());
+		}
+
+		HttpResponse<InputStream> response = HTTP_CLIENT.send(requestBuilder.build(), BodyHandlers.ofInputStream());
+
+		if (response.statusCode() == 304) {
+			response.body().close();
+			HttpCache.recordNotModified(url);
+
+			return new CachedResponse(response.statusCode(), null);
+		}
+
+		InputStream body = getDecodedInputStream(response);
+		if (response.statusCode() == 200) {
+			HttpHeaders headers = response.headers();
+			body = HttpCache.writeThrough(url, getEtag(headers), getLastModified(headers), body);
+		}
+
+		return new CachedResponse(response.statusCode(), body);
+	}
+
 	public static String sendGetRequest(String url) throws IOException, InterruptedException {
 		return sendCacheableGetRequest(url, null).content();
 	}
@@ -159,6 +198,31 @@ public class Http {
 		return Integer.parseInt(headers.firstValue("Age").orElse("-1"));
 	}
 
+	/**
+	 * A response from {@link #sendCachedGetRequest(String)}. Closing it commits the body to the cache if it was read fully.
+	 */
+	public record CachedResponse(int statusCode, @Nullable InputStream body) implements AutoCloseable {
+		public boolean ok() {
+			return statusCode == 200;
+		}
+
+		public boolean notModified() {
+			return statusCode == 304;
+		}
+
+		/**
+		 * Prevents the body from being cached, for example when it turned out to be invalid.
+		 */
+		public void discard() {
+			if (body != null) HttpCache.discard(body);
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (body != null) body.close();
+		}
+	}
+
 	//TODO If ever needed, we could just replace cache status with the response headers and go from there
 	public record ApiResponse(String content, int statusCode, String[] cacheStatuses, int age) implements AutoCloseable {
 
@@ -0,0 +1,346 @@
+package de.hysky.skyblocker.utils;
+
+import com.google.gson.JsonElement;
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import de.hysky.skyblocker.SkyblockerMod;
+import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.literal;
+
+/**
+ * A persistent, size-bounded cache of http response bodies keyed by url, stored under {@code config/skyblocker/http_cache}.
+ * <p>
+ * Bodies are stored gzipped along with their {@code Etag} and {@code Last-Modified} headers, which {@link Http#sendCachedGetRequest(String)}
+ * uses to send conditional requests. The least recently used entries are evicted once the cache grows beyond {@link #MAX_SIZE}.
+ */
+public class HttpCache {
+	private static final Logger LOGGER = LoggerFactory.getLogger(HttpCache.class);
+	private static final Path CACHE_DIR = SkyblockerMod.CONFIG_DIR.resolve("http_cache");
+	private static final Path INDEX_FILE = CACHE_DIR.resolve("index.json");
+	/**
+	 * The maximum size of all compressed bodies on disk, in bytes.
+	 */
+	private static final long MAX_SIZE = 32L * 1024 * 1024;
+	private static final Codec<Map<String, Entry>> INDEX_CODEC = Codec.unboundedMap(Codec.STRING, Entry.CODEC);
+	private static final AtomicInteger HITS = new AtomicInteger();
+	private static final AtomicInteger MISSES = new AtomicInteger();
+	private static final AtomicInteger NOT_MODIFIED = new AtomicInteger();
+	@Nullable
+	private static Map<String, Entry> index;
+
+	private static synchronized Map<String, Entry> getIndex() {
+		if (index == null) {
+			index = new HashMap<>();
+
+			try (BufferedReader reader = Files.newBufferedReader(INDEX_FILE)) {
+				index.putAll(INDEX_CODEC.parse(JsonOps.INSTANCE, SkyblockerMod.GSON.fromJson(reader, JsonElement.class)).getOrThrow());
+			} catch (NoSuchFileException ignored) {
+			} catch (Exception e) {
+				LOGGER.error("[Skyblocker Http Cache] Failed to load the cache index!", e);
+			}
+		}
+
+		return index;
+	}
+
+	/**
+	 * @return the cache entry for the url, or {@code null} if the url is not cached
+	 */
+	@Nullable
+	static synchronized Entry get(String url) {
+		return getIndex().get(url);
+	}
+
+	/**
+	 * Opens the last cached body of the url. Use this to get data before the first request completes.
+	 *
+	 * @return the decompressed body, or {@code null} if the url is not cached
+	 */
+	@Nullable
+	public static InputStream getCachedContent(String url) {
+		Entry entry = get(url);
+		if (entry == null) return null;
+
+		try {
+			InputStream body = new GZIPInputStream(Files.newInputStream(CACHE_DIR.resolve(entry.file())));
+			HITS.incrementAndGet();
+			touch(url);
+
+			return body;
+		} catch (NoSuchFileException e) {
+			remove(url);
+		} catch (IOException e) {
+			LOGGER.error("[Skyblocker Http Cache] Failed to read the cached body of {}!", url, e);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Records a {@code 304 Not Modified} response for the url, which counts as a hit since the cached body is still valid.
+	 */
+	static void recordNotModified(String url) {
+		HITS.incrementAndGet();
+		NOT_MODIFIED.incrementAndGet();
+		touch(url);
+	}
+
+	/**
+	 * Wraps the response body so that everything read from it is also written to the cache.
+	 * The entry is only committed once the body has been read to the end and closed, so partially read bodies are never cached.
+	 */
+	static InputStream writeThrough(String url, String etag, String lastModified, InputStream body) {
+		MISSES.incrementAndGet();
+
+		try {
+			Files.createDirectories(CACHE_DIR);
+			Path tempFile = Files.createTempFile(CACHE_DIR, "body", ".tmp");
+
+			return new WriteThroughInputStream(body, tempFile, new GZIPOutputStream(Files.newOutputStream(tempFile)), url, etag, lastModified);
+		} catch (IOException e) {
+			LOGGER.error("[Skyblocker Http Cache] Failed to create a cache file for {}!", url, e);
+			return body;
+		}
+	}
+
+	private static synchronized void commit(String url, String etag, String lastModified, Path tempFile) throws IOException {
+		String fileName = fileName(url);
+		Files.move(tempFile, CACHE_DIR.resolve(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		getIndex().put(url, new Entry(fileName, etag, lastModified, Files.size(CACHE_DIR.resolve(fileName)), System.currentTimeMillis()));
+		evict();
+		saveIndex();
+	}
+
+	/**
+	 * Removes the cached body of the url, for example when it could not be parsed.
+	 */
+	public static synchronized void invalidate(String url) {
+		remove(url);
+	}
+
+	/**
+	 * Prevents the body returned by {@link #writeThrough(String, String, String, InputStream)} from being committed to the cache when it is closed.
+	 */
+	static void discard(InputStream body) {
+		if (body instanceof WriteThroughInputStream writeThrough) writeThrough.failed = true;
+	}
+
+	/**
+	 * Updates when the url was last used and saves the index, so that the least recently used entries are still evicted first after a restart.
+	 */
+	private static synchronized void touch(String url) {
+		Entry entry = getIndex().get(url);
+		if (entry == null) return;
+
+		index.put(url, entry.withLastUsed(System.currentTimeMillis()));
+		saveIndex();
+	}
+
+	private static synchronized void remove(String url) {
+		Entry entry = getIndex().remove(url);
+		if (entry == null) return;
+
+		try {
+			Files.deleteIfExists(CACHE_DIR.resolve(entry.file()));
+		} catch (IOException e) {
+			LOGGER.error("[Skyblocker Http Cache] Failed to delete the cached body of {}!", url, e);
+		}
+
+		saveIndex();
+	}
+
+	/**
+	 * Removes the least recently used entries until the cache fits in {@link #MAX_SIZE}.
+	 */
+	private static void evict() {
+		long size = index.values().stream().mapToLong(Entry::size).sum();
+		if (size <= MAX_SIZE) return;
+
+		List<Map.Entry<String, Entry>> entries = index.entrySet().stream()
+				.sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsed()))
+				.toList();
+
+		for (Map.Entry<String, Entry> entry : entries) {
+			if (size <= MAX_SIZE) break;
+
+			try {
+				Files.deleteIfExists(CACHE_DIR.resolve(entry.getValue().file()));
+			} catch (IOException e) {
+				LOGGER.error("[Skyblocker Http Cache] Failed to evict the cached body of {}!", entry.getKey(), e);
+			}
+
+			size -= entry.getValue().size();
+			index.remove(entry.getKey());
+		}
+	}
+
+	private static void saveIndex() {
+		try {
+			Files.createDirectories(CACHE_DIR);
+			Path tempFile = Files.createTempFile(CACHE_DIR, "index", ".tmp");
+
+			try (BufferedWriter writer = Files.newBufferedWriter(tempFile)) {
+				SkyblockerMod.GSON_COMPACT.toJson(INDEX_CODEC.encodeStart(JsonOps.INSTANCE, index).getOrThrow(), writer);
+			}
+
+			Files.move(tempFile, INDEX_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (Exception e) {
+			LOGGER.error("[Skyblocker Http Cache] Failed to save the cache index!", e);
+		}
+	}
+
+	private static String fileName(String url) {
+		return UUID.nameUUIDFromBytes(url.getBytes(StandardCharsets.UTF_8)) + ".gz";
+	}
+
+	public static LiteralArgumentBuilder<FabricClientCommandSource> dumpStatsCommand() {
+		return literal("dumpHttpCacheStats")
+				.executes(context -> {
+					long size;
+					int entries;
+
+					synchronized (HttpCache.class) {
+						size = getIndex().values().stream().mapToLong(Entry::size).sum();
+						entries = index.size();
+					}
+
+					int hits = HITS.get();
+					int misses = MISSES.get();
+					String hitRate = hits + misses == 0 ? "N/A" : String.format(Locale.ENGLISH, "%.1f%%", hits * 100d / (hits + misses));
+					context.getSource().sendFeedback(Constants.PREFIX.get().append(Text.literal(String.format(Locale.ENGLISH, "Http Cache - Hits: %d (Not Modified: %d), Misses: %d, Hit Rate: %s, Entries: %d, Size: %.1f KiB", hits, NOT_MODIFIED.get(), misses, hitRate, entries, size / 1024d))));
+
+					return Command.SINGLE_SUCCESS;
+				});
+	}
+
+	record Entry(String file, String etag, String lastModified, long size, long lastUsed) {
+		private static final Codec<Entry> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+				Codec.STRING.fieldOf("file").forGetter(Entry::file),
+				Codec.STRING.optionalFieldOf("etag", "").forGetter(Entry::etag),
+				Codec.STRING.optionalFieldOf("lastModified", "").forGetter(Entry::lastModified),
+				Codec.LONG.fieldOf("size").forGetter(Entry::size),
+				Codec.LONG.fieldOf("lastUsed").forGetter(Entry::lastUsed)
+		).apply(instance, Entry::new));
+
+		private Entry withLastUsed(long lastUsed) {
+			return new Entry(file, etag, lastModified, size, lastUsed);
+		}
+	}
+
+	/**
+	 * Copies everything read from the response body into the gzipped cache file.
+	 */
+	private static class WriteThroughInputStream extends FilterInputStream {
+		private final Path tempFile;
+		private final OutputStream cacheOutput;
+		private final String url;
+		private final String etag;
+		private final String lastModified;
+		private boolean reachedEnd;
+		private boolean failed;
+
+		private WriteThroughInputStream(InputStream body, Path tempFile, OutputStream cacheOutput, String url, String etag, String lastModified) {
+			super(body);
+			this.tempFile = tempFile;
+			this.cacheOutput = cacheOutput;
+			this.url = url;
+			this.etag = etag;
+			this.lastModified = lastModified;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+
+			if (b == -1) {
+				reachedEnd = true;
+			} else if (!failed) {
+				try {
+					cacheOutput.write(b);
+				} catch (IOException e) {
+					failed = true;
+				}
+			}
+
+			return b;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) throws IOException {
+			int read = super.read(bytes, offset, length);
+
+			if (read == -1) {
+				reachedEnd = true;
+			} else if (!failed) {
+				try {
+					cacheOutput.write(bytes, offset, read);
+				} catch (IOException e) {
+					failed = true;
+				}
+			}
+
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			// Skipped bytes would be missing from the cached body
+			failed = true;
+			return super.skip(n);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				try {
+					cacheOutput.close();
+
+					if (reachedEnd && !failed) {
+						commit(url, etag, lastModified, tempFile);
+					}
+				} catch (IOException e) {
+					LOGGER.error("[Skyblocker Http Cache] Failed to write the cached body of {}!", url, e);
+				} finally {
+					Files.deleteIfExists(tempFile);
+				}
+			}
+		}
+	}
+}
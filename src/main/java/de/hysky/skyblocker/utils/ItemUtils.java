@@ -14,18 +14,15 @@ import de.hysky.skyblocker.SkyblockerMod;
 import de.hysky.skyblocker.debug.Debug;
 import de.hysky.skyblocker.skyblock.hunting.Attribute;
 import de.hysky.skyblocker.skyblock.hunting.Attributes;
+import de.hysky.skyblocker.skyblock.item.CraftCosts;
 import de.hysky.skyblocker.skyblock.item.PetInfo;
+import de.hysky.skyblocker.skyblock.item.PriceIndex;
 import de.hysky.skyblocker.skyblock.item.SkyblockItemRarity;
-import de.hysky.skyblocker.skyblock.item.tooltip.adders.CraftPriceTooltip;
 import de.hysky.skyblocker.skyblock.item.tooltip.adders.ObtainedDateTooltip;
-import de.hysky.skyblocker.skyblock.item.tooltip.info.TooltipInfoType;
 import de.hysky.skyblocker.utils.networth.NetworthCalculator;
-import io.github.moulberry.repo.data.NEUItem;
 import it.unimi.dsi.fastutil.doubles.DoubleBooleanPair;
 import it.unimi.dsi.fastutil.ints.IntIntPair;
 import it.unimi.dsi.fastutil.longs.LongBooleanPair;
-import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
 import net.azureaaron.networth.Calculation;
 import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
 import net.minecraft.component.ComponentChanges;
@@ -323,31 +320,18 @@ public final class ItemUtils {
 	 * and the {@code right boolean} indicating if the price was based on complete data.
 	 */
 	public static @NotNull DoubleBooleanPair getItemPrice(@Nullable String skyblockApiId, boolean useBazaarBuyPrice) {
-		Object2ObjectMap<String, BazaarProduct> bazaarPrices = TooltipInfoType.BAZAAR.getData();
-		Object2DoubleMap<String> lowestBinPrices = TooltipInfoType.LOWEST_BINS.getData();
+		PriceIndex index = PriceIndex.get();
+		int slot = index.getSlot(skyblockApiId);
 
-		if (skyblockApiId == null || skyblockApiId.isEmpty() || bazaarPrices == null || lowestBinPrices == null) return DoubleBooleanPair.of(0, false);
-
-		if (bazaarPrices.containsKey(skyblockApiId)) {
-			BazaarProduct product = bazaarPrices.get(skyblockApiId);
-			OptionalDouble price = useBazaarBuyPrice ? product.buyPrice() : product.sellPrice();
-
-			return DoubleBooleanPair.of(price.orElse(0d), price.isPresent());
-		}
-
-		if (lowestBinPrices.containsKey(skyblockApiId)) {
-			return DoubleBooleanPair.of(lowestBinPrices.getDouble(skyblockApiId), true);
-		}
-
-		return DoubleBooleanPair.of(0, false);
+		return DoubleBooleanPair.of(index.getPrice(slot, useBazaarBuyPrice), index.isPriceComplete(slot, useBazaarBuyPrice));
 	}
 
+	/**
+	 * @return the cheapest cost to craft one of the item, or {@code 0} if it cannot be crafted
+	 * @see CraftCosts
+	 */
 	public static double getCraftCost(String skyblockApiId) {
-		NEUItem neuItem = NEURepoManager.getItemByNeuId(skyblockApiId);
-		if (neuItem != null && !neuItem.getRecipes().isEmpty()) {
-			return CraftPriceTooltip.getItemCost(neuItem.getRecipes().getFirst(), 0);
-		}
-		return 0;
+		return CraftCosts.get().getCraftCost(skyblockApiId);
 	}
 
 	/**
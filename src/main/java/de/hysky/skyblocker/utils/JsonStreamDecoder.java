@@ -0,0 +1,105 @@
+package de.hysky.skyblocker.utils;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Decodes json directly from a {@link JsonReader} without building a {@link com.google.gson.JsonElement} tree first.
+ * Used for large data like prices, where going through a codec would allocate a tree with tens of thousands of nodes on every refresh.
+ * <p>
+ * Decoders produce the same result as the equivalent codec in {@link CodecUtils}.
+ *
+ * @param <T> the type of the decoded value
+ */
+@FunctionalInterface
+public interface JsonStreamDecoder<T> {
+	/**
+	 * Decodes the next value from the reader.
+	 *
+	 * @param previous the previously decoded value, used to size the new value so that it does not have to grow while decoding
+	 */
+	T decode(JsonReader reader, @Nullable T previous) throws IOException;
+
+	/**
+	 * Decodes the whole stream, which must only contain a single json value.
+	 */
+	default T decode(InputStream stream, @Nullable T previous) throws IOException {
+		JsonReader reader = new JsonReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+		T value = decode(reader, previous);
+
+		// Also makes sure that the stream is read to the end
+		if (reader.peek() != JsonToken.END_DOCUMENT) throw new IOException("Expected the end of the document but was " + reader.peek());
+
+		return value;
+	}
+
+	/**
+	 * @see CodecUtils#object2DoubleMapCodec(com.mojang.serialization.Codec)
+	 */
+	static JsonStreamDecoder<Object2DoubleMap<String>> object2DoubleMap() {
+		return (reader, previous) -> {
+			Object2DoubleMap<String> map = new Object2DoubleOpenHashMap<>(expectedSize(previous));
+
+			reader.beginObject();
+			while (reader.hasNext()) {
+				map.put(reader.nextName(), reader.nextDouble());
+			}
+			reader.endObject();
+
+			return map;
+		};
+	}
+
+	/**
+	 * @see CodecUtils#object2IntMapCodec(com.mojang.serialization.Codec)
+	 */
+	static JsonStreamDecoder<Object2IntMap<String>> object2IntMap() {
+		return (reader, previous) -> {
+			Object2IntMap<String> map = new Object2IntOpenHashMap<>(expectedSize(previous));
+
+			reader.beginObject();
+			while (reader.hasNext()) {
+				// Same as the codec, which truncates decimals instead of failing
+				map.put(reader.nextName(), (int) reader.nextDouble());
+			}
+			reader.endObject();
+
+			return map;
+		};
+	}
+
+	/**
+	 * @see CodecUtils#object2ObjectMapCodec(com.mojang.serialization.Codec, com.mojang.serialization.Codec)
+	 */
+	static <V> JsonStreamDecoder<Object2ObjectMap<String, V>> object2ObjectMap(JsonStreamDecoder<V> valueDecoder) {
+		return (reader, previous) -> {
+			Object2ObjectMap<String, V> map = new Object2ObjectOpenHashMap<>(expectedSize(previous));
+
+			reader.beginObject();
+			while (reader.hasNext()) {
+				map.put(reader.nextName(), valueDecoder.decode(reader, null));
+			}
+			reader.endObject();
+
+			return map;
+		};
+	}
+
+	private static int expectedSize(@Nullable Map<?, ?> previous) {
+		return previous != null ? previous.size() : Hash.DEFAULT_INITIAL_SIZE;
+	}
+}
@@ -26,7 +26,11 @@ import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.MergeCommand;
 import org.eclipse.jgit.api.PullResult;
 import org.eclipse.jgit.api.errors.TransportException;
+import org.eclipse.jgit.diff.DiffEntry;
 import org.eclipse.jgit.errors.RepositoryNotFoundException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.treewalk.CanonicalTreeParser;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +39,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -65,13 +70,17 @@ public class NEURepoManager {
 	 */
 	private static final NEURecipeCache RECIPE_CACHE = NEURecipeCache.forRepo(NEU_REPO);
 	/**
-	 * Store after load runnables so we can execute them after each time the repository is (re)loaded.
+	 * Store after load tasks so we can execute them after each time the repository is (re)loaded.
 	 */
-	private static final List<Runnable> afterLoadTasks = new ArrayList<>();
+	private static final List<Consumer<@Nullable Set<@NEUId String>>> afterLoadTasks = new CopyOnWriteArrayList<>();
 	/**
 	 * A cache containing NEUItems indexed by their display name.
 	 */
 	private static Multimap<String, NEUItem> nameToNEUItem = HashMultimap.create();
+	/**
+	 * @see #getCommit()
+	 */
+	private static volatile @Nullable String commit;
 
 	/**
 	 * Adds command to update the repository manually from ingame.
@@ -83,12 +92,12 @@ public class NEURepoManager {
 		ClientCommandRegistrationCallback.EVENT.register((dispatcher, registryAccess) ->
 				dispatcher.register(ClientCommandManager.literal(SkyblockerMod.NAMESPACE)
 						.then(ClientCommandManager.literal("updateRepository").executes(context -> {
-							deleteAndDownloadRepository(context.getSource().getPlayer());
+							updateRepository(context.getSource().getPlayer());
 							return Command.SINGLE_SUCCESS;
 						}))
 				)
 		);
-		runAsyncAfterLoad(NEURepoManager::loadNameToNEUItemMap); // Loads the NEUItem name cache after the repository is loaded.
+		runAsyncAfterUpdate(NEURepoManager::loadNameToNEUItemMap); // Loads the NEUItem name cache after the repository is loaded.
 	}
 
 
@@ -99,6 +108,7 @@ public class NEURepoManager {
 	private static CompletableFuture<Boolean> loadRepository() {
 		return CompletableFuture.supplyAsync(() -> {
 			boolean success = true;
+			String previousCommit = commit;
 			try {
 				if (Files.isDirectory(NEURepoManager.LOCAL_REPO_DIR)) {
 					try (Git localRepo = Git.open(NEURepoManager.LOCAL_REPO_DIR.toFile())) {
@@ -133,42 +143,116 @@ public class NEURepoManager {
 				success = false;
 			}
 
+			commit = readHeadCommit();
+			Set<String> changedItems = previousCommit != null && commit != null ? getChangedItems(previousCommit, commit) : null;
 			try {
 				NEU_REPO.reload();
 			} catch (Exception e) {
 				LOGGER.error("[Skyblocker NEU Repo] Encountered unknown exception while loading NEU Repository", e);
 				success = false;
+				changedItems = null;
 			}
-			return success;
-		}).thenApplyAsync(success -> {
-			CompletableFuture.allOf(afterLoadTasks.stream().map(CompletableFuture::runAsync).toArray(CompletableFuture[]::new)).exceptionally(e -> {
+			return new LoadResult(success, changedItems);
+		}).thenApplyAsync(result -> {
+			CompletableFuture.allOf(afterLoadTasks.stream().map(task -> CompletableFuture.runAsync(() -> task.accept(result.changedItems()))).toArray(CompletableFuture[]::new)).exceptionally(e -> {
 				LOGGER.error("[Skyblocker NEU Repo] Encountered unknown exception while running after load tasks", e);
 				return null;
 			});
-			return success;
+			return result.success();
 		});
 	}
 
+	/**
+	 * Computes the items that changed between two commits from the changed files.
+	 * Items are changed if their json or their stack overlay changed.
+	 *
+	 * @return the ids of the changed items, or {@code null} if every item should be considered changed,
+	 * either because files other than items changed that items are built from, or because the commits could not be compared
+	 */
+	private static @Nullable Set<@NEUId String> getChangedItems(String from, String to) {
+		if (from.equals(to)) return Set.of();
+
+		try (Git localRepo = Git.open(NEURepoManager.LOCAL_REPO_DIR.toFile()); ObjectReader reader = localRepo.getRepository().newObjectReader()) {
+			CanonicalTreeParser oldTree = new CanonicalTreeParser();
+			oldTree.reset(reader, localRepo.getRepository().resolve(from + "^{tree}"));
+			CanonicalTreeParser newTree = new CanonicalTreeParser();
+			newTree.reset(reader, localRepo.getRepository().resolve(to + "^{tree}"));
+
+			Set<String> changedItems = new HashSet<>();
+			for (DiffEntry entry : localRepo.diff().setOldTree(oldTree).setNewTree(newTree).setShowNameAndStatusOnly(true).call()) {
+				for (String path : List.of(entry.getOldPath(), entry.getNewPath())) {
+					if (path.equals(DiffEntry.DEV_NULL)) continue;
+					// Pet items are built with the pet numbers from the constants
+					if (path.startsWith("constants/")) return null;
+
+					String fileName = path.substring(path.lastIndexOf('/') + 1);
+					if (path.startsWith("items/") && fileName.endsWith(".json")) {
+						changedItems.add(fileName.substring(0, fileName.length() - ".json".length()));
+					} else if (path.startsWith("itemsOverlay/") && fileName.endsWith(".snbt")) {
+						changedItems.add(fileName.substring(0, fileName.length() - ".snbt".length()));
+					}
+				}
+			}
+
+			LOGGER.info("[Skyblocker NEU Repo] {} items changed between commits {} and {}", changedItems.size(), from, to);
+			return changedItems;
+		} catch (Exception e) {
+			LOGGER.warn("[Skyblocker NEU Repo] Failed to compute the changed items between commits {} and {}, reloading all items", from, to, e);
+			return null;
+		}
+	}
+
+	private record LoadResult(boolean success, @Nullable Set<@NEUId String> changedItems) {}
+
+	private static @Nullable String readHeadCommit() {
+		try (Git localRepo = Git.open(NEURepoManager.LOCAL_REPO_DIR.toFile())) {
+			ObjectId head = localRepo.getRepository().resolve(org.eclipse.jgit.lib.Constants.HEAD);
+			return head != null ? head.name() : null;
+		} catch (Exception e) {
+			LOGGER.warn("[Skyblocker NEU Repo] Failed to read the commit of the local NEU Repository", e);
+			return null;
+		}
+	}
+
 	/**
 	 * Caches NEUItems by display name using the NEU repository.
+	 * Only the changed items are updated if possible, unchanged items keep their previously parsed instance.
 	 */
-	private static void loadNameToNEUItemMap() {
-		nameToNEUItem = NEU_REPO.getItems()
-				.getItems()
-				.values()
-				.stream()
-				.collect(Multimaps.toMultimap(item -> Formatting.strip(item.getDisplayName()), Function.identity(), HashMultimap::create));
+	private static void loadNameToNEUItemMap(@Nullable Set<@NEUId String> changedItems) {
+		if (changedItems == null) {
+			nameToNEUItem = NEU_REPO.getItems()
+					.getItems()
+					.values()
+					.stream()
+					.collect(Multimaps.toMultimap(item -> Formatting.strip(item.getDisplayName()), Function.identity(), HashMultimap::create));
+			return;
+		}
+		if (changedItems.isEmpty()) return;
+
+		// Update a copy so that lookups never see a partially updated map
+		Multimap<String, NEUItem> updated = HashMultimap.create(nameToNEUItem);
+		updated.entries().removeIf(entry -> changedItems.contains(entry.getValue().getSkyblockItemId()));
+		for (String id : changedItems) {
+			NEUItem item = getItemByNeuId(id);
+			if (item != null) updated.put(Formatting.strip(item.getDisplayName()), item);
+		}
+		nameToNEUItem = updated;
 	}
 
 	/**
-	 * Differs from {@link #deleteAndDownloadRepositoryInternal(PlayerEntity)} in that this method checks if the repository is currently loading to prevent spamming the command.
+	 * Pulls the latest changes of the repository, so that only the changed items are reloaded.
+	 * Checks if the repository is currently loading to prevent spamming the command.
+	 * Falls back to {@link #deleteAndDownloadRepositoryInternal(PlayerEntity)} if the local repository is corrupted or can't be updated.
 	 */
-	private static void deleteAndDownloadRepository(PlayerEntity player) {
+	private static void updateRepository(PlayerEntity player) {
 		if (isLoading()) {
 			sendMessage(player, Text.translatable("skyblocker.updateRepository.loading"));
 			return;
 		}
-		deleteAndDownloadRepositoryInternal(player);
+		REPO_LOADING = CompletableFuture.runAsync(() -> {
+			sendMessage(player, Text.translatable("skyblocker.updateRepository.start"));
+			sendMessage(player, Text.translatable(loadRepository().join() ? "skyblocker.updateRepository.success" : "skyblocker.updateRepository.failed"));
+		});
 	}
 
 	private static void deleteAndDownloadRepositoryInternal(PlayerEntity player) {
@@ -201,16 +285,38 @@ public class NEURepoManager {
 	 * @return a completable future of the given runnable
 	 */
 	public static CompletableFuture<Void> runAsyncAfterLoad(Runnable runnable) {
-		return REPO_LOADING.thenRunAsync(runnable).exceptionally(e -> {
+		return runAsyncAfterUpdate(changedItems -> runnable.run());
+	}
+
+	/**
+	 * Runs the given task after the NEU repo is initialized and after each update, with the ids of the items that changed since the previous load.
+	 * Use this instead of {@link #runAsyncAfterLoad(Runnable)} to only invalidate the changed items.
+	 *
+	 * @param task the task to run, which receives the ids of the changed items, or {@code null} if every item should be considered changed, such as on the first load
+	 * @return a completable future of the first run of the given task
+	 */
+	public static CompletableFuture<Void> runAsyncAfterUpdate(Consumer<@Nullable Set<@NEUId String>> task) {
+		return REPO_LOADING.thenRunAsync(() -> task.accept(null)).exceptionally(e -> {
 			LOGGER.error("[Skyblocker NEU Repo] Encountered unknown exception while running after load task", e);
 			return null;
-		}).thenRun(() -> afterLoadTasks.add(runnable)); // Add to the list after so it doesn't get executed twice.
+		}).thenRun(() -> afterLoadTasks.add(task)); // Add to the list after so it doesn't get executed twice.
 	}
 
 	public static void forEachItem(Consumer<NEUItem> consumer) {
 		NEU_REPO.getItems().getItems().values().forEach(consumer);
 	}
 
+	public static Collection<NEUItem> getItems() {
+		return NEU_REPO.getItems().getItems().values();
+	}
+
+	/**
+	 * @return the commit the local repository was at when it was last loaded, or {@code null} if it's unknown
+	 */
+	public static @Nullable String getCommit() {
+		return commit;
+	}
+
 	public static @Nullable NEUItem getItemByNeuId(String neuId) {
 		return NEU_REPO.getItems().getItemBySkyblockId(neuId);
 	}
@@ -0,0 +1,203 @@
+package de.hysky.skyblocker.utils;
+
+import de.hysky.skyblocker.annotations.Init;
+import de.hysky.skyblocker.events.SkyblockEvents;
+import de.hysky.skyblocker.skyblock.slayers.SlayerManager;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientWorldEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.scoreboard.Scoreboard;
+import net.minecraft.scoreboard.ScoreboardDisplaySlot;
+import net.minecraft.scoreboard.ScoreboardEntry;
+import net.minecraft.scoreboard.ScoreboardObjective;
+import net.minecraft.scoreboard.Team;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keeps the lines of the sidebar in {@link Utils#TEXT_SCOREBOARD} and {@link Utils#STRING_SCOREBOARD} and the values parsed from them.
+ * <p>
+ * The sidebar is marked dirty when the server sends a scoreboard or team packet, and rebuilt from the sidebar objective's scores at the end of that tick,
+ * so the lines are never stale and nothing is done while the sidebar does not change. When the lines change, the parsed values are updated in a single pass.
+ * On Skyblock, the slayer quest is then updated, and {@link SkyblockEvents#PURSE_CHANGE} and {@link SkyblockEvents#AREA_CHANGE} are fired if they changed.
+ */
+public final class Sidebar {
+	private static final Logger LOGGER = LoggerFactory.getLogger(Sidebar.class);
+	/**
+	 * The order of the lines in the sidebar, which is the same as {@link net.minecraft.client.gui.hud.InGameHud}'s.
+	 */
+	private static final Comparator<ScoreboardEntry> LINE_ORDER = Comparator.comparingInt(ScoreboardEntry::value).reversed().thenComparing(ScoreboardEntry::owner, String.CASE_INSENSITIVE_ORDER);
+	private static boolean dirty = true;
+	/**
+	 * Whether the parsed values have been published since joining Skyblock, so they are published on join even if the sidebar did not change.
+	 */
+	private static boolean published = false;
+	@NotNull
+	private static String islandArea = "Unknown";
+	@Nullable
+	private static String purseLine;
+	private static int bits = 0;
+	@Nullable
+	private static String slayerQuest;
+	@Nullable
+	private static String slayerQuestProgress;
+
+	private Sidebar() {}
+
+	@Init
+	public static void init() {
+		ClientTickEvents.END_CLIENT_TICK.register(Sidebar::update);
+		ClientWorldEvents.AFTER_CLIENT_WORLD_CHANGE.register((client, world) -> markDirty());
+		SkyblockEvents.JOIN.register(() -> {
+			published = false;
+			markDirty();
+		});
+	}
+
+	/**
+	 * Called after the server updates the scoreboard or a team, so the sidebar is rebuilt at the end of the tick.
+	 */
+	public static void markDirty() {
+		dirty = true;
+	}
+
+	private static void update(MinecraftClient client) {
+		if (!dirty) return;
+		dirty = false;
+
+		ObjectArrayList<Text> textLines = new ObjectArrayList<>();
+		ObjectArrayList<String> stringLines = new ObjectArrayList<>();
+		readLines(client.world, textLines, stringLines);
+
+		boolean changed = !stringLines.equals(Utils.STRING_SCOREBOARD) || !textLines.equals(Utils.TEXT_SCOREBOARD);
+		if (changed) {
+			Utils.TEXT_SCOREBOARD.clear();
+			Utils.TEXT_SCOREBOARD.addAll(textLines);
+			Utils.STRING_SCOREBOARD.clear();
+			Utils.STRING_SCOREBOARD.addAll(stringLines);
+			parse(stringLines);
+		}
+
+		if (Utils.isOnSkyblock() && (changed || !published)) {
+			published = true;
+			Utils.updatePurse(purseLine);
+			SlayerManager.getSlayerBossInfo(true);
+			Utils.updateArea(islandArea);
+		}
+	}
+
+	/**
+	 * Reads the title and the lines of the sidebar objective, from top to bottom, skipping lines without a team or with only whitespace.
+	 */
+	private static void readLines(@Nullable ClientWorld world, List<Text> textLines, List<String> stringLines) {
+		if (world == null) return;
+
+		Scoreboard scoreboard = world.getScoreboard();
+		ScoreboardObjective objective = scoreboard.getObjectiveForSlot(ScoreboardDisplaySlot.SIDEBAR);
+		if (objective == null) return;
+
+		textLines.add(Text.empty().append(objective.getDisplayName().copy()));
+		stringLines.add(objective.getDisplayName().getString());
+
+		List<ScoreboardEntry> entries = new ObjectArrayList<>(scoreboard.getScoreboardEntries(objective));
+		entries.sort(LINE_ORDER);
+		for (ScoreboardEntry entry : entries) {
+			Team team = scoreboard.getScoreHolderTeam(entry.owner());
+			if (team == null) continue;
+
+			String line = team.getPrefix().getString() + team.getSuffix().getString();
+			if (line.isBlank()) continue;
+
+			textLines.add(Text.empty().append(team.getPrefix().copy()).append(team.getSuffix().copy()));
+			stringLines.add(Formatting.strip(line));
+		}
+	}
+
+	/**
+	 * Parses the values of the sidebar in a single pass over its lines.
+	 */
+	@VisibleForTesting
+	static void parse(List<String> lines) {
+		islandArea = "Unknown";
+		purseLine = null;
+		bits = 0;
+		slayerQuest = null;
+		slayerQuestProgress = null;
+		boolean areaFound = false;
+		String bitsLine = null;
+
+		for (int i = 0; i < lines.size(); i++) {
+			String line = lines.get(i);
+
+			if (!areaFound && (line.contains("⏣") || line.contains("ф") /* Rift */)) {
+				islandArea = line.strip();
+				areaFound = true;
+			} else if (purseLine == null && (line.contains("Piggy:") || line.contains("Purse:"))) {
+				purseLine = line;
+			} else if (line.contains("Bits")) {
+				bitsLine = line;
+			} else if (line.equals("Slayer Quest")) {
+				slayerQuest = i + 1 < lines.size() ? lines.get(i + 1).strip() : null;
+				slayerQuestProgress = i + 2 < lines.size() ? lines.get(i + 2).strip() : null;
+			}
+		}
+
+		if (bitsLine != null) {
+			try {
+				bits = Integer.parseInt(bitsLine.replaceAll("[^0-9]", ""));
+			} catch (NumberFormatException e) {
+				LOGGER.error("[Skyblocker Sidebar] Failed to parse bits. Input: '{}'", bitsLine, e);
+			}
+		}
+	}
+
+	/**
+	 * @return the line of the sidebar with the island area, such as {@code ⏣ Village}, or {@code Unknown} if there is none
+	 */
+	@NotNull
+	public static String getIslandArea() {
+		return islandArea;
+	}
+
+	/**
+	 * @return the line of the sidebar with the purse or piggy bank, or null if there is none
+	 */
+	@VisibleForTesting
+	@Nullable
+	static String getPurseLine() {
+		return purseLine;
+	}
+
+	/**
+	 * @return the bits shown in the sidebar, or 0 if they are not shown
+	 */
+	public static int getBits() {
+		return bits;
+	}
+
+	/**
+	 * @return the slayer boss and tier of the current slayer quest, such as {@code Revenant Horror IV}, or null if there is no slayer quest in the sidebar
+	 */
+	@Nullable
+	public static String getSlayerQuest() {
+		return slayerQuest;
+	}
+
+	/**
+	 * @return the line under the slayer boss and tier, such as {@code Slay the boss!} or the combat XP gained, or null if there is no slayer quest in the sidebar
+	 */
+	@Nullable
+	public static String getSlayerQuestProgress() {
+		return slayerQuestProgress;
+	}
+}
@@ -6,7 +6,6 @@ import com.mojang.util.UndashedUuid;
 import de.hysky.skyblocker.annotations.Init;
 import de.hysky.skyblocker.events.SkyblockEvents;
 import de.hysky.skyblocker.mixins.accessors.MessageHandlerAccessor;
-import de.hysky.skyblocker.skyblock.slayers.SlayerManager;
 import de.hysky.skyblocker.utils.purse.PurseChangeCause;
 import de.hysky.skyblocker.utils.scheduler.MessageScheduler;
 import de.hysky.skyblocker.utils.scheduler.Scheduler;
@@ -28,19 +27,17 @@ import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.client.network.PlayerListEntry;
-import net.minecraft.client.world.ClientWorld;
 import net.minecraft.registry.BuiltinRegistries;
 import net.minecraft.registry.RegistryWrapper;
-import net.minecraft.scoreboard.*;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.Util;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
-import java.util.Collections;
 import java.util.Locale;
 import java.util.OptionalInt;
 import java.util.UUID;
@@ -113,6 +110,8 @@ public class Utils {
 	private static boolean firstProfileUpdate = true;
 
     /**
+     * The lines of the sidebar from top to bottom, starting with the title, which are kept up to date by {@link Sidebar}.
+     *
      * @implNote The parent text will always be empty, the actual text content is inside the text's siblings.
      */
     public static final ObjectArrayList<Text> TEXT_SCOREBOARD = new ObjectArrayList<>();
@@ -271,11 +270,10 @@ public class Utils {
     }
 
     /**
-     * Updates all the fields stored in this class from the sidebar, and player list.
+     * Updates all the fields stored in this class from the player list. The fields parsed from the sidebar are updated by {@link Sidebar}.
      */
     public static void update() {
         MinecraftClient client = MinecraftClient.getInstance();
-        updateScoreboard(client);
         updatePlayerPresence(client);
         updateFromPlayerList(client);
     }
@@ -307,17 +305,12 @@ public class Utils {
         return (!serverAddress.isEmpty() && serverAddress.equalsIgnoreCase(ALTERNATE_HYPIXEL_ADDRESS)) || serverAddress.contains("hypixel.net") || serverAddress.contains("hypixel.io") || serverBrand.contains("Hypixel BungeeCord");
     }
 
+    /**
+     * @return the line of the sidebar with the island area, or {@code Unknown} if there is none
+     * @see Sidebar#getIslandArea()
+     */
     public static String getIslandArea() {
-        try {
-            for (String sidebarLine : STRING_SCOREBOARD) {
-                if (sidebarLine.contains("⏣") || sidebarLine.contains("ф") /* Rift */) {
-                    return sidebarLine.strip();
-                }
-            }
-        } catch (IndexOutOfBoundsException e) {
-            LOGGER.error("[Skyblocker] Failed to get location from sidebar", e);
-        }
-        return "Unknown";
+        return Sidebar.getIslandArea();
     }
 
 	public static double getPurse() {
@@ -325,96 +318,37 @@ public class Utils {
 	}
 
     public static int getBits() {
-        int bits = 0;
-        String bitsString = null;
-        try {
-            for (String sidebarLine : STRING_SCOREBOARD) {
-                if (sidebarLine.contains("Bits")) bitsString = sidebarLine;
-            }
-            if (bitsString != null) {
-                bits = Integer.parseInt(bitsString.replaceAll("[^0-9.]", "").strip());
-            }
-        } catch (IndexOutOfBoundsException e) {
-            LOGGER.error("[Skyblocker] Failed to get bits from sidebar", e);
-        }
-        return bits;
-    }
-
-    private static void updateScoreboard(MinecraftClient client) {
-        try {
-            TEXT_SCOREBOARD.clear();
-            STRING_SCOREBOARD.clear();
-
-            ClientWorld world = client.world;
-            if (world == null) return;
-
-            Scoreboard scoreboard = world.getScoreboard();
-            ScoreboardObjective objective = scoreboard.getObjectiveForSlot(ScoreboardDisplaySlot.FROM_ID.apply(1));
-            ObjectArrayList<Text> textLines = new ObjectArrayList<>();
-            ObjectArrayList<String> stringLines = new ObjectArrayList<>();
-
-            for (ScoreHolder scoreHolder : scoreboard.getKnownScoreHolders()) {
-                //Limit to just objectives displayed in the scoreboard (specifically sidebar objective)
-                if (scoreboard.getScoreHolderObjectives(scoreHolder).containsKey(objective)) {
-                    Team team = scoreboard.getScoreHolderTeam(scoreHolder.getNameForScoreboard());
-
-                    if (team != null) {
-                        Text textLine = Text.empty().append(team.getPrefix().copy()).append(team.getSuffix().copy());
-                        String strLine = team.getPrefix().getString() + team.getSuffix().getString();
-
-                        if (!strLine.trim().isEmpty()) {
-                            String formatted = Formatting.strip(strLine);
-
-                            textLines.add(textLine);
-                            stringLines.add(formatted);
-                        }
-                    }
-                }
-            }
-
-            if (objective != null) {
-                stringLines.add(objective.getDisplayName().getString());
-                textLines.add(Text.empty().append(objective.getDisplayName().copy()));
-
-                Collections.reverse(stringLines);
-                Collections.reverse(textLines);
-            }
-
-            TEXT_SCOREBOARD.addAll(textLines);
-            STRING_SCOREBOARD.addAll(stringLines);
-			if (isOnSkyblock) {
-				Utils.updatePurse();
-				SlayerManager.getSlayerBossInfo(true);
-				updateArea();
-			}
-        } catch (NullPointerException e) {
-            //Do nothing
-        }
+        return Sidebar.getBits();
     }
 
-    private static void updateArea() {
-		String areaName = getIslandArea().replaceAll("[⏣ф]", "").strip();
+    /**
+     * Called by {@link Sidebar} on Skyblock when the sidebar changes.
+     */
+    static void updateArea(String islandArea) {
+		String areaName = islandArea.replaceAll("[⏣ф]", "").strip();
 		Area oldArea = area;
 		area = Area.from(areaName);
 
 		if (!oldArea.equals(area)) SkyblockEvents.AREA_CHANGE.invoker().onSkyblockAreaChange(area);
     }
 
-	public static void updatePurse() {
-		STRING_SCOREBOARD.stream().filter(s -> s.contains("Piggy:") || s.contains("Purse:")).findFirst().ifPresent(purseString -> {
-			Matcher matcher = PURSE.matcher(purseString);
-			if (matcher.find()) {
-				try {
-					double newPurse = Double.parseDouble(matcher.group("purse").replaceAll(",", ""));
-					double changeSinceLast = newPurse - Utils.purse;
-					if (changeSinceLast == 0) return;
-					SkyblockEvents.PURSE_CHANGE.invoker().onPurseChange(changeSinceLast, PurseChangeCause.getCause(changeSinceLast));
-					Utils.purse = newPurse;
-				} catch (NumberFormatException e) {
-					LOGGER.error("[Skyblocker] Failed to parse purse string. Input: '{}'", purseString, e);
-				}
+    /**
+     * Called by {@link Sidebar} on Skyblock when the sidebar changes.
+     */
+	static void updatePurse(@Nullable String purseString) {
+		if (purseString == null) return;
+		Matcher matcher = PURSE.matcher(purseString);
+		if (matcher.find()) {
+			try {
+				double newPurse = Double.parseDouble(matcher.group("purse").replaceAll(",", ""));
+				double changeSinceLast = newPurse - Utils.purse;
+				if (changeSinceLast == 0) return;
+				SkyblockEvents.PURSE_CHANGE.invoker().onPurseChange(changeSinceLast, PurseChangeCause.getCause(changeSinceLast));
+				Utils.purse = newPurse;
+			} catch (NumberFormatException e) {
+				LOGGER.error("[Skyblocker] Failed to parse purse string. Input: '{}'", purseString, e);
 			}
-		});
+		}
 	}
 
 	private static void updateFromPlayerList(MinecraftClient client) {
@@ -0,0 +1,83 @@
+package de.hysky.skyblocker.utils.chat;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import de.hysky.skyblocker.skyblock.chat.ChatRulesHandler;
+import de.hysky.skyblocker.utils.Constants;
+import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.literal;
+
+/**
+ * The invoker of {@link ChatMessageListener#EVENT}, which only runs the listeners whose {@link ChatMessageListener#requiredLiterals() required literals}
+ * are contained in the message, found in a single pass with a {@link LiteralIndex}. The listeners still run in the order they were registered.
+ */
+public final class ChatDispatcher implements ChatMessageListener {
+	private static Flattened lastFlattened;
+
+	private final ChatMessageListener[] listeners;
+	private final ChatStats[] stats;
+	private final LiteralIndex index;
+
+	ChatDispatcher(ChatMessageListener[] listeners) {
+		this.listeners = listeners;
+		this.stats = Arrays.stream(listeners).map(listener -> new ChatStats(listener.getClass().getSimpleName())).toArray(ChatStats[]::new);
+		this.index = LiteralIndex.of(Arrays.stream(listeners).map(ChatMessageListener::requiredLiterals).toList());
+	}
+
+	/**
+	 * Returns the plain string of a chat message without formatting codes. The result for the last message is kept,
+	 * so that the chat listeners, chat rules and the other game message callbacks only flatten each message once.
+	 */
+	public static String flatten(Text message) {
+		Flattened flattened = lastFlattened;
+		if (flattened != null && flattened.message() == message) return flattened.plain();
+
+		String plain = Formatting.strip(message.getString());
+		lastFlattened = new Flattened(message, plain);
+		return plain;
+	}
+
+	@Override
+	public ChatFilterResult onMessage(Text message, String asString) {
+		BitSet candidates = index.candidates(asString);
+
+		for (int i = 0; i < listeners.length; i++) {
+			if (!candidates.get(i)) {
+				stats[i].skip();
+				continue;
+			}
+
+			long start = System.nanoTime();
+			ChatFilterResult result = listeners[i].onMessage(message, asString);
+			stats[i].record(System.nanoTime() - start, result != ChatFilterResult.PASS);
+
+			if (result != ChatFilterResult.PASS) return result;
+		}
+
+		return ChatFilterResult.PASS;
+	}
+
+	public static LiteralArgumentBuilder<FabricClientCommandSource> dumpStatsCommand() {
+		return literal("dumpChatStats")
+				.executes(context -> {
+					List<ChatStats> listenerStats = EVENT.invoker() instanceof ChatDispatcher dispatcher ? Arrays.asList(dispatcher.stats) : List.of();
+
+					Stream.concat(listenerStats.stream(), ChatRulesHandler.getStats().stream())
+							.sorted(Comparator.comparingLong(ChatStats::getNanos).reversed())
+							.forEach(stats -> context.getSource().sendFeedback(Constants.PREFIX.get().append(Text.literal(stats.toString()))));
+
+					return Command.SINGLE_SUCCESS;
+				});
+	}
+
+	private record Flattened(Text message, String plain) {}
+}
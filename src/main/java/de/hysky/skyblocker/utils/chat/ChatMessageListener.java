@@ -18,21 +18,15 @@ import net.fabricmc.fabric.api.event.EventFactory;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.text.Text;
-import net.minecraft.util.Formatting;
+
+import java.util.List;
 
 @FunctionalInterface
 public interface ChatMessageListener {
 	/**
 	 * An event called when a game message is received. Register your listeners in {@link ChatMessageListener#init()}.
 	 */
-	Event<ChatMessageListener> EVENT = EventFactory.createArrayBacked(ChatMessageListener.class,
-			(listeners) -> (message, asString) -> {
-				for (ChatMessageListener listener : listeners) {
-					ChatFilterResult result = listener.onMessage(message, asString);
-					if (result != ChatFilterResult.PASS) return result;
-				}
-				return ChatFilterResult.PASS;
-			});
+	Event<ChatMessageListener> EVENT = EventFactory.createArrayBacked(ChatMessageListener.class, ChatDispatcher::new);
 
 	/**
 	 * Registers {@link ChatMessageListener}s to {@link ChatMessageListener#EVENT} and registers {@link ChatMessageListener#EVENT} to {@link ClientReceiveMessageEvents#ALLOW_GAME}
@@ -81,7 +75,7 @@ public interface ChatMessageListener {
 				return true;
 			}
 
-			ChatFilterResult result = EVENT.invoker().onMessage(message, Formatting.strip(message.getString()));
+			ChatFilterResult result = EVENT.invoker().onMessage(message, ChatDispatcher.flatten(message));
 
 			switch (result) {
 				case ACTION_BAR -> {
@@ -107,4 +101,15 @@ public interface ChatMessageListener {
 	}
 
 	ChatFilterResult onMessage(Text message, String asString);
+
+	/**
+	 * The literals of which at least one is contained in every message this listener does not pass, compared case-insensitively.
+	 * The listener is skipped for messages without any of them.
+	 *
+	 * @return the required literals, or an empty list to run the listener for every message
+	 * @see RegexLiterals
+	 */
+	default List<String> requiredLiterals() {
+		return List.of();
+	}
 }
@@ -3,15 +3,23 @@ package de.hysky.skyblocker.utils.chat;
 import net.minecraft.text.Text;
 import org.intellij.lang.annotations.Language;
 
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public abstract class ChatPatternListener implements ChatMessageListener {
     protected static final String NUMBER = "-?[0-9]{1,3}(?>,[0-9]{3})*(?:\\.[1-9])?";
     public final Pattern pattern;
+    private final List<String> requiredLiterals;
 
     protected ChatPatternListener(@Language("RegExp") String pattern) {
         this.pattern = Pattern.compile(pattern);
+        this.requiredLiterals = RegexLiterals.requiredLiterals(pattern);
+    }
+
+    @Override
+    public List<String> requiredLiterals() {
+        return requiredLiterals;
     }
 
     @Override
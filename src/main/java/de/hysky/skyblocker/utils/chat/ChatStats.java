@@ -0,0 +1,38 @@
+package de.hysky.skyblocker.utils.chat;
+
+import java.util.Locale;
+
+/**
+ * Counts how often a chat listener or chat rule was run, skipped by the {@link LiteralIndex}, and matched, along with the time spent running it.
+ * Only updated and read on the client thread.
+ */
+public final class ChatStats {
+	private final String name;
+	private long runs;
+	private long skips;
+	private long matches;
+	private long nanos;
+
+	public ChatStats(String name) {
+		this.name = name;
+	}
+
+	public void skip() {
+		skips++;
+	}
+
+	public void record(long nanos, boolean matched) {
+		runs++;
+		this.nanos += nanos;
+		if (matched) matches++;
+	}
+
+	public long getNanos() {
+		return nanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(Locale.ENGLISH, "%s - Runs: %d, Skipped: %d, Matches: %d, Total: %.2f ms, Average: %.2f µs", name, runs, skips, matches, nanos / 1e6, runs == 0 ? 0 : nanos / 1e3 / runs);
+	}
+}
@@ -0,0 +1,141 @@
+package de.hysky.skyblocker.utils.chat;
+
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * An Aho-Corasick automaton over the literals of a list of owners, such as chat listeners or chat rules,
+ * which finds every owner with a literal in a message in a single pass.
+ * <p>
+ * Literals and messages are compared case-insensitively, and literals may only contain ASCII characters.
+ * Characters in the message that do not lowercase to ASCII end any literal, so an owner is a candidate for every message
+ * that contains one of its literals exactly or in a different case. Owners without literals are always candidates.
+ */
+public final class LiteralIndex {
+	private static final int ALPHABET = 128;
+	private static final int[] NO_OWNERS = new int[0];
+
+	private final int owners;
+	/**
+	 * The transitions of the automaton, indexed by {@code state * ALPHABET + character}, with the failure links already followed.
+	 */
+	private final int[] transitions;
+	/**
+	 * The owners with a literal that ends in each state, including the literals that are suffixes of it.
+	 */
+	private final int[][] outputs;
+	private final BitSet always;
+
+	private LiteralIndex(int owners, int[] transitions, int[][] outputs, BitSet always) {
+		this.owners = owners;
+		this.transitions = transitions;
+		this.outputs = outputs;
+		this.always = always;
+	}
+
+	/**
+	 * @param literals the literals of each owner, of which at least one must be contained in a message for the owner to be a candidate,
+	 *                 or an empty list if the owner is a candidate for every message
+	 */
+	public static LiteralIndex of(List<List<String>> literals) {
+		List<int[]> trie = new ArrayList<>();
+		List<IntSet> ends = new ArrayList<>();
+		BitSet always = new BitSet(literals.size());
+		trie.add(newState());
+		ends.add(new IntLinkedOpenHashSet());
+
+		for (int owner = 0; owner < literals.size(); owner++) {
+			List<String> ownerLiterals = literals.get(owner);
+			if (ownerLiterals.isEmpty() || ownerLiterals.stream().anyMatch(String::isEmpty)) {
+				always.set(owner);
+				continue;
+			}
+
+			for (String literal : ownerLiterals) {
+				int state = 0;
+				for (int i = 0; i < literal.length(); i++) {
+					int c = Character.toLowerCase(literal.charAt(i));
+					if (c >= ALPHABET) throw new IllegalArgumentException("Literals may only contain ASCII characters: " + literal);
+
+					if (trie.get(state)[c] < 0) {
+						trie.get(state)[c] = trie.size();
+						trie.add(newState());
+						ends.add(new IntLinkedOpenHashSet());
+					}
+					state = trie.get(state)[c];
+				}
+				ends.get(state).add(owner);
+			}
+		}
+
+		// Breadth first, so that the failure link of a state is complete before the state itself
+		int[] transitions = new int[trie.size() * ALPHABET];
+		int[] failures = new int[trie.size()];
+		IntArrayFIFOQueue queue = new IntArrayFIFOQueue();
+		queue.enqueue(0);
+
+		while (!queue.isEmpty()) {
+			int state = queue.dequeueInt();
+			int[] children = trie.get(state);
+
+			for (int c = 0; c < ALPHABET; c++) {
+				int child = children[c];
+				if (child < 0) {
+					transitions[state * ALPHABET + c] = state == 0 ? 0 : transitions[failures[state] * ALPHABET + c];
+				} else {
+					transitions[state * ALPHABET + c] = child;
+					failures[child] = state == 0 ? 0 : transitions[failures[state] * ALPHABET + c];
+					ends.get(child).addAll(ends.get(failures[child]));
+					queue.enqueue(child);
+				}
+			}
+		}
+
+		int[][] outputs = new int[trie.size()][];
+		for (int state = 0; state < outputs.length; state++) {
+			outputs[state] = ends.get(state).isEmpty() ? NO_OWNERS : new IntArrayList(ends.get(state)).toIntArray();
+		}
+
+		return new LiteralIndex(literals.size(), transitions, outputs, always);
+	}
+
+	private static int[] newState() {
+		int[] children = new int[ALPHABET];
+		Arrays.fill(children, -1);
+		return children;
+	}
+
+	public int size() {
+		return owners;
+	}
+
+	/**
+	 * @return the owners with a literal contained in the message, along with the owners without literals
+	 */
+	public BitSet candidates(CharSequence message) {
+		BitSet candidates = (BitSet) always.clone();
+		int state = 0;
+
+		for (int i = 0; i < message.length(); i++) {
+			int c = Character.toLowerCase(message.charAt(i));
+			if (c >= ALPHABET) {
+				state = 0;
+				continue;
+			}
+
+			state = transitions[state * ALPHABET + c];
+			for (int owner : outputs[state]) {
+				candidates.set(owner);
+			}
+		}
+
+		return candidates;
+	}
+}
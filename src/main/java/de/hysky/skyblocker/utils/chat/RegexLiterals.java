@@ -0,0 +1,324 @@
+package de.hysky.skyblocker.utils.chat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Extracts literals that every string matched by a regex must contain, for pre-filtering messages with a {@link LiteralIndex}.
+ * <p>
+ * The extraction is conservative: at least one of the returned literals is a substring of any string the regex can match or find.
+ * Only ASCII characters are kept in literals, so they stay correct when compared case-insensitively by the {@link LiteralIndex}.
+ * Whenever a construct is not understood, such as inline flags or quotes, no literals are returned and the regex always has to be run.
+ */
+public final class RegexLiterals {
+	private RegexLiterals() {}
+
+	/**
+	 * @return the literals of which at least one is contained in every match of the regex, or an empty list if there are none
+	 */
+	public static List<String> requiredLiterals(String regex) {
+		try {
+			Parser parser = new Parser(regex);
+			List<String> literals = parser.alternation();
+			// An unbalanced closing parenthesis, the regex would not have compiled
+			if (parser.pos != regex.length() || literals == null) return List.of();
+			return literals;
+		} catch (UnsupportedRegexException e) {
+			return List.of();
+		}
+	}
+
+	/**
+	 * @return the longest run of ASCII characters in the string, which is contained in every string that contains the given string
+	 */
+	public static List<String> requiredLiteralsOf(String string) {
+		String longest = "";
+		int start = 0;
+
+		for (int i = 0; i <= string.length(); i++) {
+			if (i == string.length() || string.charAt(i) >= 128) {
+				if (i - start > longest.length()) longest = string.substring(start, i);
+				start = i + 1;
+			}
+		}
+
+		return longest.isEmpty() ? List.of() : List.of(longest);
+	}
+
+	/**
+	 * A recursive descent parser over the subset of the {@link java.util.regex.Pattern} syntax that can contribute literals.
+	 */
+	private static class Parser {
+		private final String regex;
+		private int pos;
+
+		private Parser(String regex) {
+			this.regex = regex;
+		}
+
+		/**
+		 * @return the literals of which one must be contained in every match of any branch, or {@code null} if a branch has none
+		 */
+		private List<String> alternation() {
+			List<String> literals = sequence();
+			boolean required = literals != null;
+			List<String> union = required ? new ArrayList<>(literals) : null;
+
+			while (pos < regex.length() && regex.charAt(pos) == '|') {
+				pos++;
+				List<String> branch = sequence();
+				if (branch == null) required = false;
+				if (required) {
+					for (String literal : branch) {
+						if (!union.contains(literal)) union.add(literal);
+					}
+				}
+			}
+
+			return required ? union : null;
+		}
+
+		/**
+		 * @return the best literals of which one must be contained in every match of the sequence, or {@code null} if there are none
+		 */
+		private List<String> sequence() {
+			Sequence sequence = new Sequence();
+
+			while (pos < regex.length() && regex.charAt(pos) != '|' && regex.charAt(pos) != ')') {
+				char c = regex.charAt(pos++);
+				switch (c) {
+					case '(' -> {
+						List<String> group = group();
+						sequence.flush();
+						if (quantifier() != Sequence.OPTIONAL && group != null) sequence.consider(group);
+					}
+					case '[' -> {
+						characterClass();
+						quantifier();
+						sequence.flush();
+					}
+					case '.', '^', '$' -> {
+						quantifier();
+						sequence.flush();
+					}
+					case '\\' -> {
+						int literal = escape();
+						sequence.append(literal, quantifier());
+					}
+					case '*', '+', '?', '{' -> throw UnsupportedRegexException.INSTANCE;
+					default -> sequence.append(c < 128 ? c : -1, quantifier());
+				}
+			}
+
+			sequence.flush();
+			return sequence.best;
+		}
+
+		/**
+		 * Parses a group after the opening parenthesis, including the closing parenthesis.
+		 *
+		 * @return the literals required by the group, or {@code null} if it has none or is a zero width lookaround
+		 */
+		private List<String> group() {
+			boolean lookaround = false;
+
+			if (regex.startsWith("?", pos)) {
+				if (regex.startsWith("?:", pos) || regex.startsWith("?>", pos)) {
+					pos += 2;
+				} else if (regex.startsWith("?=", pos) || regex.startsWith("?!", pos)) {
+					pos += 2;
+					lookaround = true;
+				} else if (regex.startsWith("?<=", pos) || regex.startsWith("?<!", pos)) {
+					pos += 3;
+					lookaround = true;
+				} else if (regex.startsWith("?<", pos)) {
+					int end = regex.indexOf('>', pos);
+					if (end < 0) throw UnsupportedRegexException.INSTANCE;
+					pos = end + 1;
+				} else {
+					// Inline flags can change how the rest of the regex matches
+					throw UnsupportedRegexException.INSTANCE;
+				}
+			}
+
+			List<String> literals = alternation();
+			if (pos >= regex.length() || regex.charAt(pos) != ')') throw UnsupportedRegexException.INSTANCE;
+			pos++;
+
+			return lookaround ? null : literals;
+		}
+
+		/**
+		 * Skips a character class after the opening bracket, including nested classes.
+		 */
+		private void characterClass() {
+			int depth = 1;
+			skipClassStart();
+
+			while (pos < regex.length()) {
+				char c = regex.charAt(pos++);
+				if (c == '\\') {
+					pos++;
+				} else if (c == '[') {
+					depth++;
+					skipClassStart();
+				} else if (c == ']' && --depth == 0) {
+					return;
+				}
+			}
+
+			throw UnsupportedRegexException.INSTANCE;
+		}
+
+		/**
+		 * Skips the negation and a closing bracket at the start of a class, which is a literal bracket.
+		 */
+		private void skipClassStart() {
+			if (pos < regex.length() && regex.charAt(pos) == '^') pos++;
+			if (pos < regex.length() && regex.charAt(pos) == ']') pos++;
+		}
+
+		/**
+		 * Parses an escape sequence after the backslash.
+		 *
+		 * @return the escaped literal ASCII character, or {@code -1} if the escape does not match a single known character
+		 */
+		private int escape() {
+			if (pos >= regex.length()) throw UnsupportedRegexException.INSTANCE;
+			char c = regex.charAt(pos++);
+
+			if (!Character.isLetterOrDigit(c)) return c < 128 ? c : -1;
+
+			switch (c) {
+				case 'Q', 'E' -> throw UnsupportedRegexException.INSTANCE;
+				case 'p', 'P', 'N', 'x' -> {
+					if (pos < regex.length() && regex.charAt(pos) == '{') {
+						skipPast('}');
+					} else {
+						pos += c == 'x' ? 2 : c == 'N' ? 0 : 1;
+					}
+				}
+				case 'k' -> skipPast('>');
+				case 'u' -> pos += 4;
+				case 'c' -> pos++;
+				case '0' -> {
+					while (pos < regex.length() && regex.charAt(pos) >= '0' && regex.charAt(pos) <= '7') pos++;
+				}
+				default -> {
+					// Back references, character classes, boundaries and control characters
+					while (Character.isDigit(c) && pos < regex.length() && Character.isDigit(regex.charAt(pos))) pos++;
+				}
+			}
+
+			return -1;
+		}
+
+		private void skipPast(char end) {
+			int index = regex.indexOf(end, pos);
+			if (index < 0) throw UnsupportedRegexException.INSTANCE;
+			pos = index + 1;
+		}
+
+		/**
+		 * Parses an optional quantifier along with its lazy or possessive suffix.
+		 *
+		 * @return {@link Sequence#ONCE} if there is no quantifier, {@link Sequence#OPTIONAL} if the atom can be left out, and {@link Sequence#REPEATED} otherwise
+		 */
+		private int quantifier() {
+			if (pos >= regex.length()) return Sequence.ONCE;
+
+			int min;
+			switch (regex.charAt(pos)) {
+				case '*', '?' -> {
+					pos++;
+					min = 0;
+				}
+				case '+' -> {
+					pos++;
+					min = 1;
+				}
+				case '{' -> {
+					int end = regex.indexOf('}', pos);
+					if (end < 0) throw UnsupportedRegexException.INSTANCE;
+					String bounds = regex.substring(pos + 1, end);
+					int comma = bounds.indexOf(',');
+
+					try {
+						min = Integer.parseInt(comma < 0 ? bounds : bounds.substring(0, comma));
+					} catch (NumberFormatException e) {
+						throw UnsupportedRegexException.INSTANCE;
+					}
+
+					pos = end + 1;
+				}
+				default -> {
+					return Sequence.ONCE;
+				}
+			}
+
+			if (pos < regex.length() && (regex.charAt(pos) == '?' || regex.charAt(pos) == '+')) pos++;
+			return min == 0 ? Sequence.OPTIONAL : Sequence.REPEATED;
+		}
+	}
+
+	/**
+	 * Tracks the current run of literal characters in a sequence and the best literals found so far.
+	 */
+	private static class Sequence {
+		private static final int OPTIONAL = 0;
+		private static final int ONCE = 1;
+		/**
+		 * The atom is required, but can be repeated.
+		 */
+		private static final int REPEATED = 2;
+
+		private final StringBuilder run = new StringBuilder();
+		private List<String> best;
+
+		/**
+		 * @param literal    the literal character, or {@code -1} if the atom is not a single literal character
+		 * @param quantifier how often the atom is repeated
+		 */
+		private void append(int literal, int quantifier) {
+			if (literal < 0 || quantifier == OPTIONAL) {
+				flush();
+			} else if (quantifier == ONCE) {
+				run.append((char) literal);
+			} else {
+				// The atom is repeated, so it can only be the end of the current run and the start of the next one
+				run.append((char) literal);
+				flush();
+				run.append((char) literal);
+			}
+		}
+
+		private void flush() {
+			if (!run.isEmpty()) consider(List.of(run.toString()));
+			run.setLength(0);
+		}
+
+		/**
+		 * Keeps the literals whose shortest literal is the longest, since they are hit by the fewest messages.
+		 */
+		private void consider(List<String> literals) {
+			if (literals.isEmpty()) return;
+			if (best == null || shortest(literals) > shortest(best) || shortest(literals) == shortest(best) && literals.size() < best.size()) {
+				best = literals;
+			}
+		}
+
+		private static int shortest(List<String> literals) {
+			int shortest = Integer.MAX_VALUE;
+			for (String literal : literals) shortest = Math.min(shortest, literal.length());
+			return shortest;
+		}
+	}
+
+	private static class UnsupportedRegexException extends RuntimeException {
+		private static final UnsupportedRegexException INSTANCE = new UnsupportedRegexException();
+
+		private UnsupportedRegexException() {
+			super(null, null, false, false);
+		}
+	}
+}
@@ -29,6 +29,16 @@ public interface SlotTextAdder extends ContainerMatcher {
 	@NotNull
 	List<SlotText> getText(@Nullable Slot slot, @NotNull ItemStack stack, int slotId);
 
+	/**
+	 * The text of cacheable adders is cached by the {@link SlotTextManager} and only recomputed when the stack in the slot changes,
+	 * the server updates the slots of the screen, or the screen changes.
+	 *
+	 * @return {@code false} if the text of this adder also depends on anything else, like the state of a solver updated while the screen is drawn
+	 */
+	default boolean isCacheable() {
+		return true;
+	}
+
 	@Override
 	default boolean isEnabled() {
 		if (getConfigInformation() == null) return SlotTextManager.isEnabled();
@@ -15,4 +15,24 @@ public interface TooltipAdder extends ContainerMatcher {
 	void addToTooltip(@Nullable Slot focusedSlot, ItemStack stack, List<Text> lines);
 
 	int getPriority();
+
+	/**
+	 * The lines added by cacheable adders are memoized by the {@link de.hysky.skyblocker.skyblock.item.tooltip.TooltipManager TooltipManager}
+	 * and only recomputed when the stack, the focused slot, the config, the prices or the {@link #getCacheVersion() cache version} of an adder change.
+	 *
+	 * @return {@code false} if the output of this adder also depends on anything else, like the current time, held keys or the state of a solver
+	 */
+	default boolean isCacheable() {
+		return true;
+	}
+
+	/**
+	 * Cacheable adders whose output depends on other data that is published asynchronously can return its version here,
+	 * so that the memoized lines are recomputed when it changes.
+	 *
+	 * @return a number that changes whenever the other data this adder depends on changes
+	 */
+	default int getCacheVersion() {
+		return 0;
+	}
 }
@@ -0,0 +1,33 @@
+package de.hysky.skyblocker.utils.data;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The single background thread that writes asynchronously saved {@link JsonData}, so writes to the same file never overlap
+ * and saves requested in quick succession can be coalesced into one write.
+ */
+final class DataWriter {
+	private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+			.name("Skyblocker Data Writer")
+			.daemon()
+			.factory());
+
+	private DataWriter() {}
+
+	/**
+	 * Runs the task on the writer thread after the delay.
+	 */
+	static void schedule(Runnable task, long delayMillis) {
+		EXECUTOR.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Runs the task on the writer thread after the tasks that are already due.
+	 */
+	static CompletableFuture<Void> submit(Runnable task) {
+		return CompletableFuture.runAsync(task, EXECUTOR);
+	}
+}
@@ -1,11 +1,14 @@
 package de.hysky.skyblocker.utils.data;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.JsonOps;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import de.hysky.skyblocker.SkyblockerMod;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
 import net.minecraft.util.StringIdentifiable;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -13,15 +16,50 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+/**
+ * Data that is loaded from and saved to a json file with a codec.
+ * <p>
+ * Files are written to a temporary file next to them first and then moved over the old file, so a crash while saving never leaves a truncated file.
+ * Files whose name ends with {@code .gz} are gzipped.
+ * <p>
+ * Asynchronous saves are written by a single background thread after {@link #SAVE_DELAY_MILLIS}, and all saves requested before the write starts
+ * are coalesced into that one write, so data can be saved whenever it changes.
+ */
 public class JsonData<T> {
 	private static final Logger LOGGER = LoggerFactory.getLogger(JsonData.class);
+	/**
+	 * How long an asynchronous save waits for further saves of the same data before writing the file.
+	 */
+	public static final long SAVE_DELAY_MILLIS = 1000;
+	/**
+	 * Called after data was written to its file, on the thread that wrote it.
+	 */
+	public static final Event<Saved> SAVED = EventFactory.createArrayBacked(Saved.class, callbacks -> (file, bytes, encodeNanos) -> {
+		for (Saved callback : callbacks) {
+			callback.onSaved(file, bytes, encodeNanos);
+		}
+	});
 	@NotNull
 	private final Path file;
 	@NotNull
@@ -33,6 +71,11 @@ public class JsonData<T> {
 	private T data; // Default: defaultValue
 	@Nullable
 	private CompletableFuture<Void> loaded;
+	/**
+	 * The future of the asynchronous save that has been requested but not started yet, which is {@code null} when the data is not dirty.
+	 */
+	@Nullable
+	private CompletableFuture<Void> pendingSave;
 
 	/**
 	 * @param file         The file to load/save the data from/to.
@@ -97,8 +140,8 @@ public class JsonData<T> {
 	 * There's no need to set the data manually with the result of the completed future, as that is already done in {@link #loadInternal()}.
 	 */
 	public CompletableFuture<Void> init() {
-		// Make sure saving always completes by waiting on the save CompletableFuture.
-		ClientLifecycleEvents.CLIENT_STOPPING.register(client -> save().join());
+		// Make sure saving always completes by writing immediately instead of waiting for the save delay.
+		ClientLifecycleEvents.CLIENT_STOPPING.register(client -> saveNow());
 		return load();
 	}
 
@@ -114,7 +157,7 @@ public class JsonData<T> {
 
 	// Note: JsonOps.COMPRESSED must be used if you're using maps with non-string keys
 	private void loadInternal() {
-		try (BufferedReader reader = Files.newBufferedReader(file)) {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(openInput(), StandardCharsets.UTF_8))) {
 			// Atomic operation to prevent concurrent modification
 			data = codec.parse(compressed ? JsonOps.COMPRESSED : JsonOps.INSTANCE, SkyblockerMod.GSON.fromJson(reader, JsonObject.class)).getOrThrow();
 		} catch (NoSuchFileException ignored) {
@@ -123,12 +166,67 @@ public class JsonData<T> {
 		}
 	}
 
+	private InputStream openInput() throws IOException {
+		InputStream input = Files.newInputStream(file);
+		return isGzipped() ? new GZIPInputStream(input) : input;
+	}
+
+	private boolean isGzipped() {
+		return file.getFileName().toString().endsWith(".gz");
+	}
+
+	/**
+	 * Saves the data, asynchronously if {@link #saveAsync} is set.
+	 * An asynchronous save is written after {@link #SAVE_DELAY_MILLIS}, together with the other saves requested until then.
+	 *
+	 * @return A CompletableFuture that completes when the data has been written.
+	 */
 	public CompletableFuture<Void> save() {
+		if (!saveAsync) {
+			saveInternal();
+			return CompletableFuture.completedFuture(null);
+		}
+
+		synchronized (this) {
+			if (pendingSave == null) {
+				pendingSave = new CompletableFuture<>();
+				DataWriter.schedule(this::savePending, SAVE_DELAY_MILLIS);
+			}
+			return pendingSave;
+		}
+	}
+
+	/**
+	 * Saves the data without waiting for the save delay, including any pending asynchronous save, and blocks until the data has been written.
+	 */
+	public void saveNow() {
 		if (saveAsync) {
-			return CompletableFuture.runAsync(this::saveInternal);
+			DataWriter.submit(() -> saveAndComplete(takePendingSave())).join();
 		} else {
 			saveInternal();
-			return CompletableFuture.completedFuture(null);
+		}
+	}
+
+	private void savePending() {
+		CompletableFuture<Void> pending = takePendingSave();
+		// Already written by saveNow
+		if (pending != null) saveAndComplete(pending);
+	}
+
+	/**
+	 * Clears the pending save before writing, so saves requested while writing schedule another write with the newer data.
+	 */
+	private synchronized CompletableFuture<Void> takePendingSave() {
+		CompletableFuture<Void> pending = pendingSave;
+		pendingSave = null;
+		return pending;
+	}
+
+	private void saveAndComplete(@Nullable CompletableFuture<Void> pending) {
+		try {
+			saveInternal();
+		} finally {
+			if (pending != null) pending.complete(null);
 		}
 	}
 
@@ -141,18 +239,49 @@ public class JsonData<T> {
 		}
 
 		try {
-			Files.createDirectories(file.getParent());
-		} catch (Exception e) {
-			LOGGER.error("[Skyblocker Json Data] Failed to create directories for file: `{}`", file, e);
-		}
+			long start = System.nanoTime();
+			byte[] bytes = encode();
+			long encodeNanos = System.nanoTime() - start;
 
-		try (BufferedWriter writer = Files.newBufferedWriter(file)) {
-			SkyblockerMod.GSON.toJson(codec.encodeStart(compressed ? JsonOps.COMPRESSED : JsonOps.INSTANCE, data).getOrThrow(), writer);
+			writeAtomically(bytes);
+			LOGGER.debug("[Skyblocker Json Data] Saved {} bytes to file `{}`, encoded in {} µs", bytes.length, file, encodeNanos / 1000);
+			SAVED.invoker().onSaved(file, bytes.length, encodeNanos);
 		} catch (Exception e) {
 			LOGGER.error("[Skyblocker Json Data] Failed to save data to file: `{}`", file, e);
 		}
 	}
 
+	private byte[] encode() throws IOException {
+		JsonElement json = codec.encodeStart(compressed ? JsonOps.COMPRESSED : JsonOps.INSTANCE, data).getOrThrow();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (OutputStream output = isGzipped() ? new GZIPOutputStream(bytes) : bytes; Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8)) {
+			SkyblockerMod.GSON.toJson(json, writer);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Writes and syncs a temporary file next to the file, then moves it over the file.
+	 */
+	private void writeAtomically(byte[] bytes) throws IOException {
+		Files.createDirectories(file.getParent());
+		Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			while (buffer.hasRemaining()) channel.write(buffer);
+			channel.force(true);
+		}
+
+		try {
+			Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
 	/**
 	 * @deprecated Use {@link #isLoaded()} instead.
 	 */
@@ -188,4 +317,14 @@ public class JsonData<T> {
 		this.data = data;
 		return oldData;
 	}
+
+	@FunctionalInterface
+	public interface Saved {
+		/**
+		 * @param file        The file that was written.
+		 * @param bytes       The number of bytes written, after gzipping.
+		 * @param encodeNanos The time it took to encode the data, in nanoseconds.
+		 */
+		void onSaved(Path file, long bytes, long encodeNanos);
+	}
 }
@@ -65,15 +65,17 @@ public class ProfiledData<T> extends JsonData<Object2ObjectOpenHashMap<UUID, Obj
 	 *                   Do not save async if saving is done with {@link ClientLifecycleEvents#CLIENT_STOPPING}.
 	 */
 	public ProfiledData(@NotNull Path file, @NotNull Codec<T> codec, boolean compressed, boolean loadAsync, boolean saveAsync) {
-		super(file,
-				// Mojang's internal Codec implementation uses ImmutableMaps so we'll just xmap those away and type safety while we're at it :')
-				Codec.unboundedMap(Uuids.CODEC,
-						Codec.unboundedMap(Codec.STRING, codec).xmap(Object2ObjectOpenHashMap::new, Function.identity())
-				).xmap(Object2ObjectOpenHashMap::new, Function.identity()),
-				new Object2ObjectOpenHashMap<>(),
-				compressed,
-				loadAsync,
-				saveAsync);
+		super(file, createCodec(codec), new Object2ObjectOpenHashMap<>(), compressed, loadAsync, saveAsync);
+	}
+
+	/**
+	 * Creates the codec for the data of all accounts and profiles, which is also used by {@link ShardedProfiledData} to migrate from this format.
+	 */
+	static <T> Codec<Object2ObjectOpenHashMap<UUID, Object2ObjectOpenHashMap<String, T>>> createCodec(Codec<T> codec) {
+		// Mojang's internal Codec implementation uses ImmutableMaps so we'll just xmap those away and type safety while we're at it :')
+		return Codec.unboundedMap(Uuids.CODEC,
+				Codec.unboundedMap(Codec.STRING, codec).xmap(Object2ObjectOpenHashMap::new, Function.identity())
+		).xmap(Object2ObjectOpenHashMap::new, Function.identity());
 	}
 
 	/**
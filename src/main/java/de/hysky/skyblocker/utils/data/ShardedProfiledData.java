@@ -0,0 +1,213 @@
+package de.hysky.skyblocker.utils.data;
+
+import com.google.gson.JsonObject;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import de.hysky.skyblocker.SkyblockerMod;
+import de.hysky.skyblocker.utils.Utils;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
+import net.minecraft.util.StringIdentifiable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Like {@link ProfiledData}, but stores the data of each profile in its own file at {@code <directory>/<uuid>/<profile id>.json},
+ * so only the data of the current profile is loaded and saved.
+ * <p>
+ * A profile's file is loaded the first time its data is accessed, and the data of every other profile is saved and evicted at that point,
+ * since only one profile is active at a time. Data stored with {@link ProfiledData} in the legacy file is split into profile files on {@link #init()},
+ * after which the legacy file is renamed with a {@code .migrated} suffix.
+ * <p>
+ * The data must only be accessed on the client thread.
+ */
+public class ShardedProfiledData<T> {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ShardedProfiledData.class);
+	@NotNull
+	private final Path directory;
+	@Nullable
+	private final Path legacyFile;
+	@NotNull
+	private final Codec<T> codec;
+	@NotNull
+	private final Supplier<T> defaultValue;
+	private final boolean compressed;
+	private final Map<Shard, JsonData<T>> loadedShards = new Object2ObjectOpenHashMap<>();
+	@Nullable
+	private CompletableFuture<Void> migrated;
+
+	/**
+	 * @param directory    The directory to load/save the profile files from/to.
+	 * @param legacyFile   The file that the data was stored in with {@link ProfiledData}, which is migrated into the profile files, or null if there is none.
+	 * @param codec        The codec to use for serializing/deserializing the data of a profile.
+	 * @param defaultValue The supplier of the data for profiles that do not have a file yet.
+	 */
+	public ShardedProfiledData(@NotNull Path directory, @Nullable Path legacyFile, @NotNull Codec<T> codec, @NotNull Supplier<T> defaultValue) {
+		this(directory, legacyFile, codec, defaultValue, false);
+	}
+
+	/**
+	 * @param directory    The directory to load/save the profile files from/to.
+	 * @param legacyFile   The file that the data was stored in with {@link ProfiledData}, which is migrated into the profile files, or null if there is none.
+	 * @param codec        The codec to use for serializing/deserializing the data of a profile.
+	 * @param defaultValue The supplier of the data for profiles that do not have a file yet.
+	 * @param compressed   Whether the {@link JsonOps#COMPRESSED} should be used, which must match the legacy file.
+	 *                     When compressed, {@link StringIdentifiable#createCodec(Supplier)} will use the ordinals instead of {@link StringIdentifiable#asString()}.
+	 *                     When compressed, codecs built with {@link RecordCodecBuilder} will be serialized as a list instead of a map.
+	 */
+	public ShardedProfiledData(@NotNull Path directory, @Nullable Path legacyFile, @NotNull Codec<T> codec, @NotNull Supplier<T> defaultValue, boolean compressed) {
+		this.directory = directory;
+		this.legacyFile = legacyFile;
+		this.codec = codec;
+		this.defaultValue = defaultValue;
+		this.compressed = compressed;
+	}
+
+	/**
+	 * Registers a save listener for when the client stops and migrates the legacy file asynchronously.
+	 *
+	 * @return A CompletableFuture that completes when the legacy file has been migrated.
+	 */
+	public CompletableFuture<Void> init() {
+		ClientLifecycleEvents.CLIENT_STOPPING.register(client -> save());
+		migrated = CompletableFuture.runAsync(this::migrate);
+		return migrated;
+	}
+
+	/**
+	 * Splits the data in the legacy file into profile files, then renames the legacy file so it is only migrated once.
+	 * The legacy file is kept if it cannot be read, so no data is lost. Profiles that already have a file are skipped,
+	 * so that migrating again after the rename failed does not overwrite data saved since the first migration.
+	 */
+	void migrate() {
+		if (legacyFile == null || !Files.exists(legacyFile)) return;
+
+		Object2ObjectOpenHashMap<UUID, Object2ObjectOpenHashMap<String, T>> legacyData;
+		try (BufferedReader reader = Files.newBufferedReader(legacyFile)) {
+			legacyData = ProfiledData.createCodec(codec).parse(compressed ? JsonOps.COMPRESSED : JsonOps.INSTANCE, SkyblockerMod.GSON.fromJson(reader, JsonObject.class)).getOrThrow();
+		} catch (Exception e) {
+			LOGGER.error("[Skyblocker Sharded Profiled Data] Failed to read legacy file `{}` for migration", legacyFile, e);
+			return;
+		}
+
+		int profiles = 0;
+		for (Map.Entry<UUID, Object2ObjectOpenHashMap<String, T>> player : legacyData.entrySet()) {
+			for (Map.Entry<String, T> profile : player.getValue().entrySet()) {
+				Shard key = new Shard(player.getKey(), profile.getKey());
+				if (Files.exists(getShardFile(key))) continue;
+
+				JsonData<T> shard = createShard(key);
+				shard.setData(profile.getValue());
+				shard.save();
+				profiles++;
+			}
+		}
+
+		try {
+			Files.move(legacyFile, legacyFile.resolveSibling(legacyFile.getFileName() + ".migrated"), StandardCopyOption.REPLACE_EXISTING);
+			LOGGER.info("[Skyblocker Sharded Profiled Data] Migrated {} profiles from legacy file `{}` to `{}`", profiles, legacyFile, directory);
+		} catch (Exception e) {
+			LOGGER.error("[Skyblocker Sharded Profiled Data] Failed to rename migrated legacy file `{}`", legacyFile, e);
+		}
+	}
+
+	/**
+	 * Gets the data of the current player's UUID and profile ID, loading it if needed.
+	 */
+	@NotNull
+	public T get() {
+		return get(Utils.getUuid(), Utils.getProfileId());
+	}
+
+	/**
+	 * Gets the data of the given UUID and profile ID, loading it if needed and evicting the data of every other profile.
+	 *
+	 * @param uuid      The UUID of the player.
+	 * @param profileId The profile ID of the player.
+	 * @return The data, which is the default value if the profile has no data yet.
+	 */
+	@NotNull
+	public T get(@NotNull UUID uuid, @NotNull String profileId) {
+		return getShard(new Shard(uuid, profileId)).getData();
+	}
+
+	/**
+	 * Sets the data of the current player's UUID and profile ID.
+	 *
+	 * @param value The value to set.
+	 * @return The previous value.
+	 */
+	@NotNull
+	public T put(@NotNull T value) {
+		return put(Utils.getUuid(), Utils.getProfileId(), value);
+	}
+
+	/**
+	 * Sets the data of the given UUID and profile ID, evicting the data of every other profile.
+	 *
+	 * @param uuid      The UUID of the player.
+	 * @param profileId The profile ID of the player.
+	 * @param value     The value to set.
+	 * @return The previous value.
+	 */
+	@NotNull
+	public T put(@NotNull UUID uuid, @NotNull String profileId, @NotNull T value) {
+		return getShard(new Shard(uuid, profileId)).setData(value);
+	}
+
+	/**
+	 * Saves the data of the loaded profiles.
+	 */
+	public void save() {
+		for (JsonData<T> shard : loadedShards.values()) {
+			shard.save();
+		}
+	}
+
+	private JsonData<T> getShard(Shard key) {
+		JsonData<T> shard = loadedShards.get(key);
+		if (shard != null) return shard;
+
+		if (migrated != null && !migrated.isDone()) {
+			LOGGER.warn("[Skyblocker Sharded Profiled Data] Data accessed before the migration of `{}` finished. Blocking until migrated.", legacyFile);
+			migrated.join();
+		}
+
+		evictAll();
+		shard = createShard(key);
+		shard.load();
+		loadedShards.put(key, shard);
+
+		return shard;
+	}
+
+	/**
+	 * Saves and unloads the data of the loaded profiles.
+	 */
+	private void evictAll() {
+		save();
+		loadedShards.clear();
+	}
+
+	private JsonData<T> createShard(Shard key) {
+		return new JsonData<>(getShardFile(key), codec, defaultValue.get(), compressed, false, false);
+	}
+
+	private Path getShardFile(Shard key) {
+		return directory.resolve(key.uuid().toString()).resolve(key.profileId() + ".json");
+	}
+
+	private record Shard(UUID uuid, String profileId) {}
+}
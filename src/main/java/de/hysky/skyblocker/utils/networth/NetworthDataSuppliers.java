@@ -6,7 +6,7 @@ import com.google.gson.JsonArray;
 import com.mojang.logging.LogUtils;
 import com.mojang.serialization.JsonOps;
 
-import de.hysky.skyblocker.utils.ItemUtils;
+import de.hysky.skyblocker.skyblock.item.PriceIndex;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
 import net.azureaaron.networth.data.SkyblockItemData;
@@ -28,6 +28,6 @@ public class NetworthDataSuppliers {
 	}
 
 	static double getPrice(String id) {
-		return ItemUtils.getItemPrice(id, true).leftDouble(); //Use bazaar buy price because sell price can be heavily skewed sometimes
+		return PriceIndex.get().getPrice(id, true); //Use bazaar buy price because sell price can be heavily skewed sometimes
 	}
 }
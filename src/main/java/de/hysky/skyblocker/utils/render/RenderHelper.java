@@ -1,8 +1,13 @@
 package de.hysky.skyblocker.utils.render;
 
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.textures.GpuTextureView;
+import com.sun.management.ThreadMXBean;
 
+import de.hysky.skyblocker.SkyblockerMod;
 import de.hysky.skyblocker.annotations.Init;
 import de.hysky.skyblocker.utils.render.primitive.PrimitiveCollectorImpl;
 import net.fabricmc.fabric.api.client.rendering.v1.world.WorldExtractionContext;
@@ -10,6 +15,7 @@ import net.fabricmc.fabric.api.client.rendering.v1.world.WorldRenderContext;
 import net.fabricmc.fabric.api.client.rendering.v1.world.WorldRenderEvents;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.hud.debug.DebugHudEntries;
 import net.minecraft.client.render.Camera;
 import net.minecraft.client.render.RenderTickCounter;
 import net.minecraft.client.texture.TextureSetup;
@@ -24,42 +30,66 @@ import org.jetbrains.annotations.Nullable;
 
 public class RenderHelper {
 	private static final MinecraftClient CLIENT = MinecraftClient.getInstance();
-	private static PrimitiveCollectorImpl collector;
+	/**
+	 * The collector is reused every frame, see {@link PrimitiveCollectorImpl#beginCollection}.
+	 */
+	private static final PrimitiveCollectorImpl COLLECTOR = new PrimitiveCollectorImpl();
+	private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+	private static final boolean ALLOCATION_TRACKING = THREAD_MX_BEAN.isThreadAllocatedMemorySupported() && THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled();
+	/**
+	 * The bytes allocated by the render thread while collecting, dispatching and drawing primitives in the current frame.
+	 */
+	private static long frameAllocatedBytes;
+	private static long lastFrameAllocatedBytes;
 
 	@Init
 	public static void init() {
 		WorldRenderEvents.END_EXTRACTION.register(RenderHelper::startExtraction);
 		WorldRenderEvents.BEFORE_ENTITIES.register(RenderHelper::submitVanillaSubmittables);
 		WorldRenderEvents.END_MAIN.register(RenderHelper::executeDraws);
+		DebugHudEntries.register(SkyblockerMod.id("primitives"), (lines, world, clientChunk, chunk) -> lines.addLine(getDebugLine()));
 	}
 
 	private static void startExtraction(WorldExtractionContext context) {
 		Profiler profiler = Profilers.get();
 		profiler.push("skyblockerPrimitiveCollection");
-		collector = new PrimitiveCollectorImpl(context.worldState(), context.frustum());
-		WorldRenderExtractionCallback.EVENT.invoker().onExtract(collector);
-		collector.endCollection();
+		long allocatedBytes = getAllocatedBytes();
+		COLLECTOR.beginCollection(context.worldState(), context.frustum());
+		WorldRenderExtractionCallback.EVENT.invoker().onExtract(COLLECTOR);
+		COLLECTOR.endCollection();
+		frameAllocatedBytes = getAllocatedBytes() - allocatedBytes;
 		profiler.pop();
 	}
 
 	private static void submitVanillaSubmittables(WorldRenderContext context) {
 		Profiler profiler = Profilers.get();
 		profiler.push("skyblockerSubmitVanillaSubmittables");
-		collector.dispatchVanillaSubmittables(context.worldState(), context.commandQueue());
+		COLLECTOR.dispatchVanillaSubmittables(context.worldState(), context.commandQueue());
 		profiler.pop();
 	}
 
 	private static void executeDraws(WorldRenderContext context) {
 		Profiler profiler = Profilers.get();
+		long allocatedBytes = getAllocatedBytes();
 
 		profiler.push("skyblockerSubmitPrimitives");
-		collector.dispatchPrimitivesToRenderers(context.worldState().cameraRenderState);
-		collector = null;
+		COLLECTOR.dispatchPrimitivesToRenderers(context.worldState().cameraRenderState);
 		profiler.pop();
 
 		profiler.push("skyblockerExecuteDraws");
 		Renderer.executeDraws();
 		profiler.pop();
+
+		lastFrameAllocatedBytes = frameAllocatedBytes + getAllocatedBytes() - allocatedBytes;
+	}
+
+	private static long getAllocatedBytes() {
+		return ALLOCATION_TRACKING ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : 0;
+	}
+
+	private static String getDebugLine() {
+		String allocated = ALLOCATION_TRACKING ? String.format(Locale.ENGLISH, "%.1f KiB", lastFrameAllocatedBytes / 1024d) : "N/A";
+		return "[Skyblocker] Boxes: " + COLLECTOR.getBoxCount() + ", Allocated: " + allocated + "/frame";
 	}
 
 	public static void runOnRenderThread(Runnable runnable) {
@@ -8,7 +8,10 @@ import java.util.Objects;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
 import org.joml.Matrix4fStack;
+import org.joml.Matrix4fc;
 import org.joml.Vector3f;
 import org.joml.Vector4f;
 import org.lwjgl.system.MemoryUtil;
@@ -40,6 +43,7 @@ import net.minecraft.client.render.BuiltBuffer.DrawParameters;
 import net.minecraft.client.render.RenderLayer;
 import net.minecraft.client.texture.TextureSetup;
 import net.minecraft.client.util.BufferAllocator;
+import net.minecraft.util.math.Vec3d;
 
 /**
  * This class automatically handles batching, buffering, and drawing of objects within the world.
@@ -58,6 +62,7 @@ public class Renderer {
 	private static final Map<VertexFormat, MappableRingBuffer> VERTEX_BUFFERS = new Object2ObjectOpenHashMap<>();
 	private static final List<PreparedDraw> PREPARED_DRAWS = new ArrayList<>();
 	private static final List<Draw> DRAWS = new ArrayList<>();
+	private static final List<RetainedDraw> RETAINED_DRAWS = new ArrayList<>();
 	private static BatchedDraw lastUnbatchedDraw = null;
 
 	public static BufferBuilder getBuffer(RenderPipeline pipeline) {
@@ -136,6 +141,13 @@ public class Renderer {
 		EXCLUDED_FROM_BATCHING.add(pipeline);
 	}
 
+	/**
+	 * Queues the retained {@code geometry} to be drawn this frame, uploading it first if it was invalidated.
+	 */
+	public static void submitRetained(RetainedGeometry geometry, Vec3d cameraPos) {
+		RETAINED_DRAWS.add(new RetainedDraw(geometry, cameraPos));
+	}
+
 	private static void endBatches() {
 		for (Int2ObjectMap.Entry<BatchedDraw> entry : Int2ObjectMaps.fastIterable(BATCHED_DRAWS)) {
 			prepareBatchedDraw(entry.getValue());
@@ -163,6 +175,11 @@ public class Renderer {
 			draw(draw);
 		}
 
+		//Draw the retained geometry straight from its own buffers
+		for (RetainedDraw draw : RETAINED_DRAWS) {
+			drawRetained(draw.geometry(), draw.cameraPos());
+		}
+
 		//Rotate the buffers - ensures that we're likely to be using buffers that the GPU isn't (prevents synchronization/stalls)
 		for (MappableRingBuffer buffer : VERTEX_BUFFERS.values()) {
 			buffer.rotate();
@@ -172,6 +189,7 @@ public class Renderer {
 		BATCHED_DRAWS.clear();
 		PREPARED_DRAWS.clear();
 		DRAWS.clear();
+		RETAINED_DRAWS.clear();
 	}
 
 	private static void setupDraws() {
@@ -282,40 +300,61 @@ public class Renderer {
 	}
 
 	private static void draw(Draw draw, GpuBuffer indices, IndexType indexType) {
+		draw(draw.pipeline, draw.textureSetup, draw.lineWidth, draw.translucent, null, draw.vertices, draw.baseVertex, draw.indexCount, indices, indexType);
+		draw.builtBuffer().close();
+	}
+
+	private static void drawRetained(RetainedGeometry geometry, Vec3d cameraPos) {
+		if (geometry.isDirty()) {
+			geometry.upload();
+		}
+
+		//The vertices are relative to the origin of the geometry rather than the camera
+		Vec3d origin = geometry.getOrigin();
+		Vector3f offset = new Vector3f((float) (origin.x - cameraPos.x), (float) (origin.y - cameraPos.y), (float) (origin.z - cameraPos.z));
+
+		for (RetainedGeometry.Batch batch : geometry.getBatches()) {
+			ShapeIndexBuffer shapeIndexBuffer = RenderSystem.getSequentialBuffer(batch.pipeline().getVertexFormatMode());
+			draw(batch.pipeline(), TextureSetup.empty(), batch.lineWidth(), false, offset, batch.vertices(), 0, batch.indexCount(), shapeIndexBuffer.getIndexBuffer(batch.indexCount()), shapeIndexBuffer.getIndexType());
+		}
+	}
+
+	private static void draw(RenderPipeline pipeline, TextureSetup textureSetup, float lineWidth, boolean translucent, @Nullable Vector3f offset, GpuBuffer vertices, int baseVertex, int indexCount, GpuBuffer indices, IndexType indexType) {
 		applyViewOffsetZLayering();
-		GpuBufferSlice dynamicTransforms = setupDynamicTransforms(draw.lineWidth, draw.translucent);
+		GpuBufferSlice dynamicTransforms = setupDynamicTransforms(lineWidth, translucent, offset);
 
 		try (RenderPass renderPass = RenderSystem.getDevice()
 				.createCommandEncoder()
 				.createRenderPass(() -> "skyblocker world rendering", getMainColorTexture(), OptionalInt.empty(), getMainDepthTexture(), OptionalDouble.empty())) {
-			renderPass.setPipeline(draw.pipeline);
+			renderPass.setPipeline(pipeline);
 
 			RenderSystem.bindDefaultUniforms(renderPass);
 			renderPass.setUniform("DynamicTransforms", dynamicTransforms);
 
-			if (draw.textureSetup.texure0() != null) {
+			if (textureSetup.texure0() != null) {
 				//Sampler0 is used for normal texture inputs in shaders
-				renderPass.bindSampler("Sampler0", draw.textureSetup.texure0());
+				renderPass.bindSampler("Sampler0", textureSetup.texure0());
 			}
 
-			if (draw.textureSetup.texure2() != null) {
+			if (textureSetup.texure2() != null) {
 				//Sampler2 is used for lightmap texture inputs in shaders
-				renderPass.bindSampler("Sampler2", draw.textureSetup.texure2());
+				renderPass.bindSampler("Sampler2", textureSetup.texure2());
 			}
 
-			renderPass.setVertexBuffer(0, draw.vertices);
+			renderPass.setVertexBuffer(0, vertices);
 			renderPass.setIndexBuffer(indices, indexType);
 
-			renderPass.drawIndexed(draw.baseVertex, 0, draw.indexCount, 1);
+			renderPass.drawIndexed(baseVertex, 0, indexCount, 1);
 		}
 
-		draw.builtBuffer().close();
 		unapplyViewOffsetZLayering();
 	}
 
-	private static GpuBufferSlice setupDynamicTransforms(float lineWidth, boolean translucent) {
+	private static GpuBufferSlice setupDynamicTransforms(float lineWidth, boolean translucent, @Nullable Vector3f offset) {
+		Matrix4fc modelView = offset == null ? RenderSystem.getModelViewMatrix() : new Matrix4f(RenderSystem.getModelViewMatrix()).translate(offset);
+
 		return RenderSystem.getDynamicUniforms()
-				.write(RenderSystem.getModelViewMatrix(), translucent ? COLOR_MODULATOR_TRANSLUCENT : COLOR_MODULATOR, new Vector3f(), RenderSystem.getTextureMatrix(), lineWidth);
+				.write(modelView, translucent ? COLOR_MODULATOR_TRANSLUCENT : COLOR_MODULATOR, new Vector3f(), RenderSystem.getTextureMatrix(), lineWidth);
 	}
 
 	private static GpuTextureView getMainColorTexture() {
@@ -346,11 +385,15 @@ public class Renderer {
 		for (MappableRingBuffer vertexBuffer : VERTEX_BUFFERS.values()) {
 			vertexBuffer.close();
 		}
+
+		RetainedGeometry.closeAll();
 	}
 
 	private record Draw(BuiltBuffer builtBuffer, GpuBuffer vertices, int baseVertex, int indexCount, RenderPipeline pipeline, TextureSetup textureSetup, float lineWidth, boolean translucent) {}
 
 	private record PreparedDraw(BuiltBuffer builtBuffer, RenderPipeline pipeline, TextureSetup textureSetup, float lineWidth, boolean translucent) {}
 
+	private record RetainedDraw(RetainedGeometry geometry, Vec3d cameraPos) {}
+
 	private record BatchedDraw(BufferBuilder bufferBuilder, RenderPipeline pipeline, TextureSetup textureSetup, float lineWidth, boolean translucent) {}
 }
@@ -0,0 +1,212 @@
+package de.hysky.skyblocker.utils.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.mojang.blaze3d.buffers.GpuBuffer;
+import com.mojang.blaze3d.pipeline.RenderPipeline;
+import com.mojang.blaze3d.systems.RenderSystem;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import net.minecraft.client.gl.RenderPipelines;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.BuiltBuffer;
+import net.minecraft.client.render.VertexRendering;
+import net.minecraft.client.util.BufferAllocator;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * A set of primitives that is built and uploaded to its own GPU buffers once, then drawn every frame with a single draw call per pipeline
+ * until it is {@link #invalidate() invalidated}. This is meant for highlights that rarely change, where rebuilding and re-uploading
+ * every vertex each frame through the {@link Renderer} would be wasted work.
+ *
+ * <p>Create one with {@link #create(String, Consumer)} and submit it each frame with {@link de.hysky.skyblocker.utils.render.primitive.PrimitiveCollector#submitRetained(RetainedGeometry)}.
+ * The builder callback is run on the render thread before the next draw after the geometry was created or invalidated,
+ * so it should read the state it draws at that point instead of capturing it.
+ */
+public final class RetainedGeometry implements AutoCloseable {
+	private static final List<RetainedGeometry> GEOMETRIES = new ArrayList<>();
+	private static final int INITIAL_BUFFER_SIZE = 4096;
+
+	private final String name;
+	private final Consumer<Builder> builder;
+	private final List<Batch> batches = new ArrayList<>();
+	private Vec3d origin = Vec3d.ZERO;
+	@Nullable
+	private Box bounds;
+	private boolean dirty = true;
+
+	private RetainedGeometry(String name, Consumer<Builder> builder) {
+		this.name = name;
+		this.builder = builder;
+	}
+
+	/**
+	 * @param name    the name of the geometry, used to label its GPU buffers
+	 * @param builder submits the primitives of the geometry to the builder, called again after each invalidation
+	 */
+	public static RetainedGeometry create(String name, Consumer<Builder> builder) {
+		RetainedGeometry geometry = new RetainedGeometry(name, builder);
+		GEOMETRIES.add(geometry);
+
+		return geometry;
+	}
+
+	/**
+	 * Marks the geometry to be rebuilt and re-uploaded before it is drawn next.
+	 */
+	public void invalidate() {
+		dirty = true;
+	}
+
+	/**
+	 * @return the bounds of all primitives in the geometry, or {@code null} if it has not been built yet or is empty
+	 */
+	@Nullable
+	public Box getBounds() {
+		return dirty ? null : bounds;
+	}
+
+	boolean isDirty() {
+		return dirty;
+	}
+
+	Vec3d getOrigin() {
+		return origin;
+	}
+
+	List<Batch> getBatches() {
+		return batches;
+	}
+
+	/**
+	 * Runs the builder and uploads the result into new buffers, replacing the old ones. Must be called on the render thread.
+	 */
+	void upload() {
+		closeBatches();
+
+		Builder builder = new Builder();
+		this.builder.accept(builder);
+		origin = builder.origin != null ? builder.origin : Vec3d.ZERO;
+		bounds = builder.bounds;
+
+		for (Map.Entry<BatchKey, BufferBuilder> entry : builder.buffers.entrySet()) {
+			try (BuiltBuffer builtBuffer = entry.getValue().endNullable()) {
+				if (builtBuffer == null) continue;
+
+				GpuBuffer vertices = RenderSystem.getDevice().createBuffer(() -> "Skyblocker retained geometry: " + name, GpuBuffer.USAGE_VERTEX, builtBuffer.getBuffer());
+				batches.add(new Batch(entry.getKey().pipeline(), entry.getKey().lineWidth(), vertices, builtBuffer.getDrawParameters().indexCount()));
+			}
+		}
+
+		for (BufferAllocator allocator : builder.allocators) {
+			allocator.close();
+		}
+
+		dirty = false;
+	}
+
+	private void closeBatches() {
+		for (Batch batch : batches) {
+			batch.vertices().close();
+		}
+
+		batches.clear();
+	}
+
+	/**
+	 * Frees the GPU buffers of the geometry. It will be rebuilt if it is submitted again.
+	 */
+	@Override
+	public void close() {
+		RenderHelper.runOnRenderThread(() -> {
+			closeBatches();
+			dirty = true;
+		});
+	}
+
+	static void closeAll() {
+		for (RetainedGeometry geometry : GEOMETRIES) {
+			geometry.closeBatches();
+		}
+	}
+
+	/**
+	 * Collects the primitives of a {@link RetainedGeometry}. Vertices are stored relative to the first primitive
+	 * to keep their precision, and are offset by the camera position when drawn.
+	 */
+	public static final class Builder {
+		private final Map<BatchKey, BufferBuilder> buffers = new Object2ObjectLinkedOpenHashMap<>();
+		private final List<BufferAllocator> allocators = new ArrayList<>();
+		private final MatrixStack matrices = new MatrixStack();
+		private Vec3d origin;
+		private Box bounds;
+
+		private Builder() {}
+
+		public Builder filledBox(BlockPos pos, float[] colourComponents, float alpha, boolean throughWalls) {
+			return filledBox(pos.getX(), pos.getY(), pos.getZ(), pos.getX() + 1, pos.getY() + 1, pos.getZ() + 1, colourComponents, alpha, throughWalls);
+		}
+
+		public Builder filledBox(Vec3d pos, Vec3d dimensions, float[] colourComponents, float alpha, boolean throughWalls) {
+			return filledBox(pos.x, pos.y, pos.z, pos.x + dimensions.x, pos.y + dimensions.y, pos.z + dimensions.z, colourComponents, alpha, throughWalls);
+		}
+
+		public Builder filledBox(Box box, float[] colourComponents, float alpha, boolean throughWalls) {
+			return filledBox(box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ, colourComponents, alpha, throughWalls);
+		}
+
+		private Builder filledBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, float[] colourComponents, float alpha, boolean throughWalls) {
+			BufferBuilder buffer = getBuffer(throughWalls ? SkyblockerRenderPipelines.FILLED_THROUGH_WALLS : RenderPipelines.DEBUG_FILLED_BOX, 0f, minX, minY, minZ, maxX, maxY, maxZ);
+			VertexRendering.drawFilledBox(matrices, buffer, minX, minY, minZ, maxX, maxY, maxZ, colourComponents[0], colourComponents[1], colourComponents[2], alpha);
+
+			return this;
+		}
+
+		public Builder outlinedBox(BlockPos pos, float[] colourComponents, float lineWidth, boolean throughWalls) {
+			return outlinedBox(pos.getX(), pos.getY(), pos.getZ(), pos.getX() + 1, pos.getY() + 1, pos.getZ() + 1, colourComponents, 1f, lineWidth, throughWalls);
+		}
+
+		public Builder outlinedBox(Box box, float[] colourComponents, float alpha, float lineWidth, boolean throughWalls) {
+			return outlinedBox(box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ, colourComponents, alpha, lineWidth, throughWalls);
+		}
+
+		private Builder outlinedBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, float[] colourComponents, float alpha, float lineWidth, boolean throughWalls) {
+			BufferBuilder buffer = getBuffer(throughWalls ? SkyblockerRenderPipelines.LINES_THROUGH_WALLS : RenderPipelines.LINES, lineWidth, minX, minY, minZ, maxX, maxY, maxZ);
+			VertexRendering.drawBox(matrices.peek(), buffer, minX, minY, minZ, maxX, maxY, maxZ, colourComponents[0], colourComponents[1], colourComponents[2], alpha);
+
+			return this;
+		}
+
+		/**
+		 * Returns the buffer for the pipeline and line width, and grows the bounds to include the primitive.
+		 */
+		private BufferBuilder getBuffer(RenderPipeline pipeline, float lineWidth, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+			if (origin == null) {
+				origin = new Vec3d(Math.floor(minX), Math.floor(minY), Math.floor(minZ));
+				matrices.translate(-origin.x, -origin.y, -origin.z);
+				bounds = new Box(minX, minY, minZ, maxX, maxY, maxZ);
+			} else {
+				bounds = bounds.union(new Box(minX, minY, minZ, maxX, maxY, maxZ));
+			}
+
+			return buffers.computeIfAbsent(new BatchKey(pipeline, lineWidth), key -> {
+				BufferAllocator allocator = new BufferAllocator(INITIAL_BUFFER_SIZE);
+				allocators.add(allocator);
+
+				return new BufferBuilder(allocator, pipeline.getVertexFormatMode(), pipeline.getVertexFormat());
+			});
+		}
+	}
+
+	private record BatchKey(RenderPipeline pipeline, float lineWidth) {}
+
+	record Batch(RenderPipeline pipeline, float lineWidth, GpuBuffer vertices, int indexCount) {}
+}
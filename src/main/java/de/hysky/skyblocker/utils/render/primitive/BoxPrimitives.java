@@ -0,0 +1,94 @@
+package de.hysky.skyblocker.utils.render.primitive;
+
+import java.util.Arrays;
+
+import net.minecraft.util.math.ColorHelper;
+
+/**
+ * Stores the boxes submitted in a frame in parallel primitive arrays instead of one render state object per box.
+ * The arrays only grow and are {@link #clear() cleared} at the start of each frame, so submitting boxes does not allocate once they are large enough.
+ */
+final class BoxPrimitives {
+	private static final int INITIAL_CAPACITY = 64;
+	private static final byte THROUGH_WALLS = 1;
+
+	/**
+	 * The bounds of each box, stored as {@code minX, minY, minZ, maxX, maxY, maxZ}.
+	 */
+	private double[] bounds = new double[INITIAL_CAPACITY * 6];
+	/**
+	 * The colour of each box packed as ARGB.
+	 */
+	private int[] colours = new int[INITIAL_CAPACITY];
+	private float[] lineWidths = new float[INITIAL_CAPACITY];
+	private byte[] flags = new byte[INITIAL_CAPACITY];
+	private int size;
+
+	void add(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, float[] colourComponents, float alpha, float lineWidth, boolean throughWalls) {
+		if (size == colours.length) grow();
+
+		int offset = size * 6;
+		bounds[offset] = minX;
+		bounds[offset + 1] = minY;
+		bounds[offset + 2] = minZ;
+		bounds[offset + 3] = maxX;
+		bounds[offset + 4] = maxY;
+		bounds[offset + 5] = maxZ;
+		colours[size] = ColorHelper.fromFloats(alpha, colourComponents[0], colourComponents[1], colourComponents[2]);
+		lineWidths[size] = lineWidth;
+		flags[size] = throughWalls ? THROUGH_WALLS : 0;
+		size++;
+	}
+
+	private void grow() {
+		int capacity = colours.length * 2;
+		bounds = Arrays.copyOf(bounds, capacity * 6);
+		colours = Arrays.copyOf(colours, capacity);
+		lineWidths = Arrays.copyOf(lineWidths, capacity);
+		flags = Arrays.copyOf(flags, capacity);
+	}
+
+	void clear() {
+		size = 0;
+	}
+
+	int size() {
+		return size;
+	}
+
+	double minX(int i) {
+		return bounds[i * 6];
+	}
+
+	double minY(int i) {
+		return bounds[i * 6 + 1];
+	}
+
+	double minZ(int i) {
+		return bounds[i * 6 + 2];
+	}
+
+	double maxX(int i) {
+		return bounds[i * 6 + 3];
+	}
+
+	double maxY(int i) {
+		return bounds[i * 6 + 4];
+	}
+
+	double maxZ(int i) {
+		return bounds[i * 6 + 5];
+	}
+
+	int colour(int i) {
+		return colours[i];
+	}
+
+	float lineWidth(int i) {
+		return lineWidths[i];
+	}
+
+	boolean throughWalls(int i) {
+		return (flags[i] & THROUGH_WALLS) != 0;
+	}
+}
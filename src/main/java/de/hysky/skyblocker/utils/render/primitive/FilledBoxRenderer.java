@@ -1,29 +1,41 @@
 package de.hysky.skyblocker.utils.render.primitive;
 
-import org.joml.Matrix4f;
-
-import de.hysky.skyblocker.utils.render.MatrixHelper;
 import de.hysky.skyblocker.utils.render.Renderer;
 import de.hysky.skyblocker.utils.render.SkyblockerRenderPipelines;
-import de.hysky.skyblocker.utils.render.state.FilledBoxRenderState;
 import net.minecraft.client.gl.RenderPipelines;
 import net.minecraft.client.render.BufferBuilder;
 import net.minecraft.client.render.VertexRendering;
 import net.minecraft.client.render.state.CameraRenderState;
 import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.math.ColorHelper;
 
-public final class FilledBoxRenderer implements PrimitiveRenderer<FilledBoxRenderState> {
+public final class FilledBoxRenderer implements PrimitiveRenderer<BoxPrimitives> {
 	protected static final FilledBoxRenderer INSTANCE = new FilledBoxRenderer();
 
 	private FilledBoxRenderer() {}
 
+	/**
+	 * Submits every box of the frame, translating by the camera position once for all of them.
+	 */
 	@Override
-	public void submitPrimitives(FilledBoxRenderState state, CameraRenderState cameraState) {
-		BufferBuilder buffer = Renderer.getBuffer(state.throughWalls ? SkyblockerRenderPipelines.FILLED_THROUGH_WALLS : RenderPipelines.DEBUG_FILLED_BOX);
-		Matrix4f positionMatrix = new Matrix4f()
-				.translate((float) -cameraState.pos.x, (float) -cameraState.pos.y, (float) -cameraState.pos.z);
-		MatrixStack matrices = MatrixHelper.toStack(positionMatrix);
+	public void submitPrimitives(BoxPrimitives boxes, CameraRenderState cameraState) {
+		MatrixStack matrices = new MatrixStack();
+		matrices.translate(-cameraState.pos.x, -cameraState.pos.y, -cameraState.pos.z);
+		BufferBuilder buffer = null;
+		BufferBuilder throughWallsBuffer = null;
+
+		for (int i = 0; i < boxes.size(); i++) {
+			BufferBuilder target;
+			if (boxes.throughWalls(i)) {
+				if (throughWallsBuffer == null) throughWallsBuffer = Renderer.getBuffer(SkyblockerRenderPipelines.FILLED_THROUGH_WALLS);
+				target = throughWallsBuffer;
+			} else {
+				if (buffer == null) buffer = Renderer.getBuffer(RenderPipelines.DEBUG_FILLED_BOX);
+				target = buffer;
+			}
 
-		VertexRendering.drawFilledBox(matrices, buffer, state.minX, state.minY, state.minZ, state.maxX, state.maxY, state.maxZ, state.colourComponents[0], state.colourComponents[1], state.colourComponents[2], state.alpha);
+			int colour = boxes.colour(i);
+			VertexRendering.drawFilledBox(matrices, target, boxes.minX(i), boxes.minY(i), boxes.minZ(i), boxes.maxX(i), boxes.maxY(i), boxes.maxZ(i), ColorHelper.getRedFloat(colour), ColorHelper.getGreenFloat(colour), ColorHelper.getBlueFloat(colour), ColorHelper.getAlphaFloat(colour));
+		}
 	}
 }
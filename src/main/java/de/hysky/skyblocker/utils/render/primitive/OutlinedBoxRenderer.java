@@ -1,29 +1,42 @@
 package de.hysky.skyblocker.utils.render.primitive;
 
-import org.joml.Matrix4f;
-
-import de.hysky.skyblocker.utils.render.MatrixHelper;
 import de.hysky.skyblocker.utils.render.Renderer;
 import de.hysky.skyblocker.utils.render.SkyblockerRenderPipelines;
-import de.hysky.skyblocker.utils.render.state.OutlinedBoxRenderState;
 import net.minecraft.client.gl.RenderPipelines;
 import net.minecraft.client.render.BufferBuilder;
 import net.minecraft.client.render.VertexRendering;
 import net.minecraft.client.render.state.CameraRenderState;
 import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.math.ColorHelper;
 
-public final class OutlinedBoxRenderer implements PrimitiveRenderer<OutlinedBoxRenderState> {
+public final class OutlinedBoxRenderer implements PrimitiveRenderer<BoxPrimitives> {
 	protected static final OutlinedBoxRenderer INSTANCE = new OutlinedBoxRenderer();
 
 	private OutlinedBoxRenderer() {}
 
+	/**
+	 * Submits every box of the frame, translating by the camera position once for all of them.
+	 * The buffer is only looked up again when the line width or pipeline differs from the previous box.
+	 */
 	@Override
-	public void submitPrimitives(OutlinedBoxRenderState state, CameraRenderState cameraState) {
-		BufferBuilder buffer = Renderer.getBuffer(state.throughWalls ? SkyblockerRenderPipelines.LINES_THROUGH_WALLS : RenderPipelines.LINES, state.lineWidth);
-		Matrix4f positionMatrix = new Matrix4f()
-				.translate((float) -cameraState.pos.x, (float) -cameraState.pos.y, (float) -cameraState.pos.z);
-		MatrixStack matrices = MatrixHelper.toStack(positionMatrix);
+	public void submitPrimitives(BoxPrimitives boxes, CameraRenderState cameraState) {
+		MatrixStack.Entry entry = new MatrixStack().peek();
+		entry.getPositionMatrix().translate((float) -cameraState.pos.x, (float) -cameraState.pos.y, (float) -cameraState.pos.z);
+		BufferBuilder buffer = null;
+		boolean bufferThroughWalls = false;
+		float bufferLineWidth = 0f;
+
+		for (int i = 0; i < boxes.size(); i++) {
+			boolean throughWalls = boxes.throughWalls(i);
+			float lineWidth = boxes.lineWidth(i);
+			if (buffer == null || throughWalls != bufferThroughWalls || lineWidth != bufferLineWidth) {
+				buffer = Renderer.getBuffer(throughWalls ? SkyblockerRenderPipelines.LINES_THROUGH_WALLS : RenderPipelines.LINES, lineWidth);
+				bufferThroughWalls = throughWalls;
+				bufferLineWidth = lineWidth;
+			}
 
-		VertexRendering.drawBox(matrices.peek(), buffer, state.minX, state.minY, state.minZ, state.maxX, state.maxY, state.maxZ, state.colourComponents[0], state.colourComponents[1], state.colourComponents[2], state.alpha);
+			int colour = boxes.colour(i);
+			VertexRendering.drawBox(entry, buffer, boxes.minX(i), boxes.minY(i), boxes.minZ(i), boxes.maxX(i), boxes.maxY(i), boxes.maxZ(i), ColorHelper.getRedFloat(colour), ColorHelper.getGreenFloat(colour), ColorHelper.getBlueFloat(colour), ColorHelper.getAlphaFloat(colour));
+		}
 	}
 }
@@ -1,5 +1,6 @@
 package de.hysky.skyblocker.utils.render.primitive;
 
+import de.hysky.skyblocker.utils.render.RetainedGeometry;
 import net.minecraft.block.BlockState;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
@@ -25,6 +26,19 @@ public interface PrimitiveCollector {
 
 	void submitOutlinedBox(Box box, float[] colourComponents, float alpha, float lineWidth, boolean throughWalls);
 
+	/**
+	 * Returns whether any part of the box is in view. Useful for skipping many primitives at once when their combined bounds are out of view,
+	 * since submitted primitives are culled individually anyway.
+	 */
+	boolean isInView(double minX, double minY, double minZ, double maxX, double maxY, double maxZ);
+
+	/**
+	 * Submits geometry that stays uploaded on the GPU between frames, which is only rebuilt after it is invalidated.
+	 *
+	 * @see RetainedGeometry
+	 */
+	void submitRetained(RetainedGeometry geometry);
+
 	/**
 	 * Submits lines to be drawn from point to point.<br><br>
 	 * <p>
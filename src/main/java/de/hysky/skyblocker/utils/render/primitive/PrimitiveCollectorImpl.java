@@ -5,13 +5,13 @@ import java.util.List;
 
 import de.hysky.skyblocker.utils.render.FrustumUtils;
 import de.hysky.skyblocker.utils.render.RenderHelper;
+import de.hysky.skyblocker.utils.render.Renderer;
+import de.hysky.skyblocker.utils.render.RetainedGeometry;
 import de.hysky.skyblocker.utils.render.state.BlockHologramRenderState;
 import de.hysky.skyblocker.utils.render.state.CursorLineRenderState;
 import de.hysky.skyblocker.utils.render.state.CylinderRenderState;
-import de.hysky.skyblocker.utils.render.state.FilledBoxRenderState;
 import de.hysky.skyblocker.utils.render.state.FilledCircleRenderState;
 import de.hysky.skyblocker.utils.render.state.LinesRenderState;
-import de.hysky.skyblocker.utils.render.state.OutlinedBoxRenderState;
 import de.hysky.skyblocker.utils.render.state.OutlinedCircleRenderState;
 import de.hysky.skyblocker.utils.render.state.QuadRenderState;
 import de.hysky.skyblocker.utils.render.state.SphereRenderState;
@@ -40,11 +40,11 @@ import net.minecraft.util.math.Vec3d;
 public final class PrimitiveCollectorImpl implements PrimitiveCollector {
 	private static final MinecraftClient CLIENT = MinecraftClient.getInstance();
 	private static final int MAX_OVERWORLD_BUILD_HEIGHT = 319;
-	private final WorldRenderState worldState;
-	private final Frustum frustum;
+	private final BoxPrimitives filledBoxes = new BoxPrimitives();
+	private final BoxPrimitives outlinedBoxes = new BoxPrimitives();
+	private WorldRenderState worldState;
+	private Frustum frustum;
 	private List<VanillaSubmittable<?>> vanillaSubmittables = null;
-	private List<FilledBoxRenderState> filledBoxStates = null;
-	private List<OutlinedBoxRenderState> outlinedBoxStates = null;
 	private List<LinesRenderState> linesStates = null;
 	private List<CursorLineRenderState> cursorLineStates = null;
 	private List<QuadRenderState> quadStates = null;
@@ -55,11 +55,42 @@ public final class PrimitiveCollectorImpl implements PrimitiveCollector {
 	private List<FilledCircleRenderState> filledCircleStates = null;
 	private List<SphereRenderState> sphereStates = null;
 	private List<OutlinedCircleRenderState> outlinedCircleStates = null;
-	private boolean frozen = false;
+	private List<RetainedGeometry> retainedGeometries = null;
+	private boolean frozen = true;
 
-	public PrimitiveCollectorImpl(WorldRenderState worldState, Frustum frustum) {
+	/**
+	 * Starts collecting the primitives of a new frame, discarding the ones of the previous frame.
+	 * The storage of the previous frame is kept, so that the collector can be reused without allocating it again.
+	 */
+	public void beginCollection(WorldRenderState worldState, Frustum frustum) {
 		this.worldState = worldState;
 		this.frustum = frustum;
+		this.filledBoxes.clear();
+		this.outlinedBoxes.clear();
+		clear(this.vanillaSubmittables);
+		clear(this.linesStates);
+		clear(this.cursorLineStates);
+		clear(this.quadStates);
+		clear(this.texturedQuadStates);
+		clear(this.blockHologramStates);
+		clear(this.textStates);
+		clear(this.cylinderStates);
+		clear(this.filledCircleStates);
+		clear(this.sphereStates);
+		clear(this.outlinedCircleStates);
+		clear(this.retainedGeometries);
+		this.frozen = false;
+	}
+
+	private static void clear(List<?> states) {
+		if (states != null) states.clear();
+	}
+
+	/**
+	 * @return the number of filled and outlined boxes submitted in the current or last frame
+	 */
+	public int getBoxCount() {
+		return this.filledBoxes.size() + this.outlinedBoxes.size();
 	}
 
 	@Override
@@ -102,22 +133,7 @@ public final class PrimitiveCollectorImpl implements PrimitiveCollector {
 			return;
 		}
 
-		if (this.filledBoxStates == null) {
-			this.filledBoxStates = new ArrayList<>();
-		}
-
-		FilledBoxRenderState state = new FilledBoxRenderState();
-		state.minX = minX;
-		state.minY = minY;
-		state.minZ = minZ;
-		state.maxX = maxX;
-		state.maxY = maxY;
-		state.maxZ = maxZ;
-		state.colourComponents = colourComponents;
-		state.alpha = alpha;
-		state.throughWalls = throughWalls;
-
-		this.filledBoxStates.add(state);
+		this.filledBoxes.add(minX, minY, minZ, maxX, maxY, maxZ, colourComponents, alpha, 0f, throughWalls);
 	}
 
 	private void submitBeaconBeam(BlockPos pos, float[] colourComponents) {
@@ -166,23 +182,29 @@ public final class PrimitiveCollectorImpl implements PrimitiveCollector {
 			return;
 		}
 
-		if (this.outlinedBoxStates == null) {
-			this.outlinedBoxStates = new ArrayList<>();
+		this.outlinedBoxes.add(minX, minY, minZ, maxX, maxY, maxZ, colourComponents, alpha, lineWidth, throughWalls);
+	}
+
+	@Override
+	public boolean isInView(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+		return FrustumUtils.isVisible(this.frustum, minX, minY, minZ, maxX, maxY, maxZ);
+	}
+
+	@Override
+	public void submitRetained(RetainedGeometry geometry) {
+		ensureNotFrozen();
+
+		// Ensure the geometry is in view, if it has already been built
+		Box bounds = geometry.getBounds();
+		if (bounds != null && !FrustumUtils.isVisible(this.frustum, bounds.minX, bounds.minY, bounds.minZ, bounds.maxX, bounds.maxY, bounds.maxZ)) {
+			return;
 		}
 
-		OutlinedBoxRenderState state = new OutlinedBoxRenderState();
-		state.minX = minX;
-		state.minY = minY;
-		state.minZ = minZ;
-		state.maxX = maxX;
-		state.maxY = maxY;
-		state.maxZ = maxZ;
-		state.colourComponents = colourComponents;
-		state.alpha = alpha;
-		state.lineWidth = lineWidth;
-		state.throughWalls = throughWalls;
+		if (this.retainedGeometries == null) {
+			this.retainedGeometries = new ArrayList<>();
+		}
 
-		this.outlinedBoxStates.add(state);
+		this.retainedGeometries.add(geometry);
 	}
 
 	@Override
@@ -391,7 +413,7 @@ public final class PrimitiveCollectorImpl implements PrimitiveCollector {
 	}
 
 	/**
-	 * Instances of this class are used only once, and primitives should not be submitted once the collection phase has ended.
+	 * Primitives should only be submitted between {@link #beginCollection(WorldRenderState, Frustum)} and {@link #endCollection()}.
 	 */
 	private void ensureNotFrozen() {
 		if (this.frozen) {
@@ -417,16 +439,12 @@ public final class PrimitiveCollectorImpl implements PrimitiveCollector {
 			throw new IllegalStateException("Cannot dispatch primitives until the collection phase has ended!");
 		}
 
-		if (this.filledBoxStates != null) {
-			for (FilledBoxRenderState state : this.filledBoxStates) {
-				FilledBoxRenderer.INSTANCE.submitPrimitives(state, cameraState);
-			}
+		if (this.filledBoxes.size() > 0) {
+			FilledBoxRenderer.INSTANCE.submitPrimitives(this.filledBoxes, cameraState);
 		}
 
-		if (this.outlinedBoxStates != null) {
-			for (OutlinedBoxRenderState state : this.outlinedBoxStates) {
-				OutlinedBoxRenderer.INSTANCE.submitPrimitives(state, cameraState);
-			}
+		if (this.outlinedBoxes.size() > 0) {
+			OutlinedBoxRenderer.INSTANCE.submitPrimitives(this.outlinedBoxes, cameraState);
 		}
 
 		if (this.linesStates != null) {
@@ -488,6 +506,12 @@ public final class PrimitiveCollectorImpl implements PrimitiveCollector {
 				OutlinedCircleRenderer.INSTANCE.submitPrimitives(state, cameraState);
 			}
 		}
+
+		if (this.retainedGeometries != null) {
+			for (RetainedGeometry geometry : this.retainedGeometries) {
+				Renderer.submitRetained(geometry, cameraState.pos);
+			}
+		}
 	}
 
 	private record VanillaSubmittable<S>(S state, VanillaRenderer<S> renderer) {}
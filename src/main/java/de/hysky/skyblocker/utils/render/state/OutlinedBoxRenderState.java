@@ -1,14 +0,0 @@
-package de.hysky.skyblocker.utils.render.state;
-
-public class OutlinedBoxRenderState {
-	public double minX;
-	public double minY;
-	public double minZ;
-	public double maxX;
-	public double maxY;
-	public double maxZ;
-	public float[] colourComponents;
-	public float alpha;
-	public float lineWidth;
-	public boolean throughWalls;
-}
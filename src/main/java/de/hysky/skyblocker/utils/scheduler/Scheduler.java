@@ -3,8 +3,6 @@ package de.hysky.skyblocker.utils.scheduler;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.context.CommandContext;
-import it.unimi.dsi.fastutil.ints.AbstractInt2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.screen.Screen;
@@ -14,8 +12,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.StackWalker.Option;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
@@ -23,12 +19,28 @@ import java.util.function.Supplier;
 
 /**
  * A scheduler for running tasks at a later time. Tasks will be run synchronously on the main client thread. Use the instance stored in {@link #INSTANCE}. Do not instantiate this class.
+ * <p>
+ * Tasks are stored in a {@link TimingWheel}, so scheduling and cancelling a task is O(1) no matter how many tasks are scheduled.
+ * Each task gets its own profiler section under {@code skyblockerSchedulerTick}, named after the class that created it.
  */
 public class Scheduler {
     protected static final Logger LOGGER = LoggerFactory.getLogger(Scheduler.class);
     public static final Scheduler INSTANCE = new Scheduler();
+    /**
+     * Maps task classes to the name of their profiler section, which is the simple name of the class that created the task if it is a lambda.
+     */
+    private static final ClassValue<String> PROFILER_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            String name = type.getName();
+            int lambdaIndex = name.indexOf("$$Lambda");
+            if (lambdaIndex >= 0) name = name.substring(0, lambdaIndex);
+
+            return name.substring(name.lastIndexOf('.') + 1);
+        }
+    };
     private int currentTick = 0;
-    private final AbstractInt2ObjectMap<List<Runnable>> tasks = new Int2ObjectOpenHashMap<>();
+    private final TimingWheel wheel = new TimingWheel();
     private final ExecutorService executors = ForkJoinPool.commonPool();
 
     protected Scheduler() {
@@ -37,15 +49,15 @@ public class Scheduler {
     /**
      * @see #schedule(Runnable, int, boolean)
      */
-    public void schedule(Runnable task, int delay) {
-        schedule(task, delay, false);
+    public TaskHandle schedule(Runnable task, int delay) {
+        return schedule(task, delay, false);
     }
 
     /**
      * @see #scheduleCyclic(Runnable, int, boolean)
      */
-    public void scheduleCyclic(Runnable task, int period) {
-        scheduleCyclic(task, period, false);
+    public TaskHandle scheduleCyclic(Runnable task, int period) {
+        return scheduleCyclic(task, period, false);
     }
 
     /**
@@ -54,20 +66,24 @@ public class Scheduler {
      * @param task  the task to run
      * @param delay the delay in ticks
      * @param multithreaded whether to run the task on the schedulers dedicated thread pool
+     * @return a handle that can be used to cancel the task
      */
-    public void schedule(Runnable task, int delay, boolean multithreaded) {
-    	if (!RenderSystem.isOnRenderThread() && MinecraftClient.getInstance() != null) {
-    		LOGGER.warn("[Skyblocker Scheduler] Called the scheduler from the {} class on the {} thread. This will be unsupported in the future.", StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE).getCallerClass().getName(), Thread.currentThread().getName());
-    		MinecraftClient.getInstance().send(() -> schedule(task, delay, multithreaded));
+    public TaskHandle schedule(Runnable task, int delay, boolean multithreaded) {
+        if (delay < 0) {
+            LOGGER.warn("Scheduled a task with negative delay");
+            return TaskHandle.cancelled(this);
+        }
 
-    		return;
-    	}
+        TaskHandle handle = new TaskHandle(this);
+        if (!RenderSystem.isOnRenderThread() && MinecraftClient.getInstance() != null) {
+            LOGGER.warn("[Skyblocker Scheduler] Called the scheduler from the {} class on the {} thread. This will be unsupported in the future.", StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE).getCallerClass().getName(), Thread.currentThread().getName());
+            MinecraftClient.getInstance().send(() -> addTask(handle, task, delay, 0, multithreaded));
 
-        if (delay >= 0) {
-            addTask(multithreaded ? new ScheduledTask(task, true) : task, currentTick + delay);
-        } else {
-            LOGGER.warn("Scheduled a task with negative delay");
+            return handle;
         }
+
+        addTask(handle, task, delay, 0, multithreaded);
+        return handle;
     }
 
     /**
@@ -76,20 +92,24 @@ public class Scheduler {
      * @param task   the task to run
      * @param period the period in ticks
      * @param multithreaded whether to run the task on the schedulers dedicated thread pool
+     * @return a handle that can be used to cancel the task
      */
-    public void scheduleCyclic(Runnable task, int period, boolean multithreaded) {
-    	if (!RenderSystem.isOnRenderThread() && MinecraftClient.getInstance() != null) {
-    		LOGGER.warn("[Skyblocker Scheduler] Called the scheduler from the {} class on the {} thread. This will be unsupported in the future.", StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE).getCallerClass().getName(), Thread.currentThread().getName());
-    		MinecraftClient.getInstance().send(() -> scheduleCyclic(task, period, multithreaded));
+    public TaskHandle scheduleCyclic(Runnable task, int period, boolean multithreaded) {
+        if (period <= 0) {
+            LOGGER.error("Attempted to schedule a cyclic task with period lower than 1");
+            return TaskHandle.cancelled(this);
+        }
 
-    		return;
-    	}
+        TaskHandle handle = new TaskHandle(this);
+        if (!RenderSystem.isOnRenderThread() && MinecraftClient.getInstance() != null) {
+            LOGGER.warn("[Skyblocker Scheduler] Called the scheduler from the {} class on the {} thread. This will be unsupported in the future.", StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE).getCallerClass().getName(), Thread.currentThread().getName());
+            MinecraftClient.getInstance().send(() -> addTask(handle, task, 0, period, multithreaded));
 
-        if (period > 0) {
-            addTask(new ScheduledTask(task, period, true, multithreaded), currentTick);
-        } else {
-            LOGGER.error("Attempted to schedule a cyclic task with period lower than 1");
+            return handle;
         }
+
+        addTask(handle, task, 0, period, multithreaded);
+        return handle;
     }
 
     /**
@@ -149,16 +169,28 @@ public class Scheduler {
         Profiler profiler = Profilers.get();
         profiler.push("skyblockerSchedulerTick");
 
-        if (tasks.containsKey(currentTick)) {
-            List<Runnable> currentTickTasks = tasks.get(currentTick);
-            //noinspection ForLoopReplaceableByForEach (or else we get a ConcurrentModificationException)
-            for (int i = 0; i < currentTickTasks.size(); i++) {
-                Runnable task = currentTickTasks.get(i);
-                if (!runTask(task, task instanceof ScheduledTask scheduledTask && scheduledTask.multithreaded)) {
-                    tasks.computeIfAbsent(currentTick + 1, key -> new ArrayList<>()).add(task);
-                }
+        wheel.cascade(currentTick);
+
+        TimingWheel.Node node;
+        while ((node = wheel.poll(currentTick)) != null) {
+            // The node could be recycled while running if the task is run synchronously through the async runner
+            boolean multithreaded = node.multithreaded;
+            node.state = TimingWheel.Node.RUNNING;
+            profiler.push(node.profilerName);
+
+            long start = System.nanoTime();
+            boolean ran = runTask(multithreaded ? getAsyncRunner(node) : node.task, multithreaded);
+
+            profiler.pop();
+
+            if (!ran) {
+                node.deadline = currentTick + 1;
+                wheel.insert(node, currentTick);
+            } else if (!multithreaded) {
+                node.totalNanos += System.nanoTime() - start;
+                node.runs++;
+                reschedule(node);
             }
-            tasks.remove(currentTick);
         }
 
         currentTick += 1;
@@ -181,35 +213,87 @@ public class Scheduler {
         return true;
     }
 
-    private void addTask(Runnable task, int schedule) {
-        if (tasks.containsKey(schedule)) {
-            tasks.get(schedule).add(task);
-        } else {
-            List<Runnable> list = new ArrayList<>();
-            list.add(task);
-            tasks.put(schedule, list);
-        }
+    /**
+     * @return the number of tasks waiting to run
+     */
+    public int getScheduledTaskCount() {
+        return wheel.size();
+    }
+
+    private void addTask(TaskHandle handle, Runnable task, int delay, int interval, boolean multithreaded) {
+        if (handle.isCancelled()) return;
+
+        TimingWheel.Node node = wheel.acquire();
+        node.task = task;
+        node.deadline = currentTick + delay;
+        node.interval = interval;
+        node.multithreaded = multithreaded;
+        node.profilerName = PROFILER_NAMES.get(task.getClass());
+        wheel.insert(node, currentTick);
+        handle.bind(node);
+    }
+
+    /**
+     * Cancels the task of the node.
+     *
+     * @return {@code true} if the task was waiting to run
+     */
+    boolean cancel(TimingWheel.Node node) {
+        return switch (node.state) {
+            case TimingWheel.Node.SCHEDULED -> {
+                wheel.remove(node);
+                wheel.release(node);
+                yield true;
+            }
+            // Running tasks are released once they finish
+            case TimingWheel.Node.RUNNING -> {
+                node.cancelled = true;
+                yield false;
+            }
+            default -> false;
+        };
     }
 
     /**
-     * A task that that is scheduled to execute once after the {@code interval}, or that is run every {@code interval} ticks.
+     * Schedules the next run of a cyclic task, or releases the node if the task is done.
      */
-    protected record ScheduledTask(Runnable task, int interval, boolean cyclic, boolean multithreaded) implements Runnable {
-        private ScheduledTask(Runnable task, boolean multithreaded) {
-            this(task, -1, false, multithreaded);
+    private void reschedule(TimingWheel.Node node) {
+        if (node.interval > 0 && !node.cancelled) {
+            node.deadline = currentTick + node.interval;
+            wheel.insert(node, currentTick);
+        } else {
+            wheel.release(node);
         }
+    }
 
-        @Override
-        public void run() {
-            task.run();
+    private Runnable getAsyncRunner(TimingWheel.Node node) {
+        if (node.asyncRunner == null) {
+            node.asyncRunner = () -> {
+                long start = System.nanoTime();
 
-            if (cyclic) {
-            	if (!RenderSystem.isOnRenderThread() && MinecraftClient.getInstance() != null) {
-            		MinecraftClient.getInstance().send(() -> INSTANCE.addTask(this, INSTANCE.currentTick + interval));
-            	} else {
-            		INSTANCE.addTask(this, INSTANCE.currentTick + interval);
-            	}
-            }
+                try {
+                    node.task.run();
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+
+                    if (!RenderSystem.isOnRenderThread() && MinecraftClient.getInstance() != null) {
+                        MinecraftClient.getInstance().send(() -> finishAsync(node, elapsed));
+                    } else {
+                        finishAsync(node, elapsed);
+                    }
+                }
+            };
         }
+
+        return node.asyncRunner;
+    }
+
+    /**
+     * Called on the client thread once a multithreaded task has finished running.
+     */
+    private void finishAsync(TimingWheel.Node node, long elapsed) {
+        node.totalNanos += elapsed;
+        node.runs++;
+        reschedule(node);
     }
 }
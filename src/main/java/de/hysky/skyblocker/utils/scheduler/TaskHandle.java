@@ -0,0 +1,95 @@
+package de.hysky.skyblocker.utils.scheduler;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.minecraft.client.MinecraftClient;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A handle to a task scheduled with the {@link Scheduler}, which can be used to cancel the task and to inspect how much time it took to run.
+ * <p>
+ * The handle stays valid after the task has finished, at which point {@link #isScheduled()} returns {@code false} and cancelling it does nothing.
+ */
+public final class TaskHandle {
+	private final Scheduler scheduler;
+	@Nullable
+	private TimingWheel.Node node;
+	private int generation;
+	private boolean cancelled;
+
+	TaskHandle(Scheduler scheduler) {
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Creates a handle for a task that was never scheduled.
+	 */
+	static TaskHandle cancelled(Scheduler scheduler) {
+		TaskHandle handle = new TaskHandle(scheduler);
+		handle.cancelled = true;
+		return handle;
+	}
+
+	void bind(TimingWheel.Node node) {
+		this.node = node;
+		this.generation = node.generation;
+	}
+
+	/**
+	 * @return the node of the task if it has not been recycled yet
+	 */
+	@Nullable
+	private TimingWheel.Node node() {
+		return node != null && node.generation == generation ? node : null;
+	}
+
+	/**
+	 * Cancels the task. A task that is currently running will finish its current run, but will not be run again.
+	 * Calling this off the client thread will cancel the task on the next client tick.
+	 *
+	 * @return {@code true} if the task was waiting to run and is now cancelled
+	 */
+	public boolean cancel() {
+		if (!RenderSystem.isOnRenderThread() && MinecraftClient.getInstance() != null) {
+			MinecraftClient.getInstance().send(this::cancel);
+			return !cancelled;
+		}
+
+		if (cancelled) return false;
+		cancelled = true;
+
+		TimingWheel.Node node = node();
+		// Not bound yet means the task was scheduled off thread and is still queued, it will not be added to the scheduler
+		return node == null ? this.node == null : scheduler.cancel(node);
+	}
+
+	/**
+	 * @return whether the task has been cancelled through this handle
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * @return whether the task will run again, either because it is waiting to run or because it is cyclic
+	 */
+	public boolean isScheduled() {
+		TimingWheel.Node node = node();
+		return !cancelled && node != null && node.state != TimingWheel.Node.POOLED;
+	}
+
+	/**
+	 * @return how many times the task has run, or {@code 0} once a task that is not cyclic has finished
+	 */
+	public int getRuns() {
+		TimingWheel.Node node = node();
+		return node != null ? node.runs : 0;
+	}
+
+	/**
+	 * @return the total time in nanoseconds the task has spent running, or {@code 0} once a task that is not cyclic has finished
+	 */
+	public long getTotalNanos() {
+		TimingWheel.Node node = node();
+		return node != null ? node.totalNanos : 0;
+	}
+}
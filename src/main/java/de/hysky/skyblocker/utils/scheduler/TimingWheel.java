@@ -0,0 +1,232 @@
+package de.hysky.skyblocker.utils.scheduler;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A hashed hierarchical timing wheel backing the {@link Scheduler}.
+ * <p>
+ * The first level has {@value #LEVEL_0_SLOTS} slots of one tick each, and every following level has {@value #LEVEL_N_SLOTS} slots
+ * each spanning a full rotation of the level below it. Together the five levels cover the entire {@code int} tick range.
+ * Nodes are kept in intrusive doubly linked lists with a sentinel per slot, so inserting and removing a node is O(1).
+ * Nodes in higher levels are cascaded down whenever the lower levels complete a rotation.
+ * <p>
+ * Nodes are pooled and reused, which means that a node must not be referenced after it has been {@link #release(Node) released}.
+ * {@link TaskHandle}s guard against this with the node's {@link Node#generation generation}.
+ * <p>
+ * This class is not thread safe and must only be accessed from the thread that ticks the owning scheduler.
+ */
+class TimingWheel {
+	private static final int LEVEL_0_BITS = 8;
+	private static final int LEVEL_N_BITS = 6;
+	private static final int LEVEL_0_SLOTS = 1 << LEVEL_0_BITS;
+	private static final int LEVEL_N_SLOTS = 1 << LEVEL_N_BITS;
+	private static final int LEVEL_0_MASK = LEVEL_0_SLOTS - 1;
+	private static final int LEVEL_N_MASK = LEVEL_N_SLOTS - 1;
+	/**
+	 * 8 bits for the first level and 6 bits for each of the other 4 levels, which adds up to 32 bits.
+	 */
+	private static final int LEVELS = 5;
+	private static final int MAX_POOL_SIZE = 1024;
+
+	private final Node[][] wheels = new Node[LEVELS][];
+	private Node pool;
+	private int poolSize;
+	private int size;
+
+	TimingWheel() {
+		for (int level = 0; level < LEVELS; level++) {
+			Node[] slots = new Node[level == 0 ? LEVEL_0_SLOTS : LEVEL_N_SLOTS];
+
+			for (int slot = 0; slot < slots.length; slot++) {
+				slots[slot] = Node.sentinel();
+			}
+
+			wheels[level] = slots;
+		}
+	}
+
+	/**
+	 * @return the number of nodes currently in the wheel
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Takes a node from the pool, or creates a new one if the pool is empty.
+	 */
+	Node acquire() {
+		Node node = pool;
+
+		if (node != null) {
+			pool = node.next;
+			node.next = null;
+			poolSize--;
+		} else {
+			node = new Node();
+		}
+
+		node.state = Node.IDLE;
+		return node;
+	}
+
+	/**
+	 * Clears the node and returns it to the pool. The node's generation is incremented so that stale handles can detect reuse.
+	 */
+	void release(Node node) {
+		node.task = null;
+		node.profilerName = null;
+		node.interval = 0;
+		node.multithreaded = false;
+		node.cancelled = false;
+		node.runs = 0;
+		node.totalNanos = 0;
+		node.state = Node.POOLED;
+		node.generation++;
+		node.prev = null;
+		node.next = null;
+
+		if (poolSize < MAX_POOL_SIZE) {
+			node.next = pool;
+			pool = node;
+			poolSize++;
+		}
+	}
+
+	/**
+	 * Inserts the node into the slot matching its {@link Node#deadline deadline}, relative to the {@code currentTick}.
+	 */
+	void insert(Node node, int currentTick) {
+		int deadline = node.deadline;
+		int delta = Math.max(deadline - currentTick, 0);
+		Node sentinel;
+
+		if (delta < LEVEL_0_SLOTS) {
+			sentinel = wheels[0][(currentTick + delta) & LEVEL_0_MASK];
+		} else {
+			int level = 1;
+			int shift = LEVEL_0_BITS;
+
+			while (level < LEVELS - 1 && delta >= 1 << (shift + LEVEL_N_BITS)) {
+				level++;
+				shift += LEVEL_N_BITS;
+			}
+
+			sentinel = wheels[level][(deadline >>> shift) & LEVEL_N_MASK];
+		}
+
+		node.linkBefore(sentinel);
+		node.state = Node.SCHEDULED;
+		size++;
+	}
+
+	/**
+	 * Unlinks a scheduled node from its slot.
+	 */
+	void remove(Node node) {
+		node.unlink();
+		node.state = Node.IDLE;
+		size--;
+	}
+
+	/**
+	 * Moves the nodes in the higher levels down if the lower levels have completed a rotation at {@code currentTick}.
+	 * Must be called once per tick before {@link #poll(int)}.
+	 */
+	void cascade(int currentTick) {
+		if ((currentTick & LEVEL_0_MASK) != 0) return;
+
+		int shift = LEVEL_0_BITS;
+
+		for (int level = 1; level < LEVELS; level++) {
+			int index = (currentTick >>> shift) & LEVEL_N_MASK;
+			Node sentinel = wheels[level][index];
+
+			if (sentinel.next != sentinel) {
+				// Detach the whole list first since nodes may be re-inserted into the same slot
+				Node node = sentinel.next;
+				sentinel.prev.next = null;
+				sentinel.next = sentinel;
+				sentinel.prev = sentinel;
+
+				while (node != null) {
+					Node next = node.next;
+					node.prev = null;
+					node.next = null;
+					size--;
+					insert(node, currentTick);
+					node = next;
+				}
+			}
+
+			// Only cascade the next level if this level also completed a rotation
+			if (index != 0) break;
+			shift += LEVEL_N_BITS;
+		}
+	}
+
+	/**
+	 * Removes and returns the next node due at {@code currentTick}, or {@code null} if there is none.
+	 * Nodes inserted for {@code currentTick} while polling are returned by subsequent calls.
+	 */
+	@Nullable
+	Node poll(int currentTick) {
+		Node sentinel = wheels[0][currentTick & LEVEL_0_MASK];
+		Node node = sentinel.next;
+		if (node == sentinel) return null;
+
+		remove(node);
+		return node;
+	}
+
+	/**
+	 * A pooled task node. The fields are managed by the {@link Scheduler}.
+	 */
+	static class Node {
+		static final byte POOLED = 0;
+		static final byte IDLE = 1;
+		static final byte SCHEDULED = 2;
+		static final byte RUNNING = 3;
+
+		Runnable task;
+		String profilerName;
+		/**
+		 * The period of a cyclic task, or {@code 0} if the task only runs once.
+		 */
+		int interval;
+		int deadline;
+		boolean multithreaded;
+		boolean cancelled;
+		byte state;
+		int generation;
+		int runs;
+		long totalNanos;
+		/**
+		 * Lazily created runnable used to run multithreaded tasks, kept across pooled lifetimes.
+		 */
+		Runnable asyncRunner;
+		Node prev;
+		Node next;
+
+		private static Node sentinel() {
+			Node sentinel = new Node();
+			sentinel.prev = sentinel;
+			sentinel.next = sentinel;
+			return sentinel;
+		}
+
+		private void linkBefore(Node sentinel) {
+			prev = sentinel.prev;
+			next = sentinel;
+			sentinel.prev.next = this;
+			sentinel.prev = this;
+		}
+
+		private void unlink() {
+			prev.next = next;
+			next.prev = prev;
+			prev = null;
+			next = null;
+		}
+	}
+}
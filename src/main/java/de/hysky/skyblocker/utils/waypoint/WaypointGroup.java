@@ -8,10 +8,13 @@ import de.hysky.skyblocker.annotations.GenHashCode;
 import de.hysky.skyblocker.annotations.GenToString;
 import de.hysky.skyblocker.config.SkyblockerConfigManager;
 import de.hysky.skyblocker.utils.Location;
+import de.hysky.skyblocker.utils.render.RenderHelper;
 import de.hysky.skyblocker.utils.render.primitive.PrimitiveCollector;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
@@ -42,14 +45,21 @@ public class WaypointGroup {
         return new WaypointGroup(name, Location.UNKNOWN, waypoints, true, true, DEFAULT_TYPE);
     }));
     public static final int WAYPOINT_ACTIVATION_RADIUS = 2;
+    /**
+     * How far past the bounds of an index cell a beacon beam or name of a waypoint in it may be drawn, for culling whole cells.
+     */
+    private static final int CELL_CULLING_MARGIN = 8;
+    private static final int MAX_BEAM_Y = 320;
 
     private final String name;
     private final Location island;
     private final List<NamedWaypoint> waypoints;
+    private final List<NamedWaypoint> waypointsView;
     private final boolean ordered;
     private final boolean renderThroughWalls;
     private final Waypoint.Type waypointType;
     private transient int currentIndex = 0;
+    private transient WaypointIndex<NamedWaypoint> index;
 
     public WaypointGroup(String name, Location island) {
         this(name, island, List.of(), false, true, SkyblockerConfigManager.get().uiAndVisuals.waypoints.waypointType);
@@ -67,6 +77,7 @@ public class WaypointGroup {
         this.renderThroughWalls = renderThroughWalls;
         this.waypointType = waypointType;
         this.waypoints = waypoints.stream().map(this::convertWaypoint).collect(Collectors.toList());
+        this.waypointsView = Collections.unmodifiableList(this.waypoints);
     }
 
     public String name() {
@@ -77,8 +88,38 @@ public class WaypointGroup {
         return island;
     }
 
+    /**
+     * Returns an unmodifiable view of the waypoints. Use the waypoint mutators of this group to change them, so that the index is rebuilt.
+     */
     public List<NamedWaypoint> waypoints() {
-        return waypoints;
+        return waypointsView;
+    }
+
+    public void addWaypoint(NamedWaypoint waypoint) {
+        waypoints.add(waypoint);
+        invalidateIndex();
+    }
+
+    public void addWaypoint(int index, NamedWaypoint waypoint) {
+        waypoints.add(index, waypoint);
+        invalidateIndex();
+    }
+
+    public void setWaypoint(int index, NamedWaypoint waypoint) {
+        waypoints.set(index, waypoint);
+        invalidateIndex();
+    }
+
+    public NamedWaypoint removeWaypoint(int index) {
+        NamedWaypoint removed = waypoints.remove(index);
+        invalidateIndex();
+        return removed;
+    }
+
+    public boolean removeWaypoint(NamedWaypoint waypoint) {
+        boolean removed = waypoints.remove(waypoint);
+        if (removed) invalidateIndex();
+        return removed;
     }
 
     public boolean ordered() {
@@ -108,6 +149,21 @@ public class WaypointGroup {
         setCurrentIndex(0);
     }
 
+    /**
+     * Returns the spatial index of the waypoints, which is built lazily and rebuilt after any of the waypoint mutators of this group is called.
+     */
+    public WaypointIndex<NamedWaypoint> index() {
+        WaypointIndex<NamedWaypoint> index = this.index;
+        if (index == null) {
+            this.index = index = WaypointIndex.of(waypoints);
+        }
+        return index;
+    }
+
+    private void invalidateIndex() {
+        index = null;
+    }
+
     public WaypointGroup withName(String name) {
         return new WaypointGroup(name, island, waypoints, ordered, renderThroughWalls, waypointType);
     }
@@ -161,11 +217,13 @@ public class WaypointGroup {
 
     public void tick() {
         if (MinecraftClient.getInstance().player == null || !ordered || waypoints.isEmpty()) return;
-        for (int i = 0; i < waypoints.size(); i++) {
+        Vec3d playerPos = MinecraftClient.getInstance().player.getEntityPos();
+        // Only the waypoints near the player can be activated, in ascending order so that the same waypoint is chosen as when checking every waypoint
+        for (int i : index().withinDistance(playerPos, WAYPOINT_ACTIVATION_RADIUS)) {
             NamedWaypoint waypoint = waypoints.get(i);
             boolean notBackwards = SkyblockerConfigManager.get().uiAndVisuals.waypoints.allowGoingBackwards || i > currentIndex;
             boolean notSkipping = SkyblockerConfigManager.get().uiAndVisuals.waypoints.allowSkippingWaypoints || i == (currentIndex + 1) % waypoints.size() || i == (currentIndex - 1 + waypoints.size()) % waypoints.size();
-            if (notBackwards && notSkipping && waypoint.pos.isWithinDistance(MinecraftClient.getInstance().player.getEntityPos(), WAYPOINT_ACTIVATION_RADIUS)) {
+            if (notBackwards && notSkipping && waypoint.pos.isWithinDistance(playerPos, WAYPOINT_ACTIVATION_RADIUS)) {
                 currentIndex = i;
             }
         }
@@ -188,10 +246,42 @@ public class WaypointGroup {
         }
     }
 
+    /**
+     * Renders the waypoints in the cells of the {@link #index() index} that are in view.
+     * Cells farther than the configured cluster distance are drawn as a single beam for all of their waypoints, except in ordered groups.
+     */
     public void extractRendering(PrimitiveCollector collector) {
-        for (NamedWaypoint waypoint : waypoints) {
+        Vec3d cameraPos = RenderHelper.getCamera().getPos();
+        int clusterDistance = SkyblockerConfigManager.get().uiAndVisuals.waypoints.clusterDistance;
+        double squaredClusterDistance = (double) clusterDistance * clusterDistance;
+
+        for (WaypointIndex.Cell cell : index().cells()) {
+            if (!collector.isInView(cell.minX() - CELL_CULLING_MARGIN, cell.minY(), cell.minZ() - CELL_CULLING_MARGIN, cell.minX() + WaypointIndex.CELL_SIZE + CELL_CULLING_MARGIN, MAX_BEAM_Y, cell.minZ() + WaypointIndex.CELL_SIZE + CELL_CULLING_MARGIN)) {
+                continue;
+            }
+
+            if (ordered || clusterDistance <= 0 || cell.waypoints().length == 1 || cell.squaredDistanceTo(cameraPos) <= squaredClusterDistance) {
+                for (int i : cell.waypoints()) {
+                    NamedWaypoint waypoint = waypoints.get(i);
+                    if (waypoint.shouldRender()) {
+                        waypoint.extractRendering(collector);
+                    }
+                }
+            } else {
+                extractClusterRendering(collector, cell);
+            }
+        }
+    }
+
+    /**
+     * Draws one beam at the first waypoint to be rendered in the cell, in the colour of that waypoint.
+     */
+    private void extractClusterRendering(PrimitiveCollector collector, WaypointIndex.Cell cell) {
+        for (int i : cell.waypoints()) {
+            NamedWaypoint waypoint = waypoints.get(i);
             if (waypoint.shouldRender()) {
-                waypoint.extractRendering(collector);
+                collector.submitFilledBoxWithBeaconBeam(waypoint.pos, waypoint.getRenderColorComponents(), waypoint.alpha, waypoint.shouldRenderThroughWalls());
+                return;
             }
         }
     }
@@ -0,0 +1,213 @@
+package de.hysky.skyblocker.utils.waypoint;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Position;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * A uniform grid over the positions of a list of waypoints, for finding the waypoints near a position without checking every waypoint.
+ * <p>
+ * The index is immutable and refers to waypoints by their index in the list it was built from, so it must be rebuilt when waypoints are added, removed, or moved.
+ * Distances are measured to the {@link BlockPos} of each waypoint, like {@link BlockPos#getSquaredDistance(Position)}.
+ */
+public final class WaypointIndex<T extends Waypoint> {
+	public static final int CELL_SIZE = 16;
+	private static final int CELL_SHIFT = 4;
+
+	private final List<T> waypoints;
+	private final List<Cell> cells;
+	private final Long2ObjectMap<Cell> cellsByKey;
+	private final int minCellX, minCellY, minCellZ;
+	private final int maxCellX, maxCellY, maxCellZ;
+
+	private WaypointIndex(List<T> waypoints, Long2ObjectMap<Cell> cellsByKey) {
+		this.waypoints = waypoints;
+		this.cells = List.copyOf(cellsByKey.values());
+		this.cellsByKey = cellsByKey;
+
+		int minCellX = Integer.MAX_VALUE, minCellY = Integer.MAX_VALUE, minCellZ = Integer.MAX_VALUE;
+		int maxCellX = Integer.MIN_VALUE, maxCellY = Integer.MIN_VALUE, maxCellZ = Integer.MIN_VALUE;
+		for (Cell cell : cells) {
+			minCellX = Math.min(minCellX, cell.x());
+			minCellY = Math.min(minCellY, cell.y());
+			minCellZ = Math.min(minCellZ, cell.z());
+			maxCellX = Math.max(maxCellX, cell.x());
+			maxCellY = Math.max(maxCellY, cell.y());
+			maxCellZ = Math.max(maxCellZ, cell.z());
+		}
+		this.minCellX = minCellX;
+		this.minCellY = minCellY;
+		this.minCellZ = minCellZ;
+		this.maxCellX = maxCellX;
+		this.maxCellY = maxCellY;
+		this.maxCellZ = maxCellZ;
+	}
+
+	public static <T extends Waypoint> WaypointIndex<T> of(List<T> waypoints) {
+		Long2ObjectMap<IntArrayList> indicesByCell = new Long2ObjectLinkedOpenHashMap<>();
+		for (int i = 0; i < waypoints.size(); i++) {
+			BlockPos pos = waypoints.get(i).pos;
+			indicesByCell.computeIfAbsent(cellKey(pos.getX() >> CELL_SHIFT, pos.getY() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT), key -> new IntArrayList()).add(i);
+		}
+
+		Long2ObjectMap<Cell> cellsByKey = new Long2ObjectLinkedOpenHashMap<>(indicesByCell.size());
+		for (Long2ObjectMap.Entry<IntArrayList> entry : indicesByCell.long2ObjectEntrySet()) {
+			long key = entry.getLongKey();
+			cellsByKey.put(key, new Cell(BlockPos.unpackLongX(key), BlockPos.unpackLongY(key), BlockPos.unpackLongZ(key), entry.getValue().toIntArray()));
+		}
+
+		return new WaypointIndex<>(waypoints, cellsByKey);
+	}
+
+	private static long cellKey(int cellX, int cellY, int cellZ) {
+		return BlockPos.asLong(cellX, cellY, cellZ);
+	}
+
+	public int size() {
+		return waypoints.size();
+	}
+
+	public List<T> waypoints() {
+		return waypoints;
+	}
+
+	/**
+	 * @return the non-empty cells of the grid, in the order of the first waypoint in each cell
+	 */
+	public List<Cell> cells() {
+		return cells;
+	}
+
+	/**
+	 * Returns the indices of the waypoints within {@code radius} of {@code centre}, in ascending order.
+	 */
+	public IntList withinDistance(Position centre, double radius) {
+		IntArrayList result = new IntArrayList();
+		if (cells.isEmpty()) return result;
+
+		double squaredRadius = radius * radius;
+		int fromX = Math.max(minCellX, (int) Math.floor(centre.getX() - radius) >> CELL_SHIFT);
+		int fromY = Math.max(minCellY, (int) Math.floor(centre.getY() - radius) >> CELL_SHIFT);
+		int fromZ = Math.max(minCellZ, (int) Math.floor(centre.getZ() - radius) >> CELL_SHIFT);
+		int toX = Math.min(maxCellX, (int) Math.floor(centre.getX() + radius) >> CELL_SHIFT);
+		int toY = Math.min(maxCellY, (int) Math.floor(centre.getY() + radius) >> CELL_SHIFT);
+		int toZ = Math.min(maxCellZ, (int) Math.floor(centre.getZ() + radius) >> CELL_SHIFT);
+		if (fromX > toX || fromY > toY || fromZ > toZ) return result;
+
+		// Looking up every cell in a large radius would be slower than checking the cells that exist
+		long volume = (long) (toX - fromX + 1) * (toY - fromY + 1) * (toZ - fromZ + 1);
+		if (volume > cells.size()) {
+			for (Cell cell : cells) {
+				if (cell.squaredDistanceTo(centre) <= squaredRadius) addWithinDistance(cell, centre, squaredRadius, result);
+			}
+		} else {
+			for (int x = fromX; x <= toX; x++) {
+				for (int y = fromY; y <= toY; y++) {
+					for (int z = fromZ; z <= toZ; z++) {
+						Cell cell = cellsByKey.get(cellKey(x, y, z));
+						if (cell != null) addWithinDistance(cell, centre, squaredRadius, result);
+					}
+				}
+			}
+		}
+
+		IntArrays.quickSort(result.elements(), 0, result.size());
+		return result;
+	}
+
+	private void addWithinDistance(Cell cell, Position centre, double squaredRadius, IntArrayList result) {
+		for (int i : cell.waypoints()) {
+			if (waypoints.get(i).pos.getSquaredDistance(centre) <= squaredRadius) result.add(i);
+		}
+	}
+
+	/**
+	 * Returns up to {@code count} waypoints closest to {@code centre}, closest first.
+	 * Cells are visited in order of their distance to {@code centre}, until no remaining cell can contain a closer waypoint.
+	 */
+	public List<T> nearest(Position centre, int count) {
+		if (count <= 0 || cells.isEmpty()) return List.of();
+
+		List<Cell> byDistance = new ArrayList<>(cells);
+		double[] cellDistances = new double[byDistance.size()];
+		for (int i = 0; i < cellDistances.length; i++) {
+			cellDistances[i] = byDistance.get(i).squaredDistanceTo(centre);
+		}
+		int[] order = identity(cellDistances.length);
+		IntArrays.quickSort(order, (a, b) -> Double.compare(cellDistances[a], cellDistances[b]));
+
+		// The farthest of the closest waypoints found so far is at the head
+		PriorityQueue<T> closest = new PriorityQueue<>(count, Comparator.<T>comparingDouble(waypoint -> waypoint.pos.getSquaredDistance(centre)).reversed());
+		for (int cellIndex : order) {
+			if (closest.size() == count && cellDistances[cellIndex] > closest.peek().pos.getSquaredDistance(centre)) break;
+
+			for (int i : byDistance.get(cellIndex).waypoints()) {
+				T waypoint = waypoints.get(i);
+				if (closest.size() < count) {
+					closest.add(waypoint);
+				} else if (waypoint.pos.getSquaredDistance(centre) < closest.peek().pos.getSquaredDistance(centre)) {
+					closest.poll();
+					closest.add(waypoint);
+				}
+			}
+		}
+
+		List<T> result = new ArrayList<>(closest);
+		result.sort(Comparator.comparingDouble(waypoint -> waypoint.pos.getSquaredDistance(centre)));
+		return result;
+	}
+
+	private static int[] identity(int length) {
+		int[] array = new int[length];
+		for (int i = 0; i < length; i++) {
+			array[i] = i;
+		}
+		return array;
+	}
+
+	/**
+	 * A cell of the grid with the indices of its waypoints in ascending order, which must not be modified.
+	 *
+	 * @param x the cell x coordinate, which is the block x coordinate divided by {@link #CELL_SIZE}
+	 */
+	public record Cell(int x, int y, int z, int[] waypoints) {
+		public int minX() {
+			return x << CELL_SHIFT;
+		}
+
+		public int minY() {
+			return y << CELL_SHIFT;
+		}
+
+		public int minZ() {
+			return z << CELL_SHIFT;
+		}
+
+		/**
+		 * Returns the squared distance from {@code pos} to the closest block centre in the cell,
+		 * which is a lower bound of {@link BlockPos#getSquaredDistance(Position)} for every waypoint in the cell.
+		 */
+		public double squaredDistanceTo(Position pos) {
+			double dx = distanceToCentres(minX(), pos.getX());
+			double dy = distanceToCentres(minY(), pos.getY());
+			double dz = distanceToCentres(minZ(), pos.getZ());
+			return dx * dx + dy * dy + dz * dz;
+		}
+
+		/**
+		 * Returns the distance from {@code coordinate} to the closest block centre between {@code min + 0.5} and {@code min + CELL_SIZE - 0.5}.
+		 */
+		private static double distanceToCentres(int min, double coordinate) {
+			return Math.max(0, Math.max(min + 0.5 - coordinate, coordinate - (min + CELL_SIZE - 0.5)));
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package de.hysky.skyblocker.skyblock;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Checks the scanner against a corpus of action bars, whose expected values and outputs were recorded from the patterns that {@link StatusBarTracker} used before.
+ */
+public class ActionBarScannerTest {
+	@Test
+	void testCorpus() throws Exception {
+		try (InputStream in = Objects.requireNonNull(ActionBarScannerTest.class.getResourceAsStream("/fixtures/action_bars.json")); Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+			for (JsonElement element : JsonParser.parseReader(reader).getAsJsonArray()) {
+				JsonObject expected = element.getAsJsonObject();
+				String actionBar = expected.get("actionBar").getAsString();
+
+				assertScan(expected, actionBar, false);
+				assertScan(expected, actionBar, true);
+				Assertions.assertEquals(getString(expected, "output"), StatusBarTracker.update(actionBar, false), actionBar);
+				Assertions.assertEquals(getString(expected, "filteredOutput"), StatusBarTracker.update(actionBar, true), actionBar);
+			}
+		}
+	}
+
+	private static void assertScan(JsonObject expected, String actionBar, boolean searchManaUse) {
+		ActionBarScanner scanner = new ActionBarScanner();
+		boolean found = scanner.scan(actionBar, searchManaUse);
+		Assertions.assertEquals(expected.has("health"), found, actionBar);
+		if (!found) return;
+
+		Assertions.assertEquals(expected.get("health").getAsInt(), scanner.health, actionBar);
+		Assertions.assertEquals(expected.get("maxHealth").getAsInt(), scanner.maxHealth, actionBar);
+
+		Assertions.assertEquals(expected.has("defense"), scanner.defenseStart != ActionBarScanner.NOT_FOUND, actionBar);
+		if (expected.has("defense")) Assertions.assertEquals(expected.get("defense").getAsInt(), scanner.defense, actionBar);
+
+		// The mana use is only searched for when it is filtered
+		boolean manaUse = searchManaUse && expected.has("manaUse");
+		Assertions.assertEquals(manaUse, scanner.manaUseStart != ActionBarScanner.NOT_FOUND, actionBar);
+		if (manaUse) Assertions.assertEquals(expected.get("manaUse").getAsInt(), scanner.manaUse, actionBar);
+
+		Assertions.assertEquals(expected.has("mana"), scanner.manaStart != ActionBarScanner.NOT_FOUND, actionBar);
+		if (expected.has("mana")) {
+			Assertions.assertEquals(expected.get("mana").getAsInt(), scanner.mana, actionBar);
+			Assertions.assertEquals(expected.get("maxMana").getAsInt(), scanner.maxMana, actionBar);
+			Assertions.assertEquals(expected.get("overflowMana").getAsInt(), scanner.overflowMana, actionBar);
+		}
+	}
+
+	private static String getString(JsonObject object, String key) {
+		JsonElement element = object.get(key);
+		return element.isJsonNull() ? null : element.getAsString();
+	}
+}
@@ -0,0 +1,87 @@
+package de.hysky.skyblocker.skyblock.dungeon.secrets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class RoomIndexTest {
+	@Test
+	void testRetain() {
+		RoomIndex index = RoomIndex.of(Map.of(
+				"a", new int[]{1, 2, 3},
+				"b", new int[]{2, 3, 4},
+				"c", new int[]{3, 5}
+		));
+		long[] candidates = index.newCandidates();
+
+		Assertions.assertEquals(3, RoomIndex.count(candidates));
+		Assertions.assertEquals(2, index.retain(candidates, 2));
+		Assertions.assertEquals(2, index.retain(candidates, 3));
+		Assertions.assertEquals(1, index.retain(candidates, 4));
+		Assertions.assertEquals("b", index.getRoom(RoomIndex.nextCandidate(candidates, 0)));
+		Assertions.assertEquals(0, index.retain(candidates, 5));
+		Assertions.assertTrue(RoomIndex.isEmpty(candidates));
+
+		long[] unknownBlock = index.newCandidates();
+		Assertions.assertEquals(0, index.retain(unknownBlock, 6));
+	}
+
+	@Test
+	void testContains() {
+		RoomIndex index = RoomIndex.of(Map.of("a", new int[]{1, 2}, "b", new int[]{2, 3}));
+
+		Assertions.assertTrue(index.contains(index.indexOf("a"), 1));
+		Assertions.assertFalse(index.contains(index.indexOf("b"), 1));
+		Assertions.assertTrue(index.contains(index.indexOf("b"), 3));
+		Assertions.assertFalse(index.contains(index.indexOf("a"), 4));
+	}
+
+	/**
+	 * Compares the index against searching every room for shapes with packed and with multi-word bitsets.
+	 */
+	@Test
+	void testMatchesBinarySearch() {
+		for (int roomCount : new int[]{1, 7, 8, 9, 33, 64, 65, 130}) {
+			Random random = new Random(roomCount);
+			Map<String, int[]> roomsData = new HashMap<>();
+			for (int i = 0; i < roomCount; i++) {
+				roomsData.put("room" + i, random.ints(200, 0, 1000).distinct().sorted().toArray());
+			}
+
+			RoomIndex index = RoomIndex.of(roomsData);
+			Assertions.assertEquals(roomCount, index.size());
+
+			for (int block = 0; block < 1000; block++) {
+				long[] candidates = index.newCandidates();
+				int count = index.retain(candidates, block);
+				int expectedCount = 0;
+
+				for (int room = 0; room < roomCount; room++) {
+					boolean expected = Arrays.binarySearch(roomsData.get(index.getRoom(room)), block) >= 0;
+					if (expected) expectedCount++;
+
+					Assertions.assertEquals(expected, index.contains(room, block));
+					Assertions.assertEquals(expected, (candidates[room >>> 6] & 1L << room) != 0);
+				}
+
+				Assertions.assertEquals(expectedCount, count);
+				Assertions.assertEquals(expectedCount, RoomIndex.count(candidates));
+			}
+		}
+	}
+
+	@Test
+	void testNextCandidate() {
+		long[] candidates = {1L << 3 | 1L << 63, 1L << 1};
+
+		Assertions.assertEquals(3, RoomIndex.nextCandidate(candidates, 0));
+		Assertions.assertEquals(63, RoomIndex.nextCandidate(candidates, 4));
+		Assertions.assertEquals(65, RoomIndex.nextCandidate(candidates, 64));
+		Assertions.assertEquals(-1, RoomIndex.nextCandidate(candidates, 66));
+		Assertions.assertEquals(-1, RoomIndex.nextCandidate(candidates, 128));
+	}
+}
@@ -0,0 +1,104 @@
+package de.hysky.skyblocker.skyblock.item;
+
+import de.hysky.skyblocker.utils.BazaarProduct;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.OptionalDouble;
+
+public class PriceIndexTest {
+	private static final Object2ObjectMap<String, BazaarProduct> BAZAAR = new Object2ObjectOpenHashMap<>(Map.of(
+			"ENCHANTED_DIAMOND", new BazaarProduct("ENCHANTED_DIAMOND", "Enchanted Diamond", OptionalDouble.of(1300), OptionalDouble.of(1200), 100, 100),
+			"NO_SELL_ORDERS", new BazaarProduct("NO_SELL_ORDERS", "No Sell Orders", OptionalDouble.of(50), OptionalDouble.empty(), 10, 0)
+	));
+	private static final Object2DoubleMap<String> LOWEST_BINS = new Object2DoubleOpenHashMap<>(Map.of(
+			"HYPERION", 800_000_000.0,
+			// Bazaar items are priced with the bazaar even if they have a lowest BIN
+			"ENCHANTED_DIAMOND", 1.0
+	));
+	private static final Object2DoubleMap<String> NPC_PRICES = new Object2DoubleOpenHashMap<>(Map.of("ROTTEN_FLESH", 2.0));
+
+	@BeforeEach
+	void setup() {
+		PriceIndex.rebuildFrom(BAZAAR, LOWEST_BINS, null, null, NPC_PRICES, new Object2IntOpenHashMap<>(Map.of("HYPERION", 5)));
+	}
+
+	@Test
+	void testPriceSelection() {
+		PriceIndex index = PriceIndex.get();
+		Assertions.assertTrue(index.hasCoreData());
+
+		int diamond = index.getSlot("ENCHANTED_DIAMOND");
+		Assertions.assertTrue(index.has(diamond, PriceIndex.BAZAAR));
+		Assertions.assertTrue(index.has(diamond, PriceIndex.LOWEST_BIN));
+		Assertions.assertEquals(1200, index.getPrice(diamond, false));
+		Assertions.assertEquals(1300, index.getPrice(diamond, true));
+		Assertions.assertEquals(1200, index.getPrice("ENCHANTED_DIAMOND"));
+		Assertions.assertTrue(index.isPriceComplete(diamond, false));
+
+		int hyperion = index.getSlot("HYPERION");
+		Assertions.assertFalse(index.has(hyperion, PriceIndex.BAZAAR));
+		Assertions.assertEquals(800_000_000, index.getPrice(hyperion, true));
+		Assertions.assertEquals(800_000_000, index.getLowestBin(hyperion));
+		Assertions.assertEquals(5, index.getMotes(hyperion));
+		Assertions.assertTrue(index.isPriceComplete(hyperion, false));
+
+		int noSellOrders = index.getSlot("NO_SELL_ORDERS");
+		Assertions.assertEquals(0, index.getPrice(noSellOrders, false));
+		Assertions.assertFalse(index.isPriceComplete(noSellOrders, false));
+		Assertions.assertEquals(50, index.getPrice(noSellOrders, true));
+		Assertions.assertTrue(index.isPriceComplete(noSellOrders, true));
+
+		// Items only sold to NPCs have no market price
+		int rottenFlesh = index.getSlot("ROTTEN_FLESH");
+		Assertions.assertEquals(2, index.getNpcPrice(rottenFlesh));
+		Assertions.assertEquals(0, index.getPrice(rottenFlesh, false));
+		Assertions.assertFalse(index.isPriceComplete(rottenFlesh, false));
+	}
+
+	@Test
+	void testMissingIds() {
+		PriceIndex index = PriceIndex.get();
+
+		Assertions.assertEquals(PriceIndex.NO_SLOT, index.getSlot("NOT_AN_ITEM"));
+		Assertions.assertEquals(PriceIndex.NO_SLOT, index.getSlot(null));
+		Assertions.assertFalse(index.has(PriceIndex.NO_SLOT, PriceIndex.LOWEST_BIN));
+		Assertions.assertEquals(0, index.getPrice(PriceIndex.NO_SLOT, false));
+		Assertions.assertEquals(0, index.getLowestBin(PriceIndex.NO_SLOT));
+		Assertions.assertEquals(0, index.getPrice("NOT_AN_ITEM", true));
+		Assertions.assertFalse(index.isPriceComplete(PriceIndex.NO_SLOT, false));
+	}
+
+	@Test
+	void testWithoutCoreData() {
+		PriceIndex.rebuildFrom(BAZAAR, null, null, null, null, null);
+		PriceIndex index = PriceIndex.get();
+
+		// Prices are only given once both the bazaar and the lowest BINs are loaded
+		Assertions.assertFalse(index.hasCoreData());
+		int diamond = index.getSlot("ENCHANTED_DIAMOND");
+		Assertions.assertEquals(1200, index.getBazaarSellPrice(diamond));
+		Assertions.assertEquals(0, index.getPrice(diamond, false));
+		Assertions.assertFalse(index.isPriceComplete(diamond, false));
+	}
+
+	@Test
+	void testVersion() {
+		PriceIndex previous = PriceIndex.get();
+		PriceIndex.rebuildFrom(BAZAAR, LOWEST_BINS, null, null, null, null);
+		PriceIndex current = PriceIndex.get();
+
+		Assertions.assertNotSame(previous, current);
+		Assertions.assertEquals(previous.getVersion() + 1, current.getVersion());
+		// Earlier snapshots are immutable
+		Assertions.assertEquals(2, previous.getNpcPrice(previous.getSlot("ROTTEN_FLESH")));
+		Assertions.assertEquals(PriceIndex.NO_SLOT, current.getSlot("ROTTEN_FLESH"));
+	}
+}
@@ -0,0 +1,88 @@
+package de.hysky.skyblocker.skyblock.item;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+public class RecipeGraphTest {
+	@Test
+	void testCheapestRecipe() {
+		RecipeGraph graph = RecipeGraph.builder()
+				.addRecipe(Map.of("WHEAT", 3.0), 0, Map.of("BREAD", 1.0))
+				.addRecipe(Map.of("FLOUR", 1.0), 5, Map.of("BREAD", 2.0))
+				.addRecipe(Map.of("WHEAT", 1.0), 0, Map.of("FLOUR", 1.0))
+				.build();
+		double[] costs = solve(graph, Map.of("WHEAT", 10.0, "FLOUR", 100.0));
+
+		// The second recipe crafts the flour instead of buying it, and makes two breads
+		Assertions.assertEquals(7.5, costs[graph.getSlot("BREAD")]);
+		Assertions.assertEquals(10, costs[graph.getSlot("FLOUR")]);
+		Assertions.assertEquals(Double.POSITIVE_INFINITY, costs[graph.getSlot("WHEAT")]);
+	}
+
+	@Test
+	void testNestedRecipes() {
+		RecipeGraph graph = RecipeGraph.builder()
+				.addRecipe(Map.of("ENCHANTED_DIAMOND_BLOCK", 160.0), 0, Map.of("ENCHANTED_DIAMOND_BLOCK_SWORD", 1.0))
+				.addRecipe(Map.of("ENCHANTED_DIAMOND", 160.0), 0, Map.of("ENCHANTED_DIAMOND_BLOCK", 1.0))
+				.addRecipe(Map.of("DIAMOND", 160.0), 0, Map.of("ENCHANTED_DIAMOND", 1.0))
+				.build();
+		double[] costs = solve(graph, Map.of("DIAMOND", 8.0, "ENCHANTED_DIAMOND", 1000.0));
+
+		Assertions.assertEquals(4, graph.getLevelCount());
+		Assertions.assertEquals(1280, costs[graph.getSlot("ENCHANTED_DIAMOND")]);
+		Assertions.assertEquals(160 * 1000, costs[graph.getSlot("ENCHANTED_DIAMOND_BLOCK")]);
+		Assertions.assertEquals(160 * 160 * 1000, costs[graph.getSlot("ENCHANTED_DIAMOND_BLOCK_SWORD")]);
+	}
+
+	@Test
+	void testUnpricedInput() {
+		RecipeGraph graph = RecipeGraph.builder()
+				.addRecipe(Map.of("GOLD_INGOT", 8.0, "MYSTERY_DROP", 1.0), 0, Map.of("GOLDEN_THING", 1.0))
+				.addRecipe(Map.of(), 1000, Map.of("GOLDEN_THING", 1.0))
+				.build();
+		double[] costs = solve(graph, Map.of("GOLD_INGOT", 5.0));
+
+		// An input that cannot be bought or crafted makes its recipe unusable instead of free
+		Assertions.assertEquals(1000, costs[graph.getSlot("GOLDEN_THING")]);
+	}
+
+	@Test
+	void testCycle() {
+		RecipeGraph graph = RecipeGraph.builder()
+				.addRecipe(Map.of("IRON_INGOT", 9.0), 0, Map.of("IRON_BLOCK", 1.0))
+				.addRecipe(Map.of("IRON_BLOCK", 1.0), 0, Map.of("IRON_INGOT", 9.0))
+				.addRecipe(Map.of("IRON_BLOCK", 2.0), 0, Map.of("IRON_GOLEM", 1.0))
+				.build();
+		double[] costs = solve(graph, Map.of("IRON_INGOT", 3.0, "IRON_BLOCK", 18.0));
+
+		Assertions.assertEquals(2, graph.getLevelCount());
+		Assertions.assertEquals(2, costs[graph.getSlot("IRON_INGOT")]);
+		Assertions.assertEquals(18, costs[graph.getSlot("IRON_BLOCK")]);
+		Assertions.assertEquals(36, costs[graph.getSlot("IRON_GOLEM")]);
+	}
+
+	@Test
+	void testProfitableCycle() {
+		RecipeGraph graph = RecipeGraph.builder()
+				.addRecipe(Map.of("A", 1.0), 0, Map.of("B", 2.0))
+				.addRecipe(Map.of("B", 1.0), 0, Map.of("A", 1.0))
+				.addRecipe(Map.of("B", 1.0), 0, Map.of("C", 1.0))
+				.build();
+		double[] costs = solve(graph, Map.of("A", 64.0, "B", 40.0));
+
+		// Each pass halves the costs, so the cycle has no craft cost and the recipes using it fall back to the market prices
+		Assertions.assertEquals(Double.POSITIVE_INFINITY, costs[graph.getSlot("A")]);
+		Assertions.assertEquals(Double.POSITIVE_INFINITY, costs[graph.getSlot("B")]);
+		Assertions.assertEquals(40, costs[graph.getSlot("C")]);
+	}
+
+	private static double[] solve(RecipeGraph graph, Map<String, Double> prices) {
+		double[] marketPrices = new double[graph.size()];
+		for (int slot = 0; slot < graph.size(); slot++) {
+			marketPrices[slot] = prices.getOrDefault(graph.getId(slot), 0.0);
+		}
+		return graph.solve(marketPrices);
+	}
+}
@@ -0,0 +1,52 @@
+package de.hysky.skyblocker.skyblock.itemlist;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.component.DataComponentTypes;
+import net.minecraft.component.type.LoreComponent;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.text.Text;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public class ItemRepositoryTest {
+	@BeforeAll
+	public static void setup() {
+		SharedConstants.createGameVersion();
+		Bootstrap.initialize();
+	}
+
+	@Test
+	void testBaseId() {
+		for (String id : List.of("ASPECT_OF_THE_END", "HYPERION", "WOOD;3", "PET_SKIN_SHEEP_NEON_RED", "CRIMSON_HELMET_2", "MINION_T12", "AB123", "A1", "12", "1", "", "_", "ENCHANTED_BOOK", "ULTIMATE_WISE;5", "GEMSTONE_L9")) {
+			Assertions.assertEquals(id.replaceAll(".\\d+$", ""), ItemRepository.getBaseId(id), id);
+		}
+	}
+
+	@Test
+	void testSnapshot(@TempDir Path dir) {
+		Path file = dir.resolve("snapshot.nbt");
+		ItemStack stack = new ItemStack(Items.DIAMOND_SWORD);
+		stack.set(DataComponentTypes.CUSTOM_NAME, Text.literal("Aspect of the End"));
+		stack.set(DataComponentTypes.LORE, new LoreComponent(List.of(Text.literal("Damage: +100"))));
+		List<ItemRepository.ImportedItem> items = List.of(new ItemRepository.ImportedItem("ASPECT_OF_THE_END", stack), new ItemRepository.ImportedItem("BARRIER", new ItemStack(Items.BARRIER)));
+
+		ItemSnapshot.write(file, "commit/version", items);
+		List<ItemRepository.ImportedItem> read = ItemSnapshot.read(file, "commit/version");
+
+		Assertions.assertNotNull(read);
+		Assertions.assertEquals(items.size(), read.size());
+		for (int i = 0; i < items.size(); i++) {
+			Assertions.assertEquals(items.get(i).neuId(), read.get(i).neuId());
+			Assertions.assertTrue(ItemStack.areEqual(items.get(i).stack(), read.get(i).stack()));
+		}
+		Assertions.assertNull(ItemSnapshot.read(file, "other/version"));
+		Assertions.assertNull(ItemSnapshot.read(dir.resolve("missing.nbt"), "commit/version"));
+	}
+}
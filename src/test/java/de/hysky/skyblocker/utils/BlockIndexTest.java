@@ -0,0 +1,65 @@
+package de.hysky.skyblocker.utils;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+public class BlockIndexTest {
+	@BeforeAll
+	static void setup() {
+		SharedConstants.createGameVersion();
+		Bootstrap.initialize();
+	}
+
+	@Test
+	void testUpdate() {
+		BlockIndex index = BlockIndex.create(state -> state.isOf(Blocks.SEA_LANTERN));
+		BlockPos pos = new BlockPos(-17, 64, 31);
+
+		index.update(pos, Blocks.SEA_LANTERN.getDefaultState());
+		index.update(pos, Blocks.SEA_LANTERN.getDefaultState());
+		index.update(pos.up(), Blocks.STONE.getDefaultState());
+		Assertions.assertEquals(1, index.size());
+		Assertions.assertTrue(index.contains(pos));
+		Assertions.assertFalse(index.contains(pos.up()));
+
+		index.update(pos, Blocks.AIR.getDefaultState());
+		Assertions.assertEquals(0, index.size());
+		Assertions.assertFalse(index.contains(pos));
+	}
+
+	@Test
+	void testGetWithin() {
+		BlockIndex index = BlockIndex.create(state -> state.isOf(Blocks.SEA_LANTERN));
+		List<BlockPos> positions = List.of(
+				new BlockPos(0, 64, 0),
+				new BlockPos(15, 70, -1),
+				new BlockPos(16, 64, 16),
+				new BlockPos(-40, 80, 3),
+				new BlockPos(5, 100, 5),
+				new BlockPos(200, 64, 200)
+		);
+		positions.forEach(pos -> index.update(pos, Blocks.SEA_LANTERN.getDefaultState()));
+
+		BlockPos centre = new BlockPos(3, 66, 2);
+		for (int radius : new int[]{0, 3, 5, 13, 14, 34, 43, 300}) {
+			List<BlockPos> expected = positions.stream()
+					.filter(pos -> Math.abs(pos.getX() - centre.getX()) <= radius && Math.abs(pos.getY() - centre.getY()) <= radius && Math.abs(pos.getZ() - centre.getZ()) <= radius)
+					.sorted(Comparator.naturalOrder())
+					.toList();
+			List<BlockPos> actual = index.getWithin(centre, radius).stream().sorted(Comparator.naturalOrder()).toList();
+
+			Assertions.assertEquals(expected, actual, () -> "within " + radius);
+		}
+
+		index.clear();
+		Assertions.assertEquals(List.of(), index.getWithin(centre, 300));
+	}
+}
@@ -0,0 +1,62 @@
+package de.hysky.skyblocker.utils;
+
+import com.google.gson.JsonParser;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+public class JsonStreamDecoderTest {
+	private static final String LOWEST_BINS = """
+			{"HYPERION": 1250000000.0, "ASPECT_OF_THE_END": 59000, "PET_SKIN_SHEEP_NEON_RED": 1.5E7, "ENCHANTED_BOOK": 0}""";
+	private static final String MOTES = """
+			{"RIFT_TROPHY_WYLDLY_SUPREME": 100, "FRAGILE_ROSE": 2.9}""";
+	private static final String BAZAAR = """
+			{
+			  "ENCHANTED_DIAMOND": {"id": "ENCHANTED_DIAMOND", "name": "Enchanted Diamond", "buyPrice": 1290.5, "sellPrice": 1201.1, "buyVolume": 1234567, "sellVolume": 891011},
+			  "BOOSTER_COOKIE": {"id": "BOOSTER_COOKIE", "name": "Booster Cookie", "buyPrice": null, "sellPrice": 5200000, "buyVolume": 0, "sellVolume": 21, "extra": {"ignored": [1, 2]}}
+			}""";
+
+	@Test
+	void testObject2DoubleMap() throws IOException {
+		Object2DoubleMap<String> expected = CodecUtils.object2DoubleMapCodec(Codec.STRING).parse(JsonOps.INSTANCE, JsonParser.parseString(LOWEST_BINS)).getOrThrow();
+		Object2DoubleMap<String> decoded = JsonStreamDecoder.object2DoubleMap().decode(stream(LOWEST_BINS), null);
+
+		Assertions.assertEquals(expected, decoded);
+		// Decoding again with the previous map should give the same result
+		Assertions.assertEquals(expected, JsonStreamDecoder.object2DoubleMap().decode(stream(LOWEST_BINS), decoded));
+	}
+
+	@Test
+	void testObject2IntMap() throws IOException {
+		Object2IntMap<String> expected = CodecUtils.object2IntMapCodec(Codec.STRING).parse(JsonOps.INSTANCE, JsonParser.parseString(MOTES)).getOrThrow();
+
+		Assertions.assertEquals(expected, JsonStreamDecoder.object2IntMap().decode(stream(MOTES), null));
+	}
+
+	@Test
+	void testBazaarProducts() throws IOException {
+		Object2ObjectMap<String, BazaarProduct> expected = BazaarProduct.MAP_CODEC.parse(JsonOps.INSTANCE, JsonParser.parseString(BAZAAR)).getOrThrow();
+
+		Assertions.assertEquals(expected, BazaarProduct.MAP_DECODER.decode(stream(BAZAAR), null));
+	}
+
+	@Test
+	void testInvalid() {
+		Assertions.assertThrows(IOException.class, () -> JsonStreamDecoder.object2DoubleMap().decode(stream("<!DOCTYPE html><html></html>"), null));
+		Assertions.assertThrows(IOException.class, () -> JsonStreamDecoder.object2DoubleMap().decode(stream("{\"A\": 1} {\"B\": 2}"), null));
+		Assertions.assertThrows(IOException.class, () -> BazaarProduct.MAP_DECODER.decode(stream("{\"A\": {\"id\": \"A\"}}"), null));
+	}
+
+	private static InputStream stream(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+}
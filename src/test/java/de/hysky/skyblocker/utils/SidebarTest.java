@@ -0,0 +1,64 @@
+package de.hysky.skyblocker.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class SidebarTest {
+	@Test
+	void testHub() {
+		Sidebar.parse(List.of(
+				"SKYBLOCK CO-OP",
+				"10/18/26 m12AB",
+				" Late Autumn 21st",
+				" 2:40pm ☀",
+				" ⏣ Village",
+				" ",
+				"Purse: 1,234,567 (+25)",
+				"Bits: 4,321",
+				" ",
+				"Slayer Quest",
+				" Revenant Horror IV",
+				" (120/1,500) Combat XP",
+				" ",
+				"www.hypixel.net"
+		));
+
+		Assertions.assertEquals("⏣ Village", Sidebar.getIslandArea());
+		Assertions.assertEquals("Purse: 1,234,567 (+25)", Sidebar.getPurseLine());
+		Assertions.assertEquals(4321, Sidebar.getBits());
+		Assertions.assertEquals("Revenant Horror IV", Sidebar.getSlayerQuest());
+		Assertions.assertEquals("(120/1,500) Combat XP", Sidebar.getSlayerQuestProgress());
+	}
+
+	@Test
+	void testRift() {
+		Sidebar.parse(List.of(
+				"SKYBLOCK",
+				" ф Stillgore Château",
+				" ",
+				"Piggy: 98,765",
+				" ",
+				"Slayer Quest",
+				" Riftstalker Bloodfiend III",
+				" Slay the boss!"
+		));
+
+		Assertions.assertEquals("ф Stillgore Château", Sidebar.getIslandArea());
+		Assertions.assertEquals("Piggy: 98,765", Sidebar.getPurseLine());
+		Assertions.assertEquals(0, Sidebar.getBits());
+		Assertions.assertEquals("Riftstalker Bloodfiend III", Sidebar.getSlayerQuest());
+		Assertions.assertEquals("Slay the boss!", Sidebar.getSlayerQuestProgress());
+	}
+
+	@Test
+	void testEmpty() {
+		Sidebar.parse(List.of("SKYBLOCK", " ", "Slayer Quest"));
+
+		Assertions.assertEquals("Unknown", Sidebar.getIslandArea());
+		Assertions.assertNull(Sidebar.getPurseLine());
+		Assertions.assertNull(Sidebar.getSlayerQuest());
+		Assertions.assertNull(Sidebar.getSlayerQuestProgress());
+	}
+}
@@ -1,5 +1,6 @@
 package de.hysky.skyblocker.utils.chat;
 
+import java.util.List;
 import java.util.regex.Matcher;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -18,10 +19,19 @@ public abstract class ChatPatternListenerTest<T extends ChatPatternListener> {
 
     protected void assertMatches(String message) {
         assertTrue(matcher(message).matches());
+        assertCandidate(message);
     }
 
     protected void assertGroup(String message, int group, String expect) {
         assertGroup(matcher(message), group, expect);
+        assertCandidate(message);
+    }
+
+    /**
+     * Asserts that the listener is not skipped for the message by its required literals.
+     */
+    protected void assertCandidate(String message) {
+        assertTrue(LiteralIndex.of(List.of(listener.requiredLiterals())).candidates(message).get(0), () -> "Required literals " + listener.requiredLiterals() + " not found in: " + message);
     }
 
     public static void assertGroup(Matcher matcher, int group, String expect) {
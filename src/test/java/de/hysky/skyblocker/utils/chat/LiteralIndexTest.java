@@ -0,0 +1,42 @@
+package de.hysky.skyblocker.utils.chat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+public class LiteralIndexTest {
+	private final LiteralIndex index = LiteralIndex.of(List.of(
+			List.of("he", "she"),
+			List.of("hers"),
+			List.of(),
+			List.of("his", "is")
+	));
+
+	@Test
+	void testCandidates() {
+		Assertions.assertEquals(bits(0, 1, 2), index.candidates("ushers"));
+		Assertions.assertEquals(bits(2, 3), index.candidates("this"));
+		Assertions.assertEquals(bits(2), index.candidates("nothing"));
+	}
+
+	@Test
+	void testIgnoreCase() {
+		Assertions.assertEquals(bits(0, 1, 2), index.candidates("USHERS"));
+		// The kelvin sign lowercases to an ASCII k, the same as String#toLowerCase
+		Assertions.assertEquals(bits(0), LiteralIndex.of(List.of(List.of("ok"))).candidates("OK").stream().collect(BitSet::new, BitSet::set, BitSet::or));
+	}
+
+	@Test
+	void testNonAsciiEndsLiterals() {
+		Assertions.assertEquals(bits(2), index.candidates("hi✦s"));
+		Assertions.assertEquals(bits(0, 2, 3), index.candidates("☠ she is"));
+	}
+
+	private static BitSet bits(int... owners) {
+		BitSet bits = new BitSet();
+		for (int owner : owners) bits.set(owner);
+		return bits;
+	}
+}
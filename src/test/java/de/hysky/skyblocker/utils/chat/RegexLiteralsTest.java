@@ -0,0 +1,49 @@
+package de.hysky.skyblocker.utils.chat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class RegexLiteralsTest {
+	@Test
+	void testLiteral() {
+		Assertions.assertEquals(List.of("is now available!"), RegexLiterals.requiredLiterals("is now available!"));
+		Assertions.assertEquals(List.of("[Auction] "), RegexLiterals.requiredLiterals("\\[Auction\\] (?<name>.+) bought"));
+	}
+
+	@Test
+	void testLongestRun() {
+		Assertions.assertEquals(List.of(" is now on cooldown for "), RegexLiterals.requiredLiterals("^(?<ability>\\w+) is now on cooldown for \\d+s\\.$"));
+		Assertions.assertEquals(List.of("Your Implosion hit "), RegexLiterals.requiredLiterals("Your Implosion hit " + ChatPatternListener.NUMBER + " enem(?:y|ies) for " + ChatPatternListener.NUMBER + " damage\\."));
+	}
+
+	@Test
+	void testQuantifiers() {
+		Assertions.assertEquals(List.of("colo"), RegexLiterals.requiredLiterals("colou?r"));
+		Assertions.assertEquals(List.of("ab"), RegexLiterals.requiredLiterals("ab+c"));
+		Assertions.assertEquals(List.of("xaa"), RegexLiterals.requiredLiterals("x(?:aa)?xaa{2,}b"));
+		Assertions.assertEquals(List.of("ab"), RegexLiterals.requiredLiterals("(?:ab)+c*?d"));
+	}
+
+	@Test
+	void testAlternation() {
+		Assertions.assertEquals(List.of("selling", "buying", "lowb", "visit", "/p", "/ah", "my ah"), RegexLiterals.requiredLiterals("(selling)|(buying)|(lowb)|(visit)|(/p)|(/ah)|(my ah)"));
+		Assertions.assertEquals(List.of("Mimic", "Prince"), RegexLiterals.requiredLiterals("(?:Party > )?(?:Mimic|Prince) (?:dead|killed)!"));
+		Assertions.assertEquals(List.of(), RegexLiterals.requiredLiterals("abc|\\d+"));
+	}
+
+	@Test
+	void testUnsupported() {
+		Assertions.assertEquals(List.of(), RegexLiterals.requiredLiterals("(?i)abc"));
+		Assertions.assertEquals(List.of(), RegexLiterals.requiredLiterals("\\Qabc\\E"));
+		Assertions.assertEquals(List.of(), RegexLiterals.requiredLiterals("[a-z]+\\d*"));
+		Assertions.assertEquals(List.of(), RegexLiterals.requiredLiterals("(?=abc)\\w+"));
+	}
+
+	@Test
+	void testNonAscii() {
+		Assertions.assertEquals(List.of(" Kills: "), RegexLiterals.requiredLiterals("☠ Kills: (\\d+)"));
+		Assertions.assertEquals(List.of(" Sacks"), RegexLiterals.requiredLiteralsOf("✦ Sacks"));
+	}
+}
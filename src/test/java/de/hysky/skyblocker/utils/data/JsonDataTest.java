@@ -0,0 +1,87 @@
+package de.hysky.skyblocker.utils.data;
+
+import com.mojang.serialization.Codec;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+public class JsonDataTest {
+	private static final Codec<Map<String, Integer>> CODEC = Codec.unboundedMap(Codec.STRING, Codec.INT);
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void testSaveAndLoad() throws IOException {
+		Path file = dir.resolve("data/test.json");
+		JsonData<Map<String, Integer>> data = new JsonData<>(file, CODEC, new HashMap<>(), false, false);
+		data.load();
+		data.getData().put("a", 1);
+		data.save();
+
+		Assertions.assertEquals("{\"a\":1}", Files.readString(file).replaceAll("\\s", ""));
+		try (Stream<Path> files = Files.list(file.getParent())) {
+			// The temporary file is moved over the file
+			Assertions.assertEquals(List.of(file), files.toList());
+		}
+
+		JsonData<Map<String, Integer>> loaded = new JsonData<>(file, CODEC, Map.of(), false, false);
+		loaded.load();
+		Assertions.assertEquals(Map.of("a", 1), loaded.getData());
+	}
+
+	@Test
+	void testGzip() throws IOException {
+		Path file = dir.resolve("test.json.gz");
+		JsonData<Map<String, Integer>> data = new JsonData<>(file, CODEC, new HashMap<>(Map.of("b", 2)), false, false);
+		data.load();
+		data.save();
+
+		byte[] bytes = Files.readAllBytes(file);
+		Assertions.assertEquals((byte) 0x1f, bytes[0]);
+		Assertions.assertEquals((byte) 0x8b, bytes[1]);
+
+		JsonData<Map<String, Integer>> loaded = new JsonData<>(file, CODEC, Map.of(), false, false);
+		loaded.load();
+		Assertions.assertEquals(Map.of("b", 2), loaded.getData());
+	}
+
+	@Test
+	void testAsyncSavesCoalesce() throws IOException {
+		Path file = dir.resolve("async.json");
+		AtomicInteger writes = new AtomicInteger();
+		JsonData.SAVED.register((savedFile, bytes, encodeNanos) -> {
+			if (savedFile.equals(file)) writes.incrementAndGet();
+		});
+
+		JsonData<Map<String, Integer>> data = new JsonData<>(file, CODEC, new HashMap<>(), false, true);
+		data.load();
+		data.getData().put("a", 1);
+		CompletableFuture<Void> first = data.save();
+		data.getData().put("b", 2);
+		CompletableFuture<Void> second = data.save();
+
+		Assertions.assertSame(first, second);
+		second.join();
+		Assertions.assertEquals(1, writes.get());
+		Assertions.assertEquals("{\"a\":1,\"b\":2}", Files.readString(file).replaceAll("\\s", ""));
+
+		data.getData().put("c", 3);
+		CompletableFuture<Void> third = data.save();
+		Assertions.assertNotSame(first, third);
+		data.saveNow();
+		Assertions.assertTrue(third.isDone());
+		third.join();
+		Assertions.assertEquals(2, writes.get());
+	}
+}
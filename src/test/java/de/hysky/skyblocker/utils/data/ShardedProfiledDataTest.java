@@ -0,0 +1,74 @@
+package de.hysky.skyblocker.utils.data;
+
+import com.mojang.serialization.Codec;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class ShardedProfiledDataTest {
+	private static final Codec<List<Integer>> CODEC = Codec.INT.listOf().xmap(ArrayList::new, list -> list);
+	private static final UUID PLAYER = UUID.fromString("a1a2a3a4-b1b2-c1c2-d1d2-e1e2e3e4e5e6");
+	private static final UUID OTHER_PLAYER = UUID.fromString("f1f2f3f4-b1b2-c1c2-d1d2-e1e2e3e4e5e6");
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void testMigration() throws IOException {
+		Path legacyFile = dir.resolve("data.json");
+		Files.writeString(legacyFile, "{\"" + PLAYER + "\":{\"profile1\":[1,2],\"profile2\":[3]},\"" + OTHER_PLAYER + "\":{\"profile3\":[]}}");
+
+		ShardedProfiledData<List<Integer>> data = new ShardedProfiledData<>(dir.resolve("data"), legacyFile, CODEC, ArrayList::new);
+		data.migrate();
+
+		Assertions.assertFalse(Files.exists(legacyFile));
+		Assertions.assertTrue(Files.exists(dir.resolve("data.json.migrated")));
+		Assertions.assertTrue(Files.exists(dir.resolve("data").resolve(PLAYER.toString()).resolve("profile2.json")));
+		Assertions.assertEquals(List.of(1, 2), data.get(PLAYER, "profile1"));
+		Assertions.assertEquals(List.of(3), data.get(PLAYER, "profile2"));
+		Assertions.assertEquals(List.of(), data.get(OTHER_PLAYER, "profile3"));
+		Assertions.assertEquals(List.of(), data.get(OTHER_PLAYER, "profile4"));
+	}
+
+	@Test
+	void testMigrationKeepsExistingProfiles() throws IOException {
+		Path legacyFile = dir.resolve("data.json");
+		Files.writeString(legacyFile, "{\"" + PLAYER + "\":{\"profile1\":[1,2],\"profile2\":[3]}}");
+
+		// A previous migration whose rename failed, after which profile1 was updated
+		Path profile1 = dir.resolve("data").resolve(PLAYER.toString()).resolve("profile1.json");
+		Files.createDirectories(profile1.getParent());
+		Files.writeString(profile1, "[1,2,4]");
+
+		ShardedProfiledData<List<Integer>> data = new ShardedProfiledData<>(dir.resolve("data"), legacyFile, CODEC, ArrayList::new);
+		data.migrate();
+
+		Assertions.assertEquals(List.of(1, 2, 4), data.get(PLAYER, "profile1"));
+		Assertions.assertEquals(List.of(3), data.get(PLAYER, "profile2"));
+	}
+
+	@Test
+	void testEviction() {
+		ShardedProfiledData<List<Integer>> data = new ShardedProfiledData<>(dir, null, CODEC, ArrayList::new);
+		List<Integer> profile1 = data.get(PLAYER, "profile1");
+		profile1.add(5);
+		Assertions.assertSame(profile1, data.get(PLAYER, "profile1"));
+
+		// Accessing another profile saves and evicts the first one
+		data.get(PLAYER, "profile2").add(6);
+		Assertions.assertTrue(Files.exists(dir.resolve(PLAYER.toString()).resolve("profile1.json")));
+		Assertions.assertFalse(Files.exists(dir.resolve(PLAYER.toString()).resolve("profile2.json")));
+
+		List<Integer> reloaded = data.get(PLAYER, "profile1");
+		Assertions.assertNotSame(profile1, reloaded);
+		Assertions.assertEquals(List.of(5), reloaded);
+		Assertions.assertEquals(List.of(6), data.get(PLAYER, "profile2"));
+	}
+}
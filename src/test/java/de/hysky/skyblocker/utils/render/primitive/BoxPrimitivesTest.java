@@ -0,0 +1,42 @@
+package de.hysky.skyblocker.utils.render.primitive;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.util.math.ColorHelper;
+
+public class BoxPrimitivesTest {
+	@Test
+	void testAddAndGrow() {
+		BoxPrimitives boxes = new BoxPrimitives();
+
+		for (int i = 0; i < 200; i++) {
+			boxes.add(i, i + 1, i + 2, i + 3, i + 4, i + 5, new float[]{1f, 0f, 0.5f}, 0.25f, i, i % 2 == 0);
+		}
+
+		Assertions.assertEquals(200, boxes.size());
+		Assertions.assertEquals(150, boxes.minX(150));
+		Assertions.assertEquals(151, boxes.minY(150));
+		Assertions.assertEquals(152, boxes.minZ(150));
+		Assertions.assertEquals(153, boxes.maxX(150));
+		Assertions.assertEquals(154, boxes.maxY(150));
+		Assertions.assertEquals(155, boxes.maxZ(150));
+		Assertions.assertEquals(150f, boxes.lineWidth(150));
+		Assertions.assertTrue(boxes.throughWalls(150));
+		Assertions.assertFalse(boxes.throughWalls(151));
+		Assertions.assertEquals(ColorHelper.fromFloats(0.25f, 1f, 0f, 0.5f), boxes.colour(150));
+	}
+
+	@Test
+	void testClear() {
+		BoxPrimitives boxes = new BoxPrimitives();
+		boxes.add(0, 0, 0, 1, 1, 1, new float[]{1f, 1f, 1f}, 1f, 0f, false);
+		boxes.clear();
+
+		Assertions.assertEquals(0, boxes.size());
+		boxes.add(2, 2, 2, 3, 3, 3, new float[]{1f, 1f, 1f}, 1f, 0f, true);
+		Assertions.assertEquals(1, boxes.size());
+		Assertions.assertEquals(2, boxes.minX(0));
+		Assertions.assertTrue(boxes.throughWalls(0));
+	}
+}
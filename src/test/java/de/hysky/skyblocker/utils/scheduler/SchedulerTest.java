@@ -81,6 +81,37 @@ public class SchedulerTest {
         Assertions.assertEquals(1818, cycleCount8.intValue());
     }
 
+    @Test
+    public void testCancel() {
+        Scheduler scheduler = new Scheduler();
+        MutableInt cyclicCount = new MutableInt(0);
+        MutableInt delayedCount = new MutableInt(0);
+        TaskHandle cyclic = scheduler.scheduleCyclic(cyclicCount::increment, 5);
+        TaskHandle delayed = scheduler.schedule(delayedCount::increment, 1000);
+
+        for (int i = 0; i < 50; i++) scheduler.tick();
+        Assertions.assertEquals(10, cyclicCount.intValue());
+        Assertions.assertEquals(10, cyclic.getRuns());
+        Assertions.assertTrue(cyclic.isScheduled());
+
+        Assertions.assertTrue(cyclic.cancel());
+        Assertions.assertFalse(cyclic.cancel());
+        Assertions.assertTrue(delayed.cancel());
+        Assertions.assertFalse(cyclic.isScheduled());
+
+        for (int i = 0; i < 2000; i++) scheduler.tick();
+        Assertions.assertEquals(10, cyclicCount.intValue());
+        Assertions.assertEquals(0, delayedCount.intValue());
+        Assertions.assertEquals(0, scheduler.getScheduledTaskCount());
+
+        // The pooled node is reused, the stale handle must not cancel the new task
+        TaskHandle reused = scheduler.schedule(delayedCount::increment, 3);
+        Assertions.assertFalse(cyclic.cancel());
+        for (int i = 0; i < 5; i++) scheduler.tick();
+        Assertions.assertEquals(1, delayedCount.intValue());
+        Assertions.assertFalse(reused.isScheduled());
+    }
+
     private void tick() {
         Scheduler.INSTANCE.tick();
         currentTick.increment();
@@ -0,0 +1,125 @@
+package de.hysky.skyblocker.utils.waypoint;
+
+import de.hysky.skyblocker.utils.Location;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class WaypointIndexTest {
+	private static final List<Vec3d> CENTRES = List.of(
+			new Vec3d(800, 150, 790),
+			new Vec3d(821.5, 137, 809.5),
+			new Vec3d(760, 120, 720),
+			new Vec3d(0, 0, 0),
+			new Vec3d(-1000, 70, 2000)
+	);
+
+	@BeforeAll
+	static void setup() {
+		SharedConstants.createGameVersion();
+		Bootstrap.initialize();
+	}
+
+	@Test
+	void testWithinDistance() {
+		for (WaypointGroup group : List.of(WaypointsTest.SAPPHIRE_WAYPOINTS, WaypointsTest.DARK_MONOLITHS_WAYPOINTS)) {
+			WaypointIndex<NamedWaypoint> index = WaypointIndex.of(group.waypoints());
+
+			for (Vec3d centre : CENTRES) {
+				for (double radius : new double[]{0, 2, 10, 40, 5000}) {
+					List<Integer> expected = IntStream.range(0, group.waypoints().size())
+							.filter(i -> group.waypoints().get(i).pos.getSquaredDistance(centre) <= radius * radius)
+							.boxed()
+							.toList();
+
+					Assertions.assertEquals(expected, index.withinDistance(centre, radius), () -> group.name() + " around " + centre + " within " + radius);
+				}
+			}
+		}
+	}
+
+	@Test
+	void testNearest() {
+		List<NamedWaypoint> waypoints = WaypointsTest.SAPPHIRE_WAYPOINTS.waypoints();
+		WaypointIndex<NamedWaypoint> index = WaypointIndex.of(waypoints);
+
+		for (Vec3d centre : CENTRES) {
+			for (int count : new int[]{1, 5, 50, 1000}) {
+				List<Double> expected = waypoints.stream()
+						.map(waypoint -> waypoint.pos.getSquaredDistance(centre))
+						.sorted()
+						.limit(count)
+						.toList();
+				List<Double> actual = index.nearest(centre, count).stream()
+						.map(waypoint -> waypoint.pos.getSquaredDistance(centre))
+						.toList();
+
+				// Compare distances since waypoints at the same distance may be returned in any order
+				Assertions.assertEquals(expected, actual, () -> count + " nearest to " + centre);
+			}
+		}
+	}
+
+	@Test
+	void testCellEdge() {
+		// The player is 2.4 blocks from the corner of the cell of the first waypoint, but only 1.9 blocks from the centre of the waypoint's block
+		Vec3d centre = new Vec3d(17.4, 0.5, 0.5);
+		NamedWaypoint edge = new NamedWaypoint(new BlockPos(15, 0, 0), "edge", new float[]{0f, 1f, 0f});
+		NamedWaypoint inside = new NamedWaypoint(new BlockPos(19, 0, 0), "inside", new float[]{0f, 1f, 0f});
+		WaypointIndex<NamedWaypoint> index = WaypointIndex.of(List.of(edge, inside));
+
+		Assertions.assertEquals(List.of(0), WaypointIndex.of(List.of(edge)).withinDistance(centre, 2));
+		Assertions.assertEquals(List.of(0), index.withinDistance(centre, 2));
+		Assertions.assertEquals(List.of(edge), index.nearest(centre, 1));
+		Assertions.assertEquals(List.of(edge, inside), index.nearest(centre, 2));
+	}
+
+	@Test
+	void testCells() {
+		List<NamedWaypoint> waypoints = WaypointsTest.SAPPHIRE_WAYPOINTS.waypoints();
+		WaypointIndex<NamedWaypoint> index = WaypointIndex.of(waypoints);
+		List<Integer> indexed = new ArrayList<>();
+
+		for (WaypointIndex.Cell cell : index.cells()) {
+			for (int i : cell.waypoints()) {
+				BlockPos pos = waypoints.get(i).pos;
+				Assertions.assertTrue(pos.getX() >= cell.minX() && pos.getX() < cell.minX() + WaypointIndex.CELL_SIZE);
+				Assertions.assertTrue(pos.getY() >= cell.minY() && pos.getY() < cell.minY() + WaypointIndex.CELL_SIZE);
+				Assertions.assertTrue(pos.getZ() >= cell.minZ() && pos.getZ() < cell.minZ() + WaypointIndex.CELL_SIZE);
+				indexed.add(i);
+			}
+		}
+
+		indexed.sort(Comparator.naturalOrder());
+		Assertions.assertEquals(IntStream.range(0, waypoints.size()).boxed().toList(), indexed);
+	}
+
+	@Test
+	void testGroupIndexRebuild() {
+		WaypointGroup group = new WaypointGroup("group", Location.HUB, List.of(new NamedWaypoint(BlockPos.ORIGIN, "waypoint", new float[]{0f, 1f, 0f}))).deepCopy();
+		WaypointIndex<NamedWaypoint> index = group.index();
+		Assertions.assertSame(index, group.index());
+
+		group.addWaypoint(group.createWaypoint(new BlockPos(100, 0, 0)));
+		Assertions.assertNotSame(index, group.index());
+		Assertions.assertEquals(List.of(1), group.index().withinDistance(new Vec3d(100, 0, 0), 1));
+
+		group.setWaypoint(1, group.waypoints().get(1).withX(200));
+		Assertions.assertEquals(List.of(1), group.index().withinDistance(new Vec3d(200, 0, 0), 1));
+
+		// Adding and removing a waypoint keeps the same number of waypoints
+		group.addWaypoint(0, group.createWaypoint(new BlockPos(300, 0, 0)));
+		group.removeWaypoint(2);
+		Assertions.assertEquals(List.of(0), group.index().withinDistance(new Vec3d(300, 0, 0), 1));
+		Assertions.assertEquals(List.of(), group.index().withinDistance(new Vec3d(200, 0, 0), 1));
+	}
+}
@@ -12,7 +12,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 public class WaypointsTest {
-    private static final WaypointGroup SAPPHIRE_WAYPOINTS = new WaypointGroup("Coleweight", Location.CRYSTAL_HOLLOWS, List.of(
+    static final WaypointGroup SAPPHIRE_WAYPOINTS = new WaypointGroup("Coleweight", Location.CRYSTAL_HOLLOWS, List.of(
             new OrderedNamedWaypoint(new BlockPos(821, 137, 809), "1", new float[]{0, 1, 0}),
             new OrderedNamedWaypoint(new BlockPos(821, 143, 809), "2", new float[]{0, 1, 0}),
             new OrderedNamedWaypoint(new BlockPos(812, 154, 798), "3", new float[]{0, 1, 0}),